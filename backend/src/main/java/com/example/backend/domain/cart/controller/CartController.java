@@ -1,5 +1,7 @@
 package com.example.backend.domain.cart.controller;
 
+import com.example.backend.domain.cart.dto.CartBatchForm;
+import com.example.backend.domain.cart.dto.CartBatchResponse;
 import com.example.backend.domain.cart.dto.CartDeleteForm;
 import com.example.backend.domain.cart.dto.CartForm;
 import com.example.backend.domain.cart.dto.CartResponse;
@@ -69,4 +71,15 @@ public class CartController {
         return ResponseEntity.status(HttpStatus.OK).body(GenericResponse.of(deleteProductId));
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<GenericResponse<CartBatchResponse>> applyBatch(
+            @RequestBody @Validated(ValidationSequence.class) CartBatchForm cartBatchForm,
+            @AuthenticationPrincipal CustomUserDetails customUserDetails) {
+
+        Member member = customUserDetails.getMember();
+        CartBatchResponse cartBatchResponse = cartService.applyBatch(cartBatchForm, member);
+
+        return ResponseEntity.status(HttpStatus.OK).body(GenericResponse.of(cartBatchResponse));
+    }
+
 }
@@ -3,7 +3,9 @@ package com.example.backend.domain.cart.converter;
 import com.example.backend.domain.cart.dto.CartForm;
 import com.example.backend.domain.cart.dto.CartResponse;
 import com.example.backend.domain.cart.entity.Cart;
+import com.example.backend.domain.cart.store.RedisCartItem;
 import com.example.backend.domain.member.entity.Member;
+import com.example.backend.domain.product.dto.ProductResponse;
 import com.example.backend.domain.product.entity.Product;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
@@ -47,6 +49,25 @@ public class CartConverter {
                 .build();
     }
 
+    /**
+     * Redis 장바구니 항목 -> CartResponse 변환
+     *
+     * @param item    Redis 장바구니 항목
+     * @param product 상품 응답 DTO
+     * @return 응답 DTO
+     */
+    public static CartResponse toResponse(RedisCartItem item, ProductResponse product) {
+        return CartResponse.builder()
+                .id(item.id())
+                .productId(product.id())
+                .productName(product.name())
+                .quantity(item.quantity())
+                .productPrice(product.price())
+                .totalPrice(product.price() * item.quantity())
+                .productImgUrl(product.imgUrl())
+                .build();
+    }
+
     /**
      * Cart 엔티티 리스트 -> CartResponse 리스트 변환
      *
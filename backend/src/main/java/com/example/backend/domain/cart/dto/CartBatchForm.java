@@ -0,0 +1,29 @@
+package com.example.backend.domain.cart.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+import static com.example.backend.global.validation.ValidationGroups.*;
+
+public record CartBatchForm(
+        @NotEmpty(message = "장바구니 변경 목록은 비어 있을 수 없습니다.", groups = NotEmptyGroup.class)
+        @Size(max = 100, message = "장바구니 변경 목록은 100개 이하여야 합니다.", groups = SizeGroup.class)
+        List<@Valid @NotNull(message = "장바구니 변경 항목은 null일 수 없습니다.", groups = NotNullGroup.class)
+                CartOperation> operations
+) {
+    public record CartOperation(
+            @NotNull(message = "변경 종류는 필수 값입니다.", groups = NotNullGroup.class)
+            CartOperationType type,
+
+            @NotNull(message = "상품 ID는 필수 값입니다.", groups = NotNullGroup.class)
+            Long productId,
+
+            @Min(value = 1, message = "상품 수량은 최소 1개 이상이어야 합니다.", groups = MinGroup.class)
+            Integer quantity // 삭제 시 생략
+    ) {}
+}
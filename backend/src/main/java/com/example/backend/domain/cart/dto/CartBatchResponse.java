@@ -0,0 +1,45 @@
+package com.example.backend.domain.cart.dto;
+
+import java.util.List;
+
+/**
+ * 장바구니 일괄 변경 결과, results는 요청 순서와 같습니다.
+ */
+public record CartBatchResponse(
+        int successCount,
+        int failureCount,
+        List<CartBatchResult> results
+) {
+
+    public static CartBatchResponse of(List<CartBatchResult> results) {
+        int successCount = (int) results.stream().filter(CartBatchResult::success).count();
+
+        return new CartBatchResponse(successCount, results.size() - successCount, results);
+    }
+
+    /**
+     * @param index 요청 목록에서의 순서 (0부터 시작)
+     * @param cartId 변경된 장바구니 ID, 실패 시 null
+     * @param code 실패 시 에러 코드
+     * @param message 실패 시 사유
+     */
+    public record CartBatchResult(
+            int index,
+            CartOperationType type,
+            Long productId,
+            Long cartId,
+            boolean success,
+            String code,
+            String message
+    ) {
+
+        public static CartBatchResult success(int index, CartBatchForm.CartOperation operation, Long cartId) {
+            return new CartBatchResult(index, operation.type(), operation.productId(), cartId, true, null, null);
+        }
+
+        public static CartBatchResult failure(int index, CartBatchForm.CartOperation operation, String code,
+                                              String message) {
+            return new CartBatchResult(index, operation.type(), operation.productId(), null, false, code, message);
+        }
+    }
+}
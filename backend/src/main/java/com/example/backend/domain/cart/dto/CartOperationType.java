@@ -0,0 +1,10 @@
+package com.example.backend.domain.cart.dto;
+
+/**
+ * 장바구니 일괄 변경 종류
+ */
+public enum CartOperationType {
+    ADD,
+    UPDATE,
+    DELETE
+}
@@ -0,0 +1,12 @@
+package com.example.backend.domain.cart.dto;
+
+/**
+ * 장바구니 테이블의 한 행
+ */
+public record CartRowDto(
+        Long id,
+        Long memberId,
+        Long productId,
+        int quantity
+) {
+}
@@ -2,6 +2,7 @@ package com.example.backend.domain.cart.entity;
 
 import com.example.backend.domain.member.entity.Member;
 import com.example.backend.domain.product.entity.Product;
+import com.example.backend.global.id.TimeOrderedId;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -10,8 +11,11 @@ import lombok.*;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Cart {
 
+    /**
+     * REDIS 모드에서는 장바구니 항목을 Redis에 먼저 저장하므로 DB 저장 전에 애플리케이션에서 ID를 생성합니다.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,90 @@
+package com.example.backend.domain.cart.repository;
+
+import com.example.backend.domain.cart.dto.CartRowDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * CartJdbcRepository
+ * 장바구니 행을 JDBC batch로 조회, 갱신하는 Repository
+ */
+@Repository
+@RequiredArgsConstructor
+public class CartJdbcRepository {
+
+    private static final String LOCK_MEMBER_SQL =
+            "SELECT id FROM member WHERE id IN (:ids) ORDER BY id FOR UPDATE";
+    private static final String FIND_BY_MEMBER_SQL =
+            "SELECT id, member_id, product_id, quantity FROM cart WHERE member_id IN (:ids)";
+    private static final String INSERT_SQL =
+            "INSERT INTO cart (id, member_id, product_id, quantity) VALUES (?, ?, ?, ?)";
+    private static final String UPDATE_QUANTITY_SQL =
+            "UPDATE cart SET quantity = ? WHERE id = ?";
+    private static final String DELETE_SQL =
+            "DELETE FROM cart WHERE id = ?";
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * 회원별 장바구니 반영 순서를 맞추기 위해 회원 행을 회원 ID 순으로 잠급니다.
+     * @param memberIds
+     * @return 잠근 회원 ID 목록, 없는 회원은 제외
+     */
+    public List<Long> lockMembers(Collection<Long> memberIds) {
+        return namedParameterJdbcTemplate.queryForList(LOCK_MEMBER_SQL, new MapSqlParameterSource("ids", memberIds),
+                Long.class);
+    }
+
+    /**
+     * @param memberIds
+     * @return 회원들의 장바구니 행 목록
+     */
+    public List<CartRowDto> findByMemberIdIn(Collection<Long> memberIds) {
+        return namedParameterJdbcTemplate.query(FIND_BY_MEMBER_SQL, new MapSqlParameterSource("ids", memberIds),
+                (rs, rowNum) -> new CartRowDto(
+                        rs.getLong("id"), rs.getLong("member_id"), rs.getLong("product_id"), rs.getInt("quantity")));
+    }
+
+    /**
+     * 장바구니 ID를 포함해 한 번의 JDBC batch로 추가합니다.
+     * @param cartRowList
+     */
+    public void batchInsert(List<CartRowDto> cartRowList) {
+        List<Object[]> batchArgs = new ArrayList<>();
+        for (CartRowDto cartRow : cartRowList) {
+            batchArgs.add(new Object[]{cartRow.id(), cartRow.memberId(), cartRow.productId(), cartRow.quantity()});
+        }
+
+        namedParameterJdbcTemplate.getJdbcTemplate().batchUpdate(INSERT_SQL, batchArgs);
+    }
+
+    /**
+     * @param cartRowList 장바구니 ID, 수정할 수량
+     */
+    public void batchUpdateQuantity(List<CartRowDto> cartRowList) {
+        List<Object[]> batchArgs = new ArrayList<>();
+        for (CartRowDto cartRow : cartRowList) {
+            batchArgs.add(new Object[]{cartRow.quantity(), cartRow.id()});
+        }
+
+        namedParameterJdbcTemplate.getJdbcTemplate().batchUpdate(UPDATE_QUANTITY_SQL, batchArgs);
+    }
+
+    /**
+     * @param ids 삭제할 장바구니 ID 목록
+     */
+    public void batchDelete(Collection<Long> ids) {
+        List<Object[]> batchArgs = new ArrayList<>();
+        for (Long id : ids) {
+            batchArgs.add(new Object[]{id});
+        }
+
+        namedParameterJdbcTemplate.getJdbcTemplate().batchUpdate(DELETE_SQL, batchArgs);
+    }
+}
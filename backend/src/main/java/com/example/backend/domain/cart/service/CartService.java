@@ -1,21 +1,43 @@
 package com.example.backend.domain.cart.service;
 
 import com.example.backend.domain.cart.converter.CartConverter;
+import com.example.backend.domain.cart.dto.CartBatchForm;
+import com.example.backend.domain.cart.dto.CartBatchResponse;
 import com.example.backend.domain.cart.dto.CartDeleteForm;
 import com.example.backend.domain.cart.dto.CartForm;
+import com.example.backend.domain.cart.dto.CartOperationType;
 import com.example.backend.domain.cart.dto.CartResponse;
+import com.example.backend.domain.cart.dto.CartRowDto;
 import com.example.backend.domain.cart.dto.CartUpdateForm;
 import com.example.backend.domain.cart.entity.Cart;
 import com.example.backend.domain.cart.exception.CartErrorCode;
 import com.example.backend.domain.cart.exception.CartException;
+import com.example.backend.domain.cart.repository.CartJdbcRepository;
 import com.example.backend.domain.cart.repository.CartRepository;
+import com.example.backend.domain.cart.store.CartStoreMode;
+import com.example.backend.domain.cart.store.RedisCartItem;
+import com.example.backend.domain.cart.store.RedisCartStore;
 import com.example.backend.domain.member.entity.Member;
+import com.example.backend.domain.product.dto.ProductResponse;
+import com.example.backend.domain.product.exception.ProductErrorCode;
+import com.example.backend.domain.product.exception.ProductException;
 import com.example.backend.domain.product.service.ProductService;
+import com.example.backend.global.id.TimeOrderedIdGenerator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -23,9 +45,19 @@ public class CartService {
 
     private final CartRepository cartRepository;
     private final ProductService productService;
+    private final CartJdbcRepository cartJdbcRepository;
+    private final RedisCartStore redisCartStore;
+    private final TimeOrderedIdGenerator timeOrderedIdGenerator;
+
+    @Value("${cart.store.mode:DATABASE}")
+    private CartStoreMode cartStoreMode = CartStoreMode.DATABASE;
 
     @Transactional
     public Long addCartItem(CartForm cartForm, Member member) {
+        if (cartStoreMode == CartStoreMode.REDIS) {
+            return addRedisCartItem(cartForm, member);
+        }
+
         // 요청한 상품 ID로 상품 조회
         Long productId = cartForm.productId();
 
@@ -46,6 +78,10 @@ public class CartService {
 
     @Transactional(readOnly = true)
     public List<CartResponse> getCartByMember(Member member) {
+        if (cartStoreMode == CartStoreMode.REDIS) {
+            return getRedisCart(member);
+        }
+
         List<Cart> cartList = cartRepository.findAllByMemberWithProducts(member);
 
         return CartConverter.toResponseList(cartList);
@@ -53,11 +89,19 @@ public class CartService {
 
     @Transactional
     public void deleteByMemberId(Long memberId) {
+        if (cartStoreMode == CartStoreMode.REDIS) {
+            redisCartStore.clear(memberId);
+        }
+
         cartRepository.deleteByMemberId(memberId);
     }
 
     @Transactional
     public Long updateCartItemQuantity(CartUpdateForm cartUpdateForm, Member member) {
+        if (cartStoreMode == CartStoreMode.REDIS) {
+            return updateRedisCartItemQuantity(cartUpdateForm, member);
+        }
+
         // 해당 상품이 장바구니에 있는지 조회 후 없으면 exception 발생
         Cart cart = cartRepository.findByProductIdAndMemberId(cartUpdateForm.productId(), member.getId())
                 .orElseThrow(() -> new CartException(CartErrorCode.PRODUCT_NOT_FOUND_IN_CART));
@@ -75,6 +119,15 @@ public class CartService {
 
     @Transactional
     public Long deleteCartItem(CartDeleteForm cartDeleteForm, Member member) {
+        if (cartStoreMode == CartStoreMode.REDIS) {
+            // 해당 상품이 장바구니에 없으면 exception 발생
+            if (!redisCartStore.remove(member.getId(), cartDeleteForm.productId())) {
+                throw new CartException(CartErrorCode.PRODUCT_NOT_FOUND_IN_CART);
+            }
+
+            return cartDeleteForm.productId();
+        }
+
         // 해당 상품이 장바구니에 있는지 조회 후 없으면 exception 발생
         Cart cart = cartRepository.findByProductIdAndMemberId(cartDeleteForm.productId(), member.getId())
                 .orElseThrow(() -> new CartException(CartErrorCode.PRODUCT_NOT_FOUND_IN_CART));
@@ -83,4 +136,307 @@ public class CartService {
 
         return cart.getProduct().getId();
     }
+
+    /**
+     * REDIS 모드 장바구니를 DB에 반영하는 메서드
+     * <p>회원 행을 잠근 뒤 Redis의 장바구니를 읽으므로, 여러 서버가 같은 회원을 동시에 반영해도
+     * 나중에 커밋되는 쪽이 더 최신 장바구니를 반영합니다. 변경된 행만 JDBC batch로 추가, 수정, 삭제합니다.</p>
+     * <p>그 사이 삭제된 회원의 장바구니와 삭제된 상품의 항목은 반영하지 않고 Redis에서도 삭제합니다.</p>
+     * @param memberIds 장바구니가 변경된 회원 ID 목록
+     * @return 반영한 회원 수
+     */
+    @Transactional
+    public int persist(List<Long> memberIds) {
+        Set<Long> lockedIds = new HashSet<>(cartJdbcRepository.lockMembers(memberIds));
+
+        Map<Long, Map<Long, RedisCartItem>> snapshotMap = new HashMap<>();
+        for (Long memberId : memberIds) {
+            if (!lockedIds.contains(memberId)) {
+                redisCartStore.clear(memberId);
+                continue;
+            }
+
+            redisCartStore.snapshot(memberId).ifPresent(itemMap -> snapshotMap.put(memberId, itemMap));
+        }
+
+        if (snapshotMap.isEmpty()) {
+            return 0;
+        }
+
+        Set<Long> productIds = snapshotMap.values().stream()
+                .flatMap(itemMap -> itemMap.keySet().stream())
+                .collect(Collectors.toSet());
+        Set<Long> existingProductIds = productIds.isEmpty() ? Set.of() : productService.findExistingIds(productIds);
+
+        List<CartRowDto> cartRowList = new ArrayList<>();
+        snapshotMap.forEach((memberId, itemMap) -> {
+            List<Long> deletedProductIds = new ArrayList<>();
+            itemMap.forEach((productId, item) -> {
+                if (existingProductIds.contains(productId)) {
+                    cartRowList.add(new CartRowDto(item.id(), memberId, productId, item.quantity()));
+                } else {
+                    deletedProductIds.add(productId);
+                }
+            });
+
+            if (!deletedProductIds.isEmpty()) {
+                redisCartStore.discard(memberId, deletedProductIds);
+            }
+        });
+
+        writeChanges(cartJdbcRepository.findByMemberIdIn(snapshotMap.keySet()), cartRowList);
+
+        return snapshotMap.size();
+    }
+
+    /**
+     * 장바구니 일괄 변경 메서드
+     * <p>추가할 상품과 회원의 장바구니를 각각 한 번에 조회한 뒤 변경을 요청 순서대로 적용하고, 바뀐 행만 한 번에 반영합니다.
+     * 실패한 항목은 결과에 사유를 남기고 나머지 항목은 계속 적용합니다.</p>
+     * <p>REDIS 모드에서는 적용한 항목을 바로 Redis 장바구니에 반영하며, 조회 이후 다른 요청이 같은 상품을 추가하거나
+     * 삭제했으면 해당 항목을 실패로 처리합니다.</p>
+     * @param cartBatchForm
+     * @param member
+     * @return {@link CartBatchResponse} 항목별 결과
+     */
+    @Transactional
+    public CartBatchResponse applyBatch(CartBatchForm cartBatchForm, Member member) {
+        List<CartBatchForm.CartOperation> operations = cartBatchForm.operations();
+
+        Set<Long> addProductIds = operations.stream()
+                .filter(operation -> operation.type() == CartOperationType.ADD)
+                .map(CartBatchForm.CartOperation::productId)
+                .collect(Collectors.toSet());
+        Set<Long> existingProductIds = addProductIds.isEmpty()
+                ? Set.of()
+                : productService.findExistingIds(addProductIds);
+
+        List<CartRowDto> persistedRows = findCartRows(member.getId());
+        Map<Long, CartRowDto> cartMap = persistedRows.stream()
+                .collect(Collectors.toMap(CartRowDto::productId, Function.identity()));
+
+        List<CartBatchResponse.CartBatchResult> results = new ArrayList<>();
+        for (int index = 0; index < operations.size(); index++) {
+            CartBatchForm.CartOperation operation = operations.get(index);
+
+            try {
+                Long cartId = switch (operation.type()) {
+                    case ADD -> addCartRow(operation, cartMap, existingProductIds, member.getId());
+                    case UPDATE -> updateCartRow(operation, cartMap);
+                    case DELETE -> deleteCartRow(operation, cartMap);
+                };
+                if (cartStoreMode == CartStoreMode.REDIS) {
+                    writeRedisOperation(operation, cartMap, member.getId());
+                }
+                results.add(CartBatchResponse.CartBatchResult.success(index, operation, cartId));
+            } catch (CartException e) {
+                results.add(CartBatchResponse.CartBatchResult.failure(index, operation, e.getCode(), e.getMessage()));
+            } catch (ProductException e) {
+                results.add(CartBatchResponse.CartBatchResult.failure(index, operation, e.getCode(), e.getMessage()));
+            }
+        }
+
+        if (cartStoreMode == CartStoreMode.DATABASE) {
+            writeChanges(persistedRows, cartMap.values());
+        }
+
+        return CartBatchResponse.of(results);
+    }
+
+    /**
+     * 회원의 장바구니 행을 조회합니다. DATABASE 모드에서는 같은 회원의 일괄 변경이 겹치지 않도록 회원 행을 잠급니다.
+     */
+    private List<CartRowDto> findCartRows(Long memberId) {
+        if (cartStoreMode == CartStoreMode.REDIS) {
+            return redisCartStore.findAll(memberId).entrySet().stream()
+                    .map(entry -> new CartRowDto(entry.getValue().id(), memberId, entry.getKey(),
+                            entry.getValue().quantity()))
+                    .toList();
+        }
+
+        List<Long> memberIds = List.of(memberId);
+        cartJdbcRepository.lockMembers(memberIds);
+
+        return cartJdbcRepository.findByMemberIdIn(memberIds);
+    }
+
+    private Long addCartRow(CartBatchForm.CartOperation operation, Map<Long, CartRowDto> cartMap,
+                            Set<Long> existingProductIds, Long memberId) {
+        if (!existingProductIds.contains(operation.productId())) {
+            throw new ProductException(ProductErrorCode.NOT_FOUND);
+        }
+        // 이미 장바구니에 있는 상품인 경우 exception 발생
+        if (cartMap.containsKey(operation.productId())) {
+            throw new CartException(CartErrorCode.ALREADY_EXISTS_IN_CART);
+        }
+
+        CartRowDto cartRow = new CartRowDto(timeOrderedIdGenerator.nextId(), memberId, operation.productId(),
+                requireQuantity(operation));
+        cartMap.put(operation.productId(), cartRow);
+
+        return cartRow.id();
+    }
+
+    private Long updateCartRow(CartBatchForm.CartOperation operation, Map<Long, CartRowDto> cartMap) {
+        CartRowDto cartRow = findCartRow(operation, cartMap);
+        int quantity = requireQuantity(operation);
+
+        // 현재 수량과 동일한 수량인 경우 exception 발생
+        if (cartRow.quantity() == quantity) {
+            throw new CartException(CartErrorCode.SAME_QUANTITY_IN_CART);
+        }
+
+        cartMap.put(operation.productId(),
+                new CartRowDto(cartRow.id(), cartRow.memberId(), cartRow.productId(), quantity));
+
+        return cartRow.id();
+    }
+
+    private Long deleteCartRow(CartBatchForm.CartOperation operation, Map<Long, CartRowDto> cartMap) {
+        CartRowDto cartRow = findCartRow(operation, cartMap);
+        cartMap.remove(operation.productId());
+
+        return cartRow.id();
+    }
+
+    private CartRowDto findCartRow(CartBatchForm.CartOperation operation, Map<Long, CartRowDto> cartMap) {
+        CartRowDto cartRow = cartMap.get(operation.productId());
+        if (cartRow == null) {
+            throw new CartException(CartErrorCode.PRODUCT_NOT_FOUND_IN_CART);
+        }
+
+        return cartRow;
+    }
+
+    private int requireQuantity(CartBatchForm.CartOperation operation) {
+        if (operation.quantity() == null) {
+            throw new CartException(CartErrorCode.INVALID_QUANTITY);
+        }
+
+        return operation.quantity();
+    }
+
+    /**
+     * 저장된 행과 변경 후 행을 장바구니 ID로 비교해 바뀐 행만 JDBC batch로 삭제, 수정, 추가합니다.
+     * @param persistedRows 저장된 행
+     * @param cartRows 변경 후 행
+     */
+    private void writeChanges(List<CartRowDto> persistedRows, Collection<CartRowDto> cartRows) {
+        Map<Long, CartRowDto> persistedMap = persistedRows.stream()
+                .collect(Collectors.toMap(CartRowDto::id, Function.identity()));
+
+        List<CartRowDto> insertList = new ArrayList<>();
+        List<CartRowDto> updateList = new ArrayList<>();
+
+        for (CartRowDto cartRow : cartRows) {
+            CartRowDto persisted = persistedMap.remove(cartRow.id());
+
+            if (persisted == null) {
+                insertList.add(cartRow);
+            } else if (persisted.quantity() != cartRow.quantity()) {
+                updateList.add(cartRow);
+            }
+        }
+
+        // 변경 후에 남지 않은 행은 장바구니에서 삭제된 상품
+        if (!persistedMap.isEmpty()) {
+            cartJdbcRepository.batchDelete(persistedMap.keySet());
+        }
+        if (!updateList.isEmpty()) {
+            cartJdbcRepository.batchUpdateQuantity(updateList);
+        }
+        if (!insertList.isEmpty()) {
+            cartJdbcRepository.batchInsert(insertList);
+        }
+    }
+
+    /**
+     * 적용한 항목을 Redis 장바구니에 반영합니다.
+     * <p>이미 다른 요청이 추가한 상품이면 cartMap을 Redis의 항목으로 맞춘 뒤 exception 발생,
+     * 이미 다른 요청이 삭제한 상품이면 cartMap에서 뺀 뒤 exception 발생</p>
+     * @param cartMap 상품 ID, 항목을 적용한 후 행
+     */
+    private void writeRedisOperation(CartBatchForm.CartOperation operation, Map<Long, CartRowDto> cartMap,
+                                     Long memberId) {
+        Long productId = operation.productId();
+
+        switch (operation.type()) {
+            case ADD -> {
+                CartRowDto cartRow = cartMap.get(productId);
+                if (!redisCartStore.addIfAbsent(memberId, productId,
+                        new RedisCartItem(cartRow.id(), cartRow.quantity()))) {
+                    cartMap.remove(productId);
+                    redisCartStore.find(memberId, productId).ifPresent(item -> cartMap.put(productId,
+                            new CartRowDto(item.id(), memberId, productId, item.quantity())));
+                    throw new CartException(CartErrorCode.ALREADY_EXISTS_IN_CART);
+                }
+            }
+            case UPDATE -> {
+                CartRowDto cartRow = cartMap.get(productId);
+                if (!redisCartStore.replace(memberId, productId, new RedisCartItem(cartRow.id(), cartRow.quantity()))) {
+                    cartMap.remove(productId);
+                    throw new CartException(CartErrorCode.PRODUCT_NOT_FOUND_IN_CART);
+                }
+            }
+            case DELETE -> {
+                if (!redisCartStore.remove(memberId, productId)) {
+                    throw new CartException(CartErrorCode.PRODUCT_NOT_FOUND_IN_CART);
+                }
+            }
+        }
+    }
+
+    /**
+     * Redis 장바구니에 상품을 추가합니다. 상품 존재 여부는 {@link ProductService}의 캐시로 확인합니다.
+     */
+    private Long addRedisCartItem(CartForm cartForm, Member member) {
+        productService.findProductResponseById(cartForm.productId());
+
+        RedisCartItem item = new RedisCartItem(timeOrderedIdGenerator.nextId(), cartForm.quantity());
+
+        // 이미 장바구니에 있는 상품인 경우 exception 발생
+        if (!redisCartStore.addIfAbsent(member.getId(), cartForm.productId(), item)) {
+            throw new CartException(CartErrorCode.ALREADY_EXISTS_IN_CART);
+        }
+
+        return item.id();
+    }
+
+    private Long updateRedisCartItemQuantity(CartUpdateForm cartUpdateForm, Member member) {
+        // 해당 상품이 장바구니에 있는지 조회 후 없으면 exception 발생
+        RedisCartItem item = redisCartStore.find(member.getId(), cartUpdateForm.productId())
+                .orElseThrow(() -> new CartException(CartErrorCode.PRODUCT_NOT_FOUND_IN_CART));
+
+        // 현재 수량과 동일한 수량인 경우 exception 발생
+        if (item.quantity() == cartUpdateForm.quantity()) {
+            throw new CartException(CartErrorCode.SAME_QUANTITY_IN_CART);
+        }
+
+        // 조회 이후 다른 요청이 삭제한 상품은 다시 만들지 않음
+        if (!redisCartStore.replace(member.getId(), cartUpdateForm.productId(),
+                item.withQuantity(cartUpdateForm.quantity()))) {
+            throw new CartException(CartErrorCode.PRODUCT_NOT_FOUND_IN_CART);
+        }
+
+        return item.id();
+    }
+
+    /**
+     * Redis 장바구니를 담은 순서로 반환합니다. 그 사이 삭제된 상품은 제외합니다.
+     */
+    private List<CartResponse> getRedisCart(Member member) {
+        Map<Long, RedisCartItem> itemMap = redisCartStore.findAll(member.getId());
+        if (itemMap.isEmpty()) {
+            return List.of();
+        }
+
+        // 캐시에 없는 상품은 IN 쿼리 한 번으로 조회
+        Map<Long, ProductResponse> productMap = productService.findProductResponseMap(itemMap.keySet());
+
+        return itemMap.entrySet().stream()
+                .filter(entry -> productMap.containsKey(entry.getKey()))
+                .sorted(Comparator.comparing(entry -> entry.getValue().id()))
+                .map(entry -> CartConverter.toResponse(entry.getValue(), productMap.get(entry.getKey())))
+                .toList();
+    }
 }
@@ -0,0 +1,15 @@
+package com.example.backend.domain.cart.store;
+
+/**
+ * 장바구니 저장 방식
+ */
+public enum CartStoreMode {
+    /**
+     * 장바구니 변경마다 DB 트랜잭션으로 저장
+     */
+    DATABASE,
+    /**
+     * 회원별 장바구니를 Redis hash에 저장하고, 변경은 {@link CartWriteBehindFlusher}가 주기적으로 DB에 반영
+     */
+    REDIS
+}
@@ -0,0 +1,80 @@
+package com.example.backend.domain.cart.store;
+
+import com.example.backend.domain.cart.service.CartService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * CartWriteBehindFlusher
+ * <p>REDIS 모드에서 변경된 장바구니를 주기적으로 DB에 반영합니다.</p>
+ * <p>dirty set에서 회원 ID를 chunk 단위로 꺼내 반영하며 chunk마다 커밋합니다. chunk 반영에 실패하면 회원별로 다시 반영하고,
+ * 그래도 실패한 회원은 보류 set에 옮겨 다른 회원의 반영을 막지 않도록 합니다. 보류한 회원은 더 긴 주기로 dirty set에 되돌립니다.</p>
+ * <p>DATABASE 모드로 바꾼 뒤에도 남은 변경이 반영되도록 모드와 관계없이 실행합니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CartWriteBehindFlusher {
+
+    private final RedisCartStore redisCartStore;
+    private final CartService cartService;
+
+    @Value("${cart.redis.flush-chunk-size:500}")
+    private int chunkSize = 500;
+
+    @Scheduled(fixedDelayString = "${cart.redis.flush-interval:5000}")
+    public void flush() {
+        int persisted = 0;
+        List<Long> memberIds;
+
+        do {
+            memberIds = redisCartStore.popChangedMemberIds(chunkSize);
+            if (memberIds.isEmpty()) {
+                break;
+            }
+
+            persisted += persist(memberIds);
+        } while (memberIds.size() == chunkSize);
+
+        if (persisted > 0) {
+            log.info("cart write-behind persisted members={}", persisted);
+        }
+    }
+
+    /**
+     * 보류한 회원을 dirty set에 되돌려 다음 반영 주기에 다시 시도합니다.
+     */
+    @Scheduled(fixedDelayString = "${cart.redis.parked-retry-interval:600000}")
+    public void retryParked() {
+        int requeued = redisCartStore.requeueParked(chunkSize);
+
+        if (requeued > 0) {
+            log.info("cart write-behind requeued parked members={}", requeued);
+        }
+    }
+
+    private int persist(List<Long> memberIds) {
+        try {
+            return cartService.persist(memberIds);
+        } catch (RuntimeException e) {
+            log.warn("cart write-behind chunk failed, retrying each member members={}", memberIds.size(), e);
+        }
+
+        int persisted = 0;
+        for (Long memberId : memberIds) {
+            try {
+                persisted += cartService.persist(List.of(memberId));
+            } catch (RuntimeException e) {
+                log.error("cart write-behind failed, parking memberId={}", memberId, e);
+                redisCartStore.park(memberId);
+            }
+        }
+
+        return persisted;
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.backend.domain.cart.store;
+
+/**
+ * Redis 장바구니 hash의 값, "장바구니 ID:수량" 형식으로 저장합니다.
+ */
+public record RedisCartItem(
+        Long id,
+        int quantity
+) {
+
+    public static RedisCartItem parse(String value) {
+        int separator = value.indexOf(':');
+
+        return new RedisCartItem(Long.parseLong(value.substring(0, separator)),
+                Integer.parseInt(value.substring(separator + 1)));
+    }
+
+    public RedisCartItem withQuantity(int quantity) {
+        return new RedisCartItem(id, quantity);
+    }
+
+    public String format() {
+        return id + ":" + quantity;
+    }
+}
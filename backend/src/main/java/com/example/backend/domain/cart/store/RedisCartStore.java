@@ -0,0 +1,255 @@
+package com.example.backend.domain.cart.store;
+
+import com.example.backend.domain.cart.dto.CartRowDto;
+import com.example.backend.domain.cart.repository.CartJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * RedisCartStore
+ * <p>회원별 장바구니를 Redis hash(상품 ID, {@link RedisCartItem})로 보관합니다.</p>
+ * <p>hash가 없으면 DB의 장바구니로 채우며, 채워진 hash에는 표시 필드를 남겨 비어 있는 장바구니와 구분합니다.
+ * 변경된 회원 ID는 dirty set에 추가되고 {@link CartWriteBehindFlusher}가 꺼내 DB에 반영합니다.</p>
+ * <p>{@link com.example.backend.domain.cart.service.CartService}의 @Transactional 안에서 호출되므로
+ * 트랜잭션 지원이 없는 {@link StringRedisTemplate}을 사용해 명령 결과를 즉시 반환받습니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisCartStore {
+
+    static final String KEY_PREFIX = "cart:";
+    static final String DIRTY_KEY = "cart:dirty";
+    static final String PARKED_KEY = "cart:dirty:parked";
+    static final String LOADED = "_loaded";
+
+    /**
+     * KEYS[1] 장바구니 hash
+     * ARGV[1] 만료 시간(ms), ARGV[2] 표시 필드, ARGV[3..] 상품 ID, 장바구니 항목 순서의 쌍
+     * return 1 채움, 0 이미 채워진 hash
+     * <p>이미 있는 필드는 덮어쓰지 않으며, 한 번의 스크립트로 실행되므로 다른 명령이 중간에 끼어들지 않습니다.</p>
+     */
+    static final RedisScript<Long> INIT_HASH_IF_ABSENT_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HEXISTS', KEYS[1], ARGV[2]) == 1 then
+                return 0
+            end
+            for i = 3, #ARGV, 2 do
+                redis.call('HSETNX', KEYS[1], ARGV[i], ARGV[i + 1])
+            end
+            redis.call('HSET', KEYS[1], ARGV[2], '1')
+            redis.call('PEXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
+
+    /**
+     * KEYS[1] 장바구니 hash
+     * ARGV[1] 상품 ID, ARGV[2] 장바구니 항목
+     * return 1 수정, 0 없는 상품
+     * <p>확인과 수정 사이에 다른 요청이 삭제한 상품을 다시 만들지 않도록 한 번의 스크립트로 실행합니다.</p>
+     */
+    static final RedisScript<Long> REPLACE_IF_PRESENT_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HEXISTS', KEYS[1], ARGV[1]) == 0 then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final CartJdbcRepository cartJdbcRepository;
+
+    /**
+     * 마지막 사용 이후 hash를 유지하는 시간, 반영 주기보다 충분히 길어야 합니다.
+     */
+    @Value("${cart.redis.ttl-minutes:10080}")
+    private long ttlMinutes = 10080;
+
+    /**
+     * @return {@link Map} 상품 ID, 장바구니 항목
+     */
+    public Map<Long, RedisCartItem> findAll(Long memberId) {
+        load(memberId);
+
+        return toItemMap(stringRedisTemplate.opsForHash().entries(key(memberId)));
+    }
+
+    public Optional<RedisCartItem> find(Long memberId, Long productId) {
+        load(memberId);
+
+        return Optional.ofNullable(stringRedisTemplate.opsForHash().get(key(memberId), String.valueOf(productId)))
+                .map(value -> RedisCartItem.parse((String) value));
+    }
+
+    /**
+     * @return 이미 장바구니에 있는 상품이면 false
+     */
+    public boolean addIfAbsent(Long memberId, Long productId, RedisCartItem item) {
+        load(memberId);
+
+        if (!Boolean.TRUE.equals(stringRedisTemplate.opsForHash()
+                .putIfAbsent(key(memberId), String.valueOf(productId), item.format()))) {
+            return false;
+        }
+
+        changed(memberId);
+        return true;
+    }
+
+    /**
+     * 장바구니에 있는 상품의 항목만 바꿉니다.
+     * @return 장바구니에 없는 상품이면 false
+     */
+    public boolean replace(Long memberId, Long productId, RedisCartItem item) {
+        load(memberId);
+
+        Long replaced = stringRedisTemplate.execute(REPLACE_IF_PRESENT_SCRIPT, List.of(key(memberId)),
+                String.valueOf(productId), item.format());
+        if (replaced == null || replaced == 0) {
+            return false;
+        }
+
+        changed(memberId);
+        return true;
+    }
+
+    /**
+     * @return 장바구니에 없는 상품이면 false
+     */
+    public boolean remove(Long memberId, Long productId) {
+        load(memberId);
+
+        Long deleted = stringRedisTemplate.opsForHash().delete(key(memberId), String.valueOf(productId));
+        if (deleted == null || deleted == 0) {
+            return false;
+        }
+
+        changed(memberId);
+        return true;
+    }
+
+    /**
+     * DB에 반영할 수 없는 항목을 삭제합니다. DB 반영 중에 호출되므로 변경으로 표시하지 않습니다.
+     */
+    public void discard(Long memberId, Collection<Long> productIds) {
+        stringRedisTemplate.opsForHash().delete(key(memberId), productIds.stream().map(String::valueOf).toArray());
+    }
+
+    /**
+     * 회원의 장바구니 hash를 삭제합니다. DB의 장바구니는 호출한 쪽에서 삭제해야 합니다.
+     */
+    public void clear(Long memberId) {
+        stringRedisTemplate.delete(key(memberId));
+    }
+
+    /**
+     * DB에 반영할 회원 ID를 dirty set에서 꺼냅니다.
+     */
+    public List<Long> popChangedMemberIds(int count) {
+        List<String> popped = stringRedisTemplate.opsForSet().pop(DIRTY_KEY, count);
+        if (popped == null) {
+            return List.of();
+        }
+
+        return popped.stream()
+                .map(Long::valueOf)
+                .toList();
+    }
+
+    /**
+     * DB 반영에 실패한 회원 ID를 다음 주기에 다시 반영하도록 dirty set에 되돌립니다.
+     */
+    public void changed(Long memberId) {
+        stringRedisTemplate.opsForSet().add(DIRTY_KEY, String.valueOf(memberId));
+    }
+
+    /**
+     * 따로 반영해도 실패한 회원 ID를 보류 set에 옮겨, 다른 회원의 반영을 막지 않도록 합니다.
+     */
+    public void park(Long memberId) {
+        stringRedisTemplate.opsForSet().add(PARKED_KEY, String.valueOf(memberId));
+    }
+
+    /**
+     * 보류한 회원 ID를 count개까지 dirty set에 되돌립니다.
+     * @return 되돌린 회원 수
+     */
+    public int requeueParked(int count) {
+        Set<String> parked = stringRedisTemplate.opsForSet().distinctRandomMembers(PARKED_KEY, count);
+        if (parked == null) {
+            return 0;
+        }
+
+        int requeued = 0;
+        for (String memberId : parked) {
+            if (Boolean.TRUE.equals(stringRedisTemplate.opsForSet().move(PARKED_KEY, memberId, DIRTY_KEY))) {
+                requeued++;
+            }
+        }
+
+        return requeued;
+    }
+
+    /**
+     * DB 반영용 스냅샷, DB로 채워지지 않은 hash는 일부 항목만 있을 수 있으므로 반영하지 않습니다.
+     * @return 채워진 hash가 없으면 빈 Optional
+     */
+    public Optional<Map<Long, RedisCartItem>> snapshot(Long memberId) {
+        Map<Object, Object> entries = stringRedisTemplate.opsForHash().entries(key(memberId));
+        if (!entries.containsKey(LOADED)) {
+            return Optional.empty();
+        }
+
+        return Optional.of(toItemMap(entries));
+    }
+
+    /**
+     * hash가 DB로 채워지지 않았으면 채우고, 만료 시간을 갱신합니다.
+     */
+    private void load(Long memberId) {
+        String key = key(memberId);
+
+        Duration ttl = Duration.ofMinutes(ttlMinutes);
+
+        if (Boolean.TRUE.equals(stringRedisTemplate.opsForHash().hasKey(key, LOADED))) {
+            stringRedisTemplate.expire(key, ttl);
+            return;
+        }
+
+        List<Object> args = new ArrayList<>();
+        args.add(String.valueOf(ttl.toMillis()));
+        args.add(LOADED);
+        for (CartRowDto cartRow : cartJdbcRepository.findByMemberIdIn(List.of(memberId))) {
+            args.add(String.valueOf(cartRow.productId()));
+            args.add(new RedisCartItem(cartRow.id(), cartRow.quantity()).format());
+        }
+
+        stringRedisTemplate.execute(INIT_HASH_IF_ABSENT_SCRIPT, List.of(key), args.toArray());
+    }
+
+    private Map<Long, RedisCartItem> toItemMap(Map<Object, Object> entries) {
+        Map<Long, RedisCartItem> itemMap = new HashMap<>();
+        entries.forEach((hashKey, value) -> {
+            if (!LOADED.equals(hashKey)) {
+                itemMap.put(Long.valueOf((String) hashKey), RedisCartItem.parse((String) value));
+            }
+        });
+
+        return itemMap;
+    }
+
+    private String key(Long memberId) {
+        return KEY_PREFIX + memberId;
+    }
+}
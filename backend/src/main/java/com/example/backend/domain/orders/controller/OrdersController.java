@@ -4,17 +4,22 @@ package com.example.backend.domain.orders.controller;
 import com.example.backend.domain.member.entity.Member;
 import com.example.backend.domain.orders.dto.OrdersForm;
 import com.example.backend.domain.orders.dto.OrdersResponse;
+import com.example.backend.domain.orders.dto.OrdersTicketResponse;
+import com.example.backend.domain.orders.service.OrdersIntakeService;
+import com.example.backend.domain.orders.service.OrdersLaneExecutor;
 import com.example.backend.domain.orders.service.OrdersService;
 import com.example.backend.global.auth.model.CustomUserDetails;
+import com.example.backend.global.response.CursorResponse;
 import com.example.backend.global.response.GenericResponse;
+import com.example.backend.global.response.ResourceVersion;
 import com.example.backend.global.validation.ValidationSequence;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequiredArgsConstructor
@@ -22,11 +27,23 @@ import java.util.List;
 public class OrdersController {
 
     private final OrdersService ordersService;
+    private final OrdersLaneExecutor ordersLaneExecutor;
+    private final OrdersIntakeService ordersIntakeService;
 
+    /**
+     * 주문 단건 조회
+     * <p>If-None-Match, If-Modified-Since가 현재 검증자와 일치하면 본문 없이 304를 반환합니다.</p>
+     */
     @GetMapping("/{id}")
     public ResponseEntity<GenericResponse<OrdersResponse>> findOne(
-            @PathVariable(name = "id") Long id
+            @PathVariable(name = "id") Long id,
+            WebRequest webRequest
     ) {
+        ResourceVersion resourceVersion = ordersService.findVersion(id);
+        if (resourceVersion.checkNotModified(webRequest)) {
+            return null;
+        }
+
         OrdersResponse response = ordersService.findOne(id);
 
         return ResponseEntity.ok()
@@ -34,38 +51,63 @@ public class OrdersController {
     }
 
     @GetMapping("/current")
-    public ResponseEntity<GenericResponse<List<OrdersResponse>>> current(
+    public ResponseEntity<GenericResponse<CursorResponse<OrdersResponse>>> current(
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "20") int size,
             @AuthenticationPrincipal CustomUserDetails customUserDetails
     ) {
         Long memberId = customUserDetails.getMember().getId();
-        List<OrdersResponse> responseList = ordersService.current(memberId);
+        CursorResponse<OrdersResponse> response = ordersService.current(memberId, cursor, size);
 
         return ResponseEntity.ok()
-                .body(GenericResponse.of(responseList));
+                .body(GenericResponse.of(response));
 
     }
 
     @PostMapping
-    public ResponseEntity<GenericResponse<Long>> create(
+    public ResponseEntity<GenericResponse<?>> create(
             @RequestBody @Validated(ValidationSequence.class) OrdersForm ordersForm,
             @AuthenticationPrincipal CustomUserDetails customUserDetails
     ) {
         Member member = customUserDetails.getMember();
-        Long orderId = ordersService.create(ordersForm, member);
+
+        // 비동기 접수 모드: 대기열 등록 후 티켓 ID 반환
+        if (ordersIntakeService.isAsync()) {
+            String ticketId = ordersIntakeService.submit(ordersForm, member);
+
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(GenericResponse.of(ticketId, "주문이 접수되었습니다."));
+        }
+
+        Long orderId = ordersLaneExecutor.create(ordersForm, member);
 
         return ResponseEntity.ok()
                 .body(GenericResponse.of(orderId));
     }
 
+    @GetMapping("/tickets/{ticketId}")
+    public ResponseEntity<GenericResponse<OrdersTicketResponse>> findTicket(
+            @PathVariable(name = "ticketId") String ticketId,
+            @AuthenticationPrincipal CustomUserDetails customUserDetails
+    ) {
+        Long memberId = customUserDetails.getMember().getId();
+        OrdersTicketResponse response = ordersIntakeService.findTicket(ticketId, memberId);
+
+        return ResponseEntity.ok()
+                .body(GenericResponse.of(response));
+    }
+
     @GetMapping("/history")
-    public ResponseEntity<GenericResponse<List<OrdersResponse>>> history(
+    public ResponseEntity<GenericResponse<CursorResponse<OrdersResponse>>> history(
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "20") int size,
             @AuthenticationPrincipal CustomUserDetails customUserDetails
     ) {
         Long memberId = customUserDetails.getMember().getId();
-        List<OrdersResponse> responseList = ordersService.history(memberId);
+        CursorResponse<OrdersResponse> response = ordersService.history(memberId, cursor, size);
 
         return ResponseEntity.ok()
-                .body(GenericResponse.of(responseList));
+                .body(GenericResponse.of(response));
 
     }
 
@@ -74,7 +116,7 @@ public class OrdersController {
             @PathVariable(name = "id") Long id,
             @AuthenticationPrincipal CustomUserDetails CustomUserDetails
     ) {
-        ordersService.cancelById(id);
+        ordersLaneExecutor.cancelById(id);
         return ResponseEntity.ok()
                 .body(GenericResponse.of());
     }
@@ -0,0 +1,22 @@
+package com.example.backend.domain.orders.dto;
+
+import java.util.List;
+
+/**
+ * 배송 처리 chunk 결과
+ * @param lastId 이번 chunk에서 처리한 마지막 주문 ID, 다음 chunk는 이 ID 이후부터 조회합니다.
+ * @param shippedCount SHIPPED로 변경된 주문 수
+ * @param usernameList 이번 chunk에서 배송 시작 메일을 저장한 회원 username (중복 제거)
+ * @param hasNext 다음 chunk 존재 가능 여부
+ */
+public record DeliveryChunk(
+        Long lastId,
+        int shippedCount,
+        List<String> usernameList,
+        boolean hasNext
+) {
+
+    public static DeliveryChunk empty(Long lastId) {
+        return new DeliveryChunk(lastId, 0, List.of(), false);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.backend.domain.orders.dto;
+
+import com.example.backend.domain.member.entity.Member;
+
+/**
+ * 여러 주문을 한 트랜잭션에서 생성할 때 사용하는 주문 단위 요청
+ */
+public record OrdersCreateRequest(
+        OrdersForm ordersForm,
+        Member member
+) {}
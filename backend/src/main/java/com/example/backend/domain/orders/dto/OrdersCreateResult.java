@@ -0,0 +1,25 @@
+package com.example.backend.domain.orders.dto;
+
+import com.example.backend.domain.product.exception.ProductException;
+
+/**
+ * 여러 주문을 한 트랜잭션에서 생성할 때의 주문 단위 결과
+ * <p>재고 부족처럼 주문 하나만 실패한 경우 ordersId 대신 실패 원인을 담습니다.</p>
+ */
+public record OrdersCreateResult(
+        Long ordersId,
+        ProductException exception
+) {
+
+    public static OrdersCreateResult success(Long ordersId) {
+        return new OrdersCreateResult(ordersId, null);
+    }
+
+    public static OrdersCreateResult failure(ProductException exception) {
+        return new OrdersCreateResult(null, exception);
+    }
+
+    public boolean isSuccess() {
+        return exception == null;
+    }
+}
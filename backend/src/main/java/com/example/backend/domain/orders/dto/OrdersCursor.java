@@ -0,0 +1,51 @@
+package com.example.backend.domain.orders.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Base64;
+
+import com.example.backend.domain.orders.exception.OrdersErrorCode;
+import com.example.backend.domain.orders.exception.OrdersException;
+
+/**
+ * 주문 목록 커서
+ * <p>마지막으로 조회한 주문의 (modifiedAt, id)를 Base64 URL 문자열로 인코딩합니다.</p>
+ */
+public record OrdersCursor(
+        ZonedDateTime modifiedAt,
+        Long id
+) {
+
+    private static final String DELIMITER = "_";
+
+    public static OrdersCursor from(OrdersResponse ordersResponse) {
+        return new OrdersCursor(ordersResponse.modifiedAt(), ordersResponse.id());
+    }
+
+    public String encode() {
+        String raw = modifiedAt.toInstant() + DELIMITER + id;
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param cursor
+     * @return {@link OrdersCursor}
+     * @throws OrdersException 잘못된 커서인 경우 BAD_REQUEST
+     */
+    public static OrdersCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(DELIMITER);
+
+            Instant modifiedAt = Instant.parse(raw.substring(0, index));
+            Long id = Long.parseLong(raw.substring(index + 1));
+
+            return new OrdersCursor(ZonedDateTime.ofInstant(modifiedAt, ZoneId.systemDefault()), id);
+        } catch (RuntimeException e) {
+            throw new OrdersException(OrdersErrorCode.BAD_REQUEST);
+        }
+    }
+}
@@ -16,4 +16,18 @@ public record OrdersResponse(
         DeliveryStatus status,
         ZonedDateTime createAt,
         ZonedDateTime modifiedAt
-) {}
\ No newline at end of file
+) {
+
+    /**
+     * 주문 헤더 projection 생성자
+     * <p>주문 상품은 {@link #withProducts(List)}로 채웁니다.</p>
+     */
+    public OrdersResponse(Long id, int totalPrice, DeliveryStatus status,
+                          ZonedDateTime createAt, ZonedDateTime modifiedAt) {
+        this(id, List.of(), totalPrice, status, createAt, modifiedAt);
+    }
+
+    public OrdersResponse withProducts(List<ProductInfoDto> products) {
+        return new OrdersResponse(id, products, totalPrice, status, createAt, modifiedAt);
+    }
+}
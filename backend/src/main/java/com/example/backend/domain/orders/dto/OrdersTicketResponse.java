@@ -0,0 +1,13 @@
+package com.example.backend.domain.orders.dto;
+
+import com.example.backend.domain.orders.status.TicketStatus;
+import lombok.Builder;
+
+@Builder
+public record OrdersTicketResponse(
+        String ticketId,
+        TicketStatus status,
+        Long orderId,
+        String errorCode,
+        String errorMessage
+) {}
@@ -0,0 +1,27 @@
+package com.example.backend.domain.orders.dto;
+
+import com.example.backend.domain.orders.status.DeliveryStatus;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 조건부 조회 검증자 생성에 사용하는 주문 버전 정보
+ * <p>응답에 주문 상품의 이름, 이미지가 포함되므로 주문 상품 중 가장 최근 수정된 상품의 수정일시도 함께 조회합니다.</p>
+ */
+public record OrdersVersionDto(
+        Long id,
+        DeliveryStatus status,
+        ZonedDateTime modifiedAt,
+        ZonedDateTime productModifiedAt
+) {
+
+    /**
+     * @return 주문과 주문 상품 중 가장 최근 수정일시
+     */
+    public ZonedDateTime lastModifiedAt() {
+        if (productModifiedAt == null || modifiedAt.isAfter(productModifiedAt)) {
+            return modifiedAt;
+        }
+        return productModifiedAt;
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.backend.domain.orders.dto;
+
+/**
+ * 주문 상품 projection
+ * <p>주문 ID별로 묶은 뒤 {@link ProductInfoDto}로 변환합니다.</p>
+ */
+public record ProductOrdersInfoDto(
+        Long ordersId,
+        Long productId,
+        String name,
+        int price,
+        String imgUrl,
+        int quantity
+) {
+
+    public ProductInfoDto toProductInfoDto() {
+        return ProductInfoDto.builder()
+                .id(productId)
+                .name(name)
+                .price(price)
+                .imgUrl(imgUrl)
+                .quantity(quantity)
+                .build();
+    }
+}
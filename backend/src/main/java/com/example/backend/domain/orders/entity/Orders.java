@@ -6,6 +6,7 @@ import com.example.backend.domain.member.entity.Member;
 import com.example.backend.domain.orders.status.DeliveryStatus;
 import com.example.backend.domain.productOrders.entity.ProductOrders;
 import com.example.backend.global.baseEntity.BaseEntity;
+import com.example.backend.global.id.TimeOrderedId;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -13,13 +14,20 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_member_modified_at", columnList = "member_id, modified_at, id"),
+        @Index(name = "idx_orders_delivery_status_id", columnList = "delivery_status, id")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 public class Orders extends BaseEntity {
 
+    /**
+     * IDENTITY 전략은 INSERT 직후 키를 받아야 해서 JDBC batch insert가 비활성화되므로
+     * 애플리케이션에서 생성한 시간순 ID를 사용합니다.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
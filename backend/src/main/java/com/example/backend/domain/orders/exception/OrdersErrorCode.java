@@ -12,7 +12,8 @@ public enum OrdersErrorCode {
     NOT_FOUND(HttpStatus.NOT_FOUND,"404-1", "해당 리소스를 찾을 수 없습니다"),
     UNABLE_ORDER_CANCEL_ALREADY_CANCEL(HttpStatus.CONFLICT, "409-1", "이미 취소된 상품입니다."),
     UNABLE_ORDER_CANCEL_ALREADY_SHIPPED(HttpStatus.CONFLICT, "409-2", "이미 배송중입니다."),
-    SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "500-1", "서버 에러");
+    SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "500-1", "서버 에러"),
+    INTAKE_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "503-1", "주문 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
 
     final HttpStatus httpStatus;
     final String code;
@@ -4,11 +4,15 @@ import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import com.example.backend.domain.orders.dto.OrdersResponse;
+import com.example.backend.domain.orders.dto.OrdersVersionDto;
+import com.example.backend.domain.orders.dto.ProductOrdersInfoDto;
 import com.example.backend.domain.orders.entity.Orders;
 import com.example.backend.domain.orders.status.DeliveryStatus;
 
@@ -21,70 +25,147 @@ public interface OrdersRepository extends JpaRepository<Orders, Long> {
 		"where o.id = :id")
 	Optional<Orders> findOrderById(@Param("id") Long id);
 
-	@Query("select distinct o from Orders o " +
-		"join fetch o.member m " +
-		"join fetch o.productOrdersList po " +
-		"join fetch po.product p " +
-		"where m.id = :id and o.deliveryStatus = :status")
-	List<Orders> findByMemberIdAndDeliveryStatus(
-		@Param("id") Long id,
-		@Param("status") DeliveryStatus status);
+	/**
+	 * 주문 헤더를 {@link OrdersResponse}로 조회합니다.
+	 * <p>주문 상품은 {@link #findProductInfoByOrdersIdIn(List)}로 따로 조회합니다.</p>
+	 * @param id
+	 * @return {@link Optional<OrdersResponse>}
+	 */
+	@Query("select new com.example.backend.domain.orders.dto.OrdersResponse(" +
+		"o.id, o.totalPrice, o.deliveryStatus, o.createdAt, o.modifiedAt) " +
+		"from Orders o " +
+		"where o.id = :id")
+	Optional<OrdersResponse> findResponseById(@Param("id") Long id);
 
-	@Query("select distinct o from Orders o " +
-		"join fetch o.member m " +
-		"join fetch o.productOrdersList po " +
-		"join fetch po.product p " +
-		"where m.id = :id and o.deliveryStatus in :status " +
-		"order by o.modifiedAt desc")
-	List<Orders> findAllByMemberIdAndDeliveryStatusOrderByModifiedAt(
+	/**
+	 * 조건부 조회 검증자 생성을 위해 주문의 상태, 수정일시와 주문 상품의 최근 수정일시만 조회합니다.
+	 * @param id
+	 * @return {@link Optional<OrdersVersionDto>}
+	 */
+	@Query("select new com.example.backend.domain.orders.dto.OrdersVersionDto(" +
+		"o.id, o.deliveryStatus, o.modifiedAt, max(p.modifiedAt)) " +
+		"from Orders o " +
+		"left join o.productOrdersList po " +
+		"left join po.product p " +
+		"where o.id = :id " +
+		"group by o.id, o.deliveryStatus, o.modifiedAt")
+	Optional<OrdersVersionDto> findVersionById(@Param("id") Long id);
+
+	/**
+	 * 회원의 주문 헤더를 (modifiedAt, id) 내림차순으로 조회합니다. (첫 페이지)
+	 * <p>컬렉션 fetch join이 없으므로 limit이 SQL로 적용됩니다.</p>
+	 * @param memberId
+	 * @param status
+	 * @param pageable 조회할 개수
+	 * @return {@link List<OrdersResponse>}
+	 */
+	@Query("select new com.example.backend.domain.orders.dto.OrdersResponse(" +
+		"o.id, o.totalPrice, o.deliveryStatus, o.createdAt, o.modifiedAt) " +
+		"from Orders o " +
+		"where o.member.id = :memberId and o.deliveryStatus in :status " +
+		"order by o.modifiedAt desc, o.id desc")
+	List<OrdersResponse> findResponsesByMemberId(
+		@Param("memberId") Long memberId,
+		@Param("status") List<DeliveryStatus> status,
+		Pageable pageable);
+
+	/**
+	 * 커서 (modifiedAt, id) 이후의 회원 주문 헤더를 (modifiedAt, id) 내림차순으로 조회합니다.
+	 * @param memberId
+	 * @param status
+	 * @param modifiedAt 커서의 수정일시
+	 * @param id 커서의 주문 ID
+	 * @param pageable 조회할 개수
+	 * @return {@link List<OrdersResponse>}
+	 */
+	@Query("select new com.example.backend.domain.orders.dto.OrdersResponse(" +
+		"o.id, o.totalPrice, o.deliveryStatus, o.createdAt, o.modifiedAt) " +
+		"from Orders o " +
+		"where o.member.id = :memberId and o.deliveryStatus in :status " +
+		"and (o.modifiedAt < :modifiedAt or (o.modifiedAt = :modifiedAt and o.id < :id)) " +
+		"order by o.modifiedAt desc, o.id desc")
+	List<OrdersResponse> findResponsesByMemberIdAfterCursor(
+		@Param("memberId") Long memberId,
+		@Param("status") List<DeliveryStatus> status,
+		@Param("modifiedAt") ZonedDateTime modifiedAt,
 		@Param("id") Long id,
-		@Param("status") List<DeliveryStatus> status);
+		Pageable pageable);
+
+	/**
+	 * 주문 ID 목록의 주문 상품을 IN 쿼리 한 번으로 조회합니다.
+	 * @param ordersIds
+	 * @return {@link List<ProductOrdersInfoDto>}
+	 */
+	@Query("select new com.example.backend.domain.orders.dto.ProductOrdersInfoDto(" +
+		"po.orders.id, p.id, p.name, po.price, p.imgUrl, po.quantity) " +
+		"from ProductOrders po " +
+		"join po.product p " +
+		"where po.orders.id in :ordersIds " +
+		"order by po.id")
+	List<ProductOrdersInfoDto> findProductInfoByOrdersIdIn(@Param("ordersIds") List<Long> ordersIds);
 
 	void deleteByMemberId(Long memberId);
 
 	/**
-	 * 배송 상태가 READY이며  modifiedAt가 startTime, endTime 사이인 주문을 조회합니다.
+	 * modifiedAt가 startTime, endTime 사이인 배송 준비중 주문 수를 조회합니다.
 	 * @param startTime
 	 * @param endTime
-	 * @return {@link List<Orders>}
+	 * @return 주문 수
 	 */
 	@Query("""
-		      SELECT o FROM Orders o
-		WHERE o.modifiedAt >= :startTime
+		SELECT count(o) FROM Orders o
+		WHERE o.deliveryStatus = 'READY'
+		AND o.modifiedAt >= :startTime
 		AND o.modifiedAt < :endTime
-		AND o.deliveryStatus = 'READY'
-		   """)
-	List<Orders> findReadyOrders(@Param("startTime") ZonedDateTime startTime, @Param("endTime") ZonedDateTime endTime);
+		""")
+	long countReadyOrders(@Param("startTime") ZonedDateTime startTime, @Param("endTime") ZonedDateTime endTime);
 
-    /**
-	 * 배송 상태가 READY이며  modifiedAt가 startTime, endTime 사이인 주문한 username을 조회합니다.
+	/**
+	 * lastId 이후의 배송 준비중 주문 ID를 ID 오름차순으로 조회합니다.
+	 * <p>(delivery_status, id) 인덱스를 따라 lastId부터 읽으므로 chunk가 뒤로 갈수록 느려지지 않습니다.</p>
 	 * @param startTime
 	 * @param endTime
-	 * @return {@link List<Orders>}
+	 * @param lastId 이전 chunk의 마지막 주문 ID
+	 * @param pageable chunk 크기
+	 * @return {@link List<Long>}
 	 */
 	@Query("""
-		      SELECT o.member.username FROM Orders o
-		      join o.member
-		WHERE o.modifiedAt >= :startTime
+		SELECT o.id FROM Orders o
+		WHERE o.deliveryStatus = 'READY'
+		AND o.id > :lastId
+		AND o.modifiedAt >= :startTime
 		AND o.modifiedAt < :endTime
-		AND o.deliveryStatus = 'READY'
-		   """)
-	List<String> findUsernameByReady(@Param("startTime") ZonedDateTime startTime, @Param("endTime") ZonedDateTime endTime);
+		ORDER BY o.id
+		""")
+	List<Long> findReadyIdsAfter(@Param("startTime") ZonedDateTime startTime,
+		@Param("endTime") ZonedDateTime endTime, @Param("lastId") Long lastId, Pageable pageable);
 
 	/**
-	 * 배송 상태가 READY이며 modifiedAt가 startTime, endTime 사이인 <br>
-	 * 주문의 배송 상태를 SHIPPED로 변경합니다.
-	 * @param startTime
-	 * @param endTime
+	 * 주문 ID 목록 중 배송 준비중인 주문의 배송 상태를 SHIPPED로 변경합니다.
+	 * <p>벌크 UPDATE는 @PreUpdate가 호출되지 않으므로 수정일시를 직접 변경합니다.</p>
+	 * @param ids
+	 * @param modifiedAt 변경 일시
+	 * @return 변경된 주문 수
 	 */
 	@Modifying
 	@Query("""
 		UPDATE Orders o
-		SET o.deliveryStatus = 'SHIPPED'
-		WHERE CAST(o.modifiedAt AS timestamp) >= CAST(:startTime AS timestamp)
-		AND CAST(o.modifiedAt AS timestamp) < CAST(:endTime AS timestamp)
+		SET o.deliveryStatus = 'SHIPPED', o.modifiedAt = :modifiedAt
+		WHERE o.id IN :ids
 		AND o.deliveryStatus = 'READY'
 		""")
-	void bulkUpdateDeliveryStatus(@Param("startTime") ZonedDateTime startTime,
-		@Param("endTime") ZonedDateTime endTime);
+	int shipByIdIn(@Param("ids") List<Long> ids, @Param("modifiedAt") ZonedDateTime modifiedAt);
+
+	/**
+	 * 주문 ID 목록 중 배송중인 주문을 한 회원의 username을 중복 없이 조회합니다.
+	 * @param ids
+	 * @return {@link List<String>}
+	 */
+	@Query("""
+		SELECT DISTINCT m.username FROM Orders o
+		JOIN o.member m
+		WHERE o.id IN :ids
+		AND o.deliveryStatus = 'SHIPPED'
+		""")
+	List<String> findShippedUsernameByIdIn(@Param("ids") List<Long> ids);
 }
@@ -0,0 +1,316 @@
+package com.example.backend.domain.orders.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.backend.domain.member.entity.Member;
+import com.example.backend.domain.orders.dto.OrdersCreateRequest;
+import com.example.backend.domain.orders.dto.OrdersCreateResult;
+import com.example.backend.domain.orders.dto.OrdersForm;
+import com.example.backend.domain.orders.exception.OrdersErrorCode;
+import com.example.backend.domain.orders.exception.OrdersException;
+import com.example.backend.domain.product.exception.ProductErrorCode;
+import com.example.backend.domain.product.exception.ProductException;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * OrdersGroupCommitWriter
+ * <p>짧은 시간 동안 도착한 주문을 모아 한 트랜잭션으로 저장하는 group commit 작성기 입니다.</p>
+ * <p>첫 주문이 도착한 뒤 orders.group-commit.window-millis가 지나거나 max-batch개가 모이면
+ * {@link OrdersService#createAll}로 한 번에 저장하고, 각 호출자에게 자신의 주문 ID를 돌려줍니다.
+ * 재고 부족처럼 주문 하나만 실패하면 createAll이 그 주문만 되돌리고 나머지를 저장하므로 실패한 주문의 호출자만 예외를 받습니다.
+ * 버전 충돌처럼 묶음 전체가 롤백되면 실패한 주문만 골라낼 수 있도록 주문별 트랜잭션으로 다시 처리합니다.</p>
+ * <p>분산 재고의 교착 상태처럼 DB가 트랜잭션 전체를 롤백해 CONFLICT로 실패한 주문은 새 트랜잭션으로 한 번 다시 저장합니다.</p>
+ * <p>대기 시간이 초과된 주문은 저장을 시작하기 전이면 묶음에서 빠지고 실패로 응답합니다.
+ * 이미 저장을 시작했으면 결과가 나올 때까지 기다려, 실패로 응답한 주문이 저장되는 일이 없도록 합니다.</p>
+ * <p>orders.group-commit.enabled가 false면 OrdersService를 그대로 호출합니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrdersGroupCommitWriter {
+
+	private final OrdersService ordersService;
+
+	@Value("${orders.group-commit.enabled:false}")
+	private boolean enabled;
+
+	@Value("${orders.group-commit.window-millis:2}")
+	private long windowMillis = 2;
+
+	@Value("${orders.group-commit.max-batch:64}")
+	private int maxBatch = 64;
+
+	@Value("${orders.group-commit.timeout-millis:5000}")
+	private long timeoutMillis = 5000;
+
+	@Value("${orders.group-commit.capacity:1000}")
+	private int capacity = 1000;
+
+	private BlockingQueue<PendingOrders> queue;
+	private Thread writer;
+	private volatile boolean running;
+
+	@PostConstruct
+	public void init() {
+		if (!enabled) {
+			return;
+		}
+
+		queue = new ArrayBlockingQueue<>(capacity);
+		running = true;
+		writer = new Thread(this::drain, "OrdersGroupCommit");
+		writer.setDaemon(true);
+		writer.start();
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		running = false;
+
+		if (writer != null) {
+			writer.interrupt();
+		}
+
+		if (queue == null) {
+			return;
+		}
+
+		// 저장되지 못한 주문은 실패로 완료
+		List<PendingOrders> remaining = new ArrayList<>();
+		queue.drainTo(remaining);
+		remaining.forEach(pending -> pending.future().completeExceptionally(
+			new OrdersException(OrdersErrorCode.SERVER_ERROR)));
+	}
+
+	/**
+	 * 주문을 다음 묶음에 등록하고 저장될 때까지 기다립니다.
+	 * @param ordersForm
+	 * @param member
+	 * @return 생성된 주문 ID
+	 */
+	public Long write(OrdersForm ordersForm, Member member) {
+		if (!enabled) {
+			return create(ordersForm, member);
+		}
+
+		PendingOrders pending = new PendingOrders(new OrdersCreateRequest(ordersForm, member));
+		if (!queue.offer(pending)) {
+			throw new OrdersException(OrdersErrorCode.INTAKE_QUEUE_FULL);
+		}
+
+		try {
+			return pending.future().get(timeoutMillis, TimeUnit.MILLISECONDS);
+		} catch (ExecutionException e) {
+			throw unwrap(e);
+		} catch (TimeoutException e) {
+			log.warn("orders group commit timeout");
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		// 저장을 시작하기 전이면 묶음에서 빼고 실패로 응답, 이미 시작했으면 결과를 기다림
+		if (pending.take()) {
+			queue.remove(pending);
+			throw new OrdersException(OrdersErrorCode.SERVER_ERROR);
+		}
+
+		return await(pending);
+	}
+
+	/**
+	 * 이미 모인 주문 묶음을 window를 기다리지 않고 호출 스레드에서 저장합니다.
+	 * <p>max-batch개씩 나눠 {@link OrdersService#createAll}로 저장하며, 전체가 롤백된 묶음은 주문별로 다시 처리합니다.</p>
+	 * @param requestList
+	 * @return 요청 순서와 같은, 완료된 주문별 future 목록
+	 */
+	public List<CompletableFuture<Long>> writeAll(List<OrdersCreateRequest> requestList) {
+		List<PendingOrders> batch = requestList.stream()
+			.map(PendingOrders::new)
+			.toList();
+
+		for (int from = 0; from < batch.size(); from += maxBatch) {
+			commit(batch.subList(from, Math.min(from + maxBatch, batch.size())));
+		}
+
+		return batch.stream()
+			.map(PendingOrders::future)
+			.toList();
+	}
+
+	private Long await(PendingOrders pending) {
+		boolean interrupted = false;
+
+		try {
+			while (true) {
+				try {
+					return pending.future().get();
+				} catch (InterruptedException e) {
+					interrupted = true;
+				}
+			}
+		} catch (ExecutionException e) {
+			throw unwrap(e);
+		} finally {
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	private RuntimeException unwrap(ExecutionException e) {
+		if (e.getCause() instanceof RuntimeException cause) {
+			return cause;
+		}
+		return new OrdersException(OrdersErrorCode.SERVER_ERROR);
+	}
+
+	private void drain() {
+		List<PendingOrders> batch = new ArrayList<>(maxBatch);
+
+		while (running) {
+			try {
+				PendingOrders first = queue.poll(1, TimeUnit.SECONDS);
+				if (first == null) {
+					continue;
+				}
+
+				batch.add(first);
+				collect(batch);
+				commit(batch);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			} finally {
+				batch.clear();
+			}
+		}
+	}
+
+	/**
+	 * 첫 주문 도착 후 window가 끝나거나 max-batch개가 모일 때까지 주문을 모읍니다.
+	 */
+	private void collect(List<PendingOrders> batch) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(windowMillis);
+
+		while (batch.size() < maxBatch) {
+			// 이미 도착한 주문은 기다리지 않고 가져옴
+			if (queue.drainTo(batch, maxBatch - batch.size()) > 0) {
+				continue;
+			}
+
+			long remaining = deadline - System.nanoTime();
+			if (remaining <= 0) {
+				return;
+			}
+
+			PendingOrders next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+			if (next == null) {
+				return;
+			}
+			batch.add(next);
+		}
+	}
+
+	private void commit(List<PendingOrders> pendingList) {
+		// 대기 시간이 초과되어 빠진 주문은 저장하지 않음
+		List<PendingOrders> batch = pendingList.stream()
+			.filter(PendingOrders::take)
+			.toList();
+		if (batch.isEmpty()) {
+			return;
+		}
+
+		List<OrdersCreateResult> resultList;
+
+		try {
+			resultList = ordersService.createAll(batch.stream().map(PendingOrders::request).toList());
+		} catch (RuntimeException e) {
+			if (batch.size() == 1) {
+				PendingOrders pending = batch.get(0);
+				if (isConflict(e)) {
+					complete(pending,
+						() -> ordersService.create(pending.request().ordersForm(), pending.request().member()));
+				} else {
+					pending.future().completeExceptionally(e);
+				}
+				return;
+			}
+
+			log.debug("orders group commit failed, retrying individually size={}", batch.size(), e);
+			batch.forEach(this::commitOne);
+			return;
+		}
+
+		for (int i = 0; i < batch.size(); i++) {
+			OrdersCreateResult result = resultList.get(i);
+			if (result.isSuccess()) {
+				batch.get(i).future().complete(result.ordersId());
+			} else {
+				batch.get(i).future().completeExceptionally(result.exception());
+			}
+		}
+	}
+
+	private void commitOne(PendingOrders pending) {
+		complete(pending, () -> create(pending.request().ordersForm(), pending.request().member()));
+	}
+
+	private void complete(PendingOrders pending, Supplier<Long> creator) {
+		try {
+			pending.future().complete(creator.get());
+		} catch (RuntimeException e) {
+			pending.future().completeExceptionally(e);
+		}
+	}
+
+	/**
+	 * 주문별 트랜잭션으로 저장하고, CONFLICT로 실패하면 한 번 다시 저장합니다.
+	 */
+	private Long create(OrdersForm ordersForm, Member member) {
+		try {
+			return ordersService.create(ordersForm, member);
+		} catch (ProductException e) {
+			if (!isConflict(e)) {
+				throw e;
+			}
+
+			log.debug("orders conflict, retrying once", e);
+			return ordersService.create(ordersForm, member);
+		}
+	}
+
+	private boolean isConflict(RuntimeException e) {
+		return e instanceof ProductException productException
+			&& ProductErrorCode.CONFLICT.getCode().equals(productException.getCode());
+	}
+
+	private record PendingOrders(OrdersCreateRequest request, CompletableFuture<Long> future, AtomicBoolean taken) {
+
+		PendingOrders(OrdersCreateRequest request) {
+			this(request, new CompletableFuture<>(), new AtomicBoolean());
+		}
+
+		/**
+		 * 저장을 시작하는 작성기와 대기를 포기하는 호출자 중 먼저 호출한 쪽만 true를 받습니다.
+		 */
+		boolean take() {
+			return taken.compareAndSet(false, true);
+		}
+	}
+}
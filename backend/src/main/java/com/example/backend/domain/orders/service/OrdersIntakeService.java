@@ -0,0 +1,251 @@
+package com.example.backend.domain.orders.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.example.backend.domain.member.entity.Member;
+import com.example.backend.domain.orders.dto.OrdersCreateRequest;
+import com.example.backend.domain.orders.dto.OrdersForm;
+import com.example.backend.domain.orders.dto.OrdersTicketResponse;
+import com.example.backend.domain.orders.exception.OrdersErrorCode;
+import com.example.backend.domain.orders.exception.OrdersException;
+import com.example.backend.domain.orders.status.TicketStatus;
+import com.example.backend.domain.product.exception.ProductException;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * OrdersIntakeService
+ * <p>주문 요청을 bounded 대기열에 넣고 티켓 ID를 즉시 반환하는 비동기 주문 접수 서비스 입니다.</p>
+ * <p>워커 스레드가 대기열을 batch 단위로 꺼내 한 번에 저장하며, 처리 결과는 티켓 ID로 조회합니다.
+ * orders.intake.async가 true일 때만 워커가 동작합니다.</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrdersIntakeService {
+
+	private final OrdersLaneExecutor ordersLaneExecutor;
+
+	@Value("${orders.intake.async:false}")
+	private boolean async;
+
+	@Value("${orders.intake.capacity:1000}")
+	private int capacity;
+
+	@Value("${orders.intake.workers:2}")
+	private int workerCount;
+
+	@Value("${orders.intake.batch-size:32}")
+	private int batchSize;
+
+	@Value("${orders.intake.ticket-ttl-millis:600000}")
+	private long ticketTtlMillis;
+
+	private BlockingQueue<IntakeRequest> queue;
+	private final Map<String, Ticket> ticketMap = new ConcurrentHashMap<>();
+	private final List<Thread> workers = new ArrayList<>();
+	private volatile boolean running;
+
+	@PostConstruct
+	public void init() {
+		if (!async) {
+			return;
+		}
+
+		queue = new ArrayBlockingQueue<>(capacity);
+		running = true;
+
+		for (int i = 0; i < workerCount; i++) {
+			Thread worker = new Thread(this::drain, "OrdersIntake-" + i);
+			worker.setDaemon(true);
+			worker.start();
+			workers.add(worker);
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		running = false;
+		workers.forEach(Thread::interrupt);
+
+		if (queue == null) {
+			return;
+		}
+
+		// 처리되지 못한 주문은 실패로 기록
+		List<IntakeRequest> remaining = new ArrayList<>();
+		queue.drainTo(remaining);
+		remaining.forEach(request -> request.ticket().fail(OrdersErrorCode.SERVER_ERROR.getCode(),
+			OrdersErrorCode.SERVER_ERROR.getMessage()));
+	}
+
+	public boolean isAsync() {
+		return async;
+	}
+
+	/**
+	 * 주문 요청을 대기열에 등록합니다.
+	 * @param ordersForm
+	 * @param member
+	 * @return 티켓 ID
+	 */
+	public String submit(OrdersForm ordersForm, Member member) {
+		Ticket ticket = new Ticket(UUID.randomUUID().toString(), member.getId());
+
+		ticketMap.put(ticket.ticketId, ticket);
+
+		if (!queue.offer(new IntakeRequest(ordersForm, member, ticket))) {
+			ticketMap.remove(ticket.ticketId);
+			throw new OrdersException(OrdersErrorCode.INTAKE_QUEUE_FULL);
+		}
+
+		return ticket.ticketId;
+	}
+
+	/**
+	 * 티켓 처리 상태를 조회합니다.
+	 * @param ticketId
+	 * @param memberId 요청한 회원 ID
+	 * @return {@link OrdersTicketResponse}
+	 */
+	public OrdersTicketResponse findTicket(String ticketId, Long memberId) {
+		Ticket ticket = ticketMap.get(ticketId);
+
+		if (ticket == null) {
+			throw new OrdersException(OrdersErrorCode.NOT_FOUND);
+		}
+		if (!ticket.memberId.equals(memberId)) {
+			throw new OrdersException(OrdersErrorCode.FORBIDDEN);
+		}
+
+		return ticket.toResponse();
+	}
+
+	/**
+	 * 처리가 끝난 지 오래된 티켓을 정리합니다.
+	 */
+	@Scheduled(fixedDelayString = "${orders.intake.ticket-ttl-millis:600000}")
+	public void evictExpiredTickets() {
+		long expiredAt = System.currentTimeMillis() - ticketTtlMillis;
+
+		ticketMap.values().removeIf(ticket -> ticket.completedAt > 0 && ticket.completedAt < expiredAt);
+	}
+
+	private void drain() {
+		List<IntakeRequest> batch = new ArrayList<>(batchSize);
+
+		while (running) {
+			try {
+				IntakeRequest first = queue.poll(1, TimeUnit.SECONDS);
+				if (first == null) {
+					continue;
+				}
+
+				batch.add(first);
+				queue.drainTo(batch, batchSize - 1);
+
+				process(batch);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			} finally {
+				batch.clear();
+			}
+		}
+	}
+
+	/**
+	 * 꺼낸 주문 묶음을 {@link OrdersLaneExecutor#createAll}로 한 번에 저장하고 주문별 결과를 티켓에 기록합니다.
+	 */
+	private void process(List<IntakeRequest> batch) {
+		List<CompletableFuture<Long>> futures;
+
+		try {
+			futures = ordersLaneExecutor.createAll(batch.stream()
+				.map(request -> new OrdersCreateRequest(request.ordersForm(), request.member()))
+				.toList());
+		} catch (RuntimeException e) {
+			batch.forEach(request -> fail(request.ticket(), e));
+			return;
+		}
+
+		for (int i = 0; i < batch.size(); i++) {
+			Ticket ticket = batch.get(i).ticket();
+			CompletableFuture<Long> future = futures.get(i);
+
+			if (future.state() == Future.State.SUCCESS) {
+				ticket.complete(future.resultNow());
+			} else {
+				fail(ticket, future.exceptionNow());
+			}
+		}
+	}
+
+	private void fail(Ticket ticket, Throwable e) {
+		if (e instanceof ProductException productException) {
+			ticket.fail(productException.getCode(), productException.getMessage());
+		} else if (e instanceof OrdersException ordersException) {
+			ticket.fail(ordersException.getCode(), ordersException.getMessage());
+		} else {
+			log.error("orders intake failed ticketId={}", ticket.ticketId, e);
+			ticket.fail(OrdersErrorCode.SERVER_ERROR.getCode(), OrdersErrorCode.SERVER_ERROR.getMessage());
+		}
+	}
+
+	private record IntakeRequest(OrdersForm ordersForm, Member member, Ticket ticket) {
+	}
+
+	private static class Ticket {
+		private final String ticketId;
+		private final Long memberId;
+		private volatile TicketStatus status = TicketStatus.PENDING;
+		private volatile Long orderId;
+		private volatile String errorCode;
+		private volatile String errorMessage;
+		private volatile long completedAt;
+
+		Ticket(String ticketId, Long memberId) {
+			this.ticketId = ticketId;
+			this.memberId = memberId;
+		}
+
+		void complete(Long orderId) {
+			this.orderId = orderId;
+			this.completedAt = System.currentTimeMillis();
+			this.status = TicketStatus.COMPLETED;
+		}
+
+		void fail(String errorCode, String errorMessage) {
+			this.errorCode = errorCode;
+			this.errorMessage = errorMessage;
+			this.completedAt = System.currentTimeMillis();
+			this.status = TicketStatus.FAILED;
+		}
+
+		OrdersTicketResponse toResponse() {
+			return OrdersTicketResponse.builder()
+				.ticketId(ticketId)
+				.status(status)
+				.orderId(orderId)
+				.errorCode(errorCode)
+				.errorMessage(errorMessage)
+				.build();
+		}
+	}
+}
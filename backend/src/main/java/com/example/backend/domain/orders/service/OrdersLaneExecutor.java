@@ -0,0 +1,198 @@
+package com.example.backend.domain.orders.service;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.backend.domain.member.entity.Member;
+import com.example.backend.domain.orders.dto.OrdersCreateRequest;
+import com.example.backend.domain.orders.dto.OrdersForm;
+import com.example.backend.domain.product.exception.ProductErrorCode;
+import com.example.backend.domain.product.exception.ProductException;
+import com.example.backend.domain.productOrders.repository.ProductOrdersRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * OrdersLaneExecutor
+ * <p>주문 생성, 취소 앞단에서 상품 ID 해시로 선택한 단일 스레드 레인을 점유한 뒤 재고 변경을 실행합니다.</p>
+ * <p>같은 상품의 재고 변경은 같은 레인을 거치므로 순서대로 하나씩 처리되어 @Version 충돌이 발생하지 않습니다.
+ * 여러 레인에 걸친 주문은 레인 번호 오름차순으로, 전역 락 안에서 한 번에 대기열에 등록해
+ * 모든 레인의 대기 순서가 같아지므로 교착 상태가 생기지 않습니다.</p>
+ * <p>주문 생성은 {@link OrdersGroupCommitWriter}를 거치며, orders.lane.enabled가 false면 레인 없이 바로 호출합니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrdersLaneExecutor {
+
+	private final OrdersService ordersService;
+	private final OrdersGroupCommitWriter ordersGroupCommitWriter;
+	private final ProductOrdersRepository productOrdersRepository;
+
+	@Value("${orders.lane.enabled:false}")
+	private boolean enabled;
+
+	@Value("${orders.lane.count:8}")
+	private int laneCount;
+
+	@Value("${orders.lane.timeout-millis:3000}")
+	private long timeoutMillis;
+
+	private ExecutorService[] lanes;
+
+	@PostConstruct
+	public void init() {
+		if (!enabled) {
+			return;
+		}
+
+		lanes = new ExecutorService[laneCount];
+		for (int i = 0; i < laneCount; i++) {
+			String threadName = "OrdersLane-" + i;
+			lanes[i] = Executors.newSingleThreadExecutor(runnable -> {
+				Thread thread = new Thread(runnable, threadName);
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		if (lanes == null) {
+			return;
+		}
+
+		for (ExecutorService lane : lanes) {
+			lane.shutdownNow();
+		}
+	}
+
+	public Long create(OrdersForm ordersForm, Member member) {
+		if (!enabled) {
+			return ordersGroupCommitWriter.write(ordersForm, member);
+		}
+
+		Set<Long> productIds = ordersForm.productOrdersRequestList().stream()
+			.map(OrdersForm.ProductOrdersRequest::productId)
+			.collect(Collectors.toSet());
+
+		return runInLanes(productIds, () -> ordersGroupCommitWriter.write(ordersForm, member));
+	}
+
+	/**
+	 * 여러 주문을 한 번에 저장합니다. 레인을 사용하면 모든 주문의 상품이 속한 레인을 점유한 뒤 저장합니다.
+	 * @param requestList
+	 * @return 요청 순서와 같은, 완료된 주문별 future 목록
+	 */
+	public List<CompletableFuture<Long>> createAll(List<OrdersCreateRequest> requestList) {
+		if (!enabled) {
+			return ordersGroupCommitWriter.writeAll(requestList);
+		}
+
+		Set<Long> productIds = requestList.stream()
+			.flatMap(request -> request.ordersForm().productOrdersRequestList().stream())
+			.map(OrdersForm.ProductOrdersRequest::productId)
+			.collect(Collectors.toSet());
+
+		return runInLanes(productIds, () -> ordersGroupCommitWriter.writeAll(requestList));
+	}
+
+	public void cancelById(Long id) {
+		if (!enabled) {
+			ordersService.cancelById(id);
+			return;
+		}
+
+		List<Long> productIds = productOrdersRepository.findProductIdsByOrdersId(id);
+
+		runInLanes(productIds, () -> {
+			ordersService.cancelById(id);
+			return null;
+		});
+	}
+
+	/**
+	 * 상품이 속한 레인을 모두 점유한 상태에서 작업을 실행합니다.
+	 * <p>작업은 호출 스레드에서 실행되며, 트랜잭션이 커밋된 뒤 레인을 해제합니다.</p>
+	 */
+	private <T> T runInLanes(Collection<Long> productIds, Supplier<T> task) {
+		int[] laneIndexes = productIds.stream()
+			.mapToInt(this::laneOf)
+			.distinct()
+			.sorted()
+			.toArray();
+
+		LaneTicket ticket = new LaneTicket(laneIndexes.length);
+
+		synchronized (this) {
+			for (int laneIndex : laneIndexes) {
+				lanes[laneIndex].execute(ticket::hold);
+			}
+		}
+
+		try {
+			if (!ticket.awaitArrival(timeoutMillis)) {
+				log.warn("orders lane timeout lanes={}", Arrays.toString(laneIndexes));
+				throw new ProductException(ProductErrorCode.CONFLICT);
+			}
+
+			return task.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ProductException(ProductErrorCode.CONFLICT);
+		} finally {
+			ticket.release();
+		}
+	}
+
+	int laneOf(Long productId) {
+		return Math.floorMod(Long.hashCode(productId), lanes.length);
+	}
+
+	/**
+	 * 레인 점유 티켓
+	 * <p>각 레인 스레드는 hold()에서 도착을 알린 뒤 작업이 끝날 때까지 대기합니다.
+	 * 시간 초과로 먼저 해제된 티켓은 늦게 도착한 레인을 바로 통과시킵니다.</p>
+	 */
+	private static class LaneTicket {
+		private final CountDownLatch arrival;
+		private final CountDownLatch done = new CountDownLatch(1);
+
+		LaneTicket(int laneSize) {
+			this.arrival = new CountDownLatch(laneSize);
+		}
+
+		void hold() {
+			arrival.countDown();
+			try {
+				done.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		boolean awaitArrival(long timeoutMillis) throws InterruptedException {
+			return arrival.await(timeoutMillis, TimeUnit.MILLISECONDS);
+		}
+
+		void release() {
+			done.countDown();
+		}
+	}
+}
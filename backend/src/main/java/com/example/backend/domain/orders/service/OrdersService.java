@@ -1,26 +1,54 @@
 package com.example.backend.domain.orders.service;
 
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import com.example.backend.domain.orders.converter.OrdersConverter;
+import com.example.backend.domain.orders.dto.DeliveryChunk;
+import com.example.backend.domain.orders.dto.OrdersCreateRequest;
+import com.example.backend.domain.orders.dto.OrdersCreateResult;
+import com.example.backend.domain.orders.dto.OrdersCursor;
 import com.example.backend.domain.orders.dto.OrdersForm;
+import com.example.backend.domain.orders.dto.ProductInfoDto;
+import com.example.backend.domain.orders.dto.ProductOrdersInfoDto;
 import com.example.backend.domain.product.entity.Product;
 import com.example.backend.domain.product.exception.ProductErrorCode;
 import com.example.backend.domain.product.exception.ProductException;
 import com.example.backend.domain.product.repository.ProductRepository;
+import com.example.backend.domain.product.stock.FlashSaleStockService;
+import com.example.backend.domain.product.stock.InventoryLedgerService;
+import com.example.backend.domain.product.stock.StockMode;
+import com.example.backend.domain.product.stock.StockStreamService;
+import com.example.backend.domain.product.stock.StripedStockService;
 import com.example.backend.domain.productOrders.entity.ProductOrders;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.example.backend.domain.member.entity.Member;
 import com.example.backend.domain.orders.dto.OrdersResponse;
+import com.example.backend.domain.orders.dto.OrdersVersionDto;
 import com.example.backend.domain.orders.entity.Orders;
 import com.example.backend.domain.orders.exception.OrdersErrorCode;
 import com.example.backend.domain.orders.exception.OrdersException;
 import com.example.backend.domain.orders.repository.OrdersRepository;
 import com.example.backend.domain.orders.status.DeliveryStatus;
+import com.example.backend.global.mail.service.MailService;
+import com.example.backend.global.mail.util.TemplateName;
+import com.example.backend.global.response.CursorResponse;
+import com.example.backend.global.response.ResourceVersion;
+import com.example.backend.global.transaction.SavepointExecutor;
 
 import lombok.RequiredArgsConstructor;
 
@@ -30,22 +58,58 @@ public class OrdersService {
 
     private final OrdersRepository ordersRepository;
     private final ProductRepository productRepository;
+    private final FlashSaleStockService flashSaleStockService;
+    private final StockStreamService stockStreamService;
+    private final InventoryLedgerService inventoryLedgerService;
+    private final StripedStockService stripedStockService;
+    private final MailService mailService;
+    private final SavepointExecutor savepointExecutor;
 
+    private static final int MAX_PAGE_SIZE = 100;
+
+    @Value("${product.stock.mode:OPTIMISTIC}")
+    private StockMode stockMode = StockMode.OPTIMISTIC;
+
+    /**
+     * 주문 단건 조회 메서드
+     * <p>주문 헤더와 주문 상품을 각각 DTO로 projection 해 엔티티를 영속성 컨텍스트에 올리지 않습니다.</p>
+     * @param id
+     * @return {@link OrdersResponse}
+     */
     @Transactional(readOnly = true)
     public OrdersResponse findOne(Long id) {
-        Orders orders = ordersRepository.findOrderById(id)
+        OrdersResponse ordersResponse = ordersRepository.findResponseById(id)
                 .orElseThrow(() -> new OrdersException(OrdersErrorCode.NOT_FOUND));
 
-        return OrdersConverter.toResponse(orders);
+        return withProducts(List.of(ordersResponse)).get(0);
     }
 
+    /**
+     * 주문 단건 조회 검증자 조회 메서드
+     * <p>배송 상태와 수정일시, 주문 상품의 최근 수정일시만 조회하므로 본문 조회 없이 변경 여부를 판단할 수 있습니다.</p>
+     * @param id
+     * @return {@link ResourceVersion}
+     */
     @Transactional(readOnly = true)
-    public List<OrdersResponse> current(Long id) {
-        List<Orders> ordersList = Optional.ofNullable(
-                ordersRepository.findByMemberIdAndDeliveryStatus(id, DeliveryStatus.READY)
-        ).orElseThrow(() -> new OrdersException(OrdersErrorCode.NOT_FOUND));
+    public ResourceVersion findVersion(Long id) {
+        OrdersVersionDto version = ordersRepository.findVersionById(id)
+                .orElseThrow(() -> new OrdersException(OrdersErrorCode.NOT_FOUND));
+
+        return ResourceVersion.hashOf(version.lastModifiedAt(), "orders", version.id(), version.status(),
+                version.modifiedAt().toInstant(),
+                version.productModifiedAt() == null ? null : version.productModifiedAt().toInstant());
+    }
 
-        return OrdersConverter.from(ordersList);
+    /**
+     * 현재 진행중인 주문 목록 조회 메서드
+     * @param memberId
+     * @param cursor 이전 페이지의 nextCursor, 첫 페이지는 null
+     * @param size 페이지 크기
+     * @return {@link CursorResponse<OrdersResponse>}
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<OrdersResponse> current(Long memberId, String cursor, int size) {
+        return findPage(memberId, List.of(DeliveryStatus.READY), cursor, size);
     }
 
     @Transactional
@@ -56,35 +120,324 @@ public class OrdersService {
         return ordersRepository.save(orders).getId();
     }
 
+    /**
+     * 주문 일괄 생성 메서드
+     * <p>전체 주문의 상품을 IN 쿼리 한 번으로 조회하고, 재고 변경은 마지막에 한 번만 flush 합니다.
+     * 주문과 주문 상품은 미리 할당된 ID를 사용하므로 커밋 시점에 JDBC batch insert로 저장됩니다.</p>
+     * <p>주문마다 savepoint를 두고 재고를 차감하므로, 재고 부족처럼 주문 하나가 실패하면 그 주문의 차감만 되돌리고
+     * 나머지 주문은 그대로 저장합니다. 앞 주문의 재고 변경을 savepoint 전에 flush 해야 하므로 OPTIMISTIC 모드에서는
+     * 주문마다 UPDATE가 전송됩니다.</p>
+     * <p>CONFLICT는 DB가 트랜잭션 전체를 롤백했을 수 있으므로, 그 외 예외와 마찬가지로 전체 주문을 롤백합니다.</p>
+     * @param requestList
+     * @return 요청 순서와 같은 주문별 결과 목록
+     */
+    @Transactional
+    public List<OrdersCreateResult> createAll(List<OrdersCreateRequest> requestList) {
+        Set<Long> productIds = requestList.stream()
+                .flatMap(request -> request.ordersForm().productOrdersRequestList().stream())
+                .map(OrdersForm.ProductOrdersRequest::productId)
+                .collect(Collectors.toSet());
+
+        Map<Long, Product> productMap = findProductMap(productIds);
+
+        // 실패한 주문은 null
+        List<Orders> ordersList = new ArrayList<>(requestList.size());
+        List<ProductException> exceptionList = new ArrayList<>(requestList.size());
+
+        for (OrdersCreateRequest request : requestList) {
+            flushStock();
+
+            try {
+                ordersList.add(savepointExecutor.execute(() -> OrdersConverter.of(
+                        request.ordersForm(),
+                        request.member(),
+                        reserveProductOrdersList(request.ordersForm(), productMap))));
+                exceptionList.add(null);
+            } catch (ProductException e) {
+                if (ProductErrorCode.CONFLICT.getCode().equals(e.getCode())) {
+                    throw e;
+                }
+                ordersList.add(null);
+                exceptionList.add(e);
+            }
+        }
+
+        flushStock();
+
+        ordersRepository.saveAll(ordersList.stream()
+                .filter(Objects::nonNull)
+                .toList());
+
+        List<OrdersCreateResult> resultList = new ArrayList<>(requestList.size());
+        for (int i = 0; i < requestList.size(); i++) {
+            resultList.add(ordersList.get(i) == null
+                    ? OrdersCreateResult.failure(exceptionList.get(i))
+                    : OrdersCreateResult.success(ordersList.get(i).getId()));
+        }
+
+        return resultList;
+    }
+
+    /**
+     * 주문 상품 생성 메서드
+     * <p>동일 상품 ID는 수량을 병합하고, IN 쿼리 한 번으로 상품을 조회한 뒤
+     * 전체 주문 상품의 재고를 먼저 검증하고 차감합니다.</p>
+     * <p>세일 중인 상품은 {@link FlashSaleStockService} 카운터에서, 그 외 상품은 {@link StockMode}에 따라 차감합니다.</p>
+     * @param ordersForm
+     * @return {@link List<ProductOrders>}
+     */
     @Transactional
     public List<ProductOrders> createProductOrdersList(OrdersForm ordersForm) {
-        return ordersForm.productOrdersRequestList().stream().map(
-                po -> {
-                    try {
-                        Product product = productRepository.findById(po.productId())
-                                .orElseThrow(() -> new ProductException(ProductErrorCode.NOT_FOUND));
-
-                        // 주문 상품 생성
-                        return ProductOrders.create()
-                                .product(product)
-                                .price(product.getPrice())
-                                .quantity(po.quantity())
-                                .build();
-                    } catch (ObjectOptimisticLockingFailureException e) {
-                        throw new ProductException(ProductErrorCode.CONFLICT);
-                    }
+        Set<Long> productIds = ordersForm.productOrdersRequestList().stream()
+                .map(OrdersForm.ProductOrdersRequest::productId)
+                .collect(Collectors.toSet());
+
+        List<ProductOrders> productOrdersList = reserveProductOrdersList(ordersForm, findProductMap(productIds));
+
+        flushStock();
+
+        return productOrdersList;
+    }
+
+    private Map<Long, Product> findProductMap(Set<Long> productIds) {
+        return productRepository.findAllById(productIds).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+    }
+
+    /**
+     * 조회된 상품으로 재고를 검증, 차감하고 주문 상품을 생성합니다.
+     * <p>OPTIMISTIC 모드의 재고 변경은 영속성 컨텍스트에만 반영되므로 호출한 쪽에서 {@link #flushStock()}을 호출해야 합니다.</p>
+     */
+    private List<ProductOrders> reserveProductOrdersList(OrdersForm ordersForm, Map<Long, Product> productMap) {
+        Map<Long, Integer> quantityMap = mergeQuantity(ordersForm.productOrdersRequestList());
+
+        Set<Long> flashSaleProductIds = flashSaleStockService.findOpenProductIds(quantityMap.keySet());
+
+        validateStock(quantityMap, productMap, flashSaleProductIds);
+
+        Map<Boolean, Map<Long, Integer>> partitioned = quantityMap.entrySet().stream()
+                .collect(Collectors.partitioningBy(
+                        entry -> flashSaleProductIds.contains(entry.getKey()),
+                        Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)));
+
+        // 분산 재고 상품은 stripe 행에서 차감
+        Map<Boolean, Map<Long, Integer>> striped = partitioned.get(false).entrySet().stream()
+                .collect(Collectors.partitioningBy(
+                        entry -> productMap.get(entry.getKey()).isStriped(),
+                        Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)));
+
+        reserveStriped(striped.get(true), productMap);
+
+        // DB에서 차감하는 단계는 savepoint로 되돌릴 수 있으므로 먼저 실행하고,
+        // 되돌릴 수 없는 카운터와 영속성 컨텍스트의 차감은 실패할 수 있는 단계를 모두 마친 뒤에 실행
+        switch (stockMode) {
+            case ATOMIC -> reserveAtomic(striped.get(false));
+            case LEDGER -> inventoryLedgerService.reserve(striped.get(false));
+            case OPTIMISTIC -> {
+            }
+        }
+
+        flashSaleStockService.reserve(partitioned.get(true));
+
+        if (stockMode == StockMode.OPTIMISTIC) {
+            reserveOptimistic(striped.get(false), productMap);
+        }
+
+        stockStreamService.changed(quantityMap.keySet());
+
+        return quantityMap.entrySet().stream().map(
+                entry -> {
+                    Product product = productMap.get(entry.getKey());
+
+                    // 주문 상품 생성
+                    return ProductOrders.reserved(product, entry.getValue(), product.getPrice());
                 }
         ).toList();
     }
 
-    public List<OrdersResponse> history(Long id) {
-        List<Orders> ordersList = Optional.ofNullable(
-                ordersRepository.findAllByMemberIdAndDeliveryStatusOrderByModifiedAt(
-                        id,
-                        List.of(DeliveryStatus.READY, DeliveryStatus.SHIPPED))
-        ).orElseThrow(() -> new OrdersException(OrdersErrorCode.NOT_FOUND));
+    /**
+     * 낙관적 락 재고 차감 메서드
+     * <p>차감된 재고는 {@link #flushStock()} 시점에 JDBC batch update로 반영됩니다.</p>
+     */
+    private void reserveOptimistic(Map<Long, Integer> quantityMap, Map<Long, Product> productMap) {
+        quantityMap.forEach((productId, quantity) -> productMap.get(productId).removeQuantity(quantity));
+    }
+
+    /**
+     * 차감된 재고를 flush 합니다.
+     * <p>버전 충돌은 커밋이 아닌 이 메서드 안에서 감지됩니다.</p>
+     */
+    private void flushStock() {
+        try {
+            productRepository.flush();
+        } catch (ObjectOptimisticLockingFailureException e) {
+            throw new ProductException(ProductErrorCode.CONFLICT);
+        }
+    }
+
+    /**
+     * 조건부 UPDATE 재고 차감 메서드
+     * <p>상품 ID 순으로 차감해 다건 주문 간 락 획득 순서를 고정합니다.
+     * 갱신된 행이 없으면 재고 부족으로 판단하며, 앞서 차감한 재고는 트랜잭션 롤백으로 복구됩니다.</p>
+     */
+    private void reserveAtomic(Map<Long, Integer> quantityMap) {
+        quantityMap.keySet().stream()
+                .sorted()
+                .forEach(productId -> {
+                    if (productRepository.decreaseQuantity(productId, quantityMap.get(productId)) == 0) {
+                        throw new ProductException(ProductErrorCode.INSUFFICIENT_QUANTITY);
+                    }
+                });
+    }
+
+    /**
+     * 분산 재고 차감 메서드
+     * <p>상품 ID 순으로 차감해 다건 주문 간 락 획득 순서를 고정합니다.</p>
+     */
+    private void reserveStriped(Map<Long, Integer> quantityMap, Map<Long, Product> productMap) {
+        quantityMap.keySet().stream()
+                .sorted()
+                .forEach(productId -> stripedStockService.reserve(productId,
+                        productMap.get(productId).getStripeCount(), quantityMap.get(productId)));
+    }
+
+    /**
+     * 동일 상품 ID 주문 수량 병합 메서드 (요청 순서 유지)
+     * @param productOrdersRequestList
+     * @return {@link Map} 상품 ID, 주문 수량
+     */
+    private Map<Long, Integer> mergeQuantity(List<OrdersForm.ProductOrdersRequest> productOrdersRequestList) {
+        Map<Long, Integer> quantityMap = new LinkedHashMap<>();
+
+        for (OrdersForm.ProductOrdersRequest request : productOrdersRequestList) {
+            quantityMap.merge(request.productId(), request.quantity(), Integer::sum);
+        }
 
-        return OrdersConverter.from(ordersList);
+        return quantityMap;
+    }
+
+    /**
+     * 주문 상품 존재 여부 및 재고 일괄 검증 메서드
+     * <p>하나라도 실패하면 재고를 차감하기 전에 예외가 발생합니다.
+     * 세일 중인 상품, 분산 재고 상품과 LEDGER 모드의 상품은 DB 재고가 최신이 아니므로 존재 여부만 검증하며,
+     * 재고는 각각 차감할 때 검증합니다.</p>
+     * @param quantityMap
+     * @param productMap
+     * @param flashSaleProductIds
+     */
+    private void validateStock(Map<Long, Integer> quantityMap, Map<Long, Product> productMap,
+                               Set<Long> flashSaleProductIds) {
+        for (Map.Entry<Long, Integer> entry : quantityMap.entrySet()) {
+            Product product = productMap.get(entry.getKey());
+
+            if (product == null) {
+                throw new ProductException(ProductErrorCode.NOT_FOUND);
+            }
+            if (stockMode != StockMode.LEDGER && !flashSaleProductIds.contains(entry.getKey())
+                    && !product.isStriped() && product.getQuantity() < entry.getValue()) {
+                throw new ProductException(ProductErrorCode.INSUFFICIENT_QUANTITY);
+            }
+        }
+    }
+
+    /**
+     * 주문 내역 조회 메서드
+     * @param memberId
+     * @param cursor 이전 페이지의 nextCursor, 첫 페이지는 null
+     * @param size 페이지 크기
+     * @return {@link CursorResponse<OrdersResponse>}
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<OrdersResponse> history(Long memberId, String cursor, int size) {
+        return findPage(memberId, List.of(DeliveryStatus.READY, DeliveryStatus.SHIPPED), cursor, size);
+    }
+
+    /**
+     * (modifiedAt, id) 커서 기반 주문 목록 조회 메서드
+     * <p>한 페이지의 주문 헤더를 SQL limit으로 먼저 조회한 뒤, 해당 주문의 상품을 IN 쿼리로 가져옵니다.
+     * 다음 페이지 존재 여부는 size + 1개를 조회해 판단합니다.</p>
+     */
+    private CursorResponse<OrdersResponse> findPage(Long memberId, List<DeliveryStatus> status,
+                                                    String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<OrdersResponse> headers;
+        if (cursor == null) {
+            headers = ordersRepository.findResponsesByMemberId(memberId, status, limit);
+        } else {
+            OrdersCursor ordersCursor = OrdersCursor.decode(cursor);
+            headers = ordersRepository.findResponsesByMemberIdAfterCursor(
+                    memberId, status, ordersCursor.modifiedAt(), ordersCursor.id(), limit);
+        }
+
+        boolean hasNext = headers.size() > pageSize;
+        if (hasNext) {
+            headers = headers.subList(0, pageSize);
+        }
+        if (headers.isEmpty()) {
+            return CursorResponse.of(List.of(), null);
+        }
+
+        List<OrdersResponse> content = withProducts(headers);
+        String nextCursor = hasNext ? OrdersCursor.from(content.get(content.size() - 1)).encode() : null;
+
+        return CursorResponse.of(content, nextCursor);
+    }
+
+    /**
+     * 주문 헤더 목록에 주문 상품을 채웁니다.
+     * <p>주문 상품은 주문 ID IN 쿼리 한 번으로 조회하며, 헤더 순서를 유지합니다.</p>
+     */
+    private List<OrdersResponse> withProducts(List<OrdersResponse> headers) {
+        List<Long> ordersIds = headers.stream()
+                .map(OrdersResponse::id)
+                .toList();
+
+        Map<Long, List<ProductInfoDto>> productsMap = ordersRepository.findProductInfoByOrdersIdIn(ordersIds).stream()
+                .collect(Collectors.groupingBy(
+                        ProductOrdersInfoDto::ordersId,
+                        Collectors.mapping(ProductOrdersInfoDto::toProductInfoDto, Collectors.toList())));
+
+        return headers.stream()
+                .map(header -> header.withProducts(productsMap.getOrDefault(header.id(), List.of())))
+                .toList();
+    }
+
+    /**
+     * 배송 준비중 주문 chunk 배송 시작 처리 메서드
+     * <p>lastId 이후의 주문을 chunkSize개씩 SHIPPED로 변경하며, chunk마다 트랜잭션이 커밋됩니다.
+     * 조회와 변경 사이에 취소된 주문은 변경되지 않으며 메일 수신자에서도 제외됩니다.</p>
+     * <p>배송 시작 메일은 같은 트랜잭션에서 outbox에 저장하므로, 배송 시작 처리가 커밋된 주문의 회원에게만 전송되고
+     * 커밋 후 서버가 중단되어도 메일이 누락되지 않습니다.</p>
+     * @param startTime
+     * @param endTime
+     * @param lastId 이전 chunk의 마지막 주문 ID, 첫 chunk는 0
+     * @param chunkSize
+     * @param notifiedUsernameSet 이번 실행의 이전 chunk에서 이미 메일을 받은 회원, 이 회원에게는 다시 전송하지 않습니다.
+     * @return {@link DeliveryChunk}
+     */
+    @Transactional
+    public DeliveryChunk shipReadyOrders(ZonedDateTime startTime, ZonedDateTime endTime, Long lastId, int chunkSize,
+            Set<String> notifiedUsernameSet) {
+        List<Long> ordersIds = ordersRepository.findReadyIdsAfter(
+                startTime, endTime, lastId, PageRequest.of(0, chunkSize));
+
+        if (ordersIds.isEmpty()) {
+            return DeliveryChunk.empty(lastId);
+        }
+
+        int shippedCount = ordersRepository.shipByIdIn(ordersIds, ZonedDateTime.now());
+        List<String> recipientList = ordersRepository.findShippedUsernameByIdIn(ordersIds).stream()
+                .filter(username -> !notifiedUsernameSet.contains(username))
+                .toList();
+
+        if (!recipientList.isEmpty()) {
+            mailService.sendDeliveryStartEmail(recipientList, TemplateName.DELIVERY_START);
+        }
+
+        return new DeliveryChunk(ordersIds.get(ordersIds.size() - 1), shippedCount, recipientList,
+                ordersIds.size() == chunkSize);
     }
 
     @Transactional
@@ -105,9 +458,43 @@ public class OrdersService {
         }
 
         orders.changeStatus(DeliveryStatus.CANCEL);
-        orders.getProductOrdersList()
-                .forEach(po -> po.restore(po.getQuantity()));
+        restoreStock(orders.getProductOrdersList());
 
         ordersRepository.save(orders);
     }
+
+    /**
+     * 주문 취소 시 재고 복구 메서드
+     * @param productOrdersList
+     */
+    private void restoreStock(List<ProductOrders> productOrdersList) {
+        stockStreamService.changed(productOrdersList.stream()
+                .map(po -> po.getProduct().getId())
+                .collect(Collectors.toSet()));
+
+        // 세일 중인 상품은 카운터에 복구
+        productOrdersList = productOrdersList.stream()
+                .filter(po -> !flashSaleStockService.release(po.getProduct().getId(), po.getQuantity()))
+                .toList();
+
+        // 분산 재고 상품은 stripe 행에 복구
+        Map<Boolean, List<ProductOrders>> striped = productOrdersList.stream()
+                .collect(Collectors.partitioningBy(po -> po.getProduct().isStriped()));
+
+        striped.get(true).stream()
+                .sorted(Comparator.comparing(po -> po.getProduct().getId()))
+                .forEach(po -> stripedStockService.release(po.getProduct().getId(),
+                        po.getProduct().getStripeCount(), po.getQuantity()));
+        productOrdersList = striped.get(false);
+
+        switch (stockMode) {
+            case OPTIMISTIC -> productOrdersList
+                    .forEach(po -> po.restore(po.getQuantity()));
+            case ATOMIC -> productOrdersList.stream()
+                    .sorted(Comparator.comparing(po -> po.getProduct().getId()))
+                    .forEach(po -> productRepository.increaseQuantity(po.getProduct().getId(), po.getQuantity()));
+            case LEDGER -> inventoryLedgerService.release(productOrdersList.stream()
+                    .collect(Collectors.toMap(po -> po.getProduct().getId(), ProductOrders::getQuantity, Integer::sum)));
+        }
+    }
 }
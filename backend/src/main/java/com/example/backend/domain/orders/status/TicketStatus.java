@@ -0,0 +1,16 @@
+package com.example.backend.domain.orders.status;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public enum TicketStatus {
+
+    PENDING("주문 처리 대기중"),
+    COMPLETED("주문 완료"),
+    FAILED("주문 실패");
+
+    private String description;
+
+}
@@ -0,0 +1,145 @@
+package com.example.backend.domain.product.bulk;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import com.example.backend.domain.product.dto.ProductForm;
+import com.example.backend.domain.product.exception.ProductErrorCode;
+import com.example.backend.domain.product.exception.ProductException;
+
+/**
+ * CsvProductRowReader
+ * <p>첫 행을 헤더(name, content, price, imgUrl, quantity)로 읽고, 이후 행을 헤더 순서대로 {@link ProductForm}으로 변환합니다.
+ * 헤더에 name 컬럼이 없으면 {@link ProductErrorCode#INVALID_BULK_FILE} 예외가 발생합니다.</p>
+ * <p>RFC 4180 형식을 따라 큰따옴표로 감싼 값에는 쉼표, 줄바꿈, 두 번 연속된 큰따옴표("")를 사용할 수 있습니다.</p>
+ * @author 100minha
+ */
+public class CsvProductRowReader implements ProductRowReader {
+
+    private static final char UTF8_BOM = '\uFEFF';
+
+    private final BufferedReader reader;
+    private Map<String, Integer> columnIndexMap;
+    private int rowNumber;
+
+    public CsvProductRowReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public ProductRow next() throws IOException {
+        if (columnIndexMap == null) {
+            readHeader();
+        }
+
+        List<String> record;
+        do {
+            record = readRecord();
+            if (record == null) {
+                return null;
+            }
+        } while (record.size() == 1 && record.get(0).isBlank());
+
+        rowNumber++;
+        try {
+            return ProductRow.of(rowNumber, ProductForm.builder()
+                    .name(column(record, "name"))
+                    .content(column(record, "content"))
+                    .price(parseInt(column(record, "price")))
+                    .imgUrl(column(record, "imgurl"))
+                    .quantity(parseInt(column(record, "quantity")))
+                    .build());
+        } catch (NumberFormatException e) {
+            return ProductRow.failed(rowNumber, "가격과 수량은 숫자여야 합니다.");
+        }
+    }
+
+    private void readHeader() throws IOException {
+        List<String> header = readRecord();
+        columnIndexMap = new HashMap<>();
+        if (header == null) {
+            return;
+        }
+
+        for (int i = 0; i < header.size(); i++) {
+            String column = header.get(i).strip();
+            if (i == 0 && !column.isEmpty() && column.charAt(0) == UTF8_BOM) {
+                column = column.substring(1);
+            }
+            columnIndexMap.put(column.replace("_", "").toLowerCase(Locale.ROOT), i);
+        }
+
+        if (!columnIndexMap.containsKey("name")) {
+            throw new ProductException(ProductErrorCode.INVALID_BULK_FILE);
+        }
+    }
+
+    private String column(List<String> record, String column) {
+        Integer index = columnIndexMap.get(column);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        return record.get(index);
+    }
+
+    private int parseInt(String value) {
+        return value == null || value.isBlank() ? 0 : Integer.parseInt(value.strip());
+    }
+
+    /**
+     * @return 한 레코드의 값 목록, 입력이 끝나면 null
+     */
+    private List<String> readRecord() throws IOException {
+        String line = reader.readLine();
+        if (line == null) {
+            return null;
+        }
+
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+
+        while (true) {
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+
+                if (quoted) {
+                    if (c != '"') {
+                        value.append(c);
+                    } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        value.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    values.add(value.toString());
+                    value.setLength(0);
+                } else {
+                    value.append(c);
+                }
+            }
+
+            if (!quoted) {
+                break;
+            }
+
+            // 큰따옴표 안의 줄바꿈은 값에 포함하고 다음 줄을 이어서 읽음
+            line = reader.readLine();
+            if (line == null) {
+                break;
+            }
+            value.append('\n');
+        }
+
+        values.add(value.toString());
+        return values;
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.backend.domain.product.bulk;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+import com.example.backend.domain.product.dto.ProductForm;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * JsonLinesProductRowReader
+ * 한 줄에 JSON 객체 하나씩 있는 입력(JSON Lines)을 {@link ProductForm}으로 변환합니다. 빈 줄은 건너뜁니다.
+ * @author 100minha
+ */
+public class JsonLinesProductRowReader implements ProductRowReader {
+
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private int rowNumber;
+
+    public JsonLinesProductRowReader(BufferedReader reader, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public ProductRow next() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+        } while (line.isBlank());
+
+        rowNumber++;
+        try {
+            ProductForm productForm = objectMapper.readValue(line, ProductForm.class);
+            // "null" 한 줄은 예외 없이 null로 읽힘
+            if (productForm == null) {
+                return ProductRow.failed(rowNumber, "JSON 형식이 올바르지 않습니다.");
+            }
+            return ProductRow.of(rowNumber, productForm);
+        } catch (JsonProcessingException e) {
+            return ProductRow.failed(rowNumber, "JSON 형식이 올바르지 않습니다.");
+        }
+    }
+}
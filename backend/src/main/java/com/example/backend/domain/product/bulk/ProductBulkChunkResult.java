@@ -0,0 +1,18 @@
+package com.example.backend.domain.product.bulk;
+
+import java.util.List;
+
+import com.example.backend.domain.product.dto.ProductBulkImportResponse.RowError;
+
+/**
+ * ProductBulkChunkResult
+ * 일괄 등록 chunk 하나의 저장 결과
+ * @author 100minha
+ */
+public record ProductBulkChunkResult(
+        int insertedCount,
+        int updatedCount,
+        List<RowError> errorList
+) {
+
+}
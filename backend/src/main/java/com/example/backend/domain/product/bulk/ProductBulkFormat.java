@@ -0,0 +1,41 @@
+package com.example.backend.domain.product.bulk;
+
+import java.io.BufferedReader;
+
+import org.springframework.http.MediaType;
+
+import com.example.backend.domain.product.exception.ProductErrorCode;
+import com.example.backend.domain.product.exception.ProductException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * ProductBulkFormat
+ * 상품 일괄 등록 입력 형식, 요청의 Content-Type으로 결정합니다.
+ * @author 100minha
+ */
+public enum ProductBulkFormat {
+    CSV,
+    JSON_LINES;
+
+    public static final String TEXT_CSV_VALUE = "text/csv";
+
+    public static ProductBulkFormat from(String contentType) {
+        if (contentType != null) {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            if (mediaType.isCompatibleWith(MediaType.parseMediaType(TEXT_CSV_VALUE))) {
+                return CSV;
+            }
+            if (mediaType.isCompatibleWith(MediaType.APPLICATION_NDJSON)) {
+                return JSON_LINES;
+            }
+        }
+        throw new ProductException(ProductErrorCode.INVALID_BULK_FILE);
+    }
+
+    public ProductRowReader reader(BufferedReader reader, ObjectMapper objectMapper) {
+        return switch (this) {
+            case CSV -> new CsvProductRowReader(reader);
+            case JSON_LINES -> new JsonLinesProductRowReader(reader, objectMapper);
+        };
+    }
+}
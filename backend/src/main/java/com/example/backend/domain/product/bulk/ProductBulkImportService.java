@@ -0,0 +1,156 @@
+package com.example.backend.domain.product.bulk;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import com.example.backend.domain.product.cache.ProductCache;
+import com.example.backend.domain.product.dto.ProductBulkImportResponse;
+import com.example.backend.domain.product.dto.ProductBulkImportResponse.RowError;
+import com.example.backend.domain.product.dto.ProductForm;
+import com.example.backend.domain.product.search.ProductSearchService;
+import com.example.backend.global.validation.ValidationSequence;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ProductBulkImportService
+ * <p>CSV, JSON Lines 요청 본문을 한 행씩 읽어 상품을 일괄 등록합니다. 본문 전체를 메모리에 올리지 않고 chunk 단위로 저장합니다.</p>
+ * <p>행마다 {@link ProductForm} 검증을 거치고, chunk마다 이름 중복을 IN 쿼리 한 번으로 확인한 뒤 JDBC batch로 저장합니다.
+ * 실패한 행은 건너뛰고 행 번호와 사유를 결과에 담으며, chunk 저장 자체가 실패하면 해당 chunk의 행만 실패로 처리합니다.</p>
+ * <p>상품 캐시와 검색 색인은 행마다 갱신하지 않고 모든 chunk를 저장한 뒤 한 번에 갱신합니다.</p>
+ * @author 100minha
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProductBulkImportService {
+
+    private final ProductBulkWriter productBulkWriter;
+    private final ProductCache productCache;
+    private final ProductSearchService productSearchService;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+
+    @Value("${product.bulk.chunk-size:1000}")
+    private int chunkSize = 1000;
+
+    @Value("${product.bulk.max-errors:1000}")
+    private int maxErrors = 1000;
+
+    /**
+     * @param inputStream UTF-8 요청 본문
+     * @param format 입력 형식
+     * @param upsert true면 이름이 같은 기존 상품을 수정하고, false면 해당 행을 실패로 처리
+     */
+    public ProductBulkImportResponse importProducts(InputStream inputStream, ProductBulkFormat format, boolean upsert)
+            throws IOException {
+
+        long startNanos = System.nanoTime();
+        BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        ProductRowReader rowReader = format.reader(bufferedReader, objectMapper);
+
+        ImportProgress progress = new ImportProgress();
+        // 같은 파일 안에서 이름이 중복되면 뒤의 행이 앞의 행을 덮어쓰지 않도록 먼저 나온 행만 저장
+        Set<String> seenNameSet = new HashSet<>();
+        List<ProductRow> chunk = new ArrayList<>(chunkSize);
+
+        ProductRow row;
+        while ((row = rowReader.next()) != null) {
+            progress.totalRows++;
+
+            String error = row.isFailed() ? row.error() : validate(row.form());
+            if (error == null && !seenNameSet.add(row.form().name())) {
+                error = "파일 안에 같은 이름의 상품이 있습니다.";
+            }
+            if (error != null) {
+                progress.addError(row.rowNumber(), row.form() == null ? null : row.form().name(), error);
+                continue;
+            }
+
+            chunk.add(row);
+            if (chunk.size() == chunkSize) {
+                writeChunk(chunk, upsert, progress);
+                chunk = new ArrayList<>(chunkSize);
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            writeChunk(chunk, upsert, progress);
+        }
+
+        if (progress.insertedCount + progress.updatedCount > 0) {
+            productCache.evictAll();
+            productSearchService.changedAll();
+        }
+
+        log.info("product bulk import finished rows={} inserted={} updated={} errors={} elapsedMillis={}",
+                progress.totalRows, progress.insertedCount, progress.updatedCount, progress.errorCount,
+                (System.nanoTime() - startNanos) / 1_000_000);
+
+        return new ProductBulkImportResponse(progress.totalRows, progress.insertedCount, progress.updatedCount,
+                progress.errorCount, progress.errorList);
+    }
+
+    private void writeChunk(List<ProductRow> chunk, boolean upsert, ImportProgress progress) {
+
+        try {
+            ProductBulkChunkResult result = productBulkWriter.write(chunk, upsert);
+            progress.insertedCount += result.insertedCount();
+            progress.updatedCount += result.updatedCount();
+            result.errorList().forEach(error -> progress.addError(error.rowNumber(), error.name(), error.reason()));
+        } catch (DataAccessException e) {
+            // 다른 요청이 같은 이름을 먼저 등록한 경우 등, chunk 전체가 롤백되므로 모든 행을 실패로 처리
+            log.warn("product bulk import chunk failed firstRow={} size={}", chunk.get(0).rowNumber(), chunk.size(), e);
+            for (ProductRow row : chunk) {
+                progress.addError(row.rowNumber(), row.form().name(), "저장에 실패했습니다. 다시 시도해 주세요.");
+            }
+        }
+    }
+
+    /**
+     * @return 검증 실패 사유, 통과하면 null
+     */
+    private String validate(ProductForm productForm) {
+
+        Set<ConstraintViolation<ProductForm>> violationSet = validator.validate(productForm, ValidationSequence.class);
+        if (violationSet.isEmpty()) {
+            return null;
+        }
+
+        return violationSet.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining(" "));
+    }
+
+    private class ImportProgress {
+        private int totalRows;
+        private int insertedCount;
+        private int updatedCount;
+        private int errorCount;
+        private final List<RowError> errorList = new ArrayList<>();
+
+        private void addError(int rowNumber, String name, String reason) {
+            errorCount++;
+            if (errorList.size() < maxErrors) {
+                errorList.add(new RowError(rowNumber, name, reason));
+            }
+        }
+    }
+}
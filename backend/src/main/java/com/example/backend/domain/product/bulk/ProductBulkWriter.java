@@ -0,0 +1,94 @@
+package com.example.backend.domain.product.bulk;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.backend.domain.product.dto.ProductBulkImportResponse.RowError;
+import com.example.backend.domain.product.dto.ProductForm;
+import com.example.backend.domain.product.dto.ProductNameDto;
+import com.example.backend.domain.product.exception.ProductErrorCode;
+import com.example.backend.domain.product.repository.ProductBulkJdbcRepository;
+import com.example.backend.domain.product.repository.ProductRepository;
+import com.example.backend.domain.product.stock.FlashSaleStockService;
+import com.example.backend.domain.product.stock.InventoryLedgerService;
+import com.example.backend.domain.product.stock.StockStreamService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * ProductBulkWriter
+ * 상품 일괄 등록의 한 chunk를 하나의 트랜잭션으로 저장합니다.
+ * @author 100minha
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductBulkWriter {
+
+    private final ProductRepository productRepository;
+    private final ProductBulkJdbcRepository productBulkJdbcRepository;
+    private final InventoryLedgerService inventoryLedgerService;
+    private final StockStreamService stockStreamService;
+    private final FlashSaleStockService flashSaleStockService;
+
+    /**
+     * chunk의 상품 이름을 IN 쿼리 한 번으로 조회해 이미 있는 상품과 새 상품을 나눈 뒤 각각 batch로 저장합니다.
+     * @param rowList 검증을 통과한, 이름이 서로 다른 행 목록
+     * @param upsert true면 이미 있는 상품을 수정하고, false면 해당 행을 실패로 처리.
+     *               세일 중인 상품은 카운터가 재고를 관리하므로 재고를 덮어쓰지 않도록 실패로 처리
+     */
+    @Transactional
+    public ProductBulkChunkResult write(List<ProductRow> rowList, boolean upsert) {
+
+        Map<String, ProductRow> rowMap = new LinkedHashMap<>();
+        for (ProductRow row : rowList) {
+            rowMap.put(row.form().name(), row);
+        }
+
+        Map<String, Long> existingIdMap = new HashMap<>();
+        for (ProductNameDto productNameDto : productRepository.findNameDtosByNameIn(rowMap.keySet())) {
+            existingIdMap.put(productNameDto.name(), productNameDto.id());
+        }
+
+        List<ProductForm> insertList = new ArrayList<>();
+        Map<Long, ProductForm> updateMap = new HashMap<>();
+        List<RowError> errorList = new ArrayList<>();
+        Set<Long> flashSaleIds = upsert && !existingIdMap.isEmpty()
+                ? flashSaleStockService.findOpenProductIds(existingIdMap.values())
+                : Set.of();
+
+        rowMap.forEach((name, row) -> {
+            Long existingId = existingIdMap.get(name);
+            if (existingId == null) {
+                insertList.add(row.form());
+            } else if (upsert && flashSaleIds.contains(existingId)) {
+                errorList.add(new RowError(row.rowNumber(), name, ProductErrorCode.ALREADY_FLASH_SALE.getMessage()));
+            } else if (upsert) {
+                updateMap.put(existingId, row.form());
+            } else {
+                errorList.add(new RowError(row.rowNumber(), name, ProductErrorCode.EXISTS_NAME.getMessage()));
+            }
+        });
+
+        // LEDGER 모드면 남은 원장 변동을 먼저 반영하고 락을 잡은 채로 재고를 덮어씀
+        if (inventoryLedgerService.isEnabled()) {
+            inventoryLedgerService.compact(updateMap.keySet());
+        }
+
+        int insertedCount = productBulkJdbcRepository.batchInsert(insertList);
+        int updatedCount = productBulkJdbcRepository.batchUpdate(updateMap);
+
+        // 재고를 덮어쓴 상품은 커밋된 뒤 재고 구독자에게 전송
+        if (!updateMap.isEmpty()) {
+            stockStreamService.changed(updateMap.keySet());
+        }
+
+        return new ProductBulkChunkResult(insertedCount, updatedCount, errorList);
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.backend.domain.product.bulk;
+
+import com.example.backend.domain.product.dto.ProductForm;
+
+/**
+ * ProductRow
+ * 일괄 등록 입력의 한 행, 읽기에 실패하면 form은 null이고 error에 사유가 있음
+ * @author 100minha
+ */
+public record ProductRow(
+        int rowNumber,
+        ProductForm form,
+        String error
+) {
+
+    public static ProductRow of(int rowNumber, ProductForm form) {
+        return new ProductRow(rowNumber, form, null);
+    }
+
+    public static ProductRow failed(int rowNumber, String error) {
+        return new ProductRow(rowNumber, null, error);
+    }
+
+    public boolean isFailed() {
+        return error != null;
+    }
+}
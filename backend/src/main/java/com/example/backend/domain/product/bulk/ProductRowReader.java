@@ -0,0 +1,17 @@
+package com.example.backend.domain.product.bulk;
+
+import java.io.IOException;
+
+/**
+ * ProductRowReader
+ * 일괄 등록 입력을 한 행씩 읽는 reader, 전체 입력을 메모리에 올리지 않습니다.
+ * @author 100minha
+ */
+public interface ProductRowReader {
+
+    /**
+     * @return 다음 행, 입력이 끝나면 null
+     * @implSpec 한 행의 형식 오류는 예외 대신 {@link ProductRow#failed(int, String)}로 반환하고 다음 행을 계속 읽습니다.
+     */
+    ProductRow next() throws IOException;
+}
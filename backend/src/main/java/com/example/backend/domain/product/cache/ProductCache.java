@@ -0,0 +1,148 @@
+package com.example.backend.domain.product.cache;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+
+import com.example.backend.domain.product.dto.ProductResponse;
+import com.example.backend.global.cache.LocalCache;
+import com.example.backend.global.redis.RedisMessageBus;
+import com.example.backend.global.response.CursorResponse;
+import com.example.backend.global.response.ResourceVersion;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ProductCache
+ * <p>상품 단건 조회 결과와 목록 페이지, 각각의 조건부 조회 검증자, 전체 상품 수를 서버 메모리에 캐시합니다.</p>
+ * <p>상품이 변경되면 트랜잭션 커밋 후 자신의 캐시를 비우고 Redis 채널로 무효화 메시지를 발행해,
+ * 모든 서버가 같은 항목을 비웁니다. 메시지가 유실되는 경우를 위해 항목마다 ttl을 둡니다.</p>
+ * <p>목록은 이름 순으로 정렬되어 상품 하나가 바뀌어도 여러 페이지가 바뀔 수 있으므로, 상품이 변경되면 페이지 캐시는 모두 비웁니다.</p>
+ * @author 100minha
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProductCache {
+
+	static final String CHANNEL = "product:cache:invalidate";
+	/** 페이지 캐시만 비우는 메시지 */
+	static final String PAGES = "pages";
+	/** 모든 캐시를 비우는 메시지 */
+	static final String ALL = "all";
+	private static final String COUNT = "count";
+
+	private final RedisMessageBus redisMessageBus;
+
+	@Value("${product.cache.max-entries:10000}")
+	private int maxEntries = 10000;
+
+	@Value("${product.cache.max-pages:1000}")
+	private int maxPages = 1000;
+
+	@Value("${product.cache.ttl-seconds:60}")
+	private long ttlSeconds = 60;
+
+	private LocalCache<Long, ProductResponse> productResponseCache;
+	private LocalCache<Integer, Page<ProductResponse>> productPageCache;
+	private LocalCache<Long, ResourceVersion> productVersionCache;
+	private LocalCache<Integer, ResourceVersion> productPageVersionCache;
+	private LocalCache<String, CursorResponse<ProductResponse>> productSliceCache;
+	private LocalCache<String, Long> productCountCache;
+
+	@PostConstruct
+	public void init() {
+		productResponseCache = new LocalCache<>(maxEntries, ttlSeconds, TimeUnit.SECONDS);
+		productPageCache = new LocalCache<>(maxPages, ttlSeconds, TimeUnit.SECONDS);
+		productVersionCache = new LocalCache<>(maxEntries, ttlSeconds, TimeUnit.SECONDS);
+		productPageVersionCache = new LocalCache<>(maxPages, ttlSeconds, TimeUnit.SECONDS);
+		productSliceCache = new LocalCache<>(maxPages, ttlSeconds, TimeUnit.SECONDS);
+		productCountCache = new LocalCache<>(1, ttlSeconds, TimeUnit.SECONDS);
+		redisMessageBus.subscribe(CHANNEL, this::evictLocal);
+	}
+
+	public ProductResponse getProductResponse(Long id, Supplier<ProductResponse> loader) {
+		return productResponseCache.get(id, loader);
+	}
+
+	/**
+	 * 캐시에 없는 상품만 모아 loader를 한 번 호출합니다. 없는 상품도 ttl 동안 캐시되며 결과에서 빠집니다.
+	 * @return {@link Map} 상품 ID, 상품
+	 */
+	public Map<Long, ProductResponse> getProductResponses(Collection<Long> ids,
+		Function<Collection<Long>, Map<Long, ProductResponse>> loader) {
+		return productResponseCache.getAll(ids, loader);
+	}
+
+	public Page<ProductResponse> getProductPage(int page, Supplier<Page<ProductResponse>> loader) {
+		return productPageCache.get(page, loader);
+	}
+
+	public ResourceVersion getProductVersion(Long id, Supplier<ResourceVersion> loader) {
+		return productVersionCache.get(id, loader);
+	}
+
+	public ResourceVersion getProductPageVersion(int page, Supplier<ResourceVersion> loader) {
+		return productPageVersionCache.get(page, loader);
+	}
+
+	/**
+	 * @param key 커서와 페이지 크기
+	 */
+	public CursorResponse<ProductResponse> getProductSlice(String key, Supplier<CursorResponse<ProductResponse>> loader) {
+		return productSliceCache.get(key, loader);
+	}
+
+	public long getProductCount(Supplier<Long> loader) {
+		return productCountCache.get(COUNT, loader);
+	}
+
+	/**
+	 * 상품 변경 시 호출하며, 트랜잭션 안이면 커밋된 뒤 해당 상품과 목록 페이지 캐시를 비웁니다.
+	 */
+	public void evict(Long id) {
+		redisMessageBus.publishAfterCommit(CHANNEL, String.valueOf(id), () -> evictLocal(String.valueOf(id)));
+	}
+
+	/**
+	 * 상품 등록처럼 기존 상품은 그대로이고 목록만 바뀌는 경우 호출합니다.
+	 */
+	public void evictPages() {
+		redisMessageBus.publishAfterCommit(CHANNEL, PAGES, () -> evictLocal(PAGES));
+	}
+
+	/**
+	 * 상품 일괄 등록처럼 많은 상품이 한 번에 바뀐 경우 상품마다 메시지를 보내지 않고 한 번에 모든 캐시를 비웁니다.
+	 */
+	public void evictAll() {
+		redisMessageBus.publishAfterCommit(CHANNEL, ALL, () -> evictLocal(ALL));
+	}
+
+	private void evictLocal(String target) {
+		if (ALL.equals(target)) {
+			productResponseCache.invalidateAll();
+			productVersionCache.invalidateAll();
+		} else if (!PAGES.equals(target)) {
+			try {
+				Long id = Long.valueOf(target);
+				productResponseCache.invalidate(id);
+				productVersionCache.invalidate(id);
+			} catch (NumberFormatException e) {
+				log.warn("invalid product cache eviction message={}", target);
+				return;
+			}
+		}
+		productPageCache.invalidateAll();
+		productPageVersionCache.invalidateAll();
+		productSliceCache.invalidateAll();
+		productCountCache.invalidateAll();
+	}
+}
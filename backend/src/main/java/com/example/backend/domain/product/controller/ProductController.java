@@ -1,16 +1,33 @@
 package com.example.backend.domain.product.controller;
 
+import com.example.backend.domain.product.bulk.ProductBulkFormat;
+import com.example.backend.domain.product.bulk.ProductBulkImportService;
+import com.example.backend.domain.product.dto.ProductBulkImportResponse;
 import com.example.backend.domain.product.dto.ProductForm;
 import com.example.backend.domain.product.dto.ProductResponse;
 import com.example.backend.domain.product.service.ProductService;
+import com.example.backend.domain.product.stock.FlashSaleStockService;
+import com.example.backend.domain.product.stock.StockStreamService;
+import com.example.backend.domain.product.stock.StripedStockService;
+import com.example.backend.global.response.CursorResponse;
 import com.example.backend.global.response.GenericResponse;
+import com.example.backend.global.response.ResourceVersion;
 import com.example.backend.global.validation.ValidationSequence;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
 
 /**
  * ProductController
@@ -22,24 +39,89 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class ProductController {
     private final ProductService productService;
-
+    private final FlashSaleStockService flashSaleStockService;
+    private final ProductBulkImportService productBulkImportService;
+    private final StockStreamService stockStreamService;
+    private final StripedStockService stripedStockService;
+
+    /**
+     * 상품 단건 조회
+     * <p>If-None-Match, If-Modified-Since가 현재 검증자와 일치하면 본문 없이 304를 반환합니다.</p>
+     */
     @GetMapping("/{id}")
-    public ResponseEntity<GenericResponse<ProductResponse>> findById(@PathVariable("id") Long id) {
+    public ResponseEntity<GenericResponse<ProductResponse>> findById(@PathVariable("id") Long id,
+                                                                     WebRequest webRequest) {
+
+        ResourceVersion resourceVersion = productService.findResourceVersionById(id);
+        if (resourceVersion.checkNotModified(webRequest)) {
+            return null;
+        }
 
         ProductResponse productResponse = productService.findProductResponseById(id);
 
         return ResponseEntity.ok().body(GenericResponse.of(productResponse));
     }
 
-    @GetMapping
+    /**
+     * 상품 목록 페이지 번호 조회
+     * <p>If-None-Match가 현재 페이지의 ETag와 일치하면 본문 없이 304를 반환합니다.</p>
+     */
+    @GetMapping(params = "page")
     public ResponseEntity<GenericResponse<Page<ProductResponse>>> findAllPaged(
-            @RequestParam(value = "page", defaultValue = "0") int page) {
+            @RequestParam(value = "page") int page, WebRequest webRequest) {
+
+        ResourceVersion resourceVersion = productService.findPageVersion(page);
+        if (resourceVersion.checkNotModified(webRequest)) {
+            return null;
+        }
 
         Page<ProductResponse> productResponsePage = productService.findAllPaged(page);
 
         return ResponseEntity.ok().body(GenericResponse.of(productResponsePage));
     }
 
+    /**
+     * 상품 목록 커서 조회, page 파라미터가 없으면 커서 방식으로 조회합니다.
+     * <p>전체 개수 없이 다음 페이지 커서만 반환합니다.</p>
+     */
+    @GetMapping(params = "!page")
+    public ResponseEntity<GenericResponse<CursorResponse<ProductResponse>>> findAllByCursor(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "10") int size) {
+
+        CursorResponse<ProductResponse> response = productService.findAllByCursor(cursor, size);
+
+        return ResponseEntity.ok().body(GenericResponse.of(response));
+    }
+
+    /**
+     * 상품 검색
+     * <p>이름, 설명에 검색어가 포함된 상품을 관련도 순으로 반환합니다. 검색 결과가 없으면 빈 페이지를 반환합니다.</p>
+     */
+    @GetMapping("/search")
+    public ResponseEntity<GenericResponse<Page<ProductResponse>>> search(
+            @RequestParam(value = "query") String query,
+            @RequestParam(value = "page", defaultValue = "0") int page) {
+
+        Page<ProductResponse> productResponsePage = productService.search(query, page);
+
+        return ResponseEntity.ok().body(GenericResponse.of(productResponsePage));
+    }
+
+    /**
+     * 상품 재고 변경 구독
+     * <p>구독 직후 현재 재고를 전송하고, 이후 재고가 바뀌면 상품마다 한 주기에 최대 한 번 "stock" 이벤트로 전송합니다.
+     * 인증 없이 구독할 수 있으므로 클라이언트 IP마다 구독 수를 제한합니다.</p>
+     * <p>request.getRemoteAddr()는 프록시 뒤에서 프록시 IP가 되므로, 배포 시 server.forward-headers-strategy를
+     * native 또는 framework로 설정해 X-Forwarded-For의 클라이언트 IP를 사용해야 합니다.</p>
+     */
+    @GetMapping("/stream")
+    public SseEmitter streamStock(@RequestParam(value = "productIds") List<Long> productIds,
+                                  HttpServletRequest request) {
+
+        return stockStreamService.subscribe(productIds, request.getRemoteAddr());
+    }
+
     @PostMapping
     public ResponseEntity<GenericResponse<String>> create(@RequestBody @Validated(ValidationSequence.class) ProductForm productForm) {
 
@@ -49,6 +131,23 @@ public class ProductController {
                 .body(GenericResponse.of("상품이 정상적으로 등록되었습니다."));
     }
 
+    /**
+     * 상품 일괄 등록
+     * <p>text/csv 또는 application/x-ndjson 본문을 스트리밍으로 읽어 등록하고, 실패한 행은 건너뛴 뒤 행 번호와 사유를 반환합니다.
+     * upsert가 true면 이름이 같은 기존 상품을 수정합니다.</p>
+     */
+    @PostMapping(value = "/bulk", consumes = {ProductBulkFormat.TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<GenericResponse<ProductBulkImportResponse>> bulkImport(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            @RequestParam(value = "upsert", defaultValue = "false") boolean upsert,
+            InputStream inputStream) throws IOException {
+
+        ProductBulkImportResponse response =
+                productBulkImportService.importProducts(inputStream, ProductBulkFormat.from(contentType), upsert);
+
+        return ResponseEntity.ok().body(GenericResponse.of(response));
+    }
+
     @PatchMapping("/{id}")
     public ResponseEntity<GenericResponse<String>> modify(@PathVariable("id") Long id,
                                                           @RequestBody @Validated(ValidationSequence.class) ProductForm productForm) {
@@ -66,4 +165,45 @@ public class ProductController {
         return ResponseEntity.ok().body(GenericResponse.of("상품이 정상적으로 삭제되었습니다."));
     }
 
+    @PostMapping("/{id}/flash-sale")
+    public ResponseEntity<GenericResponse<String>> startFlashSale(@PathVariable("id") Long id) {
+
+        flashSaleStockService.start(id);
+
+        return ResponseEntity.ok().body(GenericResponse.of("세일 재고 관리가 시작되었습니다."));
+    }
+
+    @DeleteMapping("/{id}/flash-sale")
+    public ResponseEntity<GenericResponse<String>> endFlashSale(@PathVariable("id") Long id) {
+
+        flashSaleStockService.end(id);
+
+        return ResponseEntity.ok().body(GenericResponse.of("세일 재고 관리가 종료되었습니다."));
+    }
+
+    @PostMapping("/{id}/stripes")
+    public ResponseEntity<GenericResponse<String>> enableStripes(@PathVariable("id") Long id,
+                                                                 @RequestParam(value = "count") int count) {
+
+        stripedStockService.enable(id, count);
+
+        return ResponseEntity.ok().body(GenericResponse.of("분산 재고 관리가 시작되었습니다."));
+    }
+
+    @PostMapping("/{id}/stripes/rebalance")
+    public ResponseEntity<GenericResponse<String>> rebalanceStripes(@PathVariable("id") Long id) {
+
+        stripedStockService.rebalance(id);
+
+        return ResponseEntity.ok().body(GenericResponse.of("분산 재고가 재분배되었습니다."));
+    }
+
+    @DeleteMapping("/{id}/stripes")
+    public ResponseEntity<GenericResponse<String>> disableStripes(@PathVariable("id") Long id) {
+
+        stripedStockService.disable(id);
+
+        return ResponseEntity.ok().body(GenericResponse.of("분산 재고 관리가 종료되었습니다."));
+    }
+
 }
@@ -0,0 +1,14 @@
+package com.example.backend.domain.product.dto;
+
+/**
+ * PendingDeltaDto
+ * 재고 원장에서 아직 상품 재고 스냅샷에 반영되지 않은 변동 합계 DTO
+ * @author 100minha
+ */
+public record PendingDeltaDto(
+        Long productId,
+        int delta,
+        long lastMovementId
+) {
+
+}
@@ -0,0 +1,30 @@
+package com.example.backend.domain.product.dto;
+
+import java.util.List;
+
+/**
+ * ProductBulkImportResponse
+ * 상품 일괄 등록 결과, 실패한 행은 최대 개수까지만 포함하며 errorCount는 전체 실패 행 수
+ * @author 100minha
+ */
+public record ProductBulkImportResponse(
+        int totalRows,
+        int insertedCount,
+        int updatedCount,
+        int errorCount,
+        List<RowError> errors
+) {
+
+    /**
+     * @param rowNumber 헤더를 제외한 1부터 시작하는 행 번호
+     * @param name 상품 이름, 읽지 못한 경우 null
+     * @param reason 실패 사유
+     */
+    public record RowError(
+            int rowNumber,
+            String name,
+            String reason
+    ) {
+
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.backend.domain.product.dto;
+
+import com.example.backend.domain.product.exception.ProductErrorCode;
+import com.example.backend.domain.product.exception.ProductException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * ProductCursor
+ * 상품 목록 커서, 마지막으로 조회한 상품의 (name, id)를 Base64 URL 문자열로 인코딩
+ * @author 100minha
+ */
+public record ProductCursor(
+        String name,
+        Long id
+) {
+
+    private static final String DELIMITER = "_";
+
+    public static ProductCursor from(ProductResponse productResponse) {
+        return new ProductCursor(productResponse.name(), productResponse.id());
+    }
+
+    public String encode() {
+        // 이름에 구분자가 포함될 수 있으므로 마지막 구분자 뒤를 ID로 사용
+        String raw = name + DELIMITER + id;
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param cursor
+     * @return {@link ProductCursor}
+     * @throws ProductException 잘못된 커서인 경우 INVALID_CURSOR
+     */
+    public static ProductCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(DELIMITER);
+
+            return new ProductCursor(raw.substring(0, index), Long.parseLong(raw.substring(index + 1)));
+        } catch (RuntimeException e) {
+            throw new ProductException(ProductErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.backend.domain.product.dto;
+
+/**
+ * ProductNameDto
+ * 상품 일괄 등록 시 이름 중복 검증에 사용하는 DTO
+ * @author 100minha
+ */
+public record ProductNameDto(
+        Long id,
+        String name
+) {
+
+}
@@ -0,0 +1,16 @@
+package com.example.backend.domain.product.dto;
+
+import java.time.ZonedDateTime;
+
+/**
+ * ProductVersionDto
+ * 조건부 조회 검증자 생성에 사용하는 상품 버전 정보 DTO
+ * @author 100minha
+ */
+public record ProductVersionDto(
+        Long id,
+        Long version,
+        ZonedDateTime modifiedAt
+) {
+
+}
@@ -0,0 +1,13 @@
+package com.example.backend.domain.product.dto;
+
+/**
+ * StockLevelResponse
+ * 재고 알림 스트림으로 전송하는 상품 재고 DTO
+ * @author 100minha
+ */
+public record StockLevelResponse(
+        Long productId,
+        int quantity
+) {
+
+}
@@ -0,0 +1,45 @@
+package com.example.backend.domain.product.entity;
+
+import java.time.ZonedDateTime;
+
+import com.example.backend.domain.product.stock.InventoryMovementType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * InventoryMovement
+ * 재고 원장 Entity, 재고 변동을 수정 없이 추가만 합니다.
+ * <p>상품의 가용 재고는 스냅샷인 {@link Product#getQuantity()}에 ID가 {@link Product#getLedgerPosition()}보다 큰 변동을 더한 값이며,
+ * 주문 경로에서 변동 행을 읽지 않도록 그 합계를 {@link Product#getLedgerPending()}에 함께 저장합니다.
+ * 행은 JDBC batch로만 저장하며 이 Entity는 조회와 스키마 정의에 사용합니다.</p>
+ * @author 100minha
+ */
+@Entity
+@Table(name = "inventory_movement",
+        indexes = @Index(name = "idx_inventory_movement_product_id", columnList = "product_id, id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class InventoryMovement {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    /**
+     * 재고 변화량, 주문은 음수
+     */
+    @Column(nullable = false)
+    private int delta;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private InventoryMovementType type;
+
+    @Column(name = "created_at", nullable = false)
+    private ZonedDateTime createdAt;
+}
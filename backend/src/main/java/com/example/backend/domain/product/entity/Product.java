@@ -11,6 +11,7 @@ import com.example.backend.domain.product.exception.ProductErrorCode;
 import com.example.backend.domain.product.exception.ProductException;
 import com.example.backend.global.baseEntity.BaseEntity;
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -43,6 +44,24 @@ public class Product extends BaseEntity {
     @Version
     private Long version;
 
+    /**
+     * 재고 원장에서 quantity에 반영된 마지막 변동 ID
+     */
+    @ColumnDefault("0")
+    private long ledgerPosition;
+
+    /**
+     * 재고 원장에서 quantity에 아직 반영되지 않은 변동 합계
+     */
+    @ColumnDefault("0")
+    private int ledgerPending;
+
+    /**
+     * 재고를 나눠 관리하는 stripe 행 수, 0이면 quantity로 관리
+     */
+    @ColumnDefault("0")
+    private int stripeCount;
+
     @Builder
     public Product(String name, String content, int price, String imgUrl, int quantity) {
         this.name = name;
@@ -63,17 +82,51 @@ public class Product extends BaseEntity {
         }
         this.quantity = restQuantity;
     }
+    /**
+     * 상품 수정 로직
+     * <p>분산 재고 상품의 재고는 stripe 행에서 관리하므로 quantity를 바꾸지 않습니다.</p>
+     */
     public void modify(ProductForm productForm) {
 
+        modifyInfo(productForm);
+        if (!isStriped()) {
+            this.quantity = productForm.quantity();
+        }
+    }
+
+    /**
+     * 재고를 제외한 상품 정보만 수정합니다.
+     */
+    public void modifyInfo(ProductForm productForm) {
+
         this.name = productForm.name();
         this.content = productForm.content();
         this.price = productForm.price();
         this.imgUrl = productForm.imgUrl();
-        this.quantity = productForm.quantity();
     }
 
     public void restore(int quantity) {
         this.quantity += quantity;
     }
 
+    public boolean isStriped() {
+        return stripeCount > 0;
+    }
+
+    /**
+     * 분산 재고 시작, 재고는 stripe 행으로 옮겨졌으므로 quantity는 0이 됩니다.
+     */
+    public void enableStripes(int stripeCount) {
+        this.stripeCount = stripeCount;
+        this.quantity = 0;
+    }
+
+    /**
+     * 분산 재고 종료, stripe 행 재고의 합을 quantity로 되돌립니다.
+     */
+    public void disableStripes(int quantity) {
+        this.stripeCount = 0;
+        this.quantity = quantity;
+    }
+
 }
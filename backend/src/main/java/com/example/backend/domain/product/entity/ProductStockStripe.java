@@ -0,0 +1,36 @@
+package com.example.backend.domain.product.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * ProductStockStripe
+ * 분산 재고 Entity, 주문이 몰리는 상품의 재고를 여러 행에 나눠 관리합니다.
+ * <p>상품의 가용 재고는 stripe 행 재고의 합이며, 행은 JDBC로만 갱신하고 이 Entity는 조회와 스키마 정의에 사용합니다.</p>
+ * @author 100minha
+ */
+@Entity
+@Table(name = "product_stock_stripe",
+        uniqueConstraints = @UniqueConstraint(name = "uk_product_stock_stripe", columnNames = {"product_id", "stripe"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProductStockStripe {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    /**
+     * 0부터 시작하는 stripe 번호
+     */
+    @Column(nullable = false)
+    private int stripe;
+
+    @Column(nullable = false)
+    private int quantity;
+}
@@ -16,8 +16,17 @@ public enum ProductErrorCode {
     INSUFFICIENT_QUANTITY(HttpStatus.BAD_REQUEST, "상품 재고가 부족합니다.", "400-1"),
     EXISTS_NAME(HttpStatus.BAD_REQUEST, "중복된 상품 이름입니다.", "400-2"),
     EXISTS_ORDER_HISTORY(HttpStatus.BAD_REQUEST, "주문 내역이 존재하는 상품입니다.", "400-3"),
+    ALREADY_FLASH_SALE(HttpStatus.BAD_REQUEST, "이미 세일 중인 상품입니다.", "400-4"),
+    NOT_FLASH_SALE(HttpStatus.BAD_REQUEST, "세일 중인 상품이 아닙니다.", "400-5"),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "잘못된 커서입니다.", "400-6"),
+    INVALID_BULK_FILE(HttpStatus.BAD_REQUEST, "일괄 등록 파일 형식이 올바르지 않습니다.", "400-7"),
+    INVALID_STOCK_SUBSCRIPTION(HttpStatus.BAD_REQUEST, "재고 알림을 구독할 상품 수가 올바르지 않습니다.", "400-8"),
+    STRIPED_STOCK(HttpStatus.BAD_REQUEST, "분산 재고로 관리 중인 상품입니다.", "400-9"),
+    NOT_STRIPED_STOCK(HttpStatus.BAD_REQUEST, "분산 재고로 관리 중인 상품이 아닙니다.", "400-10"),
+    INVALID_STRIPE_COUNT(HttpStatus.BAD_REQUEST, "분산 재고 행 수가 올바르지 않습니다.", "400-11"),
     NOT_FOUND(HttpStatus.NOT_FOUND, "상품을 찾을 수 없습니다.", "404"),
-    CONFLICT(HttpStatus.CONFLICT, "현재 다른 사용자가 해당 상품을 처리 중입니다. 잠시 후 다시 시도해 주세요.", "409-1");
+    CONFLICT(HttpStatus.CONFLICT, "현재 다른 사용자가 해당 상품을 처리 중입니다. 잠시 후 다시 시도해 주세요.", "409-1"),
+    TOO_MANY_STOCK_SUBSCRIPTIONS(HttpStatus.TOO_MANY_REQUESTS, "재고 알림 구독이 너무 많습니다. 잠시 후 다시 시도해 주세요.", "429-1");
 
     final HttpStatus httpStatus;
     final String message;
@@ -0,0 +1,184 @@
+package com.example.backend.domain.product.repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.example.backend.domain.product.dto.PendingDeltaDto;
+import com.example.backend.domain.product.stock.InventoryMovementType;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * InventoryLedgerJdbcRepository
+ * 재고 원장(inventory_movement)을 JDBC로 추가, 조회하고 상품 재고 스냅샷에 반영하는 Repository
+ * <p>MySQL 기본 격리 수준(REPEATABLE READ)에서는 일반 SELECT가 트랜잭션 시작 시점의 스냅샷을 읽으므로,
+ * 락을 기다리는 동안 다른 트랜잭션이 커밋한 변동이 보이지 않습니다. 재고 검증과 스냅샷 반영에 쓰는 조회는
+ * 모두 최신 커밋 값을 읽는 잠금 읽기(FOR UPDATE)로 실행합니다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class InventoryLedgerJdbcRepository {
+
+    private static final String LOCK_SQL =
+            "SELECT id, quantity + ledger_pending AS available FROM product WHERE id IN (:ids) ORDER BY id FOR UPDATE";
+    private static final String AVAILABLE_SQL =
+            "SELECT id, quantity + ledger_pending AS available FROM product WHERE id IN (:ids)";
+    /**
+     * 잠금 읽기는 GROUP BY와 함께 쓸 수 없는 DB가 있어 변동 행을 읽어 합계는 애플리케이션에서 구합니다.
+     * 원장 행은 추가만 되고 추가하는 쪽도 상품 행 락을 먼저 잡으므로 FOR UPDATE로 인한 추가 대기는 없습니다.
+     * 변동 행을 모두 읽으므로 주문 경로가 아닌 스냅샷 반영에서만 사용합니다.
+     */
+    private static final String PENDING_SQL =
+            "SELECT m.product_id, m.id, m.delta " +
+            "FROM inventory_movement m " +
+            "JOIN product p ON p.id = m.product_id AND m.id > p.ledger_position " +
+            "WHERE m.product_id IN (:ids) " +
+            "ORDER BY m.id " +
+            "FOR UPDATE";
+    private static final String PENDING_PRODUCT_IDS_SQL =
+            "SELECT p.id FROM product p " +
+            "WHERE p.id > :lastId AND EXISTS (" +
+            "SELECT 1 FROM inventory_movement m WHERE m.product_id = p.id AND m.id > p.ledger_position) " +
+            "ORDER BY p.id LIMIT :limit";
+    private static final String INSERT_SQL =
+            "INSERT INTO inventory_movement (product_id, delta, type, created_at) VALUES (?, ?, ?, ?)";
+    /**
+     * 변동 행과 같은 트랜잭션에서 상품 행의 변동 합계를 늘립니다. 상품 Entity의 오래된 값으로 덮어쓰지 않도록 버전도 올립니다.
+     */
+    private static final String ADD_PENDING_SQL =
+            "UPDATE product SET ledger_pending = ledger_pending + ?, version = version + 1 WHERE id = ?";
+    /**
+     * 락을 잡은 뒤 반영하므로 반영한 변동 합계가 곧 상품 행의 변동 합계이고, 반영 후 합계는 0이 됩니다.
+     */
+    private static final String FOLD_SQL =
+            "UPDATE product SET quantity = quantity + ?, ledger_pending = 0, ledger_position = ?, version = version + 1 " +
+            "WHERE id = ?";
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * 상품 행에 쓰기 락을 겁니다. 락 획득 순서를 고정하기 위해 상품 ID 순으로 잠급니다.
+     * <p>원장 추가와 스냅샷 반영은 모두 이 락을 잡은 뒤 실행하므로, 반영 시점에 커밋되지 않은 변동이 남지 않습니다.</p>
+     * @param productIds
+     */
+    public void lock(Collection<Long> productIds) {
+        lockSnapshots(productIds);
+    }
+
+    /**
+     * 상품 행에 쓰기 락을 걸고 최신 커밋된 가용 재고를 조회합니다. 재고 검증은 이 메서드로 조회한 값으로 해야 합니다.
+     * <p>반영되지 않은 변동 합계는 상품 행에 함께 저장되므로 쌓인 변동 수와 관계없이 상품 행만 읽습니다.</p>
+     * @param productIds
+     * @return {@link Map} 상품 ID, 스냅샷에 반영되지 않은 변동을 더한 가용 재고
+     */
+    public Map<Long, Integer> lockAndFindAvailableMap(Collection<Long> productIds) {
+        return lockSnapshots(productIds);
+    }
+
+    /**
+     * 락 없이 가용 재고를 조회합니다. 재고 알림처럼 표시용으로만 사용하며, 트랜잭션 안에서는 오래된 스냅샷일 수 있습니다.
+     * @param productIds
+     * @return {@link Map} 상품 ID, 스냅샷에 반영되지 않은 변동을 더한 가용 재고
+     */
+    public Map<Long, Integer> findAvailableMap(Collection<Long> productIds) {
+        Map<Long, Integer> availableMap = new HashMap<>();
+
+        namedParameterJdbcTemplate.query(AVAILABLE_SQL, new MapSqlParameterSource("ids", productIds),
+                rs -> {
+                    availableMap.put(rs.getLong("id"), rs.getInt("available"));
+                });
+
+        return availableMap;
+    }
+
+    /**
+     * 잠금 읽기로 최신 커밋된 변동을 조회합니다. {@link #lock(Collection)} 뒤에 호출해야 합니다.
+     * @param productIds
+     * @return 스냅샷에 반영되지 않은 변동이 있는 상품의 변동 합계 목록
+     */
+    public List<PendingDeltaDto> findPendingDeltas(Collection<Long> productIds) {
+        Map<Long, PendingDeltaDto> pendingDeltaMap = new LinkedHashMap<>();
+
+        namedParameterJdbcTemplate.query(PENDING_SQL, new MapSqlParameterSource("ids", productIds),
+                rs -> {
+                    long productId = rs.getLong("product_id");
+                    int delta = rs.getInt("delta");
+                    long movementId = rs.getLong("id");
+                    // id 순으로 조회하므로 마지막 행의 id가 반영 위치
+                    pendingDeltaMap.merge(productId, new PendingDeltaDto(productId, delta, movementId),
+                            (previous, current) -> new PendingDeltaDto(productId,
+                                    previous.delta() + current.delta(), current.lastMovementId()));
+                });
+
+        return List.copyOf(pendingDeltaMap.values());
+    }
+
+    /**
+     * @param lastId 이전 chunk의 마지막 상품 ID
+     * @param limit 최대 조회 수
+     * @return 스냅샷에 반영되지 않은 변동이 있는 상품 ID 목록 (ID 순)
+     */
+    public List<Long> findPendingProductIds(long lastId, int limit) {
+        return namedParameterJdbcTemplate.queryForList(PENDING_PRODUCT_IDS_SQL, new MapSqlParameterSource()
+                .addValue("lastId", lastId)
+                .addValue("limit", limit), Long.class);
+    }
+
+    /**
+     * 재고 변동을 하나의 JDBC batch로 추가하고 상품 행의 변동 합계에 더합니다. {@link #lock(Collection)} 뒤에 호출해야 합니다.
+     * @param deltaMap 상품 ID, 재고 변화량
+     * @param type 변동 유형
+     */
+    public void batchInsert(Map<Long, Integer> deltaMap, InventoryMovementType type) {
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Map.Entry<Long, Integer>> entries = deltaMap.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .toList();
+
+        namedParameterJdbcTemplate.getJdbcTemplate().batchUpdate(INSERT_SQL, entries, entries.size(),
+                (ps, entry) -> {
+                    ps.setLong(1, entry.getKey());
+                    ps.setInt(2, entry.getValue());
+                    ps.setString(3, type.name());
+                    ps.setTimestamp(4, now);
+                });
+        namedParameterJdbcTemplate.getJdbcTemplate().batchUpdate(ADD_PENDING_SQL, entries, entries.size(),
+                (ps, entry) -> {
+                    ps.setInt(1, entry.getValue());
+                    ps.setLong(2, entry.getKey());
+                });
+    }
+
+    private Map<Long, Integer> lockSnapshots(Collection<Long> productIds) {
+        Map<Long, Integer> availableMap = new HashMap<>();
+
+        namedParameterJdbcTemplate.query(LOCK_SQL, new MapSqlParameterSource("ids", productIds),
+                rs -> {
+                    availableMap.put(rs.getLong("id"), rs.getInt("available"));
+                });
+
+        return availableMap;
+    }
+
+    /**
+     * 변동 합계를 상품 재고 스냅샷에 더하고 반영 위치를 옮깁니다.
+     * @param pendingDeltaList
+     */
+    public void batchFold(List<PendingDeltaDto> pendingDeltaList) {
+        namedParameterJdbcTemplate.getJdbcTemplate().batchUpdate(FOLD_SQL, pendingDeltaList, pendingDeltaList.size(),
+                (ps, pendingDelta) -> {
+                    ps.setInt(1, pendingDelta.delta());
+                    ps.setLong(2, pendingDelta.lastMovementId());
+                    ps.setLong(3, pendingDelta.productId());
+                });
+    }
+}
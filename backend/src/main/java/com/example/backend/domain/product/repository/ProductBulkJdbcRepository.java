@@ -0,0 +1,85 @@
+package com.example.backend.domain.product.repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.example.backend.domain.product.dto.ProductForm;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * ProductBulkJdbcRepository
+ * 상품 일괄 등록, 수정을 JDBC batch로 처리하는 Repository
+ * <p>MySQL에서는 JDBC URL에 rewriteBatchedStatements=true를 지정해야 batch가 multi-row INSERT 한 번으로 전송됩니다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductBulkJdbcRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO product (name, content, price, img_url, quantity, version, ledger_position, ledger_pending, " +
+            "stripe_count, created_at, modified_at) VALUES (?, ?, ?, ?, ?, 0, 0, 0, 0, ?, ?)";
+    private static final String UPDATE_SQL =
+            "UPDATE product SET content = ?, price = ?, img_url = ?, " +
+            "quantity = CASE WHEN stripe_count > 0 THEN quantity ELSE ? END, version = version + 1, " +
+            "modified_at = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @param productFormList 등록할 상품 목록
+     * @return 등록된 상품 수
+     */
+    public int batchInsert(List<ProductForm> productFormList) {
+        if (productFormList.isEmpty()) {
+            return 0;
+        }
+
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, productFormList, productFormList.size(), (ps, form) -> {
+            ps.setString(1, form.name());
+            ps.setString(2, form.content());
+            ps.setInt(3, form.price());
+            ps.setString(4, form.imgUrl());
+            ps.setInt(5, form.quantity());
+            ps.setTimestamp(6, now);
+            ps.setTimestamp(7, now);
+        });
+
+        return productFormList.size();
+    }
+
+    /**
+     * 이름은 그대로 두고 나머지 항목을 수정합니다. 분산 재고 상품의 재고는 수정하지 않습니다.
+     * @param productFormMap 상품 ID, 수정할 내용
+     * @return 수정된 상품 수
+     */
+    public int batchUpdate(Map<Long, ProductForm> productFormMap) {
+        if (productFormMap.isEmpty()) {
+            return 0;
+        }
+
+        Timestamp now = Timestamp.from(Instant.now());
+        // 락 획득 순서를 고정하기 위해 상품 ID 순으로 정렬해 전송
+        List<Map.Entry<Long, ProductForm>> entries = productFormMap.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .toList();
+
+        jdbcTemplate.batchUpdate(UPDATE_SQL, entries, entries.size(), (ps, entry) -> {
+            ProductForm form = entry.getValue();
+            ps.setString(1, form.content());
+            ps.setInt(2, form.price());
+            ps.setString(3, form.imgUrl());
+            ps.setInt(4, form.quantity());
+            ps.setTimestamp(5, now);
+            ps.setLong(6, entry.getKey());
+        });
+
+        return entries.size();
+    }
+}
@@ -1,15 +1,21 @@
 package com.example.backend.domain.product.repository;
 
 
+import com.example.backend.domain.product.dto.ProductNameDto;
 import com.example.backend.domain.product.dto.ProductResponse;
+import com.example.backend.domain.product.dto.ProductVersionDto;
+import com.example.backend.domain.product.dto.StockLevelResponse;
 import com.example.backend.domain.product.entity.Product;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -25,12 +31,124 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
             "WHERE p.id = :id")
     Optional<ProductResponse> findProductResponseById(@Param("id") Long id);
 
+    /**
+     * 재고 알림 전송용 상품 재고 목록 조회
+     * @param ids
+     * @return {@link List<StockLevelResponse>}
+     */
+    @Query("SELECT new com.example.backend.domain.product.dto.StockLevelResponse(p.id, p.quantity) " +
+            "FROM Product p " +
+            "WHERE p.id IN :ids")
+    List<StockLevelResponse> findStockLevelsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 상품 목록 페이지를 전체 개수 조회 없이 조회하는 메서드
+     * @param pageable
+     * @return {@link Slice<ProductResponse>}
+     */
     @Query("SELECT new com.example.backend.domain.product.dto.ProductResponse(p.id, p.name, p.content, p.price, p.imgUrl) " +
             "FROM Product p")
-    Page<ProductResponse> findAllPaged(Pageable pageable);
+    Slice<ProductResponse> findAllSliced(Pageable pageable);
+
+    /**
+     * {@link #findAllSliced(Pageable)}와 같은 페이지의 상품 버전과 수정일시만 조회하는 메서드
+     * @param pageable
+     * @return {@link Slice<ProductVersionDto>}
+     */
+    @Query("SELECT new com.example.backend.domain.product.dto.ProductVersionDto(p.id, p.version, p.modifiedAt) " +
+            "FROM Product p")
+    Slice<ProductVersionDto> findVersionsSliced(Pageable pageable);
+
+    /**
+     * 상품 목록 첫 페이지를 name 오름차순으로 조회하는 메서드
+     * @param pageable 조회할 개수
+     * @return {@link List<ProductResponse>}
+     */
+    @Query("SELECT new com.example.backend.domain.product.dto.ProductResponse(p.id, p.name, p.content, p.price, p.imgUrl) " +
+            "FROM Product p " +
+            "ORDER BY p.name")
+    List<ProductResponse> findResponsesOrderByName(Pageable pageable);
+
+    /**
+     * 커서 이름 이후의 상품을 name 오름차순으로 조회하는 메서드
+     * <p>name은 unique이므로 이름만으로 커서 위치가 정해지며, name unique 인덱스를 커서 위치부터 범위 조회하므로
+     * 뒤 페이지로 가도 느려지지 않습니다.</p>
+     * @param name 커서의 상품 이름
+     * @param pageable 조회할 개수
+     * @return {@link List<ProductResponse>}
+     */
+    @Query("SELECT new com.example.backend.domain.product.dto.ProductResponse(p.id, p.name, p.content, p.price, p.imgUrl) " +
+            "FROM Product p " +
+            "WHERE p.name > :name " +
+            "ORDER BY p.name")
+    List<ProductResponse> findResponsesAfterCursor(@Param("name") String name, Pageable pageable);
+
+    /**
+     * 검색 결과 상품 ID 목록으로 상품을 조회하는 메서드, 순서는 보장하지 않음
+     * @param ids
+     * @return {@link List<ProductResponse>}
+     */
+    @Query("SELECT new com.example.backend.domain.product.dto.ProductResponse(p.id, p.name, p.content, p.price, p.imgUrl) " +
+            "FROM Product p " +
+            "WHERE p.id IN :ids")
+    List<ProductResponse> findProductResponsesByIdIn(@Param("ids") List<Long> ids);
+
+    /**
+     * 검색 색인 생성을 위해 lastId 이후의 상품을 ID 오름차순으로 조회하는 메서드
+     * @param lastId 이전 chunk의 마지막 상품 ID, 첫 chunk는 0
+     * @param pageable chunk 크기
+     * @return {@link List<ProductResponse>}
+     */
+    @Query("SELECT new com.example.backend.domain.product.dto.ProductResponse(p.id, p.name, p.content, p.price, p.imgUrl) " +
+            "FROM Product p " +
+            "WHERE p.id > :lastId " +
+            "ORDER BY p.id")
+    List<ProductResponse> findProductResponsesAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * 일괄 등록 시 chunk의 상품 이름 중 이미 존재하는 이름과 상품 ID를 IN 쿼리 한 번으로 조회하는 메서드
+     * @param names
+     * @return {@link List<ProductNameDto>}
+     */
+    @Query("SELECT new com.example.backend.domain.product.dto.ProductNameDto(p.id, p.name) " +
+            "FROM Product p " +
+            "WHERE p.name IN :names")
+    List<ProductNameDto> findNameDtosByNameIn(@Param("names") Collection<String> names);
+
+    /**
+     * 존재하는 상품 ID만 조회하는 메서드
+     * @param ids
+     * @return 존재하는 상품 ID 목록
+     */
+    @Query("SELECT p.id FROM Product p WHERE p.id IN :ids")
+    List<Long> findIdsByIdIn(@Param("ids") Collection<Long> ids);
 
     boolean existsByName(String name);
 
     boolean existsByNameAndIdNot(String name, Long id);
 
+    /**
+     * 재고가 충분할 때만 재고를 원자적으로 차감하는 메서드
+     * @param id
+     * @param quantity
+     * @return 갱신된 행 수 (0이면 재고 부족 또는 상품 없음)
+     */
+    @Modifying
+    @Query("UPDATE Product p " +
+            "SET p.quantity = p.quantity - :quantity, p.version = p.version + 1 " +
+            "WHERE p.id = :id AND p.quantity >= :quantity")
+    int decreaseQuantity(@Param("id") Long id, @Param("quantity") int quantity);
+
+    /**
+     * 재고를 원자적으로 복구하는 메서드
+     * @param id
+     * @param quantity
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Product p " +
+            "SET p.quantity = p.quantity + :quantity, p.version = p.version + 1 " +
+            "WHERE p.id = :id")
+    int increaseQuantity(@Param("id") Long id, @Param("quantity") int quantity);
+
 }
\ No newline at end of file
@@ -0,0 +1,76 @@
+package com.example.backend.domain.product.repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * ProductStockJdbcRepository
+ * 상품 재고를 JDBC batch로 갱신하는 Repository
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductStockJdbcRepository {
+
+    private static final String ADJUST_QUANTITY_SQL =
+            "UPDATE product SET quantity = quantity + ?, version = version + 1 WHERE id = ?";
+    private static final String UPDATE_QUANTITY_SQL =
+            "UPDATE product SET quantity = ?, version = version + 1 WHERE id = ?";
+    private static final String LOCK_QUANTITY_SQL =
+            "SELECT quantity FROM product WHERE id = ? FOR UPDATE";
+    private static final String LOCK_IDS_SQL =
+            "SELECT id FROM product WHERE id IN (:ids) ORDER BY id FOR UPDATE";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * 상품별 재고 변화량을 하나의 JDBC batch로 반영하는 메서드
+     * <p>락 획득 순서를 고정하기 위해 상품 ID 순으로 정렬해 전송합니다.</p>
+     * @param deltaMap 상품 ID, 재고 변화량
+     */
+    public void batchAdjustQuantity(Map<Long, Integer> deltaMap) {
+        List<Object[]> batchArgs = new ArrayList<>();
+
+        deltaMap.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> batchArgs.add(new Object[]{entry.getValue(), entry.getKey()}));
+
+        jdbcTemplate.batchUpdate(ADJUST_QUANTITY_SQL, batchArgs);
+    }
+
+    /**
+     * 상품 재고를 지정한 값으로 갱신하는 메서드
+     * @param id
+     * @param quantity
+     */
+    public void updateQuantity(Long id, int quantity) {
+        jdbcTemplate.update(UPDATE_QUANTITY_SQL, quantity, id);
+    }
+
+    /**
+     * 상품 행을 잠그고 현재 재고를 조회하는 메서드
+     * @param id
+     * @return 상품이 없으면 빈 Optional
+     */
+    public Optional<Integer> lockQuantity(Long id) {
+        return jdbcTemplate.queryForList(LOCK_QUANTITY_SQL, Integer.class, id).stream().findFirst();
+    }
+
+    /**
+     * 상품 행을 ID 순으로 잠그는 메서드
+     * @param ids
+     * @return 잠근 상품 ID 목록, 없는 상품은 제외
+     */
+    public List<Long> lockIds(Collection<Long> ids) {
+        return namedParameterJdbcTemplate.queryForList(LOCK_IDS_SQL, Map.of("ids", ids), Long.class);
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.backend.domain.product.repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * ProductStockStripeJdbcRepository
+ * 분산 재고(product_stock_stripe) 행을 JDBC로 조회, 갱신하는 Repository
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductStockStripeJdbcRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO product_stock_stripe (product_id, stripe, quantity) VALUES (?, ?, ?)";
+    private static final String DECREASE_SQL =
+            "UPDATE product_stock_stripe SET quantity = quantity - ? " +
+            "WHERE product_id = ? AND stripe = ? AND quantity >= ?";
+    private static final String INCREASE_SQL =
+            "UPDATE product_stock_stripe SET quantity = quantity + ? WHERE product_id = ? AND stripe = ?";
+    private static final String UPDATE_QUANTITY_SQL =
+            "UPDATE product_stock_stripe SET quantity = ? WHERE product_id = ? AND stripe = ?";
+    private static final String LOCK_SQL =
+            "SELECT stripe, quantity FROM product_stock_stripe WHERE product_id = ? ORDER BY stripe FOR UPDATE";
+    private static final String TOTAL_SQL =
+            "SELECT product_id, SUM(quantity) AS quantity FROM product_stock_stripe " +
+            "WHERE product_id IN (:ids) GROUP BY product_id";
+    private static final String COUNT_SQL =
+            "SELECT COUNT(*) FROM product_stock_stripe WHERE product_id = ?";
+    private static final String DELETE_SQL =
+            "DELETE FROM product_stock_stripe WHERE product_id = ?";
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * @param productId
+     * @param quantities stripe 번호 순 재고
+     */
+    public void insert(Long productId, List<Integer> quantities) {
+        List<Object[]> batchArgs = new ArrayList<>();
+        for (int stripe = 0; stripe < quantities.size(); stripe++) {
+            batchArgs.add(new Object[]{productId, stripe, quantities.get(stripe)});
+        }
+
+        namedParameterJdbcTemplate.getJdbcTemplate().batchUpdate(INSERT_SQL, batchArgs);
+    }
+
+    /**
+     * 조건부 UPDATE로 한 stripe의 재고를 차감합니다.
+     * @return 차감했으면 1, stripe 재고가 부족하거나 없으면 0
+     */
+    public int decrease(Long productId, int stripe, int quantity) {
+        return namedParameterJdbcTemplate.getJdbcTemplate().update(DECREASE_SQL, quantity, productId, stripe, quantity);
+    }
+
+    /**
+     * @return 복구했으면 1, stripe가 없으면 0
+     */
+    public int increase(Long productId, int stripe, int quantity) {
+        return namedParameterJdbcTemplate.getJdbcTemplate().update(INCREASE_SQL, quantity, productId, stripe);
+    }
+
+    /**
+     * 상품의 모든 stripe 행을 stripe 번호 순으로 잠그고 조회합니다.
+     * @return {@link Map} stripe 번호, 재고 (stripe 번호 순)
+     */
+    public Map<Integer, Integer> lock(Long productId) {
+        Map<Integer, Integer> stripeMap = new LinkedHashMap<>();
+
+        namedParameterJdbcTemplate.getJdbcTemplate().query(LOCK_SQL,
+                rs -> {
+                    stripeMap.put(rs.getInt("stripe"), rs.getInt("quantity"));
+                }, productId);
+
+        return stripeMap;
+    }
+
+    /**
+     * @param productId
+     * @param stripeMap stripe 번호, 갱신할 재고
+     */
+    public void batchUpdateQuantity(Long productId, Map<Integer, Integer> stripeMap) {
+        List<Object[]> batchArgs = new ArrayList<>();
+        stripeMap.forEach((stripe, quantity) -> batchArgs.add(new Object[]{quantity, productId, stripe}));
+
+        namedParameterJdbcTemplate.getJdbcTemplate().batchUpdate(UPDATE_QUANTITY_SQL, batchArgs);
+    }
+
+    /**
+     * @param productIds
+     * @return {@link Map} 상품 ID, stripe 재고 합계 (분산 재고 상품만 포함)
+     */
+    public Map<Long, Integer> findTotalMap(Collection<Long> productIds) {
+        Map<Long, Integer> totalMap = new HashMap<>();
+
+        namedParameterJdbcTemplate.query(TOTAL_SQL, new MapSqlParameterSource("ids", productIds),
+                rs -> {
+                    totalMap.put(rs.getLong("product_id"), rs.getInt("quantity"));
+                });
+
+        return totalMap;
+    }
+
+    public boolean existsByProductId(Long productId) {
+        Integer count = namedParameterJdbcTemplate.getJdbcTemplate().queryForObject(COUNT_SQL, Integer.class, productId);
+        return count != null && count > 0;
+    }
+
+    public void deleteByProductId(Long productId) {
+        namedParameterJdbcTemplate.getJdbcTemplate().update(DELETE_SQL, productId);
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.backend.domain.product.search;
+
+import java.util.Arrays;
+
+/**
+ * PostingList
+ * <p>토큰 하나의 posting list 입니다. 문서 번호 오름차순으로 (문서 번호 차이, 이름 빈도, 설명 빈도)를
+ * varint로 인코딩해 byte 배열 하나에 이어 붙입니다.</p>
+ * <p>문서 번호는 색인 순서대로 증가하므로 추가는 항상 끝에 붙이기만 하며, 대부분의 값이 1 byte에 저장됩니다.</p>
+ * @author 100minha
+ */
+class PostingList {
+
+    private byte[] bytes = new byte[8];
+    private int length;
+    private int docFreq;
+    private int lastDoc = -1;
+
+    void add(int doc, int nameFrequency, int contentFrequency) {
+
+        writeVarInt(doc - lastDoc);
+        writeVarInt(nameFrequency);
+        writeVarInt(contentFrequency);
+        lastDoc = doc;
+        docFreq++;
+    }
+
+    int docFreq() {
+        return docFreq;
+    }
+
+    int byteSize() {
+        return length;
+    }
+
+    /**
+     * @return 문서 번호, 이름 빈도, 설명 빈도 배열
+     */
+    Postings decode() {
+
+        int[] docs = new int[docFreq];
+        int[] nameFrequencies = new int[docFreq];
+        int[] contentFrequencies = new int[docFreq];
+
+        int[] position = {0};
+        int doc = -1;
+        for (int i = 0; i < docFreq; i++) {
+            doc += readVarInt(position);
+            docs[i] = doc;
+            nameFrequencies[i] = readVarInt(position);
+            contentFrequencies[i] = readVarInt(position);
+        }
+
+        return new Postings(docs, nameFrequencies, contentFrequencies);
+    }
+
+    /**
+     * 삭제된 문서를 제외하고 문서 번호를 바꿔 새 posting list를 만듭니다.
+     * @param docMapping 기존 문서 번호 -> 새 문서 번호, 삭제된 문서는 -1
+     */
+    PostingList remap(int[] docMapping) {
+
+        Postings postings = decode();
+        PostingList remapped = new PostingList();
+
+        for (int i = 0; i < postings.docs().length; i++) {
+            int newDoc = docMapping[postings.docs()[i]];
+            if (newDoc >= 0) {
+                remapped.add(newDoc, postings.nameFrequencies()[i], postings.contentFrequencies()[i]);
+            }
+        }
+
+        remapped.bytes = Arrays.copyOf(remapped.bytes, Math.max(remapped.length, 1));
+        return remapped;
+    }
+
+    private void writeVarInt(int value) {
+
+        if (length + 5 > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + 5));
+        }
+
+        while ((value & ~0x7F) != 0) {
+            bytes[length++] = (byte)((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        bytes[length++] = (byte)value;
+    }
+
+    private int readVarInt(int[] position) {
+
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = bytes[position[0]++];
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+
+        return value;
+    }
+
+    record Postings(int[] docs, int[] nameFrequencies, int[] contentFrequencies) {
+    }
+}
@@ -0,0 +1,279 @@
+package com.example.backend.domain.product.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+
+/**
+ * ProductSearchIndex
+ * <p>상품 이름, 설명에 대한 메모리 역색인 입니다. 토큰은 {@link ProductTokenizer}의 문자 bigram과 한 글자 토큰 입니다.</p>
+ * <p>검색어의 모든 토큰을 포함하는 상품만 결과에 포함하며(AND), 이름에 가중치를 둔 BM25 점수 순으로 정렬합니다.
+ * 문서 빈도가 가장 작은 토큰부터 교집합을 구하므로 흔한 토큰이 있어도 후보가 빠르게 줄어듭니다.</p>
+ * <p>상품을 수정하면 기존 문서를 삭제 표시하고 새 문서 번호로 추가합니다. 삭제 표시된 문서가 살아있는 문서보다 많아지면
+ * posting list에서 삭제된 문서를 제거하고 문서 번호를 다시 매깁니다.</p>
+ * <p>검색은 읽기 락, 색인 변경은 쓰기 락으로 보호합니다.</p>
+ * @author 100minha
+ */
+public class ProductSearchIndex {
+
+    static final float NAME_WEIGHT = 3.0f;
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final int MIN_DELETED_TO_COMPACT = 1000;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, PostingList> postingMap = new HashMap<>();
+    private final Map<Long, Integer> docByProductId = new HashMap<>();
+
+    /** 문서 번호 -> 상품 ID */
+    private long[] productIds = new long[1024];
+    private int[] nameLengths = new int[1024];
+    private int[] contentLengths = new int[1024];
+    private int docCount;
+    private final BitSet deletedDocs = new BitSet();
+    private int deletedCount;
+
+    private long totalNameLength;
+    private long totalContentLength;
+
+    /**
+     * 상품을 색인합니다. 이미 색인된 상품이면 기존 문서를 교체합니다.
+     */
+    public void put(long productId, String name, String content) {
+
+        List<String> nameTokens = ProductTokenizer.tokenizeForIndex(name);
+        List<String> contentTokens = ProductTokenizer.tokenizeForIndex(content);
+
+        Map<String, int[]> frequencyMap = new HashMap<>();
+        nameTokens.forEach(token -> frequencyMap.computeIfAbsent(token, key -> new int[2])[0]++);
+        contentTokens.forEach(token -> frequencyMap.computeIfAbsent(token, key -> new int[2])[1]++);
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(productId);
+
+            int doc = docCount++;
+            ensureCapacity(docCount);
+            productIds[doc] = productId;
+            nameLengths[doc] = nameTokens.size();
+            contentLengths[doc] = contentTokens.size();
+            totalNameLength += nameTokens.size();
+            totalContentLength += contentTokens.size();
+            docByProductId.put(productId, doc);
+
+            frequencyMap.forEach((token, frequency) ->
+                    postingMap.computeIfAbsent(token, key -> new PostingList()).add(doc, frequency[0], frequency[1]));
+
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long productId) {
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(productId);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @param query 검색어
+     * @param offset 건너뛸 결과 수
+     * @param limit 반환할 최대 결과 수
+     * @return 점수 내림차순(같으면 상품 ID 오름차순) 상품 ID와 전체 결과 수
+     */
+    public ProductSearchResult search(String query, int offset, int limit) {
+
+        List<String> queryTokens = new ArrayList<>(new LinkedHashSet<>(ProductTokenizer.tokenize(query)));
+        if (queryTokens.isEmpty()) {
+            return ProductSearchResult.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<PostingList> postingLists = new ArrayList<>();
+            for (String token : queryTokens) {
+                PostingList postingList = postingMap.get(token);
+                if (postingList == null) {
+                    return ProductSearchResult.empty();
+                }
+                postingLists.add(postingList);
+            }
+            postingLists.sort(Comparator.comparingInt(PostingList::docFreq));
+
+            return rank(postingLists, offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+
+        lock.readLock().lock();
+        try {
+            return docByProductId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return posting list 전체 크기(byte)
+     */
+    public long postingBytes() {
+
+        lock.readLock().lock();
+        try {
+            return postingMap.values().stream().mapToLong(PostingList::byteSize).sum();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private ProductSearchResult rank(List<PostingList> postingLists, int offset, int limit) {
+
+        int liveCount = docByProductId.size();
+        float averageNameLength = Math.max(1f, (float)totalNameLength / Math.max(liveCount, 1));
+        float averageContentLength = Math.max(1f, (float)totalContentLength / Math.max(liveCount, 1));
+
+        // 문서 빈도가 가장 작은 posting list를 후보로 시작해 나머지와 교집합
+        int[] candidates = null;
+        float[] scores = null;
+        int candidateCount = 0;
+
+        for (PostingList postingList : postingLists) {
+            PostingList.Postings postings = postingList.decode();
+            // liveCount처럼 삭제 표시된 문서를 빼고 세야 수정이 잦은 토큰의 idf가 음수가 되지 않음
+            int liveDocFreq = 0;
+            for (int doc : postings.docs()) {
+                if (!deletedDocs.get(doc)) {
+                    liveDocFreq++;
+                }
+            }
+            float idf = (float)Math.log(1 + (liveCount - liveDocFreq + 0.5) / (liveDocFreq + 0.5));
+
+            int[] nextCandidates = new int[candidates == null ? postings.docs().length : candidateCount];
+            float[] nextScores = new float[nextCandidates.length];
+            int nextCount = 0;
+
+            int c = 0;
+            for (int p = 0; p < postings.docs().length; p++) {
+                int doc = postings.docs()[p];
+                if (deletedDocs.get(doc)) {
+                    continue;
+                }
+
+                float baseScore = 0;
+                if (candidates != null) {
+                    while (c < candidateCount && candidates[c] < doc) {
+                        c++;
+                    }
+                    if (c == candidateCount) {
+                        break;
+                    }
+                    if (candidates[c] != doc) {
+                        continue;
+                    }
+                    baseScore = scores[c];
+                }
+
+                float frequency = NAME_WEIGHT * postings.nameFrequencies()[p]
+                        / (1 - B + B * nameLengths[doc] / averageNameLength)
+                        + postings.contentFrequencies()[p]
+                        / (1 - B + B * contentLengths[doc] / averageContentLength);
+
+                nextCandidates[nextCount] = doc;
+                nextScores[nextCount++] = baseScore + idf * frequency * (K1 + 1) / (frequency + K1);
+            }
+
+            candidates = nextCandidates;
+            scores = nextScores;
+            candidateCount = nextCount;
+
+            if (candidateCount == 0) {
+                return ProductSearchResult.empty();
+            }
+        }
+
+        float[] finalScores = scores;
+        int[] finalCandidates = candidates;
+        List<Long> productIdList = IntStream.range(0, candidateCount)
+                .boxed()
+                .sorted(Comparator.<Integer>comparingDouble(i -> -finalScores[i])
+                        .thenComparingLong(i -> productIds[finalCandidates[i]]))
+                .skip(offset)
+                .limit(limit)
+                .map(i -> productIds[finalCandidates[i]])
+                .toList();
+
+        return new ProductSearchResult(productIdList, candidateCount);
+    }
+
+    private void removeLocked(long productId) {
+
+        Integer doc = docByProductId.remove(productId);
+        if (doc == null) {
+            return;
+        }
+
+        deletedDocs.set(doc);
+        deletedCount++;
+        totalNameLength -= nameLengths[doc];
+        totalContentLength -= contentLengths[doc];
+    }
+
+    private void compactIfNeeded() {
+
+        if (deletedCount < MIN_DELETED_TO_COMPACT || deletedCount < docByProductId.size()) {
+            return;
+        }
+
+        int[] docMapping = new int[docCount];
+        int newDocCount = 0;
+        for (int doc = 0; doc < docCount; doc++) {
+            if (deletedDocs.get(doc)) {
+                docMapping[doc] = -1;
+                continue;
+            }
+            docMapping[doc] = newDocCount;
+            productIds[newDocCount] = productIds[doc];
+            nameLengths[newDocCount] = nameLengths[doc];
+            contentLengths[newDocCount] = contentLengths[doc];
+            docByProductId.put(productIds[newDocCount], newDocCount);
+            newDocCount++;
+        }
+
+        postingMap.replaceAll((token, postingList) -> postingList.remap(docMapping));
+        postingMap.values().removeIf(postingList -> postingList.docFreq() == 0);
+
+        docCount = newDocCount;
+        deletedDocs.clear();
+        deletedCount = 0;
+    }
+
+    private void ensureCapacity(int capacity) {
+
+        if (capacity <= productIds.length) {
+            return;
+        }
+
+        int newLength = Math.max(productIds.length * 2, capacity);
+        productIds = Arrays.copyOf(productIds, newLength);
+        nameLengths = Arrays.copyOf(nameLengths, newLength);
+        contentLengths = Arrays.copyOf(contentLengths, newLength);
+    }
+}
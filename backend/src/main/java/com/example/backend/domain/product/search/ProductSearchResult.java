@@ -0,0 +1,18 @@
+package com.example.backend.domain.product.search;
+
+import java.util.List;
+
+/**
+ * ProductSearchResult
+ * 검색 결과 중 요청한 구간의 상품 ID(순위 순)와 전체 결과 수
+ * @author 100minha
+ */
+public record ProductSearchResult(
+        List<Long> productIds,
+        int totalHits
+) {
+
+    public static ProductSearchResult empty() {
+        return new ProductSearchResult(List.of(), 0);
+    }
+}
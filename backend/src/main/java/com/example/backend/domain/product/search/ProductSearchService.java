@@ -0,0 +1,168 @@
+package com.example.backend.domain.product.search;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import com.example.backend.domain.product.dto.ProductResponse;
+import com.example.backend.domain.product.repository.ProductRepository;
+import com.example.backend.global.redis.RedisMessageBus;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ProductSearchService
+ * <p>{@link ProductSearchIndex}를 관리합니다. 서버 시작 시 DB에서 전체 상품을 읽어 색인하고,
+ * 상품이 변경되면 커밋 후 해당 상품만 다시 읽어 색인합니다.</p>
+ * <p>색인은 서버마다 따로 가지므로 변경된 상품 ID를 Redis 채널로 발행해 다른 서버도 다시 색인하게 합니다.</p>
+ * <p>전체 재색인은 오래 걸리므로 Redis 리스너 스레드나 커밋한 요청 스레드가 아닌 재색인 전용 스레드에서 실행하며,
+ * 실행 대기 중인 재색인이 있으면 새 요청은 그 재색인에 합칩니다.</p>
+ * @author 100minha
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProductSearchService {
+
+    static final String CHANNEL = "product:search:changed";
+    /** 전체 재색인 메시지 */
+    static final String ALL = "all";
+
+    private final ProductRepository productRepository;
+    private final RedisMessageBus redisMessageBus;
+
+    @Value("${product.search.rebuild-chunk-size:1000}")
+    private int rebuildChunkSize = 1000;
+
+    private volatile ProductSearchIndex productSearchIndex = new ProductSearchIndex();
+
+    /** 재색인 중 변경된 상품 ID, 재색인이 끝나면 새 색인에 다시 반영 */
+    private volatile Set<Long> changedWhileRebuilding;
+
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "ProductSearchRebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean rebuildPending = new AtomicBoolean();
+
+    @PostConstruct
+    public void init() {
+        redisMessageBus.subscribe(CHANNEL, message -> {
+            if (ALL.equals(message)) {
+                rebuildAsync();
+            } else {
+                reindex(Long.valueOf(message));
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    /**
+     * 상품 등록, 수정, 삭제 시 호출하며 트랜잭션 안이면 커밋된 뒤 색인에 반영합니다.
+     * @param productId
+     */
+    public void changed(Long productId) {
+
+        redisMessageBus.publishAfterCommit(CHANNEL, String.valueOf(productId), () -> reindex(productId));
+    }
+
+    /**
+     * 상품 일괄 등록처럼 많은 상품이 한 번에 바뀐 경우 호출하며, 커밋된 뒤 전체 상품을 다시 색인합니다.
+     */
+    public void changedAll() {
+
+        redisMessageBus.publishAfterCommit(CHANNEL, ALL, this::rebuildAsync);
+    }
+
+    /**
+     * @param query 검색어
+     * @param offset 건너뛸 결과 수
+     * @param limit 반환할 최대 결과 수
+     */
+    public ProductSearchResult search(String query, int offset, int limit) {
+
+        return productSearchIndex.search(query, offset, limit);
+    }
+
+    /**
+     * 전체 상품을 ID 순으로 chunk 단위로 읽어 새 색인을 만든 뒤 교체합니다.
+     * <p>교체 전까지는 기존 색인으로 검색하며, 재색인 중 변경된 상품은 교체 후 새 색인에 다시 반영합니다.</p>
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+
+        long startNanos = System.nanoTime();
+        Set<Long> changedIds = ConcurrentHashMap.newKeySet();
+        changedWhileRebuilding = changedIds;
+
+        ProductSearchIndex rebuilt = new ProductSearchIndex();
+        long lastId = 0;
+        List<ProductResponse> chunk;
+        do {
+            chunk = productRepository.findProductResponsesAfter(lastId, PageRequest.of(0, rebuildChunkSize));
+            for (ProductResponse productResponse : chunk) {
+                rebuilt.put(productResponse.id(), productResponse.name(), productResponse.content());
+            }
+            if (!chunk.isEmpty()) {
+                lastId = chunk.get(chunk.size() - 1).id();
+            }
+        } while (chunk.size() == rebuildChunkSize);
+
+        productSearchIndex = rebuilt;
+        changedWhileRebuilding = null;
+        changedIds.forEach(this::reindex);
+
+        log.info("product search index rebuilt products={} postingBytes={} elapsedMillis={}",
+                rebuilt.size(), rebuilt.postingBytes(), (System.nanoTime() - startNanos) / 1_000_000);
+    }
+
+    /**
+     * 재색인 전용 스레드에서 전체 재색인을 실행합니다. 이미 대기 중인 재색인이 있으면 새로 예약하지 않습니다.
+     */
+    void rebuildAsync() {
+
+        if (!rebuildPending.compareAndSet(false, true)) {
+            return;
+        }
+
+        rebuildExecutor.execute(() -> {
+            // 재색인 시작 후 들어온 요청은 다음 재색인으로 예약
+            rebuildPending.set(false);
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                log.error("product search index rebuild failed", e);
+            }
+        });
+    }
+
+    private void reindex(Long productId) {
+
+        Set<Long> changedIds = changedWhileRebuilding;
+        if (changedIds != null) {
+            changedIds.add(productId);
+        }
+
+        ProductSearchIndex index = productSearchIndex;
+        productRepository.findProductResponseById(productId).ifPresentOrElse(
+                productResponse -> index.put(productId, productResponse.name(), productResponse.content()),
+                () -> index.remove(productId));
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.backend.domain.product.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * ProductTokenizer
+ * <p>상품 검색용 문자 bigram 토크나이저 입니다.</p>
+ * <p>한글은 띄어쓰기와 조사가 붙는 방식이 일정하지 않아 형태소 분석 없이 단어 단위로 색인하면 부분 검색이 되지 않으므로,
+ * 글자와 숫자가 이어진 구간을 두 글자씩 겹쳐 자릅니다. (예: "무선키보드" -> 무선, 선키, 키보, 보드)
+ * 한 글자 구간은 그대로 토큰이 됩니다.</p>
+ * <p>색인할 때는 한 글자 검색어(예: "폰")가 "스마트폰" 같은 긴 구간에서도 검색되도록 bigram과 함께 각 글자도 토큰으로 만듭니다.</p>
+ * @author 100minha
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class ProductTokenizer {
+
+    /**
+     * @param text 검색할 문자열
+     * @return 등장 순서대로의 토큰 목록, 중복 포함
+     */
+    public static List<String> tokenize(String text) {
+
+        return tokenize(text, false);
+    }
+
+    /**
+     * @param text 색인할 문자열
+     * @return 등장 순서대로의 bigram과 한 글자 토큰 목록, 중복 포함
+     */
+    public static List<String> tokenizeForIndex(String text) {
+
+        return tokenize(text, true);
+    }
+
+    private static List<String> tokenize(String text, boolean withUnigrams) {
+
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+
+        // 전각 문자, 호환 자모 등을 같은 문자로 맞춘 뒤 소문자로 변환
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+
+        int runStart = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean letterOrDigit = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+
+            if (letterOrDigit && runStart < 0) {
+                runStart = i;
+            } else if (!letterOrDigit && runStart >= 0) {
+                addTokens(normalized, runStart, i, withUnigrams, tokens);
+                runStart = -1;
+            }
+        }
+
+        return tokens;
+    }
+
+    private static void addTokens(String text, int start, int end, boolean withUnigrams, List<String> tokens) {
+
+        if (end - start == 1) {
+            tokens.add(text.substring(start, end));
+            return;
+        }
+
+        for (int i = start; i < end - 1; i++) {
+            tokens.add(text.substring(i, i + 2));
+        }
+
+        if (withUnigrams) {
+            for (int i = start; i < end; i++) {
+                tokens.add(text.substring(i, i + 1));
+            }
+        }
+    }
+}
@@ -1,21 +1,44 @@
 package com.example.backend.domain.product.service;
 
+import com.example.backend.domain.product.cache.ProductCache;
 import com.example.backend.domain.product.converter.ProductConverter;
+import com.example.backend.domain.product.dto.ProductCursor;
 import com.example.backend.domain.product.dto.ProductForm;
 import com.example.backend.domain.product.dto.ProductResponse;
+import com.example.backend.domain.product.dto.ProductVersionDto;
 import com.example.backend.domain.product.entity.Product;
 import com.example.backend.domain.product.exception.ProductErrorCode;
 import com.example.backend.domain.product.exception.ProductException;
 import com.example.backend.domain.product.repository.ProductRepository;
+import com.example.backend.domain.product.search.ProductSearchResult;
+import com.example.backend.domain.product.search.ProductSearchService;
+import com.example.backend.domain.product.stock.FlashSaleStockService;
+import com.example.backend.domain.product.stock.InventoryLedgerService;
+import com.example.backend.domain.product.stock.StockStreamService;
+import com.example.backend.domain.product.stock.StripedStockService;
 import com.example.backend.domain.productOrders.repository.ProductOrdersRepository;
+import com.example.backend.global.response.CursorResponse;
+import com.example.backend.global.response.ResourceVersion;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 /**
  * ProductServiceImpl
  * 상품 관련 서비스 로직 구현
@@ -25,8 +48,16 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class ProductService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final ProductRepository productRepository;
     private final ProductOrdersRepository productOrdersRepository;
+    private final ProductCache productCache;
+    private final ProductSearchService productSearchService;
+    private final StockStreamService stockStreamService;
+    private final InventoryLedgerService inventoryLedgerService;
+    private final StripedStockService stripedStockService;
+    private final FlashSaleStockService flashSaleStockService;
 
     @Transactional(readOnly = true)
     public Product findById(Long id) {
@@ -35,20 +66,98 @@ public class ProductService {
                 -> new ProductException(ProductErrorCode.NOT_FOUND));
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * 상품 단건 조회, {@link ProductCache}에 캐시된 결과를 반환하므로 캐시 적중 시 DB 커넥션을 사용하지 않습니다.
+     * @param id
+     */
     public ProductResponse findProductResponseById(Long id) {
 
-        return productRepository.findProductResponseById(id).orElseThrow(()
-                -> new ProductException(ProductErrorCode.NOT_FOUND));
+        ProductResponse productResponse = productCache.getProductResponse(id,
+                () -> productRepository.findProductResponseById(id)
+                        .orElseThrow(() -> new ProductException(ProductErrorCode.NOT_FOUND)));
+
+        // 여러 건 조회에서 없는 상품으로 캐시된 경우
+        if (productResponse == null) {
+            throw new ProductException(ProductErrorCode.NOT_FOUND);
+        }
+
+        return productResponse;
+    }
+
+    /**
+     * 상품 여러 건 조회, {@link ProductCache}에 없는 상품만 IN 쿼리 한 번으로 조회합니다.
+     * @param ids
+     * @return {@link Map} 상품 ID, 상품, 없는 상품은 제외
+     */
+    public Map<Long, ProductResponse> findProductResponseMap(Collection<Long> ids) {
+
+        return productCache.getProductResponses(ids, missedIds -> productRepository
+                .findProductResponsesByIdIn(List.copyOf(missedIds)).stream()
+                .collect(Collectors.toMap(ProductResponse::id, Function.identity())));
     }
 
+    /**
+     * 상품 존재 여부 일괄 조회, 한 번의 IN 쿼리로 조회합니다.
+     * @param ids
+     * @return 존재하는 상품 ID
+     */
     @Transactional(readOnly = true)
+    public Set<Long> findExistingIds(Collection<Long> ids) {
+
+        return new HashSet<>(productRepository.findIdsByIdIn(ids));
+    }
+
+    /**
+     * 상품 단건 조회 검증자, 응답 본문인 {@link ProductResponse} 필드의 해시로 만듭니다.
+     * <p>버전과 수정일시는 응답에 없는 재고가 바뀔 때도 변경되므로 사용하지 않고, 같은 이유로 Last-Modified도 사용하지 않습니다.</p>
+     * @param id
+     */
+    public ResourceVersion findResourceVersionById(Long id) {
+
+        return productCache.getProductVersion(id, () -> {
+            ProductResponse product = findProductResponseById(id);
+
+            return ResourceVersion.hashOf(null, "product", product.id(), product.name(), product.content(),
+                    product.price(), product.imgUrl());
+        });
+    }
+
+    /**
+     * 상품 목록 페이지 검증자, 페이지에 포함된 상품의 ID와 버전, 전체 상품 수로 만듭니다.
+     * <p>페이지에서 상품이 삭제되면 남은 상품의 수정일시가 더 과거일 수 있어 Last-Modified는 사용하지 않습니다.</p>
+     * @param page
+     */
+    public ResourceVersion findPageVersion(int page) {
+
+        return productCache.getProductPageVersion(page, () -> {
+            Slice<ProductVersionDto> versionSlice = productRepository.findVersionsSliced(pageRequest(page));
+
+            if(versionSlice.isEmpty()) {
+                throw new ProductException(ProductErrorCode.NOT_FOUND);
+            }
+
+            String versions = versionSlice.stream()
+                    .map(version -> version.id() + ":" + version.version())
+                    .collect(Collectors.joining(","));
+
+            return ResourceVersion.hashOf(null, "products", page, countProducts(), versions);
+        });
+    }
+
+    /**
+     * 상품 목록 페이지 조회, 페이지 단위로 {@link ProductCache}에 캐시합니다.
+     * <p>페이지마다 COUNT 쿼리를 실행하지 않도록 전체 상품 수는 캐시된 값을 사용합니다.
+     * 뒤 페이지일수록 OFFSET만큼 읽어야 하므로 깊은 페이지는 {@link #findAllByCursor(String, int)}를 사용합니다.</p>
+     * @param page
+     */
     public Page<ProductResponse> findAllPaged(int page) {
 
-        Sort sortByNameAsc = Sort.by(Sort.Order.asc("name"));
-        Pageable pageable = PageRequest.of(page, 10, sortByNameAsc);
+        Pageable pageable = pageRequest(page);
 
-        Page<ProductResponse> productResponsePage = productRepository.findAllPaged(pageable);
+        Page<ProductResponse> productResponsePage = productCache.getProductPage(page, () -> {
+            Slice<ProductResponse> productResponseSlice = productRepository.findAllSliced(pageable);
+            return PageableExecutionUtils.getPage(productResponseSlice.getContent(), pageable, this::countProducts);
+        });
 
         if(productResponsePage.isEmpty()) {
             throw new ProductException(ProductErrorCode.NOT_FOUND);
@@ -57,6 +166,78 @@ public class ProductService {
         return productResponsePage;
     }
 
+    /**
+     * 상품 검색, 이름과 설명에 검색어의 모든 bigram이 포함된 상품을 관련도 순으로 반환합니다.
+     * <p>순위는 {@link ProductSearchService}의 메모리 색인에서 구하고, 해당 페이지의 상품만 ID IN 쿼리로 조회합니다.</p>
+     * @param query 검색어
+     * @param page
+     */
+    public Page<ProductResponse> search(String query, int page) {
+
+        Pageable pageable = PageRequest.of(page, 10);
+        ProductSearchResult result = productSearchService.search(query, (int) pageable.getOffset(),
+                pageable.getPageSize());
+
+        if(result.productIds().isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, result.totalHits());
+        }
+
+        Map<Long, ProductResponse> productResponseMap = productRepository
+                .findProductResponsesByIdIn(result.productIds()).stream()
+                .collect(Collectors.toMap(ProductResponse::id, Function.identity()));
+
+        // 색인 반영 전에 삭제된 상품은 제외
+        List<ProductResponse> content = result.productIds().stream()
+                .map(productResponseMap::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        return new PageImpl<>(content, pageable, result.totalHits());
+    }
+
+    /**
+     * 상품 목록 커서 조회, name 오름차순으로 커서 이후의 상품을 조회합니다.
+     * <p>전체 개수를 조회하지 않으며, 한 개를 더 조회해 다음 페이지 존재 여부를 판단합니다.</p>
+     * @param cursor 이전 페이지의 nextCursor, 첫 페이지는 null
+     * @param size 페이지 크기
+     * @return {@link CursorResponse<ProductResponse>}
+     */
+    public CursorResponse<ProductResponse> findAllByCursor(String cursor, int size) {
+
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        return productCache.getProductSlice(cursor + ":" + pageSize, () -> {
+            Pageable limit = PageRequest.of(0, pageSize + 1);
+
+            List<ProductResponse> content;
+            if (cursor == null) {
+                content = productRepository.findResponsesOrderByName(limit);
+            } else {
+                ProductCursor productCursor = ProductCursor.decode(cursor);
+                content = productRepository.findResponsesAfterCursor(productCursor.name(), limit);
+            }
+
+            boolean hasNext = content.size() > pageSize;
+            if (hasNext) {
+                content = List.copyOf(content.subList(0, pageSize));
+            }
+
+            String nextCursor = hasNext ? ProductCursor.from(content.get(content.size() - 1)).encode() : null;
+            return CursorResponse.of(content, nextCursor);
+        });
+    }
+
+    private long countProducts() {
+
+        return productCache.getProductCount(productRepository::count);
+    }
+
+    private Pageable pageRequest(int page) {
+
+        Sort sortByNameAsc = Sort.by(Sort.Order.asc("name"));
+        return PageRequest.of(page, 10, sortByNameAsc);
+    }
+
     /**
      * 상품 등록 시 이름 중복 검증 메서드
      * @param name
@@ -85,14 +266,35 @@ public class ProductService {
     public void create(ProductForm productForm) {
 
         existsProduct(productForm.name());
-        productRepository.save(ProductConverter.from(productForm));
+        Product product = productRepository.save(ProductConverter.from(productForm));
+        productCache.evictPages();
+        productSearchService.changed(product.getId());
     }
 
     @Transactional
     public void modify(Long id, ProductForm productForm) {
 
         existsProduct(id, productForm.name());
-        findById(id).modify(productForm);
+        Integer flashSaleAvailable = flashSaleStockService.findAvailableMap(List.of(id)).get(id);
+        if (flashSaleAvailable != null) {
+            // 세일 중에는 카운터가 재고를 관리하므로 재고 변경은 거부하고 상품 정보만 수정
+            if (flashSaleAvailable != productForm.quantity()) {
+                throw new ProductException(ProductErrorCode.ALREADY_FLASH_SALE);
+            }
+            findById(id).modifyInfo(productForm);
+        } else {
+            if (stripedStockService.isStriped(id)) {
+                // 분산 재고 상품은 stripe 행에 재분배, 상품 재고 컬럼은 바뀌지 않음
+                stripedStockService.rebalance(id, productForm.quantity());
+            } else {
+                // LEDGER 모드면 남은 원장 변동을 먼저 스냅샷에 반영, 상품을 조회하기 전에 호출해야 버전이 맞음
+                inventoryLedgerService.adjust(id, productForm.quantity());
+            }
+            findById(id).modify(productForm);
+        }
+        productCache.evict(id);
+        productSearchService.changed(id);
+        stockStreamService.changed(List.of(id));
     }
 
     @Transactional
@@ -102,6 +304,13 @@ public class ProductService {
             throw new ProductException(ProductErrorCode.EXISTS_ORDER_HISTORY);
         }
 
-        productRepository.delete(findById(id));
+        Product product = findById(id);
+        if (product.isStriped()) {
+            stripedStockService.deleteStripes(id);
+        }
+
+        productRepository.delete(product);
+        productCache.evict(id);
+        productSearchService.changed(id);
     }
 }
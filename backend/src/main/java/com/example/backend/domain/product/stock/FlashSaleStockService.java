@@ -0,0 +1,273 @@
+package com.example.backend.domain.product.stock;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.backend.domain.product.entity.Product;
+import com.example.backend.domain.product.exception.ProductErrorCode;
+import com.example.backend.domain.product.exception.ProductException;
+import com.example.backend.domain.product.repository.ProductRepository;
+import com.example.backend.domain.product.repository.ProductStockJdbcRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * FlashSaleStockService
+ * <p>세일 대상 상품의 재고를 {@link StockCounter}로 관리하는 서비스 입니다.</p>
+ * <p>세일 중 주문, 취소는 카운터에서 처리하고, 누적된 delta는 주기적으로 상품 재고 컬럼에 batch로 반영합니다.
+ * 세일 종료 시 남은 delta를 반영한 뒤 DB 재고를 카운터 값과 맞춥니다.</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FlashSaleStockService {
+
+	private final StockCounter stockCounter;
+	private final ProductRepository productRepository;
+	private final ProductStockJdbcRepository productStockJdbcRepository;
+	private final InventoryLedgerService inventoryLedgerService;
+	private final PlatformTransactionManager transactionManager;
+
+	/**
+	 * 세일 시작, 현재 DB 재고로 카운터를 초기화합니다.
+	 * @param productId
+	 */
+	@Transactional
+	public void start(Long productId) {
+		if (stockCounter.findOpenProductIds().contains(productId)) {
+			throw new ProductException(ProductErrorCode.ALREADY_FLASH_SALE);
+		}
+
+		// 원장에 남은 변동을 스냅샷에 반영해 DB 재고를 가용 재고와 맞춤
+		if (inventoryLedgerService.isEnabled()) {
+			inventoryLedgerService.compact(List.of(productId));
+		}
+
+		Product product = findProduct(productId);
+		if (product.isStriped()) {
+			throw new ProductException(ProductErrorCode.STRIPED_STOCK);
+		}
+
+		stockCounter.open(productId, product.getQuantity());
+	}
+
+	/**
+	 * 세일 종료, 카운터 모드를 닫고 남은 delta를 반영한 뒤 DB 재고를 카운터 값으로 맞춥니다.
+	 * <p>카운터를 닫기 전에 상품 행을 잠가, 닫힌 뒤 도착한 보상이 종료 트랜잭션이 커밋된 다음 DB에 반영되도록 합니다.</p>
+	 * @param productId
+	 */
+	@Transactional
+	public void end(Long productId) {
+		if (!stockCounter.findOpenProductIds().contains(productId)) {
+			throw new ProductException(ProductErrorCode.NOT_FLASH_SALE);
+		}
+
+		int quantity = productStockJdbcRepository.lockQuantity(productId)
+			.orElseThrow(() -> new ProductException(ProductErrorCode.NOT_FOUND));
+
+		// 이후 주문, 취소는 카운터에서 처리되지 않음
+		stockCounter.close(productId);
+
+		quantity += applyDelta(Set.of(productId)).getOrDefault(productId, 0);
+
+		Integer available = stockCounter.getAvailable(productId);
+
+		if (available != null && available != quantity) {
+			log.warn("flash sale stock mismatch productId={}, db={}, counter={}", productId, quantity, available);
+			productStockJdbcRepository.updateQuantity(productId, available);
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				stockCounter.delete(productId);
+			}
+		});
+	}
+
+	/**
+	 * 카운터 모드인 상품 ID를 반환합니다.
+	 * @param productIds 주문 상품 ID 목록
+	 * @return {@link Set<Long>}
+	 */
+	public Set<Long> findOpenProductIds(Collection<Long> productIds) {
+		Set<Long> openProductIds = stockCounter.findOpenProductIds();
+
+		return productIds.stream()
+			.filter(openProductIds::contains)
+			.collect(Collectors.toSet());
+	}
+
+	/**
+	 * 카운터 모드인 상품의 가용 재고를 반환합니다. 세일 중에는 DB 재고보다 카운터 값이 최신입니다.
+	 * @param productIds
+	 * @return {@link Map} 상품 ID, 가용 재고
+	 */
+	public Map<Long, Integer> findAvailableMap(Collection<Long> productIds) {
+		Map<Long, Integer> availableMap = new HashMap<>();
+
+		for (Long productId : findOpenProductIds(productIds)) {
+			Integer available = stockCounter.getAvailable(productId);
+			if (available != null) {
+				availableMap.put(productId, available);
+			}
+		}
+
+		return availableMap;
+	}
+
+	/**
+	 * 카운터에서 재고를 차감합니다.
+	 * <p>트랜잭션이 롤백되면 차감한 재고를 카운터에 복구합니다. 그 사이 세일이 종료되어 카운터가 닫혔으면
+	 * 차감분은 종료 시 DB에 반영되었으므로 DB 재고에 복구합니다.</p>
+	 * <p>차감에 실패하면 이 호출에서 먼저 차감한 재고는 바로 복구합니다. 여러 주문을 한 트랜잭션에서 저장할 때
+	 * 실패한 주문만 savepoint로 되돌리고 커밋하더라도 카운터에 차감분이 남지 않습니다.</p>
+	 * @param quantityMap 상품 ID, 주문 수량
+	 */
+	public void reserve(Map<Long, Integer> quantityMap) {
+		Map<Long, Integer> reservedMap = new HashMap<>();
+		registerRollback(() -> releaseReserved(reservedMap));
+
+		for (Map.Entry<Long, Integer> entry : quantityMap.entrySet()) {
+			ProductErrorCode errorCode = switch (stockCounter.reserve(entry.getKey(), entry.getValue())) {
+				case SUCCESS -> null;
+				case INSUFFICIENT -> ProductErrorCode.INSUFFICIENT_QUANTITY;
+				case CLOSED -> ProductErrorCode.CONFLICT;
+			};
+
+			if (errorCode != null) {
+				releaseReserved(reservedMap);
+				reservedMap.clear();
+				throw new ProductException(errorCode);
+			}
+			reservedMap.put(entry.getKey(), entry.getValue());
+		}
+	}
+
+	/**
+	 * 카운터에 재고를 복구합니다.
+	 * <p>트랜잭션이 롤백되면 복구한 재고를 다시 차감합니다. 그 사이 세일이 종료되어 카운터가 닫혔으면
+	 * DB 재고에서 차감합니다.</p>
+	 * @param productId
+	 * @param quantity
+	 * @return 카운터 모드가 아니라 복구하지 못했으면 false
+	 */
+	public boolean release(Long productId, int quantity) {
+		if (!stockCounter.release(productId, quantity)) {
+			return false;
+		}
+
+		registerRollback(() -> {
+			switch (stockCounter.reserve(productId, quantity)) {
+				case SUCCESS -> {
+				}
+				case INSUFFICIENT -> log.warn("flash sale release rollback not applied productId={}, quantity={}",
+					productId, quantity);
+				case CLOSED -> adjustClosedQuantity(productId, -quantity);
+			}
+		});
+		return true;
+	}
+
+	/**
+	 * 카운터 모드 상품의 누적 delta를 주기적으로 DB에 반영합니다.
+	 * <p>상품 행을 ID 순으로 잠근 뒤 delta를 꺼내므로, 종료 트랜잭션이 이미 반영한 delta를 다시 반영하지 않습니다.
+	 * 잠그는 동안 종료된 상품은 종료 트랜잭션이 남은 delta를 반영했으므로 제외합니다.</p>
+	 */
+	@Transactional
+	@Scheduled(fixedDelayString = "${product.stock.flush-interval:1000}")
+	public void flush() {
+		Set<Long> productIds = stockCounter.findOpenProductIds();
+		if (productIds.isEmpty()) {
+			return;
+		}
+
+		List<Long> lockedIds = productStockJdbcRepository.lockIds(productIds);
+		Set<Long> openProductIds = stockCounter.findOpenProductIds();
+
+		applyDelta(lockedIds.stream()
+			.filter(openProductIds::contains)
+			.collect(Collectors.toSet()));
+	}
+
+	/**
+	 * 호출하는 쪽에서 상품 행을 잠근 뒤 호출해야 합니다.
+	 * @return {@link Map} 상품 ID, 반영한 delta
+	 */
+	private Map<Long, Integer> applyDelta(Set<Long> productIds) {
+		Map<Long, Integer> deltaMap = new HashMap<>();
+
+		for (Long productId : productIds) {
+			int delta = stockCounter.drainDelta(productId);
+
+			if (delta != 0) {
+				deltaMap.put(productId, delta);
+			}
+		}
+
+		if (deltaMap.isEmpty()) {
+			return deltaMap;
+		}
+
+		// DB 반영이 롤백되면 delta를 카운터에 되돌려 다음 주기에 다시 반영
+		registerRollback(() -> deltaMap.forEach(stockCounter::restoreDelta));
+
+		productStockJdbcRepository.batchAdjustQuantity(deltaMap);
+		return deltaMap;
+	}
+
+	/**
+	 * 카운터가 닫힌 뒤 도착한 보상을 DB 재고에 반영합니다.
+	 * <p>롤백 후 콜백에서 호출되므로 원래 트랜잭션과 분리된 새 트랜잭션에서 실행합니다.</p>
+	 */
+	private void adjustClosedQuantity(Long productId, int delta) {
+		log.info("flash sale closed, compensating db stock productId={}, delta={}", productId, delta);
+
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		transactionTemplate.executeWithoutResult(
+			status -> productStockJdbcRepository.batchAdjustQuantity(Map.of(productId, delta)));
+	}
+
+	private void releaseReserved(Map<Long, Integer> reservedMap) {
+		reservedMap.forEach((productId, quantity) -> {
+			if (!stockCounter.release(productId, quantity)) {
+				adjustClosedQuantity(productId, quantity);
+			}
+		});
+	}
+
+	private void registerRollback(Runnable compensation) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				if (status == STATUS_ROLLED_BACK) {
+					compensation.run();
+				}
+			}
+		});
+	}
+
+	private Product findProduct(Long productId) {
+		return productRepository.findById(productId)
+			.orElseThrow(() -> new ProductException(ProductErrorCode.NOT_FOUND));
+	}
+}
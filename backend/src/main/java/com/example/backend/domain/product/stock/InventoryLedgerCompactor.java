@@ -0,0 +1,58 @@
+package com.example.backend.domain.product.stock;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * InventoryLedgerCompactor
+ * <p>재고 원장에 누적된 변동을 주기적으로 상품 재고 스냅샷에 반영합니다.</p>
+ * <p>상품 ID 순으로 chunk 단위로 처리하며 chunk마다 커밋하므로, 한 번에 많은 상품 행의 락을 오래 잡지 않습니다.
+ * 반영은 상품 행의 락을 잡은 뒤 그 시점의 변동만 더하므로 여러 서버에서 동시에 실행되어도 중복 반영되지 않습니다.</p>
+ * <p>LEDGER 모드가 아니면 새 변동이 추가되지 않으므로, 모드를 끈 뒤 남은 변동을 반영하고 반영할 변동이 없는 것을 한 번 확인하면
+ * 이후로는 전체 상품을 조회하지 않습니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class InventoryLedgerCompactor {
+
+	private final InventoryLedgerService inventoryLedgerService;
+
+	@Value("${product.ledger.compaction-chunk-size:500}")
+	private int chunkSize = 500;
+
+	private volatile boolean drained;
+
+	@Scheduled(fixedDelayString = "${product.ledger.compaction-interval:60000}")
+	public void compact() {
+		if (drained) {
+			return;
+		}
+
+		long lastId = 0;
+		int compacted = 0;
+		List<Long> productIds;
+
+		do {
+			productIds = inventoryLedgerService.findPendingProductIds(lastId, chunkSize);
+			if (productIds.isEmpty()) {
+				break;
+			}
+
+			compacted += inventoryLedgerService.compact(productIds);
+			lastId = productIds.get(productIds.size() - 1);
+		} while (productIds.size() == chunkSize);
+
+		if (compacted > 0) {
+			log.info("inventory ledger compacted products={}", compacted);
+		} else if (!inventoryLedgerService.isEnabled()) {
+			drained = true;
+		}
+	}
+}
@@ -0,0 +1,146 @@
+package com.example.backend.domain.product.stock;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.backend.domain.product.dto.PendingDeltaDto;
+import com.example.backend.domain.product.exception.ProductErrorCode;
+import com.example.backend.domain.product.exception.ProductException;
+import com.example.backend.domain.product.repository.InventoryLedgerJdbcRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * InventoryLedgerService
+ * <p>{@link StockMode#LEDGER} 모드의 재고를 재고 원장으로 관리하는 서비스 입니다.</p>
+ * <p>주문, 취소, 관리자 수정은 상품 재고 컬럼을 바꾸지 않고 원장에 변동을 추가하며, 가용 재고는 스냅샷(상품 재고 컬럼)에
+ * 아직 반영되지 않은 변동을 더한 값입니다. 반영되지 않은 변동 합계는 원장 추가와 함께 상품 행에도 더해 두므로 가용 재고 조회는
+ * 쌓인 변동 수와 관계없이 상품 행만 읽습니다. 누적된 변동은 {@link InventoryLedgerCompactor}가 주기적으로 스냅샷에 반영합니다.</p>
+ * <p>가용 재고 검증과 원장 추가 사이에 다른 주문이 끼어들지 않도록 상품 행에 락을 잡으며, 락은 커밋 시 해제됩니다.
+ * 가용 재고는 락을 잡은 뒤 잠금 읽기로 조회하므로 REPEATABLE READ에서도 락을 기다리는 동안 커밋된 변동을 놓치지 않습니다.
+ * 원장은 지워지지 않으므로 재고 차이가 생기면 변동 내역으로 추적할 수 있습니다.</p>
+ * <p>원장에 행을 추가하는 방식이지만 주문마다 상품 행 락을 잡으므로, 같은 상품의 주문은 ATOMIC 모드처럼 상품 행에서 한 건씩
+ * 직렬화됩니다. 인기 상품의 행 경합을 줄이려면 {@link StripedStockService}의 분산 재고를 사용해야 합니다.</p>
+ */
+@Service
+@RequiredArgsConstructor
+public class InventoryLedgerService {
+
+	private final InventoryLedgerJdbcRepository inventoryLedgerJdbcRepository;
+
+	@Value("${product.stock.mode:OPTIMISTIC}")
+	private StockMode stockMode = StockMode.OPTIMISTIC;
+
+	public boolean isEnabled() {
+		return stockMode == StockMode.LEDGER;
+	}
+
+	/**
+	 * 가용 재고를 검증하고 주문 변동을 추가합니다. 호출한 쪽의 트랜잭션 안에서 실행되어야 합니다.
+	 * @param quantityMap 상품 ID, 주문 수량
+	 */
+	public void reserve(Map<Long, Integer> quantityMap) {
+		if (quantityMap.isEmpty()) {
+			return;
+		}
+
+		Map<Long, Integer> availableMap = inventoryLedgerJdbcRepository.lockAndFindAvailableMap(quantityMap.keySet());
+
+		quantityMap.forEach((productId, quantity) -> {
+			if (availableMap.getOrDefault(productId, 0) < quantity) {
+				throw new ProductException(ProductErrorCode.INSUFFICIENT_QUANTITY);
+			}
+		});
+
+		inventoryLedgerJdbcRepository.batchInsert(quantityMap.entrySet().stream()
+			.collect(Collectors.toMap(Map.Entry::getKey, entry -> -entry.getValue())), InventoryMovementType.ORDER);
+	}
+
+	/**
+	 * 주문 취소 변동을 추가합니다. 호출한 쪽의 트랜잭션 안에서 실행되어야 합니다.
+	 * @param quantityMap 상품 ID, 복구 수량
+	 */
+	public void release(Map<Long, Integer> quantityMap) {
+		if (quantityMap.isEmpty()) {
+			return;
+		}
+
+		inventoryLedgerJdbcRepository.lock(quantityMap.keySet());
+		inventoryLedgerJdbcRepository.batchInsert(quantityMap, InventoryMovementType.CANCEL);
+	}
+
+	/**
+	 * 관리자 재고 수정, 현재 가용 재고와의 차이를 변동으로 추가하고 바로 스냅샷에 반영합니다.
+	 * <p>LEDGER 모드가 아니면 아무것도 하지 않습니다. 반영 후 스냅샷은 quantity와 같으므로
+	 * 이후 상품 Entity에 같은 재고를 써도 됩니다.</p>
+	 * @param productId
+	 * @param quantity 수정할 재고
+	 */
+	@Transactional
+	public void adjust(Long productId, int quantity) {
+		if (!isEnabled()) {
+			return;
+		}
+
+		List<Long> productIds = List.of(productId);
+		Integer available = inventoryLedgerJdbcRepository.lockAndFindAvailableMap(productIds).get(productId);
+		if (available == null) {
+			throw new ProductException(ProductErrorCode.NOT_FOUND);
+		}
+		if (available != quantity) {
+			inventoryLedgerJdbcRepository.batchInsert(Map.of(productId, quantity - available),
+				InventoryMovementType.ADJUST);
+		}
+
+		fold(productIds);
+	}
+
+	/**
+	 * 상품 행에 락을 잡고 스냅샷에 반영되지 않은 변동을 반영합니다.
+	 * @param productIds
+	 * @return 반영한 상품 수
+	 */
+	@Transactional
+	public int compact(Collection<Long> productIds) {
+		if (productIds.isEmpty()) {
+			return 0;
+		}
+
+		inventoryLedgerJdbcRepository.lock(productIds);
+
+		return fold(productIds);
+	}
+
+	/**
+	 * @param lastId 이전 chunk의 마지막 상품 ID
+	 * @param chunkSize
+	 * @return 반영할 변동이 있는 상품 ID 목록
+	 */
+	public List<Long> findPendingProductIds(long lastId, int chunkSize) {
+		return inventoryLedgerJdbcRepository.findPendingProductIds(lastId, chunkSize);
+	}
+
+	/**
+	 * 락 없이 조회하므로 재고 알림 같은 표시용으로만 사용합니다.
+	 * @param productIds
+	 * @return {@link Map} 상품 ID, 가용 재고
+	 */
+	public Map<Long, Integer> findAvailableMap(Collection<Long> productIds) {
+		return inventoryLedgerJdbcRepository.findAvailableMap(productIds);
+	}
+
+	private int fold(Collection<Long> productIds) {
+		List<PendingDeltaDto> pendingDeltaList = inventoryLedgerJdbcRepository.findPendingDeltas(productIds);
+		if (!pendingDeltaList.isEmpty()) {
+			inventoryLedgerJdbcRepository.batchFold(pendingDeltaList);
+		}
+
+		return pendingDeltaList.size();
+	}
+}
@@ -0,0 +1,19 @@
+package com.example.backend.domain.product.stock;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * InventoryMovementType
+ * <p>재고 원장에 기록하는 재고 변동 유형을 정의하는 Enum 클래스 입니다.</p>
+ */
+@AllArgsConstructor
+@Getter
+public enum InventoryMovementType {
+
+    ORDER("주문 차감"),
+    CANCEL("주문 취소 복구"),
+    ADJUST("관리자 재고 수정");
+
+    private final String description;
+}
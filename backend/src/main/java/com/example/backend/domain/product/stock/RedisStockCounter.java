@@ -0,0 +1,145 @@
+package com.example.backend.domain.product.stock;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * RedisStockCounter
+ * <p>StockCounter Redis 구현체 입니다.</p>
+ * <p>재고 확인과 차감은 Lua 스크립트로 한 번에 처리하며, 카운터 모드 여부도 스크립트 안에서 확인해
+ * 닫힌 카운터에서는 차감, 복구하지 않습니다. 닫히기 전에 차감한 주문이 닫힌 뒤 롤백되는 경우는
+ * {@link FlashSaleStockService}가 DB 재고로 보상합니다.</p>
+ */
+@Component
+public class RedisStockCounter implements StockCounter {
+	private static final String REDIS_FLASH_SALE_KEY = "stock:flash_sale";
+	private static final String REDIS_AVAILABLE_PREFIX = "stock:available:";
+	private static final String REDIS_DELTA_PREFIX = "stock:delta:";
+
+	/**
+	 * KEYS[1] 카운터 모드 상품 Set, KEYS[2] 가용 재고, KEYS[3] delta
+	 * ARGV[1] 상품 ID, ARGV[2] 차감 수량
+	 * return 1 성공, 0 재고 부족, -1 카운터 모드 아님
+	 */
+	private static final RedisScript<Long> RESERVE_SCRIPT = new DefaultRedisScript<>("""
+		if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 0 then
+			return -1
+		end
+		local available = tonumber(redis.call('GET', KEYS[2]) or '0')
+		local quantity = tonumber(ARGV[2])
+		if available < quantity then
+			return 0
+		end
+		redis.call('DECRBY', KEYS[2], quantity)
+		redis.call('DECRBY', KEYS[3], quantity)
+		return 1
+		""", Long.class);
+
+	/**
+	 * KEYS[1] 카운터 모드 상품 Set, KEYS[2] 가용 재고, KEYS[3] delta
+	 * ARGV[1] 상품 ID, ARGV[2] 복구 수량
+	 * return 1 성공, -1 카운터 모드 아님
+	 */
+	private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+		if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 0 then
+			return -1
+		end
+		redis.call('INCRBY', KEYS[2], ARGV[2])
+		redis.call('INCRBY', KEYS[3], ARGV[2])
+		return 1
+		""", Long.class);
+
+	/**
+	 * KEYS[1] 카운터 모드 상품 Set, KEYS[2] 가용 재고, KEYS[3] delta
+	 * ARGV[1] 상품 ID, ARGV[2] 초기 가용 재고
+	 */
+	private static final RedisScript<Long> OPEN_SCRIPT = new DefaultRedisScript<>("""
+		redis.call('SET', KEYS[2], ARGV[2])
+		redis.call('SET', KEYS[3], 0)
+		return redis.call('SADD', KEYS[1], ARGV[1])
+		""", Long.class);
+
+	/**
+	 * 트랜잭션 지원이 없는 템플릿이므로 @Transactional 안에서도 스크립트 결과를 즉시 반환받습니다.
+	 */
+	private final StringRedisTemplate stringRedisTemplate;
+
+	public RedisStockCounter(StringRedisTemplate stringRedisTemplate) {
+		this.stringRedisTemplate = stringRedisTemplate;
+	}
+
+	@Override
+	public Set<Long> findOpenProductIds() {
+		Set<String> members = stringRedisTemplate.opsForSet().members(REDIS_FLASH_SALE_KEY);
+
+		if (members == null) {
+			return Set.of();
+		}
+
+		return members.stream()
+			.map(Long::valueOf)
+			.collect(Collectors.toSet());
+	}
+
+	@Override
+	public void open(Long productId, int quantity) {
+		stringRedisTemplate.execute(OPEN_SCRIPT, keys(productId), productId.toString(), String.valueOf(quantity));
+	}
+
+	@Override
+	public ReserveResult reserve(Long productId, int quantity) {
+		Long result = stringRedisTemplate.execute(RESERVE_SCRIPT, keys(productId), productId.toString(),
+			String.valueOf(quantity));
+
+		if (result == null || result < 0) {
+			return ReserveResult.CLOSED;
+		}
+
+		return result == 1 ? ReserveResult.SUCCESS : ReserveResult.INSUFFICIENT;
+	}
+
+	@Override
+	public boolean release(Long productId, int quantity) {
+		Long result = stringRedisTemplate.execute(RELEASE_SCRIPT, keys(productId), productId.toString(),
+			String.valueOf(quantity));
+
+		return result != null && result == 1;
+	}
+
+	@Override
+	public int drainDelta(Long productId) {
+		String delta = stringRedisTemplate.opsForValue().getAndSet(REDIS_DELTA_PREFIX + productId, "0");
+		return delta == null ? 0 : Integer.parseInt(delta);
+	}
+
+	@Override
+	public void restoreDelta(Long productId, int delta) {
+		stringRedisTemplate.opsForValue().increment(REDIS_DELTA_PREFIX + productId, delta);
+	}
+
+	@Override
+	public Integer getAvailable(Long productId) {
+		String available = stringRedisTemplate.opsForValue().get(REDIS_AVAILABLE_PREFIX + productId);
+		return available == null ? null : Integer.valueOf(available);
+	}
+
+	@Override
+	public void close(Long productId) {
+		stringRedisTemplate.opsForSet().remove(REDIS_FLASH_SALE_KEY, productId.toString());
+	}
+
+	@Override
+	public void delete(Long productId) {
+		stringRedisTemplate.delete(List.of(REDIS_AVAILABLE_PREFIX + productId, REDIS_DELTA_PREFIX + productId));
+	}
+
+	private List<String> keys(Long productId) {
+		return List.of(REDIS_FLASH_SALE_KEY, REDIS_AVAILABLE_PREFIX + productId, REDIS_DELTA_PREFIX + productId);
+	}
+}
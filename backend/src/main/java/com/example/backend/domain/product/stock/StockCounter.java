@@ -0,0 +1,77 @@
+package com.example.backend.domain.product.stock;
+
+import java.util.Set;
+
+/**
+ * StockCounter
+ * <p>세일 기간 동안 상품 가용 재고를 DB 밖에서 관리하는 카운터 인터페이스 입니다.</p>
+ * <p>가용 재고와 함께 마지막 반영 이후의 순 변화량(delta)을 기록하며, delta는 주기적으로 DB에 반영됩니다.</p>
+ */
+public interface StockCounter {
+
+	/**
+	 * @implSpec 카운터 모드가 활성화된 상품 ID 목록을 반환합니다.
+	 * @return {@link Set<Long>}
+	 */
+	Set<Long> findOpenProductIds();
+
+	/**
+	 * @implSpec 상품을 카운터 모드로 전환하고 가용 재고를 초기화합니다.
+	 * @param productId 상품 ID
+	 * @param quantity 초기 가용 재고
+	 */
+	void open(Long productId, int quantity);
+
+	/**
+	 * @implSpec 재고를 원자적으로 확인 후 차감합니다.
+	 * @param productId 상품 ID
+	 * @param quantity 차감 수량
+	 * @return {@link ReserveResult}
+	 */
+	ReserveResult reserve(Long productId, int quantity);
+
+	/**
+	 * @implSpec 카운터 모드인 상품의 재고를 복구합니다.
+	 * @param productId 상품 ID
+	 * @param quantity 복구 수량
+	 * @return 카운터 모드가 아니라 복구하지 못했으면 false
+	 */
+	boolean release(Long productId, int quantity);
+
+	/**
+	 * @implSpec 누적된 delta를 반환하고 0으로 초기화합니다.
+	 * @param productId 상품 ID
+	 * @return 마지막 반영 이후 순 재고 변화량
+	 */
+	int drainDelta(Long productId);
+
+	/**
+	 * @implSpec DB 반영에 실패한 delta를 다시 누적합니다.
+	 * @param productId 상품 ID
+	 * @param delta 재고 변화량
+	 */
+	void restoreDelta(Long productId, int delta);
+
+	/**
+	 * @implSpec 현재 가용 재고를 반환합니다.
+	 * @param productId 상품 ID
+	 * @return 카운터가 없으면 null
+	 */
+	Integer getAvailable(Long productId);
+
+	/**
+	 * @implSpec 카운터 모드를 종료합니다. 이후 reserve, release는 처리되지 않습니다.
+	 * @param productId 상품 ID
+	 */
+	void close(Long productId);
+
+	/**
+	 * @implSpec 카운터 키를 삭제합니다.
+	 * @param productId 상품 ID
+	 */
+	void delete(Long productId);
+
+	enum ReserveResult {
+		SUCCESS, INSUFFICIENT, CLOSED
+	}
+}
@@ -0,0 +1,21 @@
+package com.example.backend.domain.product.stock;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * StockMode
+ * <p>주문 시 상품 재고 차감 방식을 정의하는 Enum 클래스 입니다.</p>
+ * <p>product.stock.mode 설정 값으로 선택합니다.</p>
+ */
+@AllArgsConstructor
+@Getter
+public enum StockMode {
+
+    OPTIMISTIC("@Version 기반 낙관적 락 차감"),
+    ATOMIC("조건부 UPDATE 원자적 차감"),
+    /** 주문마다 상품 행 락을 잡으므로 같은 상품의 주문은 상품 행에서 직렬화됨 */
+    LEDGER("재고 원장 추가 후 주기적 스냅샷 반영");
+
+    private final String description;
+}
@@ -0,0 +1,322 @@
+package com.example.backend.domain.product.stock;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.backend.domain.product.dto.StockLevelResponse;
+import com.example.backend.domain.product.exception.ProductErrorCode;
+import com.example.backend.domain.product.exception.ProductException;
+import com.example.backend.domain.product.repository.ProductRepository;
+import com.example.backend.global.async.BoundedExecutor;
+import com.example.backend.global.redis.RedisMessageBus;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * StockStreamService
+ * <p>구독한 상품의 재고 변경을 SSE로 전송합니다.</p>
+ * <p>재고가 변경되면 상품 ID만 표시해 두고, 주기마다 표시된 상품의 재고를 한 번에 조회해 구독자별로 묶어 전송합니다.
+ * 주문이 아무리 많아도 상품당 한 주기에 한 번만 전송하므로 전송량은 주기와 구독 수로 제한됩니다.</p>
+ * <p>변경된 상품 ID는 주기마다 한 번 Redis 채널로 발행해, 다른 서버에 연결된 구독자도 다음 주기에 변경을 받습니다.</p>
+ * <p>느린 구독자에게 보내는 동안 다른 스케줄 작업이 밀리지 않도록 전송은 스케줄러 스레드가 아닌 전송 전용 스레드에서 하며,
+ * 전송 스레드가 모두 사용 중이면 그 구독자의 연결을 끊습니다. 클라이언트는 다시 구독해 현재 재고부터 받습니다.
+ * 인증 없이 구독할 수 있으므로 서버당, 클라이언트(IP)당 구독 수를 제한합니다.
+ * 로드 밸런서나 리버스 프록시 뒤에서는 server.forward-headers-strategy로 X-Forwarded-For를 반영하지 않으면
+ * 모든 클라이언트가 프록시 IP 하나로 집계되어 클라이언트당 제한에 함께 걸립니다.</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StockStreamService {
+
+	static final String CHANNEL = "product:stock:changed";
+	static final String EVENT_NAME = "stock";
+
+	private final ProductRepository productRepository;
+	private final FlashSaleStockService flashSaleStockService;
+	private final StripedStockService stripedStockService;
+	private final InventoryLedgerService inventoryLedgerService;
+	private final RedisMessageBus redisMessageBus;
+
+	@Value("${product.stock-stream.timeout-millis:1800000}")
+	private long timeoutMillis = 1800000;
+
+	@Value("${product.stock-stream.max-products:50}")
+	private int maxProducts = 50;
+
+	@Value("${product.stock-stream.max-subscriptions:10000}")
+	private int maxSubscriptions = 10000;
+
+	@Value("${product.stock-stream.max-subscriptions-per-client:5}")
+	private int maxSubscriptionsPerClient = 5;
+
+	@Value("${product.stock-stream.send-parallelism:8}")
+	private int sendParallelism = 8;
+
+	@Value("${product.stock-stream.send-acquire-timeout-millis:100}")
+	private long sendAcquireTimeoutMillis = 100;
+
+	private final Map<Long, Set<SseEmitter>> emitterMap = new ConcurrentHashMap<>();
+
+	private final AtomicInteger subscriptionCount = new AtomicInteger();
+	private final Map<String, Integer> clientSubscriptionMap = new ConcurrentHashMap<>();
+
+	private BoundedExecutor sendExecutor;
+
+	/** 이 서버에서 변경되어 아직 다른 서버에 알리지 않은 상품 ID */
+	private final Set<Long> changedIds = ConcurrentHashMap.newKeySet();
+
+	/** 다음 주기에 구독자에게 전송할 상품 ID */
+	private final Set<Long> dirtyIds = ConcurrentHashMap.newKeySet();
+
+	@PostConstruct
+	public void init() {
+		// SseEmitter.send는 synchronized 안에서 블로킹 I/O를 하므로 가상 스레드가 아닌 플랫폼 스레드를 사용
+		sendExecutor = BoundedExecutor.ofPlatform("StockStream-", sendParallelism, sendAcquireTimeoutMillis);
+		redisMessageBus.subscribe(CHANNEL, message -> {
+			for (String productId : message.split(",")) {
+				markDirty(Long.valueOf(productId));
+			}
+		});
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		if (sendExecutor != null) {
+			sendExecutor.shutdownNow();
+		}
+	}
+
+	/**
+	 * 상품 재고 변경을 구독합니다. 구독 직후 현재 재고를 한 번 전송합니다.
+	 * @param productIds 구독할 상품 ID 목록
+	 * @param clientId 구독 수를 제한할 클라이언트 식별자(IP), 프록시 뒤에서는 실제 클라이언트 IP여야 합니다.
+	 * @return {@link SseEmitter}
+	 * @throws ProductException 서버 또는 클라이언트의 구독 수가 최대인 경우 TOO_MANY_STOCK_SUBSCRIPTIONS
+	 */
+	public SseEmitter subscribe(Collection<Long> productIds, String clientId) {
+		Set<Long> productIdSet = new LinkedHashSet<>(productIds);
+		if (productIdSet.isEmpty() || productIdSet.size() > maxProducts) {
+			throw new ProductException(ProductErrorCode.INVALID_STOCK_SUBSCRIPTION);
+		}
+
+		acquireSubscription(clientId);
+
+		SseEmitter emitter = new SseEmitter(timeoutMillis);
+		AtomicBoolean unsubscribed = new AtomicBoolean();
+		Runnable unsubscribe = () -> {
+			// 완료, 타임아웃, 오류 콜백이 함께 호출될 수 있으므로 한 번만 해제
+			if (unsubscribed.compareAndSet(false, true)) {
+				unsubscribe(emitter, productIdSet);
+				releaseSubscription(clientId);
+			}
+		};
+
+		try {
+			emitter.onCompletion(unsubscribe);
+			emitter.onTimeout(unsubscribe);
+			emitter.onError(e -> unsubscribe.run());
+
+			for (Long productId : productIdSet) {
+				emitterMap.compute(productId, (key, emitterSet) -> {
+					Set<SseEmitter> subscribed = emitterSet == null ? ConcurrentHashMap.newKeySet() : emitterSet;
+					subscribed.add(emitter);
+					return subscribed;
+				});
+			}
+
+			send(emitter, findStockLevels(productIdSet));
+		} catch (RuntimeException e) {
+			// emitter를 반환하기 전에 실패하면 콜백이 호출되지 않으므로 직접 해제
+			unsubscribe.run();
+			throw e;
+		}
+
+		return emitter;
+	}
+
+	/**
+	 * 주문, 취소, 상품 수정 등 재고가 바뀐 경우 호출하며, 트랜잭션 안이면 커밋된 뒤 변경으로 표시합니다.
+	 * @param productIds
+	 */
+	public void changed(Collection<Long> productIds) {
+		List<Long> productIdList = List.copyOf(productIds);
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			markChanged(productIdList);
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				markChanged(productIdList);
+			}
+		});
+	}
+
+	/**
+	 * 표시된 변경을 다른 서버에 발행하고, 구독 중인 상품의 재고를 구독자별로 묶어 전송합니다.
+	 */
+	@Scheduled(fixedDelayString = "${product.stock-stream.interval-millis:1000}")
+	public void flush() {
+		Set<Long> changed = drain(changedIds);
+		if (!changed.isEmpty()) {
+			redisMessageBus.publish(CHANNEL, changed.stream()
+				.map(String::valueOf)
+				.collect(Collectors.joining(",")));
+		}
+
+		Set<Long> dirty = drain(dirtyIds);
+		if (dirty.isEmpty()) {
+			return;
+		}
+
+		Map<SseEmitter, List<StockLevelResponse>> eventMap = new HashMap<>();
+		for (StockLevelResponse stockLevel : findStockLevels(dirty)) {
+			for (SseEmitter emitter : emitterMap.getOrDefault(stockLevel.productId(), Set.of())) {
+				eventMap.computeIfAbsent(emitter, key -> new ArrayList<>()).add(stockLevel);
+			}
+		}
+
+		eventMap.forEach(this::sendAsync);
+	}
+
+	/**
+	 * @return 구독 중인 상품 수
+	 */
+	public int subscribedProductCount() {
+		return emitterMap.size();
+	}
+
+	/**
+	 * @return 이 서버의 구독 수
+	 */
+	public int subscriptionCount() {
+		return subscriptionCount.get();
+	}
+
+	private void acquireSubscription(String clientId) {
+		if (subscriptionCount.incrementAndGet() > maxSubscriptions) {
+			subscriptionCount.decrementAndGet();
+			throw new ProductException(ProductErrorCode.TOO_MANY_STOCK_SUBSCRIPTIONS);
+		}
+
+		boolean[] acquired = {false};
+		clientSubscriptionMap.compute(clientId, (key, count) -> {
+			int current = count == null ? 0 : count;
+			if (current >= maxSubscriptionsPerClient) {
+				return count;
+			}
+			acquired[0] = true;
+			return current + 1;
+		});
+
+		if (!acquired[0]) {
+			subscriptionCount.decrementAndGet();
+			throw new ProductException(ProductErrorCode.TOO_MANY_STOCK_SUBSCRIPTIONS);
+		}
+	}
+
+	private void releaseSubscription(String clientId) {
+		subscriptionCount.decrementAndGet();
+		clientSubscriptionMap.computeIfPresent(clientId, (key, count) -> count <= 1 ? null : count - 1);
+	}
+
+	private void markChanged(List<Long> productIdList) {
+		changedIds.addAll(productIdList);
+		productIdList.forEach(this::markDirty);
+	}
+
+	private void markDirty(Long productId) {
+		// 이 서버에 구독자가 없는 상품은 전송하지 않음
+		if (emitterMap.containsKey(productId)) {
+			dirtyIds.add(productId);
+		}
+	}
+
+	private Set<Long> drain(Set<Long> ids) {
+		Set<Long> drained = new HashSet<>();
+		for (Long id : ids) {
+			if (ids.remove(id)) {
+				drained.add(id);
+			}
+		}
+		return drained;
+	}
+
+	/**
+	 * 세일 중인 상품은 카운터의 가용 재고를, 분산 재고 상품은 stripe 재고 합계를,
+	 * LEDGER 모드면 원장을 반영한 가용 재고를 사용합니다.
+	 */
+	private List<StockLevelResponse> findStockLevels(Collection<Long> productIds) {
+		Map<Long, Integer> availableMap = new HashMap<>();
+		if (inventoryLedgerService.isEnabled()) {
+			availableMap.putAll(inventoryLedgerService.findAvailableMap(productIds));
+		}
+		availableMap.putAll(stripedStockService.findAvailableMap(productIds));
+		availableMap.putAll(flashSaleStockService.findAvailableMap(productIds));
+
+		return productRepository.findStockLevelsByIdIn(productIds).stream()
+			.map(stockLevel -> availableMap.containsKey(stockLevel.productId())
+				? new StockLevelResponse(stockLevel.productId(), availableMap.get(stockLevel.productId()))
+				: stockLevel)
+			.toList();
+	}
+
+	private void sendAsync(SseEmitter emitter, List<StockLevelResponse> stockLevels) {
+		try {
+			sendExecutor.execute(() -> send(emitter, stockLevels));
+		} catch (RejectedExecutionException e) {
+			// 전송이 밀린 구독자, 다시 구독하면 현재 재고부터 받음
+			log.debug("stock event send rejected", e);
+			emitter.completeWithError(e);
+		}
+	}
+
+	private void send(SseEmitter emitter, List<StockLevelResponse> stockLevels) {
+		if (stockLevels.isEmpty()) {
+			return;
+		}
+
+		try {
+			emitter.send(SseEmitter.event().name(EVENT_NAME).data(stockLevels, MediaType.APPLICATION_JSON));
+		} catch (IOException | IllegalStateException e) {
+			// 연결이 끊긴 구독자, 완료 콜백에서 구독이 해제됨
+			log.debug("failed to send stock event", e);
+			emitter.completeWithError(e);
+		}
+	}
+
+	private void unsubscribe(SseEmitter emitter, Set<Long> productIdSet) {
+		for (Long productId : productIdSet) {
+			emitterMap.computeIfPresent(productId, (key, emitterSet) -> {
+				emitterSet.remove(emitter);
+				return emitterSet.isEmpty() ? null : emitterSet;
+			});
+		}
+	}
+}
@@ -0,0 +1,285 @@
+package com.example.backend.domain.product.stock;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.backend.domain.product.entity.Product;
+import com.example.backend.domain.product.exception.ProductErrorCode;
+import com.example.backend.domain.product.exception.ProductException;
+import com.example.backend.domain.product.repository.ProductRepository;
+import com.example.backend.domain.product.repository.ProductStockStripeJdbcRepository;
+import com.example.backend.global.cache.LocalCache;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * StripedStockService
+ * <p>주문이 몰리는 상품의 재고를 여러 stripe 행으로 나눠 관리하는 서비스 입니다.</p>
+ * <p>주문은 임의의 stripe 하나에서 조건부 UPDATE로 차감하므로 한 상품 행에 몰리던 행 락 경합이 stripe 수만큼 나뉩니다.
+ * 그 stripe의 재고가 부족하면 먼저 잠그지 않고 조회한 합계로 확인해, 합계도 부족하면 락 없이 재고 부족으로 실패합니다.
+ * 합계가 충분하면 모든 stripe를 번호 순으로 잠근 뒤 다시 검증하고 여러 stripe에서 나눠 차감합니다.</p>
+ * <p>실패한 조건부 UPDATE도 그 stripe 행의 락을 트랜잭션 끝까지 유지하므로, 번호 순으로 잠가도 서로 다른 stripe에서 실패한
+ * 주문끼리는 교착 상태가 생길 수 있습니다. 락 대기 시간 초과나 교착 상태로 실패하면 CONFLICT 예외로 변환하며,
+ * 교착 상태에서는 DB가 트랜잭션 전체를 롤백하므로 주문은 OrdersGroupCommitWriter가 새 트랜잭션으로 한 번 다시 저장합니다.</p>
+ * <p>분산 재고 상품의 상품 재고 컬럼은 0이며, 재고 합계는 stripe 재고를 더해 짧은 시간 캐시합니다.
+ * 시작, 종료와 재분배는 상품 행과 stripe 행을 모두 잠근 뒤 처리합니다.</p>
+ */
+@Service
+@RequiredArgsConstructor
+public class StripedStockService {
+
+	private final ProductStockStripeJdbcRepository productStockStripeJdbcRepository;
+	private final ProductRepository productRepository;
+	private final InventoryLedgerService inventoryLedgerService;
+	private final FlashSaleStockService flashSaleStockService;
+
+	@Value("${product.stripe.max-count:64}")
+	private int maxStripeCount = 64;
+
+	@Value("${product.stripe.total-cache-millis:1000}")
+	private long totalCacheMillis = 1000;
+
+	@Value("${product.stripe.total-cache-size:10000}")
+	private int totalCacheSize = 10000;
+
+	private LocalCache<Long, Integer> totalCache;
+
+	@PostConstruct
+	void init() {
+		totalCache = new LocalCache<>(totalCacheSize, totalCacheMillis, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * 분산 재고 시작, 현재 재고를 stripe 행에 고르게 나눕니다.
+	 * @param productId
+	 * @param stripeCount stripe 행 수
+	 */
+	@Transactional
+	public void enable(Long productId, int stripeCount) {
+		if (stripeCount < 2 || stripeCount > maxStripeCount) {
+			throw new ProductException(ProductErrorCode.INVALID_STRIPE_COUNT);
+		}
+		if (!flashSaleStockService.findOpenProductIds(List.of(productId)).isEmpty()) {
+			throw new ProductException(ProductErrorCode.ALREADY_FLASH_SALE);
+		}
+
+		Product product = lockProduct(productId);
+		if (product.isStriped()) {
+			throw new ProductException(ProductErrorCode.STRIPED_STOCK);
+		}
+
+		productStockStripeJdbcRepository.insert(productId, split(product.getQuantity(), stripeCount));
+		product.enableStripes(stripeCount);
+
+		totalCache.invalidate(productId);
+	}
+
+	/**
+	 * 분산 재고 종료, stripe 재고의 합계를 상품 재고 컬럼으로 되돌립니다.
+	 * @param productId
+	 */
+	@Transactional
+	public void disable(Long productId) {
+		Product product = lockProduct(productId);
+		if (!product.isStriped()) {
+			throw new ProductException(ProductErrorCode.NOT_STRIPED_STOCK);
+		}
+
+		int total = sum(productStockStripeJdbcRepository.lock(productId));
+		productStockStripeJdbcRepository.deleteByProductId(productId);
+		product.disableStripes(total);
+
+		totalCache.invalidate(productId);
+	}
+
+	/**
+	 * 관리자 재분배, 현재 합계를 stripe 행에 다시 고르게 나눕니다.
+	 * @param productId
+	 */
+	@Transactional
+	public void rebalance(Long productId) {
+		Map<Integer, Integer> stripeMap = lockStripes(productId);
+
+		rebalance(productId, stripeMap, sum(stripeMap));
+	}
+
+	/**
+	 * 관리자 재고 수정, 수정할 재고를 stripe 행에 고르게 나눕니다.
+	 * @param productId
+	 * @param quantity 수정할 재고
+	 */
+	@Transactional
+	public void rebalance(Long productId, int quantity) {
+		rebalance(productId, lockStripes(productId), quantity);
+	}
+
+	/**
+	 * 임의의 stripe 하나에서 재고를 차감하고, 부족하면 합계를 확인한 뒤 모든 stripe를 잠그고 나눠서 차감합니다.
+	 * 호출한 쪽의 트랜잭션 안에서 실행되어야 합니다.
+	 * @param productId
+	 * @param stripeCount 상품의 stripe 행 수
+	 * @param quantity 주문 수량
+	 * @throws ProductException 락 획득에 실패한 경우 CONFLICT
+	 */
+	public void reserve(Long productId, int stripeCount, int quantity) {
+		try {
+			reserveStripes(productId, stripeCount, quantity);
+		} catch (PessimisticLockingFailureException e) {
+			throw new ProductException(ProductErrorCode.CONFLICT);
+		}
+	}
+
+	private void reserveStripes(Long productId, int stripeCount, int quantity) {
+		int stripe = ThreadLocalRandom.current().nextInt(stripeCount);
+
+		if (productStockStripeJdbcRepository.decrease(productId, stripe, quantity) == 1) {
+			totalCache.invalidate(productId);
+			return;
+		}
+
+		// 합계로도 부족하면 stripe를 잠그지 않고 실패, 매진 이후의 주문은 대부분 여기서 끝남
+		int total = productStockStripeJdbcRepository.findTotalMap(List.of(productId)).getOrDefault(productId, 0);
+		if (total < quantity) {
+			throw new ProductException(ProductErrorCode.INSUFFICIENT_QUANTITY);
+		}
+
+		// 한 stripe의 재고로는 부족하면 다른 stripe를 임의 순서로 시도하지 않고 번호 순으로 모두 잠그고 나눠서 차감
+		Map<Integer, Integer> stripeMap = productStockStripeJdbcRepository.lock(productId);
+		if (sum(stripeMap) < quantity) {
+			throw new ProductException(ProductErrorCode.INSUFFICIENT_QUANTITY);
+		}
+
+		Map<Integer, Integer> drainedMap = new LinkedHashMap<>();
+		int remaining = quantity;
+		for (Map.Entry<Integer, Integer> entry : stripeMap.entrySet()) {
+			if (remaining == 0) {
+				break;
+			}
+
+			int drained = Math.min(entry.getValue(), remaining);
+			if (drained > 0) {
+				drainedMap.put(entry.getKey(), entry.getValue() - drained);
+				remaining -= drained;
+			}
+		}
+
+		productStockStripeJdbcRepository.batchUpdateQuantity(productId, drainedMap);
+		totalCache.invalidate(productId);
+	}
+
+	/**
+	 * 임의의 stripe에 재고를 복구합니다. 호출한 쪽의 트랜잭션 안에서 실행되어야 합니다.
+	 * <p>그 사이 분산 재고가 종료되어 stripe 행이 없으면 상품 재고 컬럼에 복구합니다.</p>
+	 * @param productId
+	 * @param stripeCount 상품의 stripe 행 수
+	 * @param quantity 복구 수량
+	 * @throws ProductException 락 획득에 실패한 경우 CONFLICT
+	 */
+	public void release(Long productId, int stripeCount, int quantity) {
+		try {
+			releaseStripes(productId, stripeCount, quantity);
+		} catch (PessimisticLockingFailureException e) {
+			throw new ProductException(ProductErrorCode.CONFLICT);
+		}
+	}
+
+	private void releaseStripes(Long productId, int stripeCount, int quantity) {
+		int stripe = ThreadLocalRandom.current().nextInt(stripeCount);
+
+		if (productStockStripeJdbcRepository.increase(productId, stripe, quantity) == 0) {
+			Map<Integer, Integer> stripeMap = productStockStripeJdbcRepository.lock(productId);
+
+			if (stripeMap.isEmpty()) {
+				productRepository.increaseQuantity(productId, quantity);
+			} else {
+				productStockStripeJdbcRepository.increase(productId, stripeMap.keySet().iterator().next(), quantity);
+			}
+		}
+
+		totalCache.invalidate(productId);
+	}
+
+	/**
+	 * 상품 삭제 시 stripe 행을 함께 삭제합니다.
+	 * @param productId
+	 */
+	public void deleteStripes(Long productId) {
+		productStockStripeJdbcRepository.deleteByProductId(productId);
+		totalCache.invalidate(productId);
+	}
+
+	public boolean isStriped(Long productId) {
+		return productStockStripeJdbcRepository.existsByProductId(productId);
+	}
+
+	/**
+	 * 분산 재고 상품의 재고 합계를 반환합니다. 합계는 total-cache-millis 동안 캐시됩니다.
+	 * @param productIds
+	 * @return {@link Map} 상품 ID, 재고 합계 (분산 재고 상품만 포함)
+	 */
+	public Map<Long, Integer> findAvailableMap(Collection<Long> productIds) {
+		return totalCache.getAll(productIds, productStockStripeJdbcRepository::findTotalMap);
+	}
+
+	private void rebalance(Long productId, Map<Integer, Integer> stripeMap, int quantity) {
+		if (quantity < 0) {
+			throw new ProductException(ProductErrorCode.INSUFFICIENT_QUANTITY);
+		}
+
+		List<Integer> quantities = split(quantity, stripeMap.size());
+		Map<Integer, Integer> rebalancedMap = new LinkedHashMap<>();
+		int index = 0;
+		for (Integer stripe : stripeMap.keySet()) {
+			rebalancedMap.put(stripe, quantities.get(index++));
+		}
+
+		productStockStripeJdbcRepository.batchUpdateQuantity(productId, rebalancedMap);
+		totalCache.invalidate(productId);
+	}
+
+	/**
+	 * 원장에 남은 변동을 반영하고 상품 행을 잠근 뒤 상품을 조회합니다.
+	 */
+	private Product lockProduct(Long productId) {
+		inventoryLedgerService.compact(List.of(productId));
+
+		return productRepository.findById(productId)
+			.orElseThrow(() -> new ProductException(ProductErrorCode.NOT_FOUND));
+	}
+
+	private Map<Integer, Integer> lockStripes(Long productId) {
+		Map<Integer, Integer> stripeMap = productStockStripeJdbcRepository.lock(productId);
+		if (stripeMap.isEmpty()) {
+			throw new ProductException(ProductErrorCode.NOT_STRIPED_STOCK);
+		}
+
+		return stripeMap;
+	}
+
+	/**
+	 * 나머지는 앞 stripe부터 1씩 더합니다.
+	 */
+	private List<Integer> split(int quantity, int stripeCount) {
+		List<Integer> quantities = new ArrayList<>(stripeCount);
+		for (int stripe = 0; stripe < stripeCount; stripe++) {
+			quantities.add(quantity / stripeCount + (stripe < quantity % stripeCount ? 1 : 0));
+		}
+
+		return quantities;
+	}
+
+	private int sum(Map<Integer, Integer> stripeMap) {
+		return stripeMap.values().stream().mapToInt(Integer::intValue).sum();
+	}
+}
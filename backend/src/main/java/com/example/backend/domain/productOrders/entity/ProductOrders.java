@@ -4,6 +4,7 @@ package com.example.backend.domain.productOrders.entity;
 import com.example.backend.domain.orders.entity.Orders;
 import com.example.backend.domain.product.entity.Product;
 import com.example.backend.global.baseEntity.BaseEntity;
+import com.example.backend.global.id.TimeOrderedId;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -17,7 +18,7 @@ import lombok.NoArgsConstructor;
 public class ProductOrders extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id;
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "orders_id")
@@ -42,6 +43,18 @@ public class ProductOrders extends BaseEntity {
         product.removeQuantity(quantity); // 주문 수량 만큼 감소
     }
 
+    /**
+     * 재고 차감이 이미 완료된 주문 상품 생성 메서드
+     * <p>조건부 UPDATE 등으로 재고를 먼저 차감한 경우 사용합니다.</p>
+     */
+    public static ProductOrders reserved(Product product, int quantity, int price) {
+        ProductOrders productOrders = new ProductOrders();
+        productOrders.product = product;
+        productOrders.quantity = quantity;
+        productOrders.price = price;
+        return productOrders;
+    }
+
     /**
      * 연관관계 편의 메서드
      */
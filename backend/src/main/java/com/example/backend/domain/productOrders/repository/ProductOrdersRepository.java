@@ -2,6 +2,10 @@ package com.example.backend.domain.productOrders.repository;
 
 import com.example.backend.domain.productOrders.entity.ProductOrders;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface ProductOrdersRepository extends JpaRepository<ProductOrders, Long> {
 
@@ -11,4 +15,12 @@ public interface ProductOrdersRepository extends JpaRepository<ProductOrders, Lo
      * @return boolean
      */
     boolean existsByProductId(Long id);
+
+    /**
+     * 주문 id로 주문 상품 id 목록 조회 메서드
+     * @param ordersId
+     * @return {@link List<Long>}
+     */
+    @Query("SELECT po.product.id FROM ProductOrders po WHERE po.orders.id = :ordersId")
+    List<Long> findProductIdsByOrdersId(@Param("ordersId") Long ordersId);
 }
@@ -0,0 +1,157 @@
+package com.example.backend.global.async;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.core.task.TaskExecutor;
+
+/**
+ * BoundedExecutor
+ * <p>동시에 실행되는 작업 수를 semaphore로 제한하는 Executor 입니다.</p>
+ * <p>실행 중인 작업이 maxConcurrency개면 작업을 큐에 쌓거나 거절하지 않고, 자리가 날 때까지 작업을 넘기는 쪽을 대기시킵니다.
+ * acquireTimeoutMillis 동안 자리가 나지 않을 때만 {@link RejectedExecutionException}을 던집니다.</p>
+ * <p>{@link #ofVirtual}은 작업마다 가상 스레드를 생성하므로, 메일 전송처럼 대부분의 시간을 I/O 대기로 보내는 작업에 적합합니다.</p>
+ */
+public class BoundedExecutor extends AbstractExecutorService implements TaskExecutor {
+
+	private final ExecutorService delegate;
+	private final Semaphore permits;
+	private final int maxConcurrency;
+	private final long acquireTimeoutMillis;
+
+	private final AtomicInteger activeCount = new AtomicInteger();
+	private final AtomicInteger waitingCount = new AtomicInteger();
+	private final LongAdder submittedCount = new LongAdder();
+	private final LongAdder rejectedCount = new LongAdder();
+	private final LongAdder totalWaitNanos = new LongAdder();
+	private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+
+	private BoundedExecutor(ExecutorService delegate, int maxConcurrency, long acquireTimeoutMillis) {
+		this.delegate = delegate;
+		this.permits = new Semaphore(maxConcurrency);
+		this.maxConcurrency = maxConcurrency;
+		this.acquireTimeoutMillis = acquireTimeoutMillis;
+	}
+
+	/**
+	 * 작업마다 가상 스레드를 생성합니다.
+	 */
+	public static BoundedExecutor ofVirtual(String threadNamePrefix, int maxConcurrency, long acquireTimeoutMillis) {
+		return new BoundedExecutor(
+			Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(threadNamePrefix, 0).factory()),
+			maxConcurrency, acquireTimeoutMillis);
+	}
+
+	/**
+	 * maxConcurrency개의 플랫폼 스레드를 사용합니다.
+	 */
+	public static BoundedExecutor ofPlatform(String threadNamePrefix, int maxConcurrency, long acquireTimeoutMillis) {
+		return new BoundedExecutor(
+			Executors.newFixedThreadPool(maxConcurrency, Thread.ofPlatform().name(threadNamePrefix, 0).daemon().factory()),
+			maxConcurrency, acquireTimeoutMillis);
+	}
+
+	@Override
+	public void execute(Runnable task) {
+		acquire();
+
+		try {
+			delegate.execute(() -> {
+				activeCount.incrementAndGet();
+				try {
+					task.run();
+				} finally {
+					activeCount.decrementAndGet();
+					permits.release();
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			permits.release();
+			rejectedCount.increment();
+			throw e;
+		}
+
+		submittedCount.increment();
+	}
+
+	private void acquire() {
+		if (delegate.isShutdown()) {
+			rejectedCount.increment();
+			throw new RejectedExecutionException("executor has been shut down");
+		}
+
+		long start = System.nanoTime();
+		waitingCount.incrementAndGet();
+		boolean acquired;
+
+		try {
+			acquired = permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			rejectedCount.increment();
+			throw new RejectedExecutionException("interrupted while waiting for executor", e);
+		} finally {
+			waitingCount.decrementAndGet();
+			long waited = System.nanoTime() - start;
+			totalWaitNanos.add(waited);
+			maxWaitNanos.accumulate(waited);
+		}
+
+		if (!acquired) {
+			rejectedCount.increment();
+			throw new RejectedExecutionException(
+				"executor saturated for " + acquireTimeoutMillis + "ms, maxConcurrency=" + maxConcurrency);
+		}
+	}
+
+	public ExecutorMetrics getMetrics() {
+		return new ExecutorMetrics(maxConcurrency, activeCount.get(), waitingCount.get(), submittedCount.sum(),
+			rejectedCount.sum(), totalWaitNanos.sum(), maxWaitNanos.get());
+	}
+
+	@Override
+	public void shutdown() {
+		delegate.shutdown();
+	}
+
+	@Override
+	public List<Runnable> shutdownNow() {
+		return delegate.shutdownNow();
+	}
+
+	@Override
+	public boolean isShutdown() {
+		return delegate.isShutdown();
+	}
+
+	@Override
+	public boolean isTerminated() {
+		return delegate.isTerminated();
+	}
+
+	@Override
+	public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+		return delegate.awaitTermination(timeout, unit);
+	}
+
+	/**
+	 * @param maxConcurrency 동시에 실행할 수 있는 작업 수
+	 * @param activeCount 실행 중인 작업 수
+	 * @param waitingCount 자리가 나기를 기다리는 호출 수
+	 * @param submittedCount 실행을 시작한 작업 수
+	 * @param rejectedCount 대기 시간 초과 등으로 거절한 작업 수
+	 * @param totalWaitNanos 작업을 넘기기까지 기다린 시간 합계
+	 * @param maxWaitNanos 작업을 넘기기까지 기다린 최대 시간
+	 */
+	public record ExecutorMetrics(int maxConcurrency, int activeCount, int waitingCount, long submittedCount,
+								  long rejectedCount, long totalWaitNanos, long maxWaitNanos) {
+	}
+}
@@ -0,0 +1,158 @@
+package com.example.backend.global.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * LocalCache
+ * <p>서버 메모리에 값을 보관하는 크기 제한 캐시 입니다.</p>
+ * <p>조회는 락 없이 ConcurrentHashMap에서 읽습니다. 항목 수가 maxSize에 도달하면 일부 항목을 임의로 제거하며,
+ * 각 항목은 ttl이 지나면 다시 조회합니다.</p>
+ * <p>조회하는 동안 무효화가 일어나면 조회한 값을 캐시에 남기지 않으므로, 무효화 이전의 값이 무효화 이후에 저장되지 않습니다.</p>
+ */
+public class LocalCache<K, V> {
+
+	private final Map<K, Entry<V>> entryMap = new ConcurrentHashMap<>();
+	private final int maxSize;
+	private final long ttlNanos;
+
+	/** 무효화마다 증가 */
+	private final AtomicLong generation = new AtomicLong();
+
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+
+	public LocalCache(int maxSize, long ttl, TimeUnit unit) {
+		this.maxSize = maxSize;
+		this.ttlNanos = unit.toNanos(ttl);
+	}
+
+	/**
+	 * 캐시된 값을 반환하고, 없거나 만료되었으면 loader로 조회해 저장합니다. loader가 던진 예외는 캐시하지 않습니다.
+	 */
+	public V get(K key, Supplier<V> loader) {
+		long now = System.nanoTime();
+		Entry<V> entry = entryMap.get(key);
+
+		if (entry != null && entry.expiresAt() - now > 0) {
+			hitCount.increment();
+			return entry.value();
+		}
+
+		missCount.increment();
+		long loadedGeneration = generation.get();
+		V value = loader.get();
+
+		evictIfFull();
+		Entry<V> loaded = new Entry<>(value, System.nanoTime() + ttlNanos);
+		entryMap.put(key, loaded);
+
+		// 조회 중 무효화가 일어났다면 이전 값일 수 있으므로 제거
+		if (generation.get() != loadedGeneration) {
+			entryMap.remove(key, loaded);
+		}
+
+		return value;
+	}
+
+	/**
+	 * 여러 키를 한 번에 조회합니다. 없거나 만료된 키만 모아 loader를 한 번 호출합니다.
+	 * <p>loader 결과에 없는 키는 값이 없는 것으로 저장해 ttl 동안 다시 조회하지 않습니다.</p>
+	 * @return 값이 있는 키만 담은 Map
+	 */
+	public Map<K, V> getAll(Collection<K> keys, Function<Collection<K>, Map<K, V>> loader) {
+		long now = System.nanoTime();
+		Map<K, V> result = new HashMap<>();
+		List<K> missedKeys = new ArrayList<>();
+
+		for (K key : keys) {
+			Entry<V> entry = entryMap.get(key);
+
+			if (entry != null && entry.expiresAt() - now > 0) {
+				hitCount.increment();
+				if (entry.value() != null) {
+					result.put(key, entry.value());
+				}
+			} else {
+				missedKeys.add(key);
+			}
+		}
+
+		if (missedKeys.isEmpty()) {
+			return result;
+		}
+
+		missCount.add(missedKeys.size());
+		long loadedGeneration = generation.get();
+		Map<K, V> loadedMap = loader.apply(missedKeys);
+		long expiresAt = System.nanoTime() + ttlNanos;
+
+		for (K key : missedKeys) {
+			V value = loadedMap.get(key);
+			if (value != null) {
+				result.put(key, value);
+			}
+
+			evictIfFull();
+			Entry<V> loaded = new Entry<>(value, expiresAt);
+			entryMap.put(key, loaded);
+
+			if (generation.get() != loadedGeneration) {
+				entryMap.remove(key, loaded);
+			}
+		}
+
+		return result;
+	}
+
+	public void invalidate(K key) {
+		generation.incrementAndGet();
+		entryMap.remove(key);
+	}
+
+	public void invalidateAll() {
+		generation.incrementAndGet();
+		entryMap.clear();
+	}
+
+	public int size() {
+		return entryMap.size();
+	}
+
+	public long getHitCount() {
+		return hitCount.sum();
+	}
+
+	public long getMissCount() {
+		return missCount.sum();
+	}
+
+	/**
+	 * 가득 차면 약 10%를 제거합니다.
+	 */
+	private void evictIfFull() {
+		if (entryMap.size() < maxSize) {
+			return;
+		}
+
+		int toEvict = Math.max(1, maxSize / 10);
+		Iterator<K> iterator = entryMap.keySet().iterator();
+		while (toEvict-- > 0 && iterator.hasNext()) {
+			iterator.next();
+			iterator.remove();
+		}
+	}
+
+	private record Entry<V>(V value, long expiresAt) {
+	}
+}
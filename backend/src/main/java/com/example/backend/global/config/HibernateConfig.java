@@ -0,0 +1,29 @@
+package com.example.backend.global.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * HibernateConfig
+ * <p>JDBC batch 관련 Hibernate 설정 클래스 입니다.</p>
+ * <p>update/insert 문을 엔티티, PK 순으로 정렬해 하나의 JDBC batch로 묶어 전송합니다.</p>
+ */
+@Configuration
+public class HibernateConfig {
+
+	@Value("${hibernate.jdbc.batch-size:50}")
+	private int batchSize;
+
+	@Bean
+	public HibernatePropertiesCustomizer jdbcBatchCustomizer() {
+		return hibernateProperties -> {
+			hibernateProperties.put(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+			hibernateProperties.put(AvailableSettings.ORDER_UPDATES, true);
+			hibernateProperties.put(AvailableSettings.ORDER_INSERTS, true);
+			hibernateProperties.put(AvailableSettings.BATCH_VERSIONED_DATA, true);
+		};
+	}
+}
@@ -0,0 +1,43 @@
+package com.example.backend.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.backend.global.id.TimeOrderedIdGenerator;
+import com.example.backend.global.id.TimeOrderedIdentifierGenerator;
+
+/**
+ * IdGeneratorConfig
+ * <p>애플리케이션 ID 생성기 설정 클래스 입니다.</p>
+ * <p>서버마다 id.worker-id를 0 ~ 1023 사이의 서로 다른 값으로 지정해야 ID가 겹치지 않습니다.
+ * 여러 서버가 같은 기본값으로 기동되지 않도록 기본값을 두지 않으며, 지정하지 않으면 기동에 실패합니다.</p>
+ */
+@Configuration
+public class IdGeneratorConfig {
+
+	@Value("${id.worker-id:#{null}}")
+	private Long workerId;
+
+	@Value("${id.max-drift-millis:1000}")
+	private long maxDriftMillis;
+
+	@Bean
+	public TimeOrderedIdGenerator timeOrderedIdGenerator() {
+		if (workerId == null) {
+			throw new IllegalStateException("id.worker-id must be configured with a value unique to each server");
+		}
+
+		return new TimeOrderedIdGenerator(workerId, maxDriftMillis, System::currentTimeMillis);
+	}
+
+	/**
+	 * {@link TimeOrderedIdentifierGenerator}가 같은 생성기를 사용하도록 Hibernate 설정으로 전달합니다.
+	 */
+	@Bean
+	public HibernatePropertiesCustomizer timeOrderedIdHibernatePropertiesCustomizer(
+		TimeOrderedIdGenerator timeOrderedIdGenerator) {
+		return properties -> properties.put(TimeOrderedIdentifierGenerator.GENERATOR_SETTING, timeOrderedIdGenerator);
+	}
+}
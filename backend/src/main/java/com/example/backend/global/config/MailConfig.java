@@ -7,13 +7,14 @@ import java.util.concurrent.ConcurrentHashMap;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.JavaMailSenderImpl;
 import org.thymeleaf.spring6.SpringTemplateEngine;
 import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
 import org.thymeleaf.templateresolver.ITemplateResolver;
 
 import com.example.backend.global.mail.util.EmailTemplateMaker;
+import com.example.backend.global.mail.util.MailTemplateRenderer;
+import com.example.backend.global.mail.util.SmtpConnectionPool;
 import com.example.backend.global.mail.util.TemplateMaker;
 import com.example.backend.global.mail.util.TemplateName;
 
@@ -56,9 +57,14 @@ public class MailConfig {
 	@Value("${mail.templates.delivery-start}")
 	private String deliveryStart;
 
+	@Value("${mail.pool.max-connections:4}")
+	private int maxConnections;
+
+	@Value("${mail.pool.acquire-timeout-millis:30000}")
+	private long acquireTimeoutMillis;
 
 	@Bean
-	public JavaMailSender mailSender() {
+	public JavaMailSenderImpl mailSender() {
 		JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
 		mailSender.setHost(mailHost);
 		mailSender.setPort(mailPort);
@@ -71,8 +77,18 @@ public class MailConfig {
 		return mailSender;
 	}
 
+	@Bean(destroyMethod = "close")
+	public SmtpConnectionPool smtpConnectionPool() {
+		return new SmtpConnectionPool(mailSender(), maxConnections, acquireTimeoutMillis);
+	}
+
 	@Bean
 	public TemplateMaker emailTemplateMaker() {
+		return new EmailTemplateMaker(mailTemplateRenderer());
+	}
+
+	@Bean
+	public MailTemplateRenderer mailTemplateRenderer() {
 		Map<String, String> templateNameMap = new ConcurrentHashMap<>();
 
 		//각 템플릿 이름 Map에 저장
@@ -81,12 +97,7 @@ public class MailConfig {
 		templateNameMap.put(TemplateName.SIGNUP_VERIFY.toString(), signupVerify);
 		templateNameMap.put(TemplateName.DELIVERY_START.toString(), deliveryStart);
 
-		EmailTemplateMaker emailTemplateMaker = new EmailTemplateMaker(
-			thymeleafTemplateEngine(),
-			templateNameMap
-		);
-
-		return emailTemplateMaker;
+		return new MailTemplateRenderer(thymeleafTemplateEngine(), templateNameMap);
 	}
 
 	@Bean
@@ -103,6 +114,8 @@ public class MailConfig {
 		templateResolver.setSuffix(".html");
 		templateResolver.setTemplateMode("HTML");
 		templateResolver.setCharacterEncoding("UTF-8");
+		//파싱한 템플릿을 캐시
+		templateResolver.setCacheable(true);
 		return templateResolver;
 	}
 }
@@ -6,11 +6,18 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
 public class RedisConfig {
 
+    /**
+     * 트랜잭션 지원을 사용하는 RedisTemplate
+     * <p>@Transactional 안에서는 명령이 MULTI에 쌓였다가 커밋될 때 실행되므로, 읽기 명령과 스크립트 결과는 null을 반환합니다.
+     * 트랜잭션 안에서 결과가 필요하거나 커밋 후 콜백에서 실행하는 명령은 Spring Boot가 등록하는
+     * 트랜잭션 지원이 없는 {@link org.springframework.data.redis.core.StringRedisTemplate}을 사용합니다.</p>
+     */
     @Bean
     public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory factory) {
         RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
@@ -22,4 +29,11 @@ public class RedisConfig {
         redisTemplate.setEnableTransactionSupport(true);
         return redisTemplate;
     }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory factory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(factory);
+        return container;
+    }
 }
@@ -0,0 +1,27 @@
+package com.example.backend.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Configuration
+public class SchedulingConfig {
+
+	/**
+	 * 재고 알림, 메일 outbox, 주문 접수, write-behind 반영 등 여러 @Scheduled 작업이 스레드 하나를 나눠 쓰지 않도록
+	 * 스케줄러 스레드 풀 크기를 지정합니다.
+	 */
+	@Value("${scheduler.pool-size:8}")
+	private int poolSize = 8;
+
+	@Bean
+	public ThreadPoolTaskScheduler taskScheduler() {
+		ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+		scheduler.setPoolSize(poolSize);
+		scheduler.setThreadNamePrefix("Scheduler-");
+		scheduler.setWaitForTasksToCompleteOnShutdown(true);
+		scheduler.setAwaitTerminationSeconds(30);
+		return scheduler;
+	}
+}
@@ -47,7 +47,8 @@ public class SecurityConfig {
                 SessionCreationPolicy.STATELESS))
             .addFilter(corsConfig.corsFilter())
             .authorizeHttpRequests(authorizeRequests -> authorizeRequests
-                .requestMatchers(HttpMethod.GET, "/api/v1/products").permitAll()
+                .requestMatchers(HttpMethod.GET, "/api/v1/products", "/api/v1/products/search", "/api/v1/products/stream")
+                .permitAll()
                 .requestMatchers("/api/v1/members/join", "/api/v1/auth/verify", "/api/v1/auth/login", "/api/v1/auth/code").permitAll()
                 .requestMatchers(HttpMethod.GET, "/api/v1/products/{id}").hasAnyRole("USER", "ADMIN")
                 .requestMatchers("/api/v1/members/**").hasAnyRole("USER", "ADMIN")
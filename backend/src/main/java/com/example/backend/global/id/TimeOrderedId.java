@@ -0,0 +1,19 @@
+package com.example.backend.global.id;
+
+import static java.lang.annotation.ElementType.*;
+import static java.lang.annotation.RetentionPolicy.*;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * 엔티티 ID를 {@link TimeOrderedIdGenerator}로 생성합니다.
+ * <p>persist 시점에 ID가 정해지므로 IDENTITY와 달리 JDBC batch insert가 가능합니다.</p>
+ */
+@IdGeneratorType(TimeOrderedIdentifierGenerator.class)
+@Retention(RUNTIME)
+@Target({FIELD, METHOD})
+public @interface TimeOrderedId {
+}
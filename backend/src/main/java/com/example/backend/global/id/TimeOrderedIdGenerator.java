@@ -0,0 +1,92 @@
+package com.example.backend.global.id;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+/**
+ * TimeOrderedIdGenerator
+ * <p>DB 왕복 없이 시간 순으로 증가하는 64비트 ID를 생성합니다.</p>
+ * <p>ID 구성은 부호 1비트, 기준 시각 이후 밀리초 41비트, worker ID 10비트, 시퀀스 12비트 입니다.
+ * worker ID가 서로 다른 서버끼리는 ID가 겹치지 않습니다.</p>
+ * <p>마지막 타임스탬프와 시퀀스를 AtomicLong 하나에 담아 CAS로 갱신하므로 락을 사용하지 않습니다.
+ * 같은 밀리초에 시퀀스가 소진되거나 시계가 뒤로 가면 마지막 타임스탬프를 이어서 사용하고,
+ * 실제 시각보다 maxDriftMillis 이상 앞서게 되면 시계가 따라올 때까지 대기합니다.</p>
+ */
+public class TimeOrderedIdGenerator {
+
+	/** 2025-01-01T00:00:00Z */
+	public static final long EPOCH_MILLIS = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+
+	public static final int WORKER_ID_BITS = 10;
+	public static final int SEQUENCE_BITS = 12;
+	public static final long MAX_WORKER_ID = (1L << WORKER_ID_BITS) - 1;
+
+	private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+	private static final int TIMESTAMP_SHIFT = WORKER_ID_BITS + SEQUENCE_BITS;
+	private static final long DEFAULT_MAX_DRIFT_MILLIS = 1000;
+
+	private final long workerId;
+	private final long maxDriftMillis;
+	private final LongSupplier clock;
+
+	/** (마지막 타임스탬프 << SEQUENCE_BITS) | 시퀀스 */
+	private final AtomicLong state = new AtomicLong();
+
+	public TimeOrderedIdGenerator(long workerId) {
+		this(workerId, DEFAULT_MAX_DRIFT_MILLIS, System::currentTimeMillis);
+	}
+
+	public TimeOrderedIdGenerator(long workerId, long maxDriftMillis, LongSupplier clock) {
+		if (workerId < 0 || workerId > MAX_WORKER_ID) {
+			throw new IllegalArgumentException("worker id must be between 0 and " + MAX_WORKER_ID);
+		}
+
+		this.workerId = workerId;
+		this.maxDriftMillis = maxDriftMillis;
+		this.clock = clock;
+	}
+
+	public long nextId() {
+		while (true) {
+			long current = state.get();
+			long now = clock.getAsLong() - EPOCH_MILLIS;
+			long next;
+
+			if (now > (current >>> SEQUENCE_BITS)) {
+				next = now << SEQUENCE_BITS;
+			} else {
+				// 같은 밀리초이거나 시계가 뒤로 간 경우: 시퀀스를 올리고, 소진되면 다음 밀리초로 넘어감
+				next = current + 1;
+
+				if ((next >>> SEQUENCE_BITS) - now > maxDriftMillis) {
+					LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+					continue;
+				}
+			}
+
+			if (state.compareAndSet(current, next)) {
+				return (next >>> SEQUENCE_BITS) << TIMESTAMP_SHIFT
+					| workerId << SEQUENCE_BITS
+					| next & SEQUENCE_MASK;
+			}
+		}
+	}
+
+	public long getWorkerId() {
+		return workerId;
+	}
+
+	/**
+	 * ID에 기록된 생성 시각을 반환합니다.
+	 */
+	public static long extractEpochMillis(long id) {
+		return (id >>> TIMESTAMP_SHIFT) + EPOCH_MILLIS;
+	}
+
+	public static long extractWorkerId(long id) {
+		return (id >>> SEQUENCE_BITS) & MAX_WORKER_ID;
+	}
+}
@@ -0,0 +1,39 @@
+package com.example.backend.global.id;
+
+import java.lang.reflect.Member;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+/**
+ * {@link TimeOrderedId} 필드의 Hibernate ID 생성기
+ * <p>Hibernate가 직접 생성하는 객체이므로, 애플리케이션 설정의 worker ID가 반영된
+ * {@link TimeOrderedIdGenerator}는 Hibernate 설정 {@link #GENERATOR_SETTING}으로 전달받습니다.
+ * 전달되지 않았으면 SessionFactory 생성이 실패합니다.</p>
+ */
+public class TimeOrderedIdentifierGenerator implements IdentifierGenerator {
+
+	public static final String GENERATOR_SETTING = "app.id.time-ordered-generator";
+
+	private final TimeOrderedIdGenerator generator;
+
+	public TimeOrderedIdentifierGenerator(TimeOrderedId config, Member member,
+		CustomIdGeneratorCreationContext context) {
+		Object setting = context.getServiceRegistry().getService(ConfigurationService.class)
+			.getSettings()
+			.get(GENERATOR_SETTING);
+
+		if (!(setting instanceof TimeOrderedIdGenerator timeOrderedIdGenerator)) {
+			throw new IllegalStateException(GENERATOR_SETTING + " is not configured");
+		}
+
+		this.generator = timeOrderedIdGenerator;
+	}
+
+	@Override
+	public Object generate(SharedSessionContractImplementor session, Object object) {
+		return generator.nextId();
+	}
+}
@@ -0,0 +1,17 @@
+package com.example.backend.global.mail.dto;
+
+import java.util.Map;
+
+import com.example.backend.global.mail.util.TemplateName;
+
+/**
+ * MailRequest
+ * <p>수신자 한 명에게 보낼 메일 입니다.</p>
+ * @param recipient 받는 사람 이메일
+ * @param title 메일 제목
+ * @param htmlParameterMap 템플릿 파라미터
+ * @param templateName 템플릿 이름
+ */
+public record MailRequest(String recipient, String title, Map<String, String> htmlParameterMap,
+						  TemplateName templateName) {
+}
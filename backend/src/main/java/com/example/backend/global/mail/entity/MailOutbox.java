@@ -0,0 +1,103 @@
+package com.example.backend.global.mail.entity;
+
+import java.time.ZonedDateTime;
+
+import com.example.backend.global.baseEntity.BaseEntity;
+import com.example.backend.global.id.TimeOrderedId;
+import com.example.backend.global.mail.util.TemplateName;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * MailOutbox
+ * <p>전송할 메일을 업무 트랜잭션 안에서 저장해두는 outbox 엔티티 입니다.</p>
+ * <p>PENDING 상태이고 nextAttemptAt이 지난 메일만 전송 대상이며, 전송 서버가 메일을 가져가면 nextAttemptAt을
+ * lease 만료 시각으로 미뤄 다른 서버가 중복으로 가져가지 않도록 합니다.</p>
+ */
+@Entity
+@Table(name = "mail_outbox", indexes = {
+	@Index(name = "idx_mail_outbox_status_next_attempt_at", columnList = "status, next_attempt_at, id")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class MailOutbox extends BaseEntity {
+
+	private static final int MAX_ERROR_LENGTH = 500;
+
+	@Id
+	@TimeOrderedId
+	private Long id;
+
+	@Column(nullable = false)
+	private String recipient;
+
+	@Column(nullable = false)
+	private String title;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "template_name", length = 50, nullable = false)
+	private TemplateName templateName;
+
+	/**
+	 * 템플릿 파라미터 JSON, 전송 후에는 삭제
+	 */
+	@Column(name = "html_parameters", columnDefinition = "TEXT")
+	private String htmlParameters;
+
+	/**
+	 * 임시 비밀번호처럼 DB에 저장하지 않는 템플릿 파라미터가 있는지 여부, 파라미터는 Redis에 TTL과 함께 저장
+	 */
+	@Column(nullable = false)
+	private boolean secret;
+
+	@Enumerated(EnumType.STRING)
+	@Column(length = 20, nullable = false)
+	private MailOutboxStatus status;
+
+	@Column(nullable = false)
+	private int attempts;
+
+	@Column(name = "next_attempt_at", nullable = false)
+	private ZonedDateTime nextAttemptAt;
+
+	@Column(name = "last_error", length = MAX_ERROR_LENGTH)
+	private String lastError;
+
+	@Builder(builderMethodName = "create")
+	public MailOutbox(String recipient, String title, TemplateName templateName, String htmlParameters,
+		boolean secret) {
+		this.recipient = recipient;
+		this.title = title;
+		this.templateName = templateName;
+		this.htmlParameters = htmlParameters;
+		this.secret = secret;
+		this.status = MailOutboxStatus.PENDING;
+		this.attempts = 0;
+		this.nextAttemptAt = ZonedDateTime.now();
+	}
+
+	/**
+	 * 전송 실패를 기록합니다. 최대 시도 횟수에 도달하면 FAILED로 변경하고, 아니면 nextAttemptAt 이후 다시 전송합니다.
+	 */
+	public void fail(String error, ZonedDateTime nextAttemptAt, int maxAttempts) {
+		this.attempts++;
+		this.lastError = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+
+		if (attempts >= maxAttempts) {
+			this.status = MailOutboxStatus.FAILED;
+			this.htmlParameters = null;
+		} else {
+			this.nextAttemptAt = nextAttemptAt;
+		}
+	}
+}
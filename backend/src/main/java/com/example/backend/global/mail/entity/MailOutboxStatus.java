@@ -0,0 +1,9 @@
+package com.example.backend.global.mail.entity;
+
+/**
+ * MailOutboxStatus
+ * <p>메일 outbox의 전송 상태 입니다.</p>
+ */
+public enum MailOutboxStatus {
+	PENDING, SENT, FAILED
+}
@@ -0,0 +1,41 @@
+package com.example.backend.global.mail.repository;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import com.example.backend.global.mail.entity.MailOutbox;
+import com.example.backend.global.mail.entity.MailOutboxStatus;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, Long> {
+
+	/**
+	 * 전송할 메일을 ID 순으로 조회하며 행 락을 겁니다.
+	 * <p>lock timeout -2는 Hibernate의 SKIP LOCKED로, 다른 서버가 가져가는 중인 행은 기다리지 않고 건너뜁니다.</p>
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+	@Query("select m from MailOutbox m where m.status = :status and m.nextAttemptAt <= :now order by m.id")
+	List<MailOutbox> findClaimable(@Param("status") MailOutboxStatus status, @Param("now") ZonedDateTime now,
+		Pageable pageable);
+
+	@Modifying(clearAutomatically = true)
+	@Query("update MailOutbox m set m.nextAttemptAt = :leaseUntil where m.id in :ids")
+	int extendLease(@Param("ids") List<Long> ids, @Param("leaseUntil") ZonedDateTime leaseUntil);
+
+	@Modifying(clearAutomatically = true)
+	@Query("update MailOutbox m set m.status = :status, m.htmlParameters = null, m.modifiedAt = :now " +
+		"where m.id in :ids")
+	int markSent(@Param("ids") List<Long> ids, @Param("status") MailOutboxStatus status,
+		@Param("now") ZonedDateTime now);
+}
@@ -0,0 +1,141 @@
+package com.example.backend.global.mail.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.backend.global.async.BoundedExecutor;
+import com.example.backend.global.mail.dto.MailRequest;
+import com.example.backend.global.mail.util.MailRateLimiter;
+import com.example.backend.global.mail.util.MailSender;
+import com.example.backend.global.mail.util.TemplateMaker;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.internet.MimeMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * BulkMailDispatcher
+ * <p>다수의 메일을 수신자별로 개별 메일로 만들어 전송합니다. 받는 사람 헤더에는 본인 주소만 들어갑니다.</p>
+ * <p>메일을 batch-size개씩 묶어 최대 parallelism개를 동시에 전송하고, 각 묶음은 {@link MailSender#sendBatch}로
+ * 풀에서 빌린 SMTP 연결 하나에 이어서 전송합니다. 동시에 전송 중인 묶음이 parallelism개면 자리가 날 때까지 기다립니다.
+ * 전체 전송 속도는 rate-per-second로 제한합니다.</p>
+ * <p>virtual-threads가 true면 묶음마다 가상 스레드에서 전송합니다.</p>
+ * <p>한 번만 전송을 시도하며 재시도는 {@link MailOutboxDispatcher}가 담당합니다.
+ * parallelism은 SMTP 연결 풀 크기(mail.pool.max-connections) 이하로 설정해야 연결을 기다리지 않습니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BulkMailDispatcher {
+
+	private final TemplateMaker templateMaker;
+	private final MailSender mailSender;
+
+	@Value("${mail.bulk.parallelism:4}")
+	private int parallelism = 4;
+
+	@Value("${mail.bulk.batch-size:50}")
+	private int batchSize = 50;
+
+	@Value("${mail.bulk.rate-per-second:50}")
+	private int ratePerSecond = 50;
+
+	@Value("${mail.bulk.virtual-threads:false}")
+	private boolean virtualThreads;
+
+	@Value("${mail.bulk.acquire-timeout-millis:60000}")
+	private long acquireTimeoutMillis = 60000;
+
+	private BoundedExecutor executor;
+	private MailRateLimiter rateLimiter;
+
+	@PostConstruct
+	public void init() {
+		executor = virtualThreads
+			? BoundedExecutor.ofVirtual("BulkMail-", parallelism, acquireTimeoutMillis)
+			: BoundedExecutor.ofPlatform("BulkMail-", parallelism, acquireTimeoutMillis);
+		rateLimiter = new MailRateLimiter(ratePerSecond);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+
+	public BoundedExecutor.ExecutorMetrics getExecutorMetrics() {
+		return executor.getMetrics();
+	}
+
+	/**
+	 * @param requestMap 전송할 메일, 키는 결과를 구분하기 위한 값 (예: outbox ID)
+	 * @return 전송에 실패한 메일의 키와 실패 원인, 요청 순서를 유지
+	 */
+	public <K> Map<K, Exception> sendAll(Map<K, MailRequest> requestMap) {
+		List<Map.Entry<K, MailRequest>> entryList = new ArrayList<>(requestMap.entrySet());
+		Map<K, Exception> failedMap = new ConcurrentHashMap<>();
+		Map<Future<?>, List<Map.Entry<K, MailRequest>>> batchMap = new LinkedHashMap<>();
+
+		for (int from = 0; from < entryList.size(); from += batchSize) {
+			List<Map.Entry<K, MailRequest>> batch = entryList.subList(from,
+				Math.min(from + batchSize, entryList.size()));
+			try {
+				batchMap.put(executor.submit(() -> sendBatch(batch, failedMap)), batch);
+			} catch (RejectedExecutionException e) {
+				batch.forEach(entry -> failedMap.put(entry.getKey(), e));
+			}
+		}
+
+		batchMap.forEach((future, batch) -> {
+			try {
+				future.get();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				batch.forEach(entry -> failedMap.putIfAbsent(entry.getKey(), e));
+			} catch (ExecutionException e) {
+				batch.forEach(entry -> failedMap.putIfAbsent(entry.getKey(), e));
+			}
+		});
+
+		Map<K, Exception> orderedFailedMap = new LinkedHashMap<>();
+		for (K key : requestMap.keySet()) {
+			if (failedMap.containsKey(key)) {
+				orderedFailedMap.put(key, failedMap.get(key));
+			}
+		}
+		return orderedFailedMap;
+	}
+
+	private <K> void sendBatch(List<Map.Entry<K, MailRequest>> batch, Map<K, Exception> failedMap) {
+		Map<MimeMessage, K> keyMap = new LinkedHashMap<>();
+
+		for (Map.Entry<K, MailRequest> entry : batch) {
+			MailRequest request = entry.getValue();
+			try {
+				MimeMessage mimeMessage = templateMaker.create(mailSender.createMimeMessage(), request.recipient(),
+					request.title(), request.htmlParameterMap(), request.templateName());
+				keyMap.put(mimeMessage, entry.getKey());
+			} catch (RuntimeException e) {
+				failedMap.put(entry.getKey(), e);
+			}
+		}
+
+		if (keyMap.isEmpty()) {
+			return;
+		}
+
+		rateLimiter.acquire(keyMap.size());
+		mailSender.sendBatch(new ArrayList<>(keyMap.keySet()))
+			.forEach((mimeMessage, e) -> failedMap.put(keyMap.get(mimeMessage), e));
+	}
+}
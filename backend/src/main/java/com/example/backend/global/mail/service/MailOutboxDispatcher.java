@@ -0,0 +1,119 @@
+package com.example.backend.global.mail.service;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.backend.global.mail.dto.MailRequest;
+import com.example.backend.global.mail.entity.MailOutbox;
+import com.example.backend.global.mail.util.MailTemplateRenderer;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * MailOutboxDispatcher
+ * <p>메일 outbox를 주기적으로 조회해 전송하고 결과를 기록합니다.</p>
+ * <p>outbox에 쌓인 메일이 batch-size개보다 많으면 다음 주기를 기다리지 않고 이어서 가져옵니다.
+ * 여러 서버에서 동시에 실행되어도 SKIP LOCKED로 서로 다른 메일을 가져갑니다.
+ * 전송 후 결과를 기록하기 전에 서버가 중단되면 lease가 끝난 뒤 다시 전송되므로 같은 메일이 두 번 전송될 수 있습니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MailOutboxDispatcher {
+
+	private static final TypeReference<Map<String, String>> HTML_PARAMETER_TYPE = new TypeReference<>() {
+	};
+
+	private final MailOutboxService mailOutboxService;
+	private final BulkMailDispatcher bulkMailDispatcher;
+	private final MailTemplateRenderer mailTemplateRenderer;
+	private final ObjectMapper objectMapper;
+
+	@Value("${mail.outbox.batch-size:200}")
+	private int batchSize = 200;
+
+	@Scheduled(fixedDelayString = "${mail.outbox.poll-interval-millis:1000}")
+	public void dispatch() {
+		int claimed = 0;
+		int sent = 0;
+		List<MailOutbox> mailOutboxList;
+		do {
+			mailOutboxList = mailOutboxService.claim(batchSize);
+			claimed += mailOutboxList.size();
+			if (!mailOutboxList.isEmpty()) {
+				sent += send(mailOutboxList);
+			}
+		} while (mailOutboxList.size() == batchSize);
+
+		if (claimed > 0) {
+			log.info("mail outbox dispatched sent={}/{} render={} executor={}", sent, claimed,
+				mailTemplateRenderer.getMetrics(), bulkMailDispatcher.getExecutorMetrics());
+		}
+	}
+
+	/**
+	 * @return 전송에 성공한 메일 수
+	 */
+	private int send(List<MailOutbox> mailOutboxList) {
+		Map<Long, MailRequest> requestMap = new LinkedHashMap<>();
+		Map<Long, Exception> failedMap = new LinkedHashMap<>();
+
+		for (MailOutbox mailOutbox : mailOutboxList) {
+			try {
+				requestMap.put(mailOutbox.getId(), toMailRequest(mailOutbox));
+			} catch (RuntimeException e) {
+				failedMap.put(mailOutbox.getId(), e);
+			}
+		}
+
+		failedMap.putAll(bulkMailDispatcher.sendAll(requestMap));
+
+		List<Long> sentIds = requestMap.keySet().stream()
+			.filter(id -> !failedMap.containsKey(id))
+			.toList();
+
+		mailOutboxService.markSent(sentIds);
+		List<Long> sentSecretIds = mailOutboxList.stream()
+			.filter(MailOutbox::isSecret)
+			.map(MailOutbox::getId)
+			.filter(sentIds::contains)
+			.toList();
+		if (!sentSecretIds.isEmpty()) {
+			mailOutboxService.deleteSecretParameters(sentSecretIds);
+		}
+		if (!failedMap.isEmpty()) {
+			log.warn("mail outbox send failed {}/{}", failedMap.size(), mailOutboxList.size());
+			mailOutboxService.markFailed(failedMap);
+		}
+
+		return sentIds.size();
+	}
+
+	private MailRequest toMailRequest(MailOutbox mailOutbox) {
+		Map<String, String> htmlParameterMap = new HashMap<>();
+
+		if (mailOutbox.getHtmlParameters() != null) {
+			try {
+				htmlParameterMap.putAll(objectMapper.readValue(mailOutbox.getHtmlParameters(), HTML_PARAMETER_TYPE));
+			} catch (JsonProcessingException e) {
+				throw new IllegalStateException("invalid html parameters mailOutboxId=" + mailOutbox.getId(), e);
+			}
+		}
+		if (mailOutbox.isSecret()) {
+			htmlParameterMap.putAll(mailOutboxService.findSecretParameters(mailOutbox));
+		}
+
+		return new MailRequest(mailOutbox.getRecipient(), mailOutbox.getTitle(), htmlParameterMap,
+			mailOutbox.getTemplateName());
+	}
+}
@@ -0,0 +1,181 @@
+package com.example.backend.global.mail.service;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.backend.global.mail.entity.MailOutbox;
+import com.example.backend.global.mail.entity.MailOutboxStatus;
+import com.example.backend.global.mail.repository.MailOutboxRepository;
+import com.example.backend.global.mail.util.TemplateName;
+import com.example.backend.global.redis.service.RedisService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * MailOutboxService
+ * <p>메일 outbox 저장과 전송 상태 변경을 담당합니다.</p>
+ * <p>enqueue는 호출한 쪽의 트랜잭션에 참여하므로, 업무 트랜잭션이 롤백되면 메일도 저장되지 않습니다.</p>
+ * <p>임시 비밀번호 같은 secret 파라미터는 outbox 테이블에 평문으로 남기지 않고 Redis에 TTL과 함께 저장하며,
+ * 전송에 성공하거나 최종 실패하면 바로 삭제합니다. Redis 쓰기도 트랜잭션을 지원하는 redisTemplate으로 실행되어
+ * 업무 트랜잭션이 커밋될 때 함께 반영됩니다.</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class MailOutboxService {
+
+	private static final String SECRET_PREFIX = "mail_outbox_secret:";
+	private static final TypeReference<Map<String, String>> PARAMETER_TYPE = new TypeReference<>() {
+	};
+
+	private final MailOutboxRepository mailOutboxRepository;
+	private final RedisService redisService;
+	private final ObjectMapper objectMapper;
+
+	@Value("${mail.outbox.lease-millis:60000}")
+	private long leaseMillis = 60000;
+
+	@Value("${mail.outbox.max-attempts:5}")
+	private int maxAttempts = 5;
+
+	@Value("${mail.outbox.retry-backoff-millis:30000}")
+	private long retryBackoffMillis = 30000;
+
+	/**
+	 * secret 파라미터 보관 시간(분), 재시도가 모두 끝날 때까지 충분히 길어야 합니다.
+	 */
+	@Value("${mail.outbox.secret-ttl-minutes:1440}")
+	private long secretTtlMinutes = 1440;
+
+	public void enqueue(String to, String title, Map<String, String> htmlParameterMap, TemplateName templateName) {
+		enqueue(to, title, htmlParameterMap, Map.of(), templateName);
+	}
+
+	/**
+	 * @param secretParameterMap outbox 테이블에 저장하지 않을 템플릿 파라미터
+	 */
+	public void enqueue(String to, String title, Map<String, String> htmlParameterMap,
+		Map<String, String> secretParameterMap, TemplateName templateName) {
+		MailOutbox mailOutbox = mailOutboxRepository.save(
+			createMailOutbox(to, title, htmlParameterMap, !secretParameterMap.isEmpty(), templateName));
+
+		if (mailOutbox.isSecret()) {
+			redisService.setData(SECRET_PREFIX + mailOutbox.getId(), toJson(secretParameterMap), secretTtlMinutes);
+		}
+	}
+
+	public void enqueueAll(Collection<String> toList, String title, TemplateName templateName,
+		Function<String, Map<String, String>> htmlParameterResolver) {
+		List<MailOutbox> mailOutboxList = new ArrayList<>();
+		for (String to : toList) {
+			mailOutboxList.add(createMailOutbox(to, title, htmlParameterResolver.apply(to), false, templateName));
+		}
+		mailOutboxRepository.saveAll(mailOutboxList);
+	}
+
+	/**
+	 * 전송할 메일을 최대 batchSize개 가져오고, lease 동안 다른 서버가 가져가지 않도록 nextAttemptAt을 미룹니다.
+	 * <p>lease 안에 전송 결과가 기록되지 않으면(서버 중단 등) lease가 끝난 뒤 다시 전송 대상이 됩니다.</p>
+	 */
+	public List<MailOutbox> claim(int batchSize) {
+		ZonedDateTime now = ZonedDateTime.now();
+		List<MailOutbox> mailOutboxList = mailOutboxRepository.findClaimable(MailOutboxStatus.PENDING, now,
+			PageRequest.of(0, batchSize));
+
+		if (!mailOutboxList.isEmpty()) {
+			List<Long> ids = mailOutboxList.stream().map(MailOutbox::getId).toList();
+			mailOutboxRepository.extendLease(ids, now.plus(Duration.ofMillis(leaseMillis)));
+		}
+
+		return mailOutboxList;
+	}
+
+	/**
+	 * Redis에 저장된 secret 파라미터를 조회합니다.
+	 * <p>트랜잭션 안에서는 redisTemplate의 읽기 명령이 MULTI에 쌓여 null을 반환하므로 트랜잭션 밖에서 조회합니다.</p>
+	 * @throws IllegalStateException TTL이 지나 secret 파라미터가 없는 경우
+	 */
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public Map<String, String> findSecretParameters(MailOutbox mailOutbox) {
+		String json = redisService.getData(SECRET_PREFIX + mailOutbox.getId());
+		if (json == null) {
+			throw new IllegalStateException("secret parameters expired mailOutboxId=" + mailOutbox.getId());
+		}
+
+		try {
+			return objectMapper.readValue(json, PARAMETER_TYPE);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("invalid secret parameters mailOutboxId=" + mailOutbox.getId(), e);
+		}
+	}
+
+	public void markSent(List<Long> ids) {
+		if (ids.isEmpty()) {
+			return;
+		}
+		mailOutboxRepository.markSent(ids, MailOutboxStatus.SENT, ZonedDateTime.now());
+	}
+
+	/**
+	 * 실패한 메일은 시도 횟수에 비례해 늦춰서 다시 전송하고, max-attempts번 실패하면 FAILED로 남깁니다.
+	 */
+	public void markFailed(Map<Long, Exception> failedMap) {
+		ZonedDateTime now = ZonedDateTime.now();
+
+		for (MailOutbox mailOutbox : mailOutboxRepository.findAllById(failedMap.keySet())) {
+			Exception e = failedMap.get(mailOutbox.getId());
+			String error = e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+			ZonedDateTime nextAttemptAt = now.plus(Duration.ofMillis(retryBackoffMillis * (mailOutbox.getAttempts() + 1)));
+
+			mailOutbox.fail(error, nextAttemptAt, maxAttempts);
+
+			if (mailOutbox.isSecret() && mailOutbox.getStatus() == MailOutboxStatus.FAILED) {
+				deleteSecretParameters(mailOutbox.getId());
+			}
+		}
+	}
+
+	/**
+	 * 전송에 성공한 메일의 secret 파라미터를 삭제합니다.
+	 */
+	public void deleteSecretParameters(List<Long> ids) {
+		ids.forEach(this::deleteSecretParameters);
+	}
+
+	private void deleteSecretParameters(Long id) {
+		redisService.delete(SECRET_PREFIX + id);
+	}
+
+	private MailOutbox createMailOutbox(String to, String title, Map<String, String> htmlParameterMap, boolean secret,
+		TemplateName templateName) {
+		return MailOutbox.create()
+			.recipient(to)
+			.title(title)
+			.templateName(templateName)
+			.htmlParameters(htmlParameterMap.isEmpty() ? null : toJson(htmlParameterMap))
+			.secret(secret)
+			.build();
+	}
+
+	private String toJson(Map<String, String> parameterMap) {
+		try {
+			return objectMapper.writeValueAsString(parameterMap);
+		} catch (JsonProcessingException e) {
+			throw new IllegalArgumentException(e);
+		}
+	}
+}
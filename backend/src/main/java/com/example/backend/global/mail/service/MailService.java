@@ -8,25 +8,28 @@ import com.example.backend.global.mail.util.TemplateName;
 /**
  * MailService
  * <p>메일 전송 서비스 인터페이스 입니다.</p>
+ * <p>메일은 바로 전송하지 않고 호출한 트랜잭션 안에서 메일 outbox에 저장하며,
+ * 트랜잭션이 커밋된 뒤 {@link MailOutboxDispatcher}가 전송합니다. 트랜잭션이 롤백되면 메일도 전송되지 않습니다.</p>
  * @author Kim Dong O
  */
 public interface MailService {
 	/**
-	 * @implSpec 비동기로 이메일을 전송 합니다.
+	 * @implSpec 이메일을 전송 대기열(outbox)에 저장 합니다.
 	 * @param to 받는 사람 이메일
 	 * @param emailCertification 이메일 인증 객체
 	 * @param templateName 템플릿 이름
 	 */
 	void sendCertificationMail(String to, EmailCertification emailCertification, TemplateName templateName);
 	/**
-	 * @implSpec 비동기로 이메일을 전송 합니다.
+	 * @implSpec 이메일을 전송 대기열(outbox)에 저장 합니다.
 	 * @param to 받는 사람 이메일
 	 * @param temporaryPassword 임시 비밀번호
 	 * @param templateName 템플릿 이름
 	 */
 	void sendTemporaryPasswordMail(String to, String temporaryPassword, TemplateName templateName);
 	/**
-	 * @implSpec 비동기로 다수의 회원에게 이메일을 전송 합니다.
+	 * @implSpec 다수의 회원에게 보낼 이메일을 전송 대기열(outbox)에 저장 합니다.
+	 * 수신자마다 개별 메일을 만들어 전송하므로 다른 수신자의 주소가 노출되지 않습니다.
 	 * @param to 받는 사람 이메일들의 이메일
 	 * @param templateName 템플릿 이름
 	 */
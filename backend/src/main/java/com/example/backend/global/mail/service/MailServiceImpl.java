@@ -5,15 +5,11 @@ import java.util.List;
 import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 import com.example.backend.domain.common.EmailCertification;
-import com.example.backend.global.mail.util.MailSender;
-import com.example.backend.global.mail.util.TemplateMaker;
 import com.example.backend.global.mail.util.TemplateName;
 
-import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -21,10 +17,8 @@ import lombok.RequiredArgsConstructor;
 public class MailServiceImpl implements MailService {
 	@Value("${mail.verify-url}")
 	private String verifyUrl;
-	private final TemplateMaker templateMaker;
-	private final MailSender mailSender;
+	private final MailOutboxService mailOutboxService;
 
-	@Async("threadPoolTaskExecutor")
 	@Override
 	public void sendCertificationMail(String to, EmailCertification emailCertification, TemplateName templateName) {
 		StringBuilder titleBuilder = new StringBuilder();
@@ -49,33 +43,26 @@ public class MailServiceImpl implements MailService {
 
 		String title = titleBuilder.toString();
 
-		MimeMessage mimeMessage = templateMaker.create(mailSender.createMimeMessage(), to, title, htmlParameterMap,
-			templateName);
-
-		mailSender.send(mimeMessage);
+		mailOutboxService.enqueue(to, title, htmlParameterMap, templateName);
 	}
 
-	@Async("threadPoolTaskExecutor")
 	@Override
 	public void sendTemporaryPasswordMail(String to, String temporaryPassword, TemplateName templateName) {
 		StringBuilder titleBuilder = new StringBuilder();
-		Map<String, String> htmlParameterMap = new HashMap<>();
+		Map<String, String> secretParameterMap = new HashMap<>();
 		switch (templateName) {
 			case TemplateName.PASSWORD_RESET -> {
 				titleBuilder.append("[TEAM8] 임시 비밀번호 입니다.");
-				htmlParameterMap.put("temporaryPassword", temporaryPassword);
+				secretParameterMap.put("temporaryPassword", temporaryPassword);
 			}
 		}
 
 		String title = titleBuilder.toString();
 
-		MimeMessage mimeMessage = templateMaker.create(mailSender.createMimeMessage(), to, title, htmlParameterMap,
-			templateName);
-
-		mailSender.send(mimeMessage);
+		// 임시 비밀번호는 outbox 테이블에 남기지 않음
+		mailOutboxService.enqueue(to, title, Map.of(), secretParameterMap, templateName);
 	}
 
-	@Async("threadPoolTaskExecutor")
 	@Override
 	public void sendDeliveryStartEmail(List<String> to, TemplateName templateName) {
 		StringBuilder titleBuilder = new StringBuilder();
@@ -88,9 +75,7 @@ public class MailServiceImpl implements MailService {
 
 		String title = titleBuilder.toString();
 
-		MimeMessage mimeMessage = templateMaker.create(mailSender.createMimeMessage(), to, title, templateName);
-
-		mailSender.send(mimeMessage);
+		mailOutboxService.enqueueAll(to, title, templateName, username -> Map.of("username", username));
 	}
 
 	private String generateCertificationUrl(String to, String certificationCode, String verifyType) {
@@ -2,11 +2,8 @@ package com.example.backend.global.mail.util;
 
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.mail.javamail.MimeMessageHelper;
-import org.thymeleaf.context.Context;
-import org.thymeleaf.spring6.SpringTemplateEngine;
 
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
@@ -15,17 +12,16 @@ import lombok.extern.slf4j.Slf4j;
 /**
  * TemplateMaker 구현체 입니다.
  * <p>이메일 템플릿을 만들어 반환합니다.</p>
+ * <p>HTML은 {@link MailTemplateRenderer}가 캐시해둔 템플릿에 파라미터만 치환해 만듭니다.</p>
  * @author : Kim Dong O
  */
 @Slf4j
 public class EmailTemplateMaker implements TemplateMaker {
 
-	private final SpringTemplateEngine templateEngine;
-	private Map<String, String> templateNameMap = new ConcurrentHashMap<>();
+	private final MailTemplateRenderer mailTemplateRenderer;
 
-	public EmailTemplateMaker(SpringTemplateEngine templateEngine, Map<String, String> templateNameMap) {
-		this.templateEngine = templateEngine;
-		this.templateNameMap = templateNameMap;
+	public EmailTemplateMaker(MailTemplateRenderer mailTemplateRenderer) {
+		this.mailTemplateRenderer = mailTemplateRenderer;
 	}
 
 	@Override
@@ -34,13 +30,8 @@ public class EmailTemplateMaker implements TemplateMaker {
 		try {
 			MimeMessageHelper helper = new MimeMessageHelper(newMimeMessage, true, "UTF-8");
 
-			Context context = new Context();
-
-			//파라미터 값 설정
-			htmlParameterMap.forEach(context::setVariable);
-
-			String processedHtmlContent = templateEngine.process(templateNameMap.get(templateName.toString()), context);
-			log.info("processedHtmlContent = {}", processedHtmlContent);
+			String processedHtmlContent = mailTemplateRenderer.render(templateName, htmlParameterMap);
+			log.debug("rendered templateName={} length={}", templateName, processedHtmlContent.length());
 
 			helper.setTo(username);
 			helper.setSubject(title);
@@ -58,12 +49,10 @@ public class EmailTemplateMaker implements TemplateMaker {
 		try {
 			MimeMessageHelper helper = new MimeMessageHelper(newMimeMessage, true, "UTF-8");
 
-			Context context = new Context();
-
 			String[] emailArray = usernameList.toArray(new String[0]);
 
-			String processedHtmlContent = templateEngine.process(templateNameMap.get(templateName.toString()), context);
-			log.info("processedHtmlContent = {}", processedHtmlContent);
+			String processedHtmlContent = mailTemplateRenderer.render(templateName, Map.of());
+			log.debug("rendered templateName={} length={}", templateName, processedHtmlContent.length());
 
 			helper.setTo(emailArray);
 			helper.setSubject(title);
@@ -0,0 +1,39 @@
+package com.example.backend.global.mail.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * MailRateLimiter
+ * <p>초당 전송 메일 수를 제한합니다.</p>
+ * <p>메일 한 통마다 1초 / permitsPerSecond 간격의 전송 시각을 순서대로 예약하고, 예약한 시각까지 대기합니다.
+ * permitsPerSecond가 0 이하면 제한하지 않습니다.</p>
+ */
+public class MailRateLimiter {
+
+	private final long intervalNanos;
+	private long nextFreeNanos = System.nanoTime();
+
+	public MailRateLimiter(int permitsPerSecond) {
+		this.intervalNanos = permitsPerSecond > 0 ? TimeUnit.SECONDS.toNanos(1) / permitsPerSecond : 0;
+	}
+
+	public void acquire(int permits) {
+		if (intervalNanos == 0 || permits <= 0) {
+			return;
+		}
+
+		long scheduled;
+		synchronized (this) {
+			long now = System.nanoTime();
+			scheduled = nextFreeNanos - now > 0 ? nextFreeNanos : now;
+			nextFreeNanos = scheduled + intervalNanos * permits;
+		}
+
+		// parkNanos는 예약한 시각 전에 깨어날 수 있으므로 남은 시간만큼 다시 대기, 인터럽트되면 플래그를 남기고 중단
+		long waitNanos;
+		while ((waitNanos = scheduled - System.nanoTime()) > 0 && !Thread.currentThread().isInterrupted()) {
+			LockSupport.parkNanos(waitNanos);
+		}
+	}
+}
@@ -1,5 +1,8 @@
 package com.example.backend.global.mail.util;
 
+import java.util.List;
+import java.util.Map;
+
 import jakarta.mail.internet.MimeMessage;
 
 /**
@@ -14,6 +17,14 @@ public interface MailSender {
 	 */
 	public void send(MimeMessage mimeMessage);
 
+	/**
+	 * @implSpec 여러 {@link MimeMessage}를 풀에서 빌린 SMTP 연결 하나로 이어서 전송합니다.
+	 * 메일 단위로 실패를 기록하며, 일부 메일이 실패해도 나머지 메일은 계속 전송합니다.
+	 * @param mimeMessageList
+	 * @return 전송에 실패한 {@link MimeMessage}와 실패 원인, 모두 성공하면 빈 Map
+	 */
+	public Map<MimeMessage, Exception> sendBatch(List<MimeMessage> mimeMessageList);
+
 	/**
 	 * @implSpec 빈 MimeMessage를 생성해 반환합니다.
 	 * @return {@link MimeMessage}
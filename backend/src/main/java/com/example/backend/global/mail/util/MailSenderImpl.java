@@ -1,8 +1,16 @@
 package com.example.backend.global.mail.util;
 
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Component;
 
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Transport;
 import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 
@@ -15,12 +23,49 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class MailSenderImpl implements MailSender {
 	private final JavaMailSender javaMailSender;
+	private final SmtpConnectionPool smtpConnectionPool;
 
 	@Override
 	public void send(MimeMessage mimeMessage) {
 		javaMailSender.send(mimeMessage);
 	}
 
+	@Override
+	public Map<MimeMessage, Exception> sendBatch(List<MimeMessage> mimeMessageList) {
+		Map<MimeMessage, Exception> failedMessageMap = new LinkedHashMap<>();
+		Transport transport = null;
+
+		try {
+			for (MimeMessage mimeMessage : mimeMessageList) {
+				try {
+					if (transport == null) {
+						transport = smtpConnectionPool.borrow();
+					}
+
+					if (mimeMessage.getSentDate() == null) {
+						mimeMessage.setSentDate(new Date());
+					}
+					mimeMessage.saveChanges();
+					transport.sendMessage(mimeMessage, mimeMessage.getAllRecipients());
+				} catch (MessagingException e) {
+					failedMessageMap.put(mimeMessage, e);
+
+					// 수신자가 거부된 경우가 아니면 연결 문제일 수 있으므로, 연결을 버리고 다음 메일은 새 연결로 전송
+					if (transport != null && !(e instanceof SendFailedException)) {
+						smtpConnectionPool.invalidate(transport);
+						transport = null;
+					}
+				}
+			}
+		} finally {
+			if (transport != null) {
+				smtpConnectionPool.release(transport);
+			}
+		}
+
+		return failedMessageMap;
+	}
+
 	@Override
 	public MimeMessage createMimeMessage() {
 		return javaMailSender.createMimeMessage();
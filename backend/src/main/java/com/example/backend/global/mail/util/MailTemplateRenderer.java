@@ -0,0 +1,131 @@
+package com.example.backend.global.mail.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.web.util.HtmlUtils;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * MailTemplateRenderer
+ * <p>메일 템플릿을 한 번만 처리해두고, 메일마다 파라미터 값만 치환해 HTML을 만듭니다.</p>
+ * <p>템플릿과 파라미터 이름 조합마다 처음 한 번 파라미터 자리에 표식을 넣어 Thymeleaf로 처리하고,
+ * 결과를 고정 문자열과 파라미터 자리로 나눠 캐시합니다. 이후에는 파라미터 값을 HTML escape해서 끼워 넣기만 하므로
+ * 대량 메일도 수신자마다 템플릿을 다시 처리하지 않습니다.</p>
+ * <p>파라미터는 th:text, th:href처럼 값을 그대로 출력하는 곳에만 사용할 수 있으며, th:if 같은 조건식에는 사용할 수 없습니다.</p>
+ */
+@Slf4j
+public class MailTemplateRenderer {
+
+	private final SpringTemplateEngine templateEngine;
+	private final Map<String, String> templateNameMap;
+	private final Map<CompileKey, CompiledTemplate> compiledTemplateMap = new ConcurrentHashMap<>();
+
+	private final LongAdder compileCount = new LongAdder();
+	private final LongAdder renderCount = new LongAdder();
+	private final LongAdder totalRenderNanos = new LongAdder();
+	private final LongAccumulator maxRenderNanos = new LongAccumulator(Math::max, 0);
+
+	public MailTemplateRenderer(SpringTemplateEngine templateEngine, Map<String, String> templateNameMap) {
+		this.templateEngine = templateEngine;
+		this.templateNameMap = templateNameMap;
+	}
+
+	public String render(TemplateName templateName, Map<String, String> htmlParameterMap) {
+		long start = System.nanoTime();
+
+		CompiledTemplate compiledTemplate = compiledTemplateMap.computeIfAbsent(
+			new CompileKey(templateName, Set.copyOf(htmlParameterMap.keySet())), this::compile);
+		String html = compiledTemplate.render(htmlParameterMap);
+
+		long elapsed = System.nanoTime() - start;
+		renderCount.increment();
+		totalRenderNanos.add(elapsed);
+		maxRenderNanos.accumulate(elapsed);
+
+		return html;
+	}
+
+	public MailRenderMetrics getMetrics() {
+		return new MailRenderMetrics(compileCount.sum(), renderCount.sum(), totalRenderNanos.sum(),
+			maxRenderNanos.get());
+	}
+
+	private CompiledTemplate compile(CompileKey key) {
+		// 템플릿 내용과 겹치지 않도록 컴파일마다 임의의 값을 표식에 포함
+		String nonce = Long.toHexString(ThreadLocalRandom.current().nextLong());
+		List<String> parameterNameList = new ArrayList<>(key.parameterNames());
+
+		Context context = new Context();
+		for (int i = 0; i < parameterNameList.size(); i++) {
+			context.setVariable(parameterNameList.get(i), "__MAILVAR_" + i + "_" + nonce + "__");
+		}
+
+		String processed = templateEngine.process(templateNameMap.get(key.templateName().toString()), context);
+		compileCount.increment();
+		log.info("mail template compiled templateName={} parameters={} length={}", key.templateName(),
+			parameterNameList, processed.length());
+
+		Matcher matcher = Pattern.compile("__MAILVAR_(\\d+)_" + nonce + "__").matcher(processed);
+		List<String> fragmentList = new ArrayList<>();
+		List<String> slotList = new ArrayList<>();
+		int last = 0;
+		while (matcher.find()) {
+			fragmentList.add(processed.substring(last, matcher.start()));
+			slotList.add(parameterNameList.get(Integer.parseInt(matcher.group(1))));
+			last = matcher.end();
+		}
+		fragmentList.add(processed.substring(last));
+
+		return new CompiledTemplate(fragmentList, slotList,
+			fragmentList.stream().mapToInt(String::length).sum());
+	}
+
+	private record CompileKey(TemplateName templateName, Set<String> parameterNames) {
+	}
+
+	/**
+	 * fragmentList.size()는 항상 slotList.size() + 1
+	 */
+	private record CompiledTemplate(List<String> fragmentList, List<String> slotList, int fixedLength) {
+
+		String render(Map<String, String> htmlParameterMap) {
+			StringBuilder builder = new StringBuilder(fixedLength + slotList.size() * 64);
+
+			for (int i = 0; i < slotList.size(); i++) {
+				builder.append(fragmentList.get(i));
+
+				String value = htmlParameterMap.get(slotList.get(i));
+				if (value != null) {
+					builder.append(HtmlUtils.htmlEscape(value, "UTF-8"));
+				}
+			}
+
+			return builder.append(fragmentList.get(slotList.size())).toString();
+		}
+	}
+
+	/**
+	 * @param compileCount Thymeleaf로 템플릿을 처리한 횟수
+	 * @param renderCount 메일 HTML을 만든 횟수
+	 * @param totalRenderNanos 메일 HTML을 만드는 데 걸린 시간 합계
+	 * @param maxRenderNanos 메일 HTML을 만드는 데 걸린 최대 시간
+	 */
+	public record MailRenderMetrics(long compileCount, long renderCount, long totalRenderNanos, long maxRenderNanos) {
+
+		public long averageRenderNanos() {
+			return renderCount == 0 ? 0 : totalRenderNanos / renderCount;
+		}
+	}
+}
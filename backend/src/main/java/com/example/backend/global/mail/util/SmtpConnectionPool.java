@@ -0,0 +1,129 @@
+package com.example.backend.global.mail.util;
+
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * SmtpConnectionPool
+ * <p>SMTP 연결({@link Transport})을 재사용하기 위한 풀 입니다.</p>
+ * <p>JavaMailSender.send는 호출마다 SMTP 연결을 맺고(TCP, STARTTLS, AUTH) 끊으므로, 대량 메일 전송 시에는
+ * 연결 수립이 전송 시간의 대부분을 차지합니다. 반납된 연결은 유휴 목록에 보관했다가 다음 요청에 빌려주며,
+ * 빌려줄 때 서버가 연결을 끊었으면 새로 연결합니다. 동시에 열 수 있는 연결은 maxConnections개로 제한합니다.</p>
+ */
+@Slf4j
+public class SmtpConnectionPool implements AutoCloseable {
+
+	private static final String DEFAULT_PROTOCOL = "smtp";
+
+	private final JavaMailSenderImpl javaMailSender;
+	private final Semaphore permits;
+	private final long acquireTimeoutMillis;
+	private final Deque<Transport> idleTransports = new ConcurrentLinkedDeque<>();
+	private volatile boolean closed;
+
+	public SmtpConnectionPool(JavaMailSenderImpl javaMailSender, int maxConnections, long acquireTimeoutMillis) {
+		this.javaMailSender = javaMailSender;
+		this.permits = new Semaphore(maxConnections);
+		this.acquireTimeoutMillis = acquireTimeoutMillis;
+	}
+
+	/**
+	 * 연결된 Transport를 빌려줍니다. 사용이 끝나면 {@link #release} 또는 {@link #invalidate}로 반드시 돌려줘야 합니다.
+	 */
+	public Transport borrow() throws MessagingException {
+		acquirePermit();
+
+		try {
+			Transport transport;
+			while ((transport = idleTransports.pollFirst()) != null) {
+				if (transport.isConnected()) {
+					return transport;
+				}
+				closeQuietly(transport);
+			}
+
+			return connect();
+		} catch (MessagingException | RuntimeException e) {
+			permits.release();
+			throw e;
+		}
+	}
+
+	/**
+	 * 정상적으로 사용한 연결을 유휴 목록에 반납합니다.
+	 */
+	public void release(Transport transport) {
+		if (closed) {
+			closeQuietly(transport);
+		} else {
+			idleTransports.offerFirst(transport);
+		}
+		permits.release();
+	}
+
+	/**
+	 * 오류가 발생한 연결을 닫고 풀에서 제외합니다.
+	 */
+	public void invalidate(Transport transport) {
+		closeQuietly(transport);
+		permits.release();
+	}
+
+	public int getIdleCount() {
+		return idleTransports.size();
+	}
+
+	@Override
+	public void close() {
+		closed = true;
+
+		Transport transport;
+		while ((transport = idleTransports.pollFirst()) != null) {
+			closeQuietly(transport);
+		}
+	}
+
+	private void acquirePermit() throws MessagingException {
+		try {
+			if (!permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+				throw new MessagingException("timed out waiting for smtp connection");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new MessagingException("interrupted while waiting for smtp connection", e);
+		}
+	}
+
+	private Transport connect() throws MessagingException {
+		String protocol = javaMailSender.getProtocol() == null ? DEFAULT_PROTOCOL : javaMailSender.getProtocol();
+		Transport transport = javaMailSender.getSession().getTransport(protocol);
+
+		String username = javaMailSender.getUsername();
+		String password = javaMailSender.getPassword();
+		if ("".equals(username)) {
+			username = null;
+			if ("".equals(password)) {
+				password = null;
+			}
+		}
+
+		transport.connect(javaMailSender.getHost(), javaMailSender.getPort(), username, password);
+		return transport;
+	}
+
+	private void closeQuietly(Transport transport) {
+		try {
+			transport.close();
+		} catch (MessagingException e) {
+			log.debug("failed to close smtp connection", e);
+		}
+	}
+}
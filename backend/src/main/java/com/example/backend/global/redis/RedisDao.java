@@ -1,6 +1,9 @@
 package com.example.backend.global.redis;
 
+import java.time.Duration;
+import java.util.Collection;
 import java.util.Map;
+import java.util.Set;
 
 public interface RedisDao {
 	void setData(String key, String data, long timeout);
@@ -21,4 +24,25 @@ public interface RedisDao {
 
 	Boolean hasKey(String key);
 
+	void addSetData(String key, Collection<String> data);
+
+	Set<String> getSetData(String key);
+
+	/**
+	 * key가 없을 때만 값을 저장합니다. (SET NX PX)
+	 * @return 저장 여부
+	 */
+	boolean setDataIfAbsent(String key, String data, Duration timeout);
+
+	/**
+	 * 저장된 값이 data와 같을 때만 만료 시간을 갱신합니다.
+	 * @return 갱신 여부
+	 */
+	boolean expireIfEquals(String key, String data, Duration timeout);
+
+	/**
+	 * 저장된 값이 data와 같을 때만 key를 삭제합니다.
+	 * @return 삭제 여부
+	 */
+	boolean deleteIfEquals(String key, String data);
 }
@@ -1,11 +1,18 @@
 package com.example.backend.global.redis;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import org.springframework.data.redis.core.HashOperations;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 
 import lombok.RequiredArgsConstructor;
@@ -15,6 +22,20 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 @RequiredArgsConstructor
 public class RedisDaoImpl implements RedisDao {
+	private static final RedisScript<Long> EXPIRE_IF_EQUALS_SCRIPT = new DefaultRedisScript<>("""
+		if redis.call('GET', KEYS[1]) == ARGV[1] then
+			return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+		end
+		return 0
+		""", Long.class);
+
+	private static final RedisScript<Long> DELETE_IF_EQUALS_SCRIPT = new DefaultRedisScript<>("""
+		if redis.call('GET', KEYS[1]) == ARGV[1] then
+			return redis.call('DEL', KEYS[1])
+		end
+		return 0
+		""", Long.class);
+
 	private final RedisTemplate<String, Object> redisTemplate;
 
 	@Override
@@ -67,4 +88,39 @@ public class RedisDaoImpl implements RedisDao {
 	public Boolean hasKey(String key) {
 		return redisTemplate.hasKey(key);
 	}
+
+	@Override
+	public void addSetData(String key, Collection<String> data) {
+		redisTemplate.opsForSet().add(key, data.toArray());
+	}
+
+	@Override
+	public Set<String> getSetData(String key) {
+		Set<Object> members = redisTemplate.opsForSet().members(key);
+		if (members == null) {
+			return Set.of();
+		}
+
+		return members.stream()
+			.map(String::valueOf)
+			.collect(Collectors.toSet());
+	}
+
+	@Override
+	public boolean setDataIfAbsent(String key, String data, Duration timeout) {
+		return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, data, timeout));
+	}
+
+	@Override
+	public boolean expireIfEquals(String key, String data, Duration timeout) {
+		Long result = redisTemplate.execute(EXPIRE_IF_EQUALS_SCRIPT, List.of(key), data,
+			String.valueOf(timeout.toMillis()));
+		return result != null && result == 1;
+	}
+
+	@Override
+	public boolean deleteIfEquals(String key, String data) {
+		Long result = redisTemplate.execute(DELETE_IF_EQUALS_SCRIPT, List.of(key), data);
+		return result != null && result == 1;
+	}
 }
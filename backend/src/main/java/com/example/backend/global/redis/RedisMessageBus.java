@@ -0,0 +1,92 @@
+package com.example.backend.global.redis;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * RedisMessageBus
+ * <p>서버 간에 변경 알림을 주고받는 Redis Pub/Sub 채널 입니다.</p>
+ * <p>발행한 서버는 로컬 처리를 직접 실행하고 자신이 발행한 메시지는 무시하므로, 같은 변경을 두 번 처리하지 않습니다.
+ * Pub/Sub은 메시지를 보관하지 않으므로 구독자는 메시지 유실에 대비해야 합니다.</p>
+ */
+@Component
+@Slf4j
+public class RedisMessageBus {
+
+	private static final char SEPARATOR = '|';
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+	private final String nodeId = UUID.randomUUID().toString();
+
+	public RedisMessageBus(StringRedisTemplate stringRedisTemplate,
+		RedisMessageListenerContainer redisMessageListenerContainer) {
+		this.stringRedisTemplate = stringRedisTemplate;
+		this.redisMessageListenerContainer = redisMessageListenerContainer;
+	}
+
+	/**
+	 * 다른 서버가 발행한 메시지를 구독합니다.
+	 */
+	public void subscribe(String channel, Consumer<String> listener) {
+		redisMessageListenerContainer.addMessageListener((message, pattern) -> {
+			String body = new String(message.getBody(), StandardCharsets.UTF_8);
+			int separatorIndex = body.indexOf(SEPARATOR);
+
+			if (separatorIndex < 0 || body.substring(0, separatorIndex).equals(nodeId)) {
+				return;
+			}
+
+			try {
+				listener.accept(body.substring(separatorIndex + 1));
+			} catch (RuntimeException e) {
+				log.warn("failed to handle message channel={} body={}", channel, body, e);
+			}
+		}, new ChannelTopic(channel));
+	}
+
+	/**
+	 * 트랜잭션 안이면 커밋된 뒤, 아니면 즉시 로컬 처리를 실행하고 메시지를 발행합니다.
+	 * <p>롤백되면 로컬 처리와 발행 모두 하지 않습니다.</p>
+	 */
+	public void publishAfterCommit(String channel, String payload, Runnable localAction) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			runAndPublish(channel, payload, localAction);
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				runAndPublish(channel, payload, localAction);
+			}
+		});
+	}
+
+	private void runAndPublish(String channel, String payload, Runnable localAction) {
+		localAction.run();
+		publish(channel, payload);
+	}
+
+	/**
+	 * 트랜잭션과 관계없이 즉시 메시지를 발행합니다. 발행에 실패하면 로그만 남깁니다.
+	 */
+	public void publish(String channel, String payload) {
+		try {
+			stringRedisTemplate.convertAndSend(channel, nodeId + SEPARATOR + payload);
+		} catch (RuntimeException e) {
+			log.warn("failed to publish message channel={} payload={}", channel, payload, e);
+		}
+	}
+}
@@ -0,0 +1,19 @@
+package com.example.backend.global.response;
+
+import java.util.List;
+
+/**
+ * CursorResponse
+ * <p>커서 기반 페이지 응답 클래스 입니다.</p>
+ * <p>다음 페이지가 없으면 nextCursor는 null 입니다.</p>
+ */
+public record CursorResponse<T>(
+	List<T> content,
+	String nextCursor,
+	boolean hasNext
+) {
+
+	public static <T> CursorResponse<T> of(List<T> content, String nextCursor) {
+		return new CursorResponse<>(content, nextCursor, nextCursor != null);
+	}
+}
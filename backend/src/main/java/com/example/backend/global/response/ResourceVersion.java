@@ -0,0 +1,73 @@
+package com.example.backend.global.response;
+
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * ResourceVersion
+ * <p>조건부 GET(If-None-Match, If-Modified-Since) 응답에 사용하는 검증자(ETag, Last-Modified) 입니다.</p>
+ * <p>컨트롤러는 본문을 조회하기 전에 검증자만 먼저 조회해 {@link #checkNotModified(WebRequest)}로 비교하고,
+ * 변경이 없으면 본문을 조회, 직렬화하지 않고 304를 반환합니다.</p>
+ * @param eTag 따옴표를 포함한 strong ETag
+ * @param lastModified 마지막 수정일시, 신뢰할 수 없는 경우 null
+ */
+public record ResourceVersion(
+	String eTag,
+	ZonedDateTime lastModified
+) {
+
+	/**
+	 * 구성 값을 이어 붙여 ETag를 만듭니다. 버전처럼 짧고 노출되어도 되는 값에 사용합니다.
+	 */
+	public static ResourceVersion of(ZonedDateTime lastModified, Object... parts) {
+		return new ResourceVersion(quote(join(parts)), lastModified);
+	}
+
+	/**
+	 * 구성 값의 MD5 해시로 ETag를 만듭니다. 목록처럼 구성 값이 많은 경우에 사용합니다.
+	 */
+	public static ResourceVersion hashOf(ZonedDateTime lastModified, Object... parts) {
+		String digest = DigestUtils.md5DigestAsHex(join(parts).getBytes(StandardCharsets.UTF_8));
+		return new ResourceVersion(quote(digest), lastModified);
+	}
+
+	/**
+	 * 요청의 조건부 헤더와 비교하고, 응답에 ETag, Last-Modified 헤더를 추가합니다.
+	 * <p>Spring Security 기본 헤더(no-store) 대신 Cache-Control: no-cache를 지정해 클라이언트가 응답을 저장하고
+	 * 매번 재검증하도록 합니다.</p>
+	 * @return 변경이 없어 304를 반환해야 하면 true
+	 */
+	public boolean checkNotModified(WebRequest webRequest) {
+		if (webRequest instanceof ServletWebRequest servletWebRequest && servletWebRequest.getResponse() != null) {
+			servletWebRequest.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue());
+		}
+
+		return webRequest.checkNotModified(eTag, lastModifiedMillis());
+	}
+
+	/**
+	 * @return Last-Modified epoch millis, 없으면 -1
+	 */
+	public long lastModifiedMillis() {
+		// HTTP 날짜는 초 단위이므로 밀리초는 버림
+		return lastModified == null ? -1 : lastModified.toEpochSecond() * 1000;
+	}
+
+	private static String join(Object... parts) {
+		return Arrays.stream(parts)
+			.map(String::valueOf)
+			.collect(Collectors.joining("-"));
+	}
+
+	private static String quote(String value) {
+		return "\"" + value + "\"";
+	}
+}
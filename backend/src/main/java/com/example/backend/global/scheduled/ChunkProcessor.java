@@ -0,0 +1,15 @@
+package com.example.backend.global.scheduled;
+
+/**
+ * ChunkProcessor
+ * <p>{@link ClusterJobRunner}가 반복 호출하는 chunk 처리 함수 입니다.</p>
+ */
+@FunctionalInterface
+public interface ChunkProcessor {
+	/**
+	 * @implSpec lastId 이후의 한 chunk를 처리합니다. chunk 하나는 한 트랜잭션으로 커밋되어야 합니다.
+	 * @param lastId 이전 chunk의 마지막 ID, 처음 실행이면 0
+	 * @return {@link ChunkResult}
+	 */
+	ChunkResult process(long lastId);
+}
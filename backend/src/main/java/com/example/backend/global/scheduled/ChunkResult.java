@@ -0,0 +1,12 @@
+package com.example.backend.global.scheduled;
+
+/**
+ * chunk 처리 결과
+ * @param lastId 이번 chunk에서 처리한 마지막 ID, checkpoint로 저장됩니다.
+ * @param hasNext 다음 chunk 존재 가능 여부
+ */
+public record ChunkResult(
+	long lastId,
+	boolean hasNext
+) {
+}
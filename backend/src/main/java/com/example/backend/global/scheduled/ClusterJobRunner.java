@@ -0,0 +1,120 @@
+package com.example.backend.global.scheduled;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.backend.global.redis.RedisDao;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ClusterJobRunner
+ * <p>여러 서버에서 같은 스케줄 작업이 동시에 실행되지 않도록 Redis lease 락을 잡고 chunk 작업을 실행합니다.</p>
+ * <p>chunk가 끝날 때마다 마지막 ID를 실행 키(runKey)별 checkpoint로 저장하므로,
+ * 실행 중 서버가 죽으면 lease가 만료된 뒤 다음 스케줄에서 다른 서버가 checkpoint부터 이어서 처리합니다.
+ * 완료된 실행은 checkpoint에 완료 표시를 남겨 같은 runKey로 다시 실행되지 않습니다.</p>
+ * <p>마지막 ID 외에 이어받은 서버가 알아야 하는 상태는 {@link #addRunState}로 checkpoint와 같은 TTL의 Redis Set에 저장합니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ClusterJobRunner {
+
+	private static final String LOCK_KEY_PREFIX = "job:lock:";
+	private static final String CHECKPOINT_KEY_PREFIX = "job:checkpoint:";
+	private static final String LAST_ID = "lastId";
+	private static final String COMPLETED = "completed";
+
+	private final RedisDao redisDao;
+
+	private final String nodeId = UUID.randomUUID().toString();
+
+	@Value("${scheduler.lock.lease-millis:300000}")
+	private long leaseMillis = 300000;
+
+	@Value("${scheduler.checkpoint.ttl-minutes:4320}")
+	private long checkpointTtlMinutes = 4320;
+
+	/**
+	 * @param jobName 작업 이름, 락 단위
+	 * @param runKey 실행 구분 키 (예: 처리 기준일), checkpoint 단위
+	 * @param processor chunk 처리 함수
+	 * @return 이번 호출에서 작업을 끝까지 실행했으면 true
+	 */
+	public boolean run(String jobName, String runKey, ChunkProcessor processor) {
+		String lockKey = LOCK_KEY_PREFIX + jobName;
+		Duration lease = Duration.ofMillis(leaseMillis);
+
+		if (!redisDao.setDataIfAbsent(lockKey, nodeId, lease)) {
+			log.info("job {} is running on another node", jobName);
+			return false;
+		}
+
+		try {
+			String checkpointKey = CHECKPOINT_KEY_PREFIX + jobName + ":" + runKey;
+
+			if (Boolean.parseBoolean(redisDao.getHashData(checkpointKey, COMPLETED))) {
+				return false;
+			}
+
+			String checkpoint = redisDao.getHashData(checkpointKey, LAST_ID);
+			long lastId = checkpoint == null ? 0 : Long.parseLong(checkpoint);
+			if (lastId > 0) {
+				log.info("job {} resumed runKey={} lastId={}", jobName, runKey, lastId);
+			}
+
+			ChunkResult result;
+			do {
+				// chunk마다 lease를 연장, 이미 만료되어 다른 서버가 가져갔다면 중단
+				if (!redisDao.expireIfEquals(lockKey, nodeId, lease)) {
+					log.warn("job {} lost lease runKey={} lastId={}", jobName, runKey, lastId);
+					return false;
+				}
+
+				result = processor.process(lastId);
+				lastId = result.lastId();
+
+				redisDao.setHashData(checkpointKey, LAST_ID, String.valueOf(lastId));
+				redisDao.setTimeout(checkpointKey, checkpointTtlMinutes);
+			} while (result.hasNext());
+
+			redisDao.setHashData(checkpointKey, COMPLETED, "true");
+			return true;
+		} finally {
+			redisDao.deleteIfEquals(lockKey, nodeId);
+		}
+	}
+
+	/**
+	 * 실행 상태 Set 조회, lease를 잡은 chunk 처리 함수 안에서 호출해야 중단된 서버가 저장한 값까지 읽습니다.
+	 * @param name 상태 이름
+	 * @return 저장된 값, 없으면 빈 Set
+	 */
+	public Set<String> getRunState(String jobName, String runKey, String name) {
+		return redisDao.getSetData(runStateKey(jobName, runKey, name));
+	}
+
+	/**
+	 * 실행 상태 Set에 값을 추가하고 checkpoint와 같은 TTL을 지정합니다.
+	 * @param name 상태 이름
+	 */
+	public void addRunState(String jobName, String runKey, String name, Collection<String> values) {
+		if (values.isEmpty()) {
+			return;
+		}
+
+		String runStateKey = runStateKey(jobName, runKey, name);
+		redisDao.addSetData(runStateKey, values);
+		redisDao.setTimeout(runStateKey, checkpointTtlMinutes);
+	}
+
+	private String runStateKey(String jobName, String runKey, String name) {
+		return CHECKPOINT_KEY_PREFIX + jobName + ":" + runKey + ":" + name;
+	}
+}
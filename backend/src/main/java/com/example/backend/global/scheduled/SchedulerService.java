@@ -1,17 +1,20 @@
 package com.example.backend.global.scheduled;
 
+import java.time.LocalDate;
 import java.time.LocalTime;
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
-import java.util.List;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
-import com.example.backend.domain.orders.entity.Orders;
+import com.example.backend.domain.orders.dto.DeliveryChunk;
 import com.example.backend.domain.orders.repository.OrdersRepository;
-import com.example.backend.global.mail.service.MailService;
-import com.example.backend.global.mail.util.TemplateName;
+import com.example.backend.domain.orders.service.OrdersService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,21 +23,60 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 @Slf4j
 public class SchedulerService {
+	private static final String DELIVERY_JOB = "delivery-start";
+	private static final String NOTIFIED = "notified";
+
 	private final OrdersRepository ordersRepository;
-	private final MailService mailService;
+	private final OrdersService ordersService;
+	private final ClusterJobRunner clusterJobRunner;
+
+	@Value("${scheduler.delivery.chunk-size:500}")
+	private int chunkSize = 500;
 
-	@Transactional
-	@Scheduled(cron = "0 0 14 * * ?")
+	/**
+	 * 전날 14시부터 오늘 14시까지 주문된 배송 준비중 주문을 배송 시작 처리합니다.
+	 * <p>주문 ID 순으로 chunk 단위로 처리하며 chunk마다 커밋하므로, 한 트랜잭션이 orders 테이블의 락을 오래 잡지 않습니다.
+	 * 배송 시작 메일은 chunk의 배송 시작 처리와 같은 트랜잭션에서 이번 실행에서 아직 받지 않은 회원에게만 저장합니다.</p>
+	 * <p>{@link ClusterJobRunner}로 한 서버에서만 실행되며, 처리 기준일이 같으면 중단된 지점부터 이어서 처리하므로
+	 * 14 ~ 15시 사이에 여러 번 실행되어도 한 번만 처리됩니다.
+	 * 메일을 받은 회원도 checkpoint와 함께 Redis에 저장하므로, 다른 서버가 이어서 처리해도 같은 회원에게 다시 보내지 않습니다.</p>
+	 */
+	@Scheduled(cron = "${scheduler.delivery.cron:0 0/10 14-15 * * ?}")
 	public void scheduleOrderProcessing() {
-		ZonedDateTime now = ZonedDateTime.now();
-		ZonedDateTime startTime = now.minusDays(1).with(LocalTime.of(14, 0));
-		ZonedDateTime endTime = now.with(LocalTime.of(14, 0));
+		LocalDate businessDate = LocalDate.now();
+		ZonedDateTime endTime = businessDate.atTime(LocalTime.of(14, 0)).atZone(ZoneId.systemDefault());
+		ZonedDateTime startTime = endTime.minusDays(1);
+
+		long total = ordersRepository.countReadyOrders(startTime, endTime);
+		if (total == 0) {
+			return;
+		}
+
+		String runKey = businessDate.toString();
+		Set<String> notifiedUsernameSet = new HashSet<>();
+		AtomicBoolean restored = new AtomicBoolean();
+		long[] shipped = {0};
+
+		boolean completed = clusterJobRunner.run(DELIVERY_JOB, runKey, lastId -> {
+			// lease를 잡은 뒤 중단된 실행에서 메일을 받은 회원을 복원
+			if (restored.compareAndSet(false, true)) {
+				notifiedUsernameSet.addAll(clusterJobRunner.getRunState(DELIVERY_JOB, runKey, NOTIFIED));
+			}
+
+			DeliveryChunk chunk = ordersService.shipReadyOrders(startTime, endTime, lastId, chunkSize,
+				notifiedUsernameSet);
+			shipped[0] += chunk.shippedCount();
+			notifiedUsernameSet.addAll(chunk.usernameList());
+			clusterJobRunner.addRunState(DELIVERY_JOB, runKey, NOTIFIED, chunk.usernameList());
+
+			log.info("delivery job progress lastId={} shipped={}/{} recipients={}",
+				chunk.lastId(), shipped[0], total, notifiedUsernameSet.size());
 
-		List<String> ordersUsernameList = ordersRepository.findUsernameByReady(startTime, endTime);
+			return new ChunkResult(chunk.lastId(), chunk.hasNext());
+		});
 
-		if (!ordersUsernameList.isEmpty()) {
-			ordersRepository.bulkUpdateDeliveryStatus(startTime, endTime);
-			mailService.sendDeliveryStartEmail(ordersUsernameList, TemplateName.DELIVERY_START);
+		if (completed) {
+			log.info("delivery job finished shipped={} recipients={}", shipped[0], notifiedUsernameSet.size());
 		}
 	}
 
@@ -0,0 +1,57 @@
+package com.example.backend.global.transaction;
+
+import java.sql.Connection;
+import java.sql.Savepoint;
+import java.util.function.Supplier;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * SavepointExecutor
+ * <p>현재 트랜잭션 안에서 작업을 savepoint로 감싸 실행하고, 작업이 실패하면 savepoint까지만 롤백합니다.</p>
+ * <p>Hibernate의 JpaDialect는 savepoint를 지원하지 않아 JpaTransactionManager에서 PROPAGATION_NESTED를 쓸 수 없으므로,
+ * 트랜잭션에 묶인 JDBC 커넥션에 직접 savepoint를 만듭니다.</p>
+ * <p>savepoint 롤백은 DB 변경만 되돌리고 영속성 컨텍스트와 Redis 같은 외부 상태는 되돌리지 않습니다.
+ * 호출하는 쪽은 작업 전에 영속성 컨텍스트를 flush 하고, 작업 안에서는 실패할 수 있는 단계를 모두 마친 뒤에 Entity를 변경해야 합니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class SavepointExecutor {
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * @param action savepoint 안에서 실행할 작업
+	 * @return 작업 결과
+	 * @throws IllegalStateException 진행 중인 트랜잭션이 없는 경우
+	 */
+	public <T> T execute(Supplier<T> action) {
+		if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+			throw new IllegalStateException("savepoint requires an active transaction");
+		}
+
+		Savepoint savepoint = jdbcTemplate.execute((ConnectionCallback<Savepoint>) Connection::setSavepoint);
+
+		T result;
+		try {
+			result = action.get();
+		} catch (RuntimeException e) {
+			jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+				connection.rollback(savepoint);
+				return null;
+			});
+			throw e;
+		}
+
+		jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+			connection.releaseSavepoint(savepoint);
+			return null;
+		});
+		return result;
+	}
+}
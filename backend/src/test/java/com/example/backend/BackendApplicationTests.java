@@ -8,7 +8,7 @@ import com.example.backend.global.config.CorsConfig;
 import com.example.backend.global.config.TestSecurityConfig;
 
 @Import({CorsConfig.class, TestSecurityConfig.class})
-@SpringBootTest
+@SpringBootTest(properties = "id.worker-id=0")
 class BackendApplicationTests {
 
 	@Test
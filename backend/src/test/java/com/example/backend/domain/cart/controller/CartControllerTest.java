@@ -1,7 +1,10 @@
 package com.example.backend.domain.cart.controller;
 
+import com.example.backend.domain.cart.dto.CartBatchForm;
+import com.example.backend.domain.cart.dto.CartBatchResponse;
 import com.example.backend.domain.cart.dto.CartDeleteForm;
 import com.example.backend.domain.cart.dto.CartForm;
+import com.example.backend.domain.cart.dto.CartOperationType;
 import com.example.backend.domain.cart.dto.CartResponse;
 import com.example.backend.domain.cart.dto.CartUpdateForm;
 import com.example.backend.domain.cart.exception.CartErrorCode;
@@ -199,4 +202,38 @@ class CartControllerTest {
 
         verify(cartService).deleteCartItem(cartDeleteForm, member);
     }
+
+    /**
+     * applyBatch() 메서드 테스트
+     * - 장바구니 일괄 변경
+     */
+    @Test
+    @WithMockUser
+    @DisplayName("장바구니 일괄 변경")
+    void applyBatch() {
+        // given
+        CartBatchForm cartBatchForm = new CartBatchForm(List.of(
+                new CartBatchForm.CartOperation(CartOperationType.ADD, 1L, 2),
+                new CartBatchForm.CartOperation(CartOperationType.DELETE, 2L, null)));
+        CartBatchResponse cartBatchResponse = CartBatchResponse.of(List.of(
+                CartBatchResponse.CartBatchResult.success(0, cartBatchForm.operations().get(0), 10L),
+                CartBatchResponse.CartBatchResult.failure(1, cartBatchForm.operations().get(1),
+                        CartErrorCode.PRODUCT_NOT_FOUND_IN_CART.getCode(),
+                        CartErrorCode.PRODUCT_NOT_FOUND_IN_CART.getMessage())));
+
+        when(cartService.applyBatch(cartBatchForm, member)).thenReturn(cartBatchResponse);
+
+        // when
+        ResponseEntity<GenericResponse<CartBatchResponse>> response =
+                cartController.applyBatch(cartBatchForm, customUserDetails);
+
+        // then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(1, response.getBody().getData().successCount());
+        assertEquals(1, response.getBody().getData().failureCount());
+
+        verify(cartService).applyBatch(cartBatchForm, member);
+    }
 }
+
@@ -0,0 +1,91 @@
+package com.example.backend.domain.cart.repository;
+
+import com.example.backend.domain.cart.dto.CartRowDto;
+import com.example.backend.domain.common.Address;
+import com.example.backend.domain.member.entity.Member;
+import com.example.backend.domain.member.entity.MemberStatus;
+import com.example.backend.domain.member.entity.Role;
+import com.example.backend.domain.member.repository.MemberRepository;
+import com.example.backend.domain.product.entity.Product;
+import com.example.backend.domain.product.repository.ProductRepository;
+import com.example.backend.global.config.IdGeneratorConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "id.worker-id=0")
+@Import({CartJdbcRepository.class, IdGeneratorConfig.class})
+class CartJdbcRepositoryTest {
+
+    @Autowired
+    private CartJdbcRepository cartJdbcRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    private Long memberId;
+    private Long productId1;
+    private Long productId2;
+
+    @BeforeEach
+    void setup() {
+        // Given: 회원 및 상품 객체를 생성 후 DB에 저장
+        Address address = Address.builder()
+                .city("testCity")
+                .district("testDistrict")
+                .country("testCountry")
+                .detail("testDetail")
+                .build();
+
+        Member member = Member.builder()
+                .username("testUser")
+                .nickname("testNickname")
+                .password("!testPassword1234")
+                .role(Role.ROLE_USER)
+                .memberStatus(MemberStatus.ACTIVE)
+                .address(address)
+                .build();
+        memberId = memberRepository.saveAndFlush(member).getId();
+
+        productId1 = productRepository.saveAndFlush(product("Test Product 1")).getId();
+        productId2 = productRepository.saveAndFlush(product("Test Product 2")).getId();
+    }
+
+    private Product product(String name) {
+        return Product.builder()
+                .name(name)
+                .content("Test Product Content")
+                .price(1000)
+                .quantity(1)
+                .imgUrl("http://test.com/image.jpg")
+                .build();
+    }
+
+    @Test
+    @DisplayName("장바구니 ID를 지정해 batch로 추가, 수정, 삭제")
+    void batchWrite() {
+        // Given
+        cartJdbcRepository.lockMembers(List.of(memberId));
+        cartJdbcRepository.batchInsert(List.of(
+                new CartRowDto(100L, memberId, productId1, 1),
+                new CartRowDto(101L, memberId, productId2, 2)));
+
+        // When
+        cartJdbcRepository.batchUpdateQuantity(List.of(new CartRowDto(100L, memberId, productId1, 5)));
+        cartJdbcRepository.batchDelete(List.of(101L));
+
+        // Then
+        assertThat(cartJdbcRepository.findByMemberIdIn(List.of(memberId)))
+                .containsExactly(new CartRowDto(100L, memberId, productId1, 5));
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.backend.domain.cart.service;
+
+import com.example.backend.domain.cart.dto.CartBatchForm;
+import com.example.backend.domain.cart.dto.CartBatchResponse;
+import com.example.backend.domain.cart.dto.CartOperationType;
+import com.example.backend.domain.cart.dto.CartRowDto;
+import com.example.backend.domain.cart.exception.CartErrorCode;
+import com.example.backend.domain.cart.repository.CartJdbcRepository;
+import com.example.backend.domain.cart.repository.CartRepository;
+import com.example.backend.domain.cart.store.CartStoreMode;
+import com.example.backend.domain.cart.store.RedisCartItem;
+import com.example.backend.domain.cart.store.RedisCartStore;
+import com.example.backend.domain.member.entity.Member;
+import com.example.backend.domain.member.entity.MemberStatus;
+import com.example.backend.domain.member.entity.Role;
+import com.example.backend.domain.product.service.ProductService;
+import com.example.backend.global.id.TimeOrderedIdGenerator;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * REDIS 모드 장바구니 일괄 변경을 실제 Redis와 트랜잭션 안에서 실행합니다.
+ * <p>Docker가 없으면 실행하지 않습니다.</p>
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@ExtendWith(MockitoExtension.class)
+class CartServiceRedisTest {
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static EmbeddedDatabase dataSource;
+
+    private CartService cartService;
+    private RedisCartStore redisCartStore;
+    private TransactionTemplate transactionTemplate;
+    private Member member;
+
+    @Mock
+    private CartRepository cartRepository;
+
+    @Mock
+    private ProductService productService;
+
+    @Mock
+    private CartJdbcRepository cartJdbcRepository;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        dataSource = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+        dataSource.shutdown();
+    }
+
+    @BeforeEach
+    void setUp() {
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.serverCommands().flushAll();
+        }
+
+        redisCartStore = new RedisCartStore(new StringRedisTemplate(connectionFactory), cartJdbcRepository);
+        cartService = new CartService(cartRepository, productService, cartJdbcRepository, redisCartStore,
+                new TimeOrderedIdGenerator(0));
+        ReflectionTestUtils.setField(cartService, "cartStoreMode", CartStoreMode.REDIS);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+        member = Member.builder()
+                .id(1L)
+                .username("testUser")
+                .password("!testPassword1234")
+                .role(Role.ROLE_USER)
+                .memberStatus(MemberStatus.ACTIVE)
+                .build();
+    }
+
+    @Test
+    @DisplayName("REDIS 모드에서 장바구니 일괄 변경을 트랜잭션 안에서 Redis에 반영")
+    void applyBatch() {
+        // given
+        CartBatchForm cartBatchForm = new CartBatchForm(List.of(
+                new CartBatchForm.CartOperation(CartOperationType.ADD, 12L, 1),
+                new CartBatchForm.CartOperation(CartOperationType.UPDATE, 10L, 3),
+                new CartBatchForm.CartOperation(CartOperationType.DELETE, 11L, null),
+                new CartBatchForm.CartOperation(CartOperationType.DELETE, 13L, null)));
+
+        given(productService.findExistingIds(Set.of(12L))).willReturn(Set.of(12L));
+        given(cartJdbcRepository.findByMemberIdIn(List.of(1L))).willReturn(List.of(
+                new CartRowDto(100L, 1L, 10L, 1),
+                new CartRowDto(101L, 1L, 11L, 2)));
+
+        // when
+        CartBatchResponse cartBatchResponse = transactionTemplate.execute(status ->
+                cartService.applyBatch(cartBatchForm, member));
+
+        // then
+        assertThat(cartBatchResponse.results()).extracting(CartBatchResponse.CartBatchResult::code)
+                .containsExactly(null, null, null, CartErrorCode.PRODUCT_NOT_FOUND_IN_CART.getCode());
+
+        Long addedId = cartBatchResponse.results().get(0).cartId();
+        assertThat(redisCartStore.snapshot(1L)).contains(Map.of(
+                10L, new RedisCartItem(100L, 3),
+                12L, new RedisCartItem(addedId, 1)));
+        assertThat(redisCartStore.popChangedMemberIds(10)).containsExactly(1L);
+        verifyNoInteractions(cartRepository);
+    }
+}
@@ -1,18 +1,29 @@
 package com.example.backend.domain.cart.service;
 
+import com.example.backend.domain.cart.dto.CartBatchForm;
+import com.example.backend.domain.cart.dto.CartBatchResponse;
 import com.example.backend.domain.cart.dto.CartDeleteForm;
 import com.example.backend.domain.cart.dto.CartForm;
+import com.example.backend.domain.cart.dto.CartOperationType;
 import com.example.backend.domain.cart.dto.CartResponse;
 import com.example.backend.domain.cart.dto.CartUpdateForm;
+import com.example.backend.domain.cart.dto.CartRowDto;
 import com.example.backend.domain.cart.entity.Cart;
 import com.example.backend.domain.cart.exception.CartErrorCode;
 import com.example.backend.domain.cart.exception.CartException;
+import com.example.backend.domain.cart.repository.CartJdbcRepository;
 import com.example.backend.domain.cart.repository.CartRepository;
+import com.example.backend.domain.cart.store.CartStoreMode;
+import com.example.backend.domain.cart.store.RedisCartItem;
+import com.example.backend.domain.cart.store.RedisCartStore;
 import com.example.backend.domain.member.entity.Member;
 import com.example.backend.domain.member.entity.MemberStatus;
 import com.example.backend.domain.member.entity.Role;
+import com.example.backend.domain.product.dto.ProductResponse;
 import com.example.backend.domain.product.entity.Product;
+import com.example.backend.domain.product.exception.ProductErrorCode;
 import com.example.backend.domain.product.service.ProductService;
+import com.example.backend.global.id.TimeOrderedIdGenerator;
 import com.example.backend.global.auth.exception.AuthException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -21,15 +32,21 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 class CartServiceTest {
@@ -43,6 +60,15 @@ class CartServiceTest {
     @Mock
     private ProductService productService;
 
+    @Mock
+    private CartJdbcRepository cartJdbcRepository;
+
+    @Mock
+    private RedisCartStore redisCartStore;
+
+    @Mock
+    private TimeOrderedIdGenerator timeOrderedIdGenerator;
+
     private Member member;
     private Product product;
     private CartForm cartForm;
@@ -230,4 +256,300 @@ class CartServiceTest {
                     assertThat(cartException.getCode()).isEqualTo(CartErrorCode.PRODUCT_NOT_FOUND_IN_CART.getCode());
                 });
     }
-}
\ No newline at end of file
+
+    /**
+     * REDIS 모드 테스트
+     * - 장바구니 변경은 Redis에만 저장
+     * - 변경된 장바구니는 차이만 DB에 반영
+     */
+    @Test
+    @DisplayName("REDIS 모드에서 상품 추가 시 DB에 저장하지 않고 Redis에 추가")
+    void addCartItem_Redis_Success() {
+        // given
+        ReflectionTestUtils.setField(cartService, "cartStoreMode", CartStoreMode.REDIS);
+        given(timeOrderedIdGenerator.nextId()).willReturn(100L);
+        given(redisCartStore.addIfAbsent(member.getId(), cartForm.productId(), new RedisCartItem(100L, 5)))
+                .willReturn(true);
+
+        // when
+        Long savedCartId = cartService.addCartItem(cartForm, member);
+
+        // then
+        assertThat(savedCartId).isEqualTo(100L);
+        verify(productService).findProductResponseById(cartForm.productId());
+        verifyNoInteractions(cartRepository);
+    }
+
+    @Test
+    @DisplayName("REDIS 모드에서 이미 장바구니에 존재하는 상품이면 예외 발생")
+    void addCartItem_Redis_WithExistingProduct_ThrowsCartException() {
+        // given
+        ReflectionTestUtils.setField(cartService, "cartStoreMode", CartStoreMode.REDIS);
+        given(timeOrderedIdGenerator.nextId()).willReturn(100L);
+        given(redisCartStore.addIfAbsent(member.getId(), cartForm.productId(), new RedisCartItem(100L, 5)))
+                .willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> cartService.addCartItem(cartForm, member))
+                .isInstanceOf(CartException.class)
+                .hasMessage(CartErrorCode.ALREADY_EXISTS_IN_CART.getMessage());
+    }
+
+    @Test
+    @DisplayName("REDIS 모드에서 수량 업데이트 시 장바구니 ID는 유지")
+    void updateCartItemQuantity_Redis_Success() {
+        // given
+        ReflectionTestUtils.setField(cartService, "cartStoreMode", CartStoreMode.REDIS);
+        CartUpdateForm cartUpdateForm = new CartUpdateForm(1L, 10);
+        given(redisCartStore.find(member.getId(), 1L)).willReturn(Optional.of(new RedisCartItem(100L, 5)));
+        given(redisCartStore.replace(member.getId(), 1L, new RedisCartItem(100L, 10))).willReturn(true);
+
+        // when
+        Long updatedCartId = cartService.updateCartItemQuantity(cartUpdateForm, member);
+
+        // then
+        assertThat(updatedCartId).isEqualTo(100L);
+        verify(redisCartStore).replace(member.getId(), 1L, new RedisCartItem(100L, 10));
+    }
+
+    @Test
+    @DisplayName("REDIS 모드에서 조회 이후 다른 요청이 삭제한 상품은 수량 업데이트 시 에러 발생")
+    void updateCartItemQuantity_Redis_DeletedConcurrently() {
+        // given
+        ReflectionTestUtils.setField(cartService, "cartStoreMode", CartStoreMode.REDIS);
+        CartUpdateForm cartUpdateForm = new CartUpdateForm(1L, 10);
+        given(redisCartStore.find(member.getId(), 1L)).willReturn(Optional.of(new RedisCartItem(100L, 5)));
+        given(redisCartStore.replace(member.getId(), 1L, new RedisCartItem(100L, 10))).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> cartService.updateCartItemQuantity(cartUpdateForm, member))
+                .isInstanceOf(CartException.class)
+                .hasMessage(CartErrorCode.PRODUCT_NOT_FOUND_IN_CART.getMessage());
+    }
+
+    @Test
+    @DisplayName("REDIS 모드 장바구니 조회 시 담은 순서로 상품 정보와 함께 반환")
+    void getCartByMember_Redis_Success() {
+        // given
+        ReflectionTestUtils.setField(cartService, "cartStoreMode", CartStoreMode.REDIS);
+        given(redisCartStore.findAll(member.getId()))
+                .willReturn(Map.of(2L, new RedisCartItem(200L, 1), 1L, new RedisCartItem(100L, 3)));
+        given(productService.findProductResponseMap(Set.of(1L, 2L))).willReturn(Map.of(
+                1L, new ProductResponse(1L, "A", "content", 1000, "a.jpg"),
+                2L, new ProductResponse(2L, "B", "content", 2000, "b.jpg")));
+
+        // when
+        List<CartResponse> cartResponses = cartService.getCartByMember(member);
+
+        // then
+        assertThat(cartResponses).extracting(CartResponse::id).containsExactly(100L, 200L);
+        assertThat(cartResponses.get(0).totalPrice()).isEqualTo(3000);
+    }
+
+    @Test
+    @DisplayName("REDIS 모드 장바구니 조회 시 삭제된 상품은 제외")
+    void getCartByMember_Redis_ProductDeleted() {
+        // given
+        ReflectionTestUtils.setField(cartService, "cartStoreMode", CartStoreMode.REDIS);
+        given(redisCartStore.findAll(member.getId()))
+                .willReturn(Map.of(2L, new RedisCartItem(200L, 1), 1L, new RedisCartItem(100L, 3)));
+        given(productService.findProductResponseMap(Set.of(1L, 2L)))
+                .willReturn(Map.of(1L, new ProductResponse(1L, "A", "content", 1000, "a.jpg")));
+
+        // when
+        List<CartResponse> cartResponses = cartService.getCartByMember(member);
+
+        // then
+        assertThat(cartResponses).extracting(CartResponse::id).containsExactly(100L);
+        verify(productService, never()).findProductResponseById(any());
+    }
+
+    @Test
+    @DisplayName("Redis 장바구니를 DB에 반영 시 추가, 수정, 삭제된 행만 batch로 반영")
+    void persist_Success() {
+        // given
+        given(cartJdbcRepository.lockMembers(List.of(1L, 2L))).willReturn(List.of(1L, 2L));
+        given(productService.findExistingIds(Set.of(10L, 11L, 12L))).willReturn(Set.of(10L, 11L, 12L));
+        given(redisCartStore.snapshot(1L)).willReturn(Optional.of(Map.of(
+                10L, new RedisCartItem(100L, 2),
+                11L, new RedisCartItem(101L, 1),
+                12L, new RedisCartItem(102L, 4))));
+        given(redisCartStore.snapshot(2L)).willReturn(Optional.empty());
+        given(cartJdbcRepository.findByMemberIdIn(any())).willReturn(List.of(
+                new CartRowDto(100L, 1L, 10L, 1),
+                new CartRowDto(101L, 1L, 11L, 1),
+                new CartRowDto(90L, 1L, 9L, 1)));
+
+        // when
+        int persisted = cartService.persist(List.of(1L, 2L));
+
+        // then
+        assertThat(persisted).isEqualTo(1);
+        verify(cartJdbcRepository).batchDelete(Set.of(90L));
+        verify(cartJdbcRepository).batchUpdateQuantity(List.of(new CartRowDto(100L, 1L, 10L, 2)));
+        verify(cartJdbcRepository).batchInsert(List.of(new CartRowDto(102L, 1L, 12L, 4)));
+        verify(redisCartStore, never()).discard(any(), any());
+    }
+
+    @Test
+    @DisplayName("Redis 장바구니를 DB에 반영 시 삭제된 회원과 상품은 반영하지 않고 Redis에서 삭제")
+    void persist_WithDeletedMemberAndProduct() {
+        // given
+        given(cartJdbcRepository.lockMembers(List.of(1L, 2L))).willReturn(List.of(1L));
+        given(redisCartStore.snapshot(1L)).willReturn(Optional.of(Map.of(
+                10L, new RedisCartItem(100L, 2),
+                11L, new RedisCartItem(101L, 1))));
+        given(productService.findExistingIds(Set.of(10L, 11L))).willReturn(Set.of(10L));
+        given(cartJdbcRepository.findByMemberIdIn(Set.of(1L))).willReturn(List.of());
+
+        // when
+        int persisted = cartService.persist(List.of(1L, 2L));
+
+        // then
+        assertThat(persisted).isEqualTo(1);
+        verify(redisCartStore).clear(2L);
+        verify(redisCartStore, never()).snapshot(2L);
+        verify(redisCartStore).discard(1L, List.of(11L));
+        verify(cartJdbcRepository).batchInsert(List.of(new CartRowDto(100L, 1L, 10L, 2)));
+    }
+
+    @Test
+    @DisplayName("Redis에 채워진 장바구니가 없으면 DB에 반영하지 않음")
+    void persist_WithoutSnapshot() {
+        // given
+        given(cartJdbcRepository.lockMembers(List.of(1L))).willReturn(List.of(1L));
+        given(redisCartStore.snapshot(1L)).willReturn(Optional.empty());
+
+        // when
+        int persisted = cartService.persist(List.of(1L));
+
+        // then
+        assertThat(persisted).isZero();
+        verify(cartJdbcRepository, never()).findByMemberIdIn(any());
+        verify(cartJdbcRepository, never()).batchInsert(anyList());
+    }
+
+    @Test
+    @DisplayName("장바구니 일괄 변경 시 상품과 장바구니를 한 번씩 조회하고 항목별 결과와 함께 batch로 반영")
+    void applyBatch_Success() {
+        // given
+        CartBatchForm cartBatchForm = new CartBatchForm(List.of(
+                new CartBatchForm.CartOperation(CartOperationType.ADD, 12L, 2),
+                new CartBatchForm.CartOperation(CartOperationType.ADD, 10L, 1),
+                new CartBatchForm.CartOperation(CartOperationType.UPDATE, 11L, 5),
+                new CartBatchForm.CartOperation(CartOperationType.DELETE, 10L, null),
+                new CartBatchForm.CartOperation(CartOperationType.ADD, 13L, 1),
+                new CartBatchForm.CartOperation(CartOperationType.UPDATE, 99L, 2)));
+
+        given(productService.findExistingIds(Set.of(10L, 12L, 13L))).willReturn(Set.of(10L, 12L));
+        given(cartJdbcRepository.findByMemberIdIn(List.of(1L))).willReturn(List.of(
+                new CartRowDto(100L, 1L, 10L, 1),
+                new CartRowDto(101L, 1L, 11L, 3)));
+        given(timeOrderedIdGenerator.nextId()).willReturn(200L);
+
+        // when
+        CartBatchResponse cartBatchResponse = cartService.applyBatch(cartBatchForm, member);
+
+        // then
+        assertThat(cartBatchResponse.successCount()).isEqualTo(3);
+        assertThat(cartBatchResponse.failureCount()).isEqualTo(3);
+        assertThat(cartBatchResponse.results()).extracting(CartBatchResponse.CartBatchResult::cartId)
+                .containsExactly(200L, null, 101L, 100L, null, null);
+        assertThat(cartBatchResponse.results()).extracting(CartBatchResponse.CartBatchResult::code)
+                .containsExactly(null, CartErrorCode.ALREADY_EXISTS_IN_CART.getCode(), null, null,
+                        ProductErrorCode.NOT_FOUND.getCode(), CartErrorCode.PRODUCT_NOT_FOUND_IN_CART.getCode());
+
+        verify(cartJdbcRepository).lockMembers(List.of(1L));
+        verify(cartJdbcRepository).batchDelete(Set.of(100L));
+        verify(cartJdbcRepository).batchUpdateQuantity(List.of(new CartRowDto(101L, 1L, 11L, 5)));
+        verify(cartJdbcRepository).batchInsert(List.of(new CartRowDto(200L, 1L, 12L, 2)));
+        verifyNoInteractions(cartRepository);
+    }
+
+    @Test
+    @DisplayName("장바구니 일괄 변경 시 모든 항목이 실패하면 DB에 반영하지 않음")
+    void applyBatch_WithAllFailed() {
+        // given
+        CartBatchForm cartBatchForm = new CartBatchForm(List.of(
+                new CartBatchForm.CartOperation(CartOperationType.UPDATE, 10L, 1),
+                new CartBatchForm.CartOperation(CartOperationType.DELETE, 11L, null)));
+
+        given(cartJdbcRepository.findByMemberIdIn(List.of(1L))).willReturn(List.of(
+                new CartRowDto(100L, 1L, 10L, 1)));
+
+        // when
+        CartBatchResponse cartBatchResponse = cartService.applyBatch(cartBatchForm, member);
+
+        // then
+        assertThat(cartBatchResponse.successCount()).isZero();
+        assertThat(cartBatchResponse.results()).extracting(CartBatchResponse.CartBatchResult::code)
+                .containsExactly(CartErrorCode.SAME_QUANTITY_IN_CART.getCode(),
+                        CartErrorCode.PRODUCT_NOT_FOUND_IN_CART.getCode());
+
+        verifyNoInteractions(productService);
+        verify(cartJdbcRepository, never()).batchDelete(any());
+        verify(cartJdbcRepository, never()).batchUpdateQuantity(anyList());
+        verify(cartJdbcRepository, never()).batchInsert(anyList());
+    }
+
+    @Test
+    @DisplayName("REDIS 모드에서 장바구니 일괄 변경 시 바뀐 항목만 Redis에 반영")
+    void applyBatch_Redis_Success() {
+        // given
+        ReflectionTestUtils.setField(cartService, "cartStoreMode", CartStoreMode.REDIS);
+        CartBatchForm cartBatchForm = new CartBatchForm(List.of(
+                new CartBatchForm.CartOperation(CartOperationType.UPDATE, 10L, 3),
+                new CartBatchForm.CartOperation(CartOperationType.ADD, 12L, 1),
+                new CartBatchForm.CartOperation(CartOperationType.DELETE, 11L, null)));
+
+        given(productService.findExistingIds(Set.of(12L))).willReturn(Set.of(12L));
+        given(redisCartStore.findAll(1L)).willReturn(Map.of(
+                10L, new RedisCartItem(100L, 1),
+                11L, new RedisCartItem(101L, 2),
+                13L, new RedisCartItem(103L, 4)));
+        given(timeOrderedIdGenerator.nextId()).willReturn(200L);
+        given(redisCartStore.addIfAbsent(1L, 12L, new RedisCartItem(200L, 1))).willReturn(true);
+        given(redisCartStore.remove(1L, 11L)).willReturn(true);
+        given(redisCartStore.replace(1L, 10L, new RedisCartItem(100L, 3))).willReturn(true);
+
+        // when
+        CartBatchResponse cartBatchResponse = cartService.applyBatch(cartBatchForm, member);
+
+        // then
+        assertThat(cartBatchResponse.successCount()).isEqualTo(3);
+        verify(redisCartStore).replace(1L, 10L, new RedisCartItem(100L, 3));
+        verify(redisCartStore, never()).replace(1L, 13L, new RedisCartItem(103L, 4));
+        verifyNoInteractions(cartJdbcRepository);
+    }
+
+    @Test
+    @DisplayName("REDIS 모드에서 조회 이후 다른 요청이 추가하거나 삭제한 상품은 실패로 처리하고 Redis의 항목을 사용")
+    void applyBatch_Redis_WithConcurrentChange() {
+        // given
+        ReflectionTestUtils.setField(cartService, "cartStoreMode", CartStoreMode.REDIS);
+        CartBatchForm cartBatchForm = new CartBatchForm(List.of(
+                new CartBatchForm.CartOperation(CartOperationType.ADD, 12L, 1),
+                new CartBatchForm.CartOperation(CartOperationType.UPDATE, 12L, 3),
+                new CartBatchForm.CartOperation(CartOperationType.DELETE, 11L, null)));
+
+        given(productService.findExistingIds(Set.of(12L))).willReturn(Set.of(12L));
+        given(redisCartStore.findAll(1L)).willReturn(Map.of(11L, new RedisCartItem(101L, 2)));
+        given(timeOrderedIdGenerator.nextId()).willReturn(200L);
+        given(redisCartStore.addIfAbsent(1L, 12L, new RedisCartItem(200L, 1))).willReturn(false);
+        given(redisCartStore.find(1L, 12L)).willReturn(Optional.of(new RedisCartItem(300L, 2)));
+        given(redisCartStore.remove(1L, 11L)).willReturn(false);
+        given(redisCartStore.replace(1L, 12L, new RedisCartItem(300L, 3))).willReturn(true);
+
+        // when
+        CartBatchResponse cartBatchResponse = cartService.applyBatch(cartBatchForm, member);
+
+        // then
+        assertThat(cartBatchResponse.results()).extracting(CartBatchResponse.CartBatchResult::cartId)
+                .containsExactly(null, 300L, null);
+        assertThat(cartBatchResponse.results()).extracting(CartBatchResponse.CartBatchResult::code)
+                .containsExactly(CartErrorCode.ALREADY_EXISTS_IN_CART.getCode(), null,
+                        CartErrorCode.PRODUCT_NOT_FOUND_IN_CART.getCode());
+        verify(redisCartStore).replace(1L, 12L, new RedisCartItem(300L, 3));
+        verifyNoInteractions(cartJdbcRepository);
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.backend.domain.cart.store;
+
+import com.example.backend.domain.cart.service.CartService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CartWriteBehindFlusherTest {
+
+    @InjectMocks
+    private CartWriteBehindFlusher cartWriteBehindFlusher;
+
+    @Mock
+    private RedisCartStore redisCartStore;
+
+    @Mock
+    private CartService cartService;
+
+    @Test
+    @DisplayName("chunk 반영에 실패하면 회원별로 다시 반영하고, 그래도 실패한 회원만 보류")
+    void flush_WithFailedMember() {
+        // given
+        given(redisCartStore.popChangedMemberIds(500)).willReturn(List.of(1L, 2L, 3L));
+        given(cartService.persist(List.of(1L, 2L, 3L))).willThrow(new DataIntegrityViolationException("fk"));
+        given(cartService.persist(List.of(1L))).willReturn(1);
+        given(cartService.persist(List.of(2L))).willThrow(new DataIntegrityViolationException("fk"));
+        given(cartService.persist(List.of(3L))).willReturn(1);
+
+        // when
+        cartWriteBehindFlusher.flush();
+
+        // then
+        verify(redisCartStore).park(2L);
+        verify(redisCartStore, never()).park(1L);
+        verify(redisCartStore, never()).park(3L);
+        verify(redisCartStore, never()).changed(anyLong());
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.backend.domain.cart.store;
+
+import com.example.backend.domain.cart.dto.CartRowDto;
+import com.example.backend.domain.cart.repository.CartJdbcRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 실제 Redis에서 {@link RedisCartStore}를 트랜잭션 안에서 실행해, 명령이 MULTI에 쌓이지 않고 결과를 즉시 반환하는지 확인합니다.
+ * <p>Docker가 없으면 실행하지 않습니다.</p>
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@ExtendWith(MockitoExtension.class)
+class RedisCartStoreRedisTest {
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static EmbeddedDatabase dataSource;
+
+    private RedisCartStore redisCartStore;
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private CartJdbcRepository cartJdbcRepository;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        dataSource = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+        dataSource.shutdown();
+    }
+
+    @BeforeEach
+    void setUp() {
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.serverCommands().flushAll();
+        }
+
+        StringRedisTemplate stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+        redisCartStore = new RedisCartStore(stringRedisTemplate, cartJdbcRepository);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서도 추가, 수정, 삭제 결과를 즉시 반환")
+    void commandsInTransaction() {
+        // given
+        given(cartJdbcRepository.findByMemberIdIn(List.of(1L))).willReturn(List.of(new CartRowDto(100L, 1L, 10L, 2)));
+
+        // when & then
+        transactionTemplate.executeWithoutResult(status -> {
+            assertThat(redisCartStore.addIfAbsent(1L, 11L, new RedisCartItem(101L, 1))).isTrue();
+            assertThat(redisCartStore.addIfAbsent(1L, 10L, new RedisCartItem(102L, 1))).isFalse();
+
+            assertThat(redisCartStore.replace(1L, 11L, new RedisCartItem(101L, 3))).isTrue();
+            assertThat(redisCartStore.find(1L, 11L)).contains(new RedisCartItem(101L, 3));
+
+            assertThat(redisCartStore.remove(1L, 10L)).isTrue();
+            assertThat(redisCartStore.remove(1L, 10L)).isFalse();
+            assertThat(redisCartStore.replace(1L, 10L, new RedisCartItem(100L, 5))).isFalse();
+
+            assertThat(redisCartStore.findAll(1L)).isEqualTo(Map.of(11L, new RedisCartItem(101L, 3)));
+        });
+
+        assertThat(redisCartStore.snapshot(1L)).contains(Map.of(11L, new RedisCartItem(101L, 3)));
+        assertThat(redisCartStore.popChangedMemberIds(10)).containsExactly(1L);
+        assertThat(redisCartStore.popChangedMemberIds(10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이미 채워진 장바구니는 DB로 다시 채우지 않고, 비운 장바구니는 스냅샷이 없음")
+    void loadOnce() {
+        // given
+        given(cartJdbcRepository.findByMemberIdIn(List.of(1L))).willReturn(List.of(new CartRowDto(100L, 1L, 10L, 2)));
+
+        // when
+        redisCartStore.remove(1L, 10L);
+        Map<Long, RedisCartItem> itemMap = transactionTemplate.execute(status -> redisCartStore.findAll(1L));
+        redisCartStore.clear(1L);
+
+        // then
+        assertThat(itemMap).isEmpty();
+        assertThat(redisCartStore.snapshot(1L)).isEmpty();
+        verify(cartJdbcRepository).findByMemberIdIn(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("보류한 회원은 되돌리기 전까지 dirty set에서 꺼내지 않음")
+    void parkAndRequeue() {
+        // given
+        redisCartStore.park(1L);
+
+        // when & then
+        assertThat(redisCartStore.popChangedMemberIds(10)).isEmpty();
+        assertThat(redisCartStore.requeueParked(10)).isEqualTo(1);
+        assertThat(redisCartStore.popChangedMemberIds(10)).containsExactly(1L);
+        assertThat(redisCartStore.requeueParked(10)).isZero();
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.backend.domain.cart.store;
+
+import com.example.backend.domain.cart.dto.CartRowDto;
+import com.example.backend.domain.cart.repository.CartJdbcRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RedisCartStoreTest {
+
+    @InjectMocks
+    private RedisCartStore redisCartStore;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    @Mock
+    private CartJdbcRepository cartJdbcRepository;
+
+    @Test
+    @DisplayName("Redis에 장바구니가 없으면 DB의 장바구니로 채운 뒤 추가")
+    void addIfAbsent_LoadFromDatabase() {
+        // given
+        given(stringRedisTemplate.<Object, Object>opsForHash()).willReturn(hashOperations);
+        given(stringRedisTemplate.opsForSet()).willReturn(setOperations);
+        given(hashOperations.hasKey("cart:1", RedisCartStore.LOADED)).willReturn(false);
+        given(cartJdbcRepository.findByMemberIdIn(List.of(1L))).willReturn(List.of(new CartRowDto(100L, 1L, 10L, 2)));
+        given(hashOperations.putIfAbsent("cart:1", "11", "101:1")).willReturn(true);
+
+        // when
+        boolean added = redisCartStore.addIfAbsent(1L, 11L, new RedisCartItem(101L, 1));
+
+        // then
+        assertThat(added).isTrue();
+        verify(stringRedisTemplate).execute(RedisCartStore.INIT_HASH_IF_ABSENT_SCRIPT, List.of("cart:1"),
+                "604800000", RedisCartStore.LOADED, "10", "100:2");
+        verify(setOperations).add(RedisCartStore.DIRTY_KEY, "1");
+    }
+
+    @Test
+    @DisplayName("이미 채워진 장바구니는 DB를 조회하지 않고, 없는 상품 삭제는 변경으로 표시하지 않음")
+    void remove_WithoutDatabase() {
+        // given
+        given(stringRedisTemplate.<Object, Object>opsForHash()).willReturn(hashOperations);
+        given(hashOperations.hasKey("cart:1", RedisCartStore.LOADED)).willReturn(true);
+        given(hashOperations.delete("cart:1", "10")).willReturn(0L);
+
+        // when
+        boolean removed = redisCartStore.remove(1L, 10L);
+
+        // then
+        assertThat(removed).isFalse();
+        verify(cartJdbcRepository, never()).findByMemberIdIn(any());
+        verify(stringRedisTemplate, never()).opsForSet();
+    }
+
+    @Test
+    @DisplayName("DB로 채워지지 않은 장바구니는 반영할 스냅샷이 없음")
+    void snapshot() {
+        // given
+        given(stringRedisTemplate.<Object, Object>opsForHash()).willReturn(hashOperations);
+        given(hashOperations.entries("cart:1")).willReturn(Map.of("10", "100:2"));
+        given(hashOperations.entries("cart:2")).willReturn(Map.of(RedisCartStore.LOADED, "1", "10", "100:2"));
+
+        // when & then
+        assertThat(redisCartStore.snapshot(1L)).isEmpty();
+        assertThat(redisCartStore.snapshot(2L)).contains(Map.of(10L, new RedisCartItem(100L, 2)));
+    }
+}
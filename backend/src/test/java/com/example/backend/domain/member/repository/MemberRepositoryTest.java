@@ -12,10 +12,11 @@ import com.example.backend.domain.common.Address;
 import com.example.backend.domain.member.entity.Member;
 import com.example.backend.domain.member.entity.MemberStatus;
 import com.example.backend.domain.member.entity.Role;
+import com.example.backend.global.config.IdGeneratorConfig;
 import com.example.backend.global.config.JpaAuditingConfig;
 
-@DataJpaTest
-@Import(JpaAuditingConfig.class)
+@DataJpaTest(properties = "id.worker-id=0")
+@Import({JpaAuditingConfig.class, IdGeneratorConfig.class})
 class MemberRepositoryTest {
 	private final MemberRepository memberRepository;
 
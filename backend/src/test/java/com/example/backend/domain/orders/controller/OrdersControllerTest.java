@@ -7,11 +7,17 @@ import com.example.backend.domain.orders.dto.OrdersResponse;
 import com.example.backend.domain.orders.dto.ProductInfoDto;
 import com.example.backend.domain.orders.exception.OrdersErrorCode;
 import com.example.backend.domain.orders.exception.OrdersException;
+import com.example.backend.domain.orders.service.OrdersGroupCommitWriter;
+import com.example.backend.domain.orders.service.OrdersIntakeService;
+import com.example.backend.domain.orders.service.OrdersLaneExecutor;
 import com.example.backend.domain.orders.service.OrdersService;
+import com.example.backend.domain.productOrders.repository.ProductOrdersRepository;
 import com.example.backend.domain.orders.status.DeliveryStatus;
 import com.example.backend.global.auth.model.CustomUserDetails;
 import com.example.backend.global.config.CorsConfig;
 import com.example.backend.global.config.TestSecurityConfig;
+import com.example.backend.global.response.CursorResponse;
+import com.example.backend.global.response.ResourceVersion;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -19,6 +25,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.test.context.support.WithMockUser;
@@ -40,13 +47,17 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(OrdersController.class)
-@Import({TestSecurityConfig.class, CorsConfig.class})
+@Import({TestSecurityConfig.class, CorsConfig.class, OrdersLaneExecutor.class, OrdersGroupCommitWriter.class,
+        OrdersIntakeService.class})
 @WithMockUser()
 public class OrdersControllerTest {
 
     @MockitoBean
     private OrdersService ordersService;
 
+    @MockitoBean
+    private ProductOrdersRepository productOrdersRepository;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -74,6 +85,7 @@ public class OrdersControllerTest {
                 .modifiedAt(ZonedDateTime.now())
                 .build();
 
+        when(ordersService.findVersion(orderId)).thenReturn(ResourceVersion.hashOf(response.modifiedAt(), orderId));
         when(ordersService.findOne(orderId)).thenReturn(response);
 
         // when
@@ -97,12 +109,33 @@ public class OrdersControllerTest {
                 .andExpect(jsonPath("$.data.modifiedAt").exists());
     }
 
+    @Test
+    @DisplayName("주문 단건 조회 - ETag가 일치하면 본문 조회 없이 304 반환")
+    void findOneNotModifiedTest() throws Exception {
+        // given
+        Long orderId = 1L;
+        ResourceVersion version = ResourceVersion.hashOf(ZonedDateTime.now(), "orders", orderId, DeliveryStatus.READY);
+        when(ordersService.findVersion(orderId)).thenReturn(version);
+
+        // when
+        ResultActions resultActions = mockMvc.perform(get("/api/v1/orders/{id}", orderId)
+                .header(HttpHeaders.IF_NONE_MATCH, version.eTag())
+        );
+
+        // then
+        resultActions
+                .andExpect(handler().methodName("findOne"))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, version.eTag()));
+        verify(ordersService, never()).findOne(anyLong());
+    }
+
     @Test
     @DisplayName("주문 단건 조회 실패 - 존재하지 않는 주문")
     void findOneFailNotFoundTest() throws Exception {
         // given
         Long orderId = 999L;
-        when(ordersService.findOne(orderId)).thenThrow(new OrdersException(OrdersErrorCode.NOT_FOUND));
+        when(ordersService.findVersion(orderId)).thenThrow(new OrdersException(OrdersErrorCode.NOT_FOUND));
 
         // when
         ResultActions resultActions = mockMvc.perform(get("/api/v1/orders/{id}", orderId)
@@ -163,7 +196,7 @@ public class OrdersControllerTest {
                 .collect(Collectors.toList());
 
         // 인증된 사용자의 ID로 주문 목록 모킹
-        when(ordersService.current(memberId)).thenReturn(readyOrders);
+        when(ordersService.current(memberId, null, 20)).thenReturn(CursorResponse.of(readyOrders, null));
 
         // when, then
         mockMvc.perform(get("/api/v1/orders/current")
@@ -172,11 +205,12 @@ public class OrdersControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(handler().handlerType(OrdersController.class))
                 .andExpect(handler().methodName("current"))
-                .andExpect(jsonPath("$.data").isArray())
-                .andExpect(jsonPath("$.data.length()").value(1))
-                .andExpect(jsonPath("$.data[0].id").value(1L))
-                .andExpect(jsonPath("$.data[0].totalPrice").value(2000))
-                .andExpect(jsonPath("$.data[0].status").value("READY"));
+                .andExpect(jsonPath("$.data.content").isArray())
+                .andExpect(jsonPath("$.data.content.length()").value(1))
+                .andExpect(jsonPath("$.data.content[0].id").value(1L))
+                .andExpect(jsonPath("$.data.content[0].totalPrice").value(2000))
+                .andExpect(jsonPath("$.data.content[0].status").value("READY"))
+                .andExpect(jsonPath("$.data.hasNext").value(false));
 
     }
 
@@ -218,23 +252,27 @@ public class OrdersControllerTest {
                         .build()
         );
 
-        when(ordersService.history(1L)).thenReturn(mockOrderResponses);
+        when(ordersService.history(1L, "cursor", 2)).thenReturn(CursorResponse.of(mockOrderResponses, "next"));
 
         // when, then
         mockMvc.perform(get("/api/v1/orders/history")
+                        .param("cursor", "cursor")
+                        .param("size", "2")
                         .contentType(MediaType.APPLICATION_JSON)
                         .with(user(createMockCustomUserDetails(memberId))))
                 .andExpect(status().isOk())
                 .andExpect(handler().handlerType(OrdersController.class))
                 .andExpect(handler().methodName("history"))
-                .andExpect(jsonPath("$.data").isArray())
-                .andExpect(jsonPath("$.data.length()").value(2))
-                .andExpect(jsonPath("$.data[0].id").value(1L))
-                .andExpect(jsonPath("$.data[0].totalPrice").value(2000))
-                .andExpect(jsonPath("$.data[0].status").value("READY"))
-                .andExpect(jsonPath("$.data[1].id").value(2L))
-                .andExpect(jsonPath("$.data[1].totalPrice").value(3000))
-                .andExpect(jsonPath("$.data[1].status").value("SHIPPED"));
+                .andExpect(jsonPath("$.data.content").isArray())
+                .andExpect(jsonPath("$.data.content.length()").value(2))
+                .andExpect(jsonPath("$.data.content[0].id").value(1L))
+                .andExpect(jsonPath("$.data.content[0].totalPrice").value(2000))
+                .andExpect(jsonPath("$.data.content[0].status").value("READY"))
+                .andExpect(jsonPath("$.data.content[1].id").value(2L))
+                .andExpect(jsonPath("$.data.content[1].totalPrice").value(3000))
+                .andExpect(jsonPath("$.data.content[1].status").value("SHIPPED"))
+                .andExpect(jsonPath("$.data.nextCursor").value("next"))
+                .andExpect(jsonPath("$.data.hasNext").value(true));
 
     }
 
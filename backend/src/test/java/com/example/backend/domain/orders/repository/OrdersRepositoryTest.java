@@ -11,6 +11,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.example.backend.domain.common.Address;
@@ -18,18 +20,23 @@ import com.example.backend.domain.member.entity.Member;
 import com.example.backend.domain.member.entity.MemberStatus;
 import com.example.backend.domain.member.entity.Role;
 import com.example.backend.domain.member.repository.MemberRepository;
+import com.example.backend.domain.orders.dto.OrdersResponse;
+import com.example.backend.domain.orders.dto.OrdersVersionDto;
+import com.example.backend.domain.orders.dto.ProductOrdersInfoDto;
 import com.example.backend.domain.orders.entity.Orders;
 import com.example.backend.domain.orders.status.DeliveryStatus;
 import com.example.backend.domain.product.entity.Product;
 import com.example.backend.domain.product.repository.ProductRepository;
 import com.example.backend.domain.productOrders.entity.ProductOrders;
 import com.example.backend.domain.productOrders.repository.ProductOrdersRepository;
+import com.example.backend.global.config.IdGeneratorConfig;
 
 import jakarta.persistence.EntityManager;
 import lombok.extern.slf4j.Slf4j;
 
 @Transactional
-@DataJpaTest
+@DataJpaTest(properties = "id.worker-id=0")
+@Import(IdGeneratorConfig.class)
 @Slf4j
 public class OrdersRepositoryTest {
 
@@ -118,257 +125,126 @@ public class OrdersRepositoryTest {
 	}
 
 	@Test
-	@DisplayName("현재 주문 조회 성공")
-	void findByMemberIdAndDeliveryStatus() {
+	@DisplayName("(modifiedAt, id) 커서 기반 주문 헤더 조회")
+	void findResponsesByMemberIdAfterCursor() {
 		Member savedMember = memberRepository.save(createMember());
-		log.info("memberId = {}", savedMember.getId()); // memberId: 1 반환
-
 		Product savedProduct = productRepository.save(createProduct());
+		List<DeliveryStatus> status = List.of(DeliveryStatus.READY, DeliveryStatus.SHIPPED);
 
-		ProductOrders savedProductOrders = productOrdersRepository.save(createProductOrders(savedProduct));
-
-		Orders orders = Orders.create()
-			.member(savedMember)
-			.productOrdersList(List.of(savedProductOrders))
-			.address(savedMember.getAddress())
-			.build();
-
-		Orders save = ordersRepository.save(orders);
+		for (int i = 0; i < 3; i++) {
+			ordersRepository.save(Orders.create()
+				.member(savedMember)
+				.productOrdersList(List.of(createProductOrders(savedProduct)))
+				.address(savedMember.getAddress())
+				.build());
+		}
 
-		List<Orders> ordersList =
-			ordersRepository.findByMemberIdAndDeliveryStatus(save.getMember().getId(), DeliveryStatus.READY);
+		ordersRepository.flush();
+		entityManager.clear();
 
-		log.info("orderList = {}", ordersList);
+		List<OrdersResponse> firstPage =
+			ordersRepository.findResponsesByMemberId(savedMember.getId(), status, PageRequest.of(0, 2));
+		OrdersResponse last = firstPage.get(1);
 
-		log.info("memberId = {}", save.getMember().getId()); // 이것조차 이상 없음 memberId 는 잘 저장됨
+		List<OrdersResponse> secondPage = ordersRepository.findResponsesByMemberIdAfterCursor(
+			savedMember.getId(), status, last.modifiedAt(), last.id(), PageRequest.of(0, 2));
 
-		assertThat(ordersList.size()).isEqualTo(1);
-		assertThat(ordersList.get(0).getDeliveryStatus()).isEqualTo(DeliveryStatus.READY);
-		assertThat(ordersList.get(0).getMember().getUsername()).isEqualTo("test");
+		assertThat(firstPage).hasSize(2);
+		assertThat(firstPage.get(0).totalPrice()).isEqualTo(200);
+		assertThat(secondPage).hasSize(1);
+		assertThat(secondPage).extracting(OrdersResponse::id)
+			.doesNotContainAnyElementsOf(firstPage.stream().map(OrdersResponse::id).toList());
 	}
 
 	@Test
-	@DisplayName("주문 상태가 READY 인 주문만 조회")
-	void getOnlyStatusReady() {
-
+	@DisplayName("주문 ID 목록의 주문 상품을 DTO로 조회")
+	void findProductInfoByOrdersIdIn() {
 		Member savedMember = memberRepository.save(createMember());
 		Product savedProduct = productRepository.save(createProduct());
 
-		Orders orders1 = Orders.create()
+		Orders orders1 = ordersRepository.save(Orders.create()
 			.member(savedMember)
-			.productOrdersList(List.of(createProductOrders(savedProduct)))
+			.productOrdersList(List.of(createProductOrders(savedProduct), createProductOrders(savedProduct)))
 			.address(savedMember.getAddress())
-			.build();
-
-		Orders orders2 = Orders.create()
+			.build());
+		Orders orders2 = ordersRepository.save(Orders.create()
 			.member(savedMember)
 			.productOrdersList(List.of(createProductOrders(savedProduct)))
 			.address(savedMember.getAddress())
-			.build();
-
-		orders2.changeStatus(DeliveryStatus.SHIPPED);
-
-		ordersRepository.save(orders1);
-		ordersRepository.save(orders2);
+			.build());
 
 		ordersRepository.flush();
 		entityManager.clear();
 
-		List<Orders> ordersList = ordersRepository.findByMemberIdAndDeliveryStatus(
-			savedMember.getId(),
-			DeliveryStatus.READY
-		);
+		List<ProductOrdersInfoDto> infoList =
+			ordersRepository.findProductInfoByOrdersIdIn(List.of(orders1.getId(), orders2.getId()));
 
-		assertThat(ordersList.size()).isEqualTo(1);
-		assertThat(ordersList.get(0).getDeliveryStatus()).isEqualTo(DeliveryStatus.READY);
+		assertThat(infoList).hasSize(3);
+		assertThat(infoList).filteredOn(info -> info.ordersId().equals(orders1.getId())).hasSize(2);
+		assertThat(infoList).allMatch(info -> info.productId().equals(savedProduct.getId())
+			&& info.name().equals("test") && info.quantity() == 2 && info.price() == 100);
 	}
 
 	@Test
-	@DisplayName("모든 주문 목록 조회 및 수정시간순으로 조회 성공")
-	void history() {
-		Member savedMember = memberRepository.save(createMember());
-		Product savedProduct = productRepository.save(createProduct());
-
-		Orders orders1 = Orders.create()
-			.member(savedMember)
-			.productOrdersList(List.of(createProductOrders(savedProduct)))
-			.address(savedMember.getAddress())
-			.build();
-
-		Orders orders2 = Orders.create()
-			.member(savedMember)
-			.productOrdersList(List.of(createProductOrders(savedProduct)))
-			.address(savedMember.getAddress())
-			.build();
-
-		orders2.changeStatus(DeliveryStatus.SHIPPED);
-
-		ordersRepository.save(orders1);
-		ordersRepository.save(orders2);
-
-		List<Orders> ordersList = ordersRepository.findAllByMemberIdAndDeliveryStatusOrderByModifiedAt(
-			savedMember.getId(),
-			List.of(DeliveryStatus.READY,
-				DeliveryStatus.SHIPPED)
-		);
-
-		assertThat(ordersList.size()).isEqualTo(2);
-		assertThat(ordersList.get(0).getDeliveryStatus()).isEqualTo(DeliveryStatus.SHIPPED);
-	}
-
-	@Test
-	@DisplayName("startTime, endTime 사이의 배송 준비중인 데이터 조회")
-	void findReadyOrders() {
+	@DisplayName("lastId 이후 배송 준비중 주문을 ID 순으로 chunk 조회 후 배송 시작 처리")
+	void findReadyIdsAfter() {
 		//given
 		Member savedMember = memberRepository.save(createMember());
 		Product savedProduct = productRepository.save(createProduct());
 
-		ProductOrders productOrders1 = createProductOrders(savedProduct);
-		ProductOrders productOrders2 = createProductOrders(savedProduct);
-		ProductOrders productOrders3 = createProductOrders(savedProduct);
-
-		Orders createOrders1 = Orders.create()
-			.member(savedMember)
-			.address(savedMember.getAddress())
-			.productOrdersList(List.of(productOrders1, productOrders2, productOrders3))
-			.build();
-
-		Orders createOrders2 = Orders.create()
-			.member(savedMember)
-			.address(savedMember.getAddress())
-			.productOrdersList(List.of(productOrders1, productOrders2, productOrders3))
-			.build();
-
-		Orders createOrders3 = Orders.create()
-			.member(savedMember)
-			.address(savedMember.getAddress())
-			.productOrdersList(List.of(productOrders1, productOrders2, productOrders3))
-			.build();
-
-		createOrders3.changeStatus(DeliveryStatus.SHIPPED);
-
-		ordersRepository.saveAll(List.of(createOrders1, createOrders2, createOrders3));
+		List<Orders> ordersList = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			ordersList.add(Orders.create()
+				.member(savedMember)
+				.address(savedMember.getAddress())
+				.productOrdersList(List.of(createProductOrders(savedProduct)))
+				.build());
+		}
+		ordersList.get(2).changeStatus(DeliveryStatus.CANCEL);
+		ordersRepository.saveAll(ordersList);
 
 		ZonedDateTime now = ZonedDateTime.now();
-		ZonedDateTime startTime = now.minusDays(1).with(LocalTime.of(14, 0));
-		ZonedDateTime endTime = now;
+		ZonedDateTime startTime = now.minusDays(1);
+		ZonedDateTime endTime = now.plusMinutes(1);
 
 		//when
-		List<Orders> ordersList = ordersRepository.findReadyOrders(startTime, endTime);
+		List<Long> firstChunk = ordersRepository.findReadyIdsAfter(startTime, endTime, 0L, PageRequest.of(0, 1));
+		List<Long> secondChunk =
+			ordersRepository.findReadyIdsAfter(startTime, endTime, firstChunk.get(0), PageRequest.of(0, 1));
+		int shipped = ordersRepository.shipByIdIn(List.of(firstChunk.get(0), secondChunk.get(0)), now);
+		List<String> usernameList =
+			ordersRepository.findShippedUsernameByIdIn(List.of(firstChunk.get(0), secondChunk.get(0)));
 
 		//then
-		Orders orders1 = ordersList.get(0);
-		Orders orders2 = ordersList.get(1);
-
-		assertThat(ordersList.size()).isEqualTo(2);
-		assertThat(orders1).isEqualTo(createOrders1);
-		assertThat(orders2).isEqualTo(createOrders2);
-		assertThat(orders1.getModifiedAt()).isAfter(startTime);
-		assertThat(orders1.getModifiedAt()).isBefore(endTime);
-		assertThat(orders2.getModifiedAt()).isAfter(startTime);
-		assertThat(orders2.getModifiedAt()).isBefore(endTime);
+		assertThat(ordersRepository.countReadyOrders(startTime, endTime)).isZero();
+		assertThat(firstChunk).containsExactly(ordersList.get(0).getId());
+		assertThat(secondChunk).containsExactly(ordersList.get(1).getId());
+		assertThat(shipped).isEqualTo(2);
+		assertThat(usernameList).containsExactly("test");
 	}
 
 	@Test
-	@DisplayName("startTime, endTime 사이의 주문 배송 상태 SHIPPED으로 변경")
-	void bulkUpdateDeliveryStatus() {
+	@DisplayName("주문 검증자 조회 시 주문 상태, 수정일시와 주문 상품의 최근 수정일시 조회")
+	void findVersionById() {
 		//given
 		Member savedMember = memberRepository.save(createMember());
 		Product savedProduct = productRepository.save(createProduct());
-
-		ProductOrders productOrders1 = createProductOrders(savedProduct);
-		ProductOrders productOrders2 = createProductOrders(savedProduct);
-		ProductOrders productOrders3 = createProductOrders(savedProduct);
-
-		Orders createOrders1 = Orders.create()
-			.member(savedMember)
-			.address(savedMember.getAddress())
-			.productOrdersList(List.of(productOrders1, productOrders2, productOrders3))
-			.build();
-
-		Orders createOrders2 = Orders.create()
-			.member(savedMember)
-			.address(savedMember.getAddress())
-			.productOrdersList(List.of(productOrders1, productOrders2, productOrders3))
-			.build();
-
-		Orders createOrders3 = Orders.create()
+		Orders savedOrders = ordersRepository.save(Orders.create()
 			.member(savedMember)
 			.address(savedMember.getAddress())
-			.productOrdersList(List.of(productOrders1, productOrders2, productOrders3))
-			.build();
-
-		createOrders3.changeStatus(DeliveryStatus.SHIPPED);
-
-		ordersRepository.saveAll(List.of(createOrders1, createOrders2, createOrders3));
-
-		ZonedDateTime now = ZonedDateTime.now();
-		ZonedDateTime startTime = now.minusDays(1).with(LocalTime.of(14, 0));
-		ZonedDateTime endTime = now;
-
-		//when
-		ordersRepository.bulkUpdateDeliveryStatus(startTime, endTime);
-
-		//then
+			.productOrdersList(List.of(createProductOrders(savedProduct), createProductOrders(savedProduct)))
+			.build());
 		entityManager.flush();
 		entityManager.clear();
-		List<Orders> ordersList = ordersRepository.findAll();
-
-		assertThat(ordersList.size()).isEqualTo(3);
-		assertThat(ordersList).allMatch(order ->
-			order.getDeliveryStatus() == DeliveryStatus.SHIPPED &&
-			order.getModifiedAt().isAfter(startTime) &&
-			order.getModifiedAt().isBefore(endTime)
-		);
-	}
-
-	@Test
-	@DisplayName("startTime, endTime 사이의 배송 준비중인 회원 username 조회")
-	void findUsernameByReady() {
-		//given
-		Member savedMember = memberRepository.save(createMember());
-		Product savedProduct = productRepository.save(createProduct());
-
-		ProductOrders productOrders1 = createProductOrders(savedProduct);
-		ProductOrders productOrders2 = createProductOrders(savedProduct);
-		ProductOrders productOrders3 = createProductOrders(savedProduct);
-
-		Orders createOrders1 = Orders.create()
-			.member(savedMember)
-			.address(savedMember.getAddress())
-			.productOrdersList(List.of(productOrders1, productOrders2, productOrders3))
-			.build();
-
-		Orders createOrders2 = Orders.create()
-			.member(savedMember)
-			.address(savedMember.getAddress())
-			.productOrdersList(List.of(productOrders1, productOrders2, productOrders3))
-			.build();
-
-		Orders createOrders3 = Orders.create()
-			.member(savedMember)
-			.address(savedMember.getAddress())
-			.productOrdersList(List.of(productOrders1, productOrders2, productOrders3))
-			.build();
-
-		createOrders3.changeStatus(DeliveryStatus.SHIPPED);
-
-		ordersRepository.saveAll(List.of(createOrders1, createOrders2, createOrders3));
-
-		ZonedDateTime now = ZonedDateTime.now();
-		ZonedDateTime startTime = now.minusDays(1).with(LocalTime.of(14, 0));
-		ZonedDateTime endTime = now;
 
 		//when
-		List<String> usernameList = ordersRepository.findUsernameByReady(startTime, endTime);
+		OrdersVersionDto version = ordersRepository.findVersionById(savedOrders.getId()).orElseThrow();
 
 		//then
-		String username1 = usernameList.get(0);
-		String username2 = usernameList.get(1);
-
-		assertThat(usernameList.size()).isEqualTo(2);
-		assertThat(username1).isEqualTo(createOrders1.getMember().getUsername());
-		assertThat(username2).isEqualTo(createOrders2.getMember().getUsername());
+		assertThat(version.id()).isEqualTo(savedOrders.getId());
+		assertThat(version.status()).isEqualTo(DeliveryStatus.READY);
+		assertThat(version.modifiedAt()).isNotNull();
+		assertThat(version.productModifiedAt()).isNotNull();
+		assertThat(ordersRepository.findVersionById(-1L)).isEmpty();
 	}
-
 }
@@ -0,0 +1,239 @@
+package com.example.backend.domain.orders.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.backend.domain.member.entity.Member;
+import com.example.backend.domain.orders.dto.OrdersCreateRequest;
+import com.example.backend.domain.orders.dto.OrdersCreateResult;
+import com.example.backend.domain.orders.dto.OrdersForm;
+import com.example.backend.domain.orders.exception.OrdersErrorCode;
+import com.example.backend.domain.orders.exception.OrdersException;
+import com.example.backend.domain.product.exception.ProductErrorCode;
+import com.example.backend.domain.product.exception.ProductException;
+
+@ExtendWith(MockitoExtension.class)
+class OrdersGroupCommitWriterTest {
+
+	@Mock
+	OrdersService ordersService;
+
+	OrdersGroupCommitWriter ordersGroupCommitWriter;
+
+	@AfterEach
+	void tearDown() {
+		ordersGroupCommitWriter.shutdown();
+	}
+
+	private void init(long windowMillis, int maxBatch) {
+		ordersGroupCommitWriter = new OrdersGroupCommitWriter(ordersService);
+		ReflectionTestUtils.setField(ordersGroupCommitWriter, "enabled", true);
+		ReflectionTestUtils.setField(ordersGroupCommitWriter, "windowMillis", windowMillis);
+		ReflectionTestUtils.setField(ordersGroupCommitWriter, "maxBatch", maxBatch);
+		ordersGroupCommitWriter.init();
+	}
+
+	private OrdersForm createOrdersForm(Long productId) {
+		return new OrdersForm(1L, "서울시", "강남구", "테헤란로", "101호",
+			List.of(new OrdersForm.ProductOrdersRequest(productId, 1)));
+	}
+
+	private static Long productIdOf(OrdersForm ordersForm) {
+		return ordersForm.productOrdersRequestList().get(0).productId();
+	}
+
+	private List<Future<Long>> writeConcurrently(ExecutorService callers, int count) {
+		List<Future<Long>> futures = new ArrayList<>();
+		for (long i = 1; i <= count; i++) {
+			OrdersForm ordersForm = createOrdersForm(i);
+			futures.add(callers.submit(() -> ordersGroupCommitWriter.write(ordersForm, mock(Member.class))));
+		}
+		return futures;
+	}
+
+	@Test
+	@DisplayName("window 안에 도착한 주문은 한 번에 저장되고 각자 자신의 주문 ID를 받음")
+	void write_grouped() throws Exception {
+		// Given
+		init(200, 64);
+		when(ordersService.createAll(anyList())).thenAnswer(invocation -> {
+			List<OrdersCreateRequest> requestList = invocation.getArgument(0);
+			return requestList.stream()
+				.map(request -> OrdersCreateResult.success(productIdOf(request.ordersForm()) * 10))
+				.toList();
+		});
+
+		ExecutorService callers = Executors.newFixedThreadPool(16);
+
+		// When
+		List<Future<Long>> futures = writeConcurrently(callers, 16);
+
+		// Then
+		for (int i = 0; i < futures.size(); i++) {
+			assertThat(futures.get(i).get(10, TimeUnit.SECONDS)).isEqualTo((i + 1) * 10L);
+		}
+		callers.shutdown();
+
+		verify(ordersService, atMost(15)).createAll(anyList());
+		verify(ordersService, never()).create(any(OrdersForm.class), any());
+	}
+
+	@Test
+	@DisplayName("묶음 전체가 롤백되면 주문별로 다시 저장해 실패한 주문만 예외")
+	void write_fallbackIndividually() throws Exception {
+		// Given
+		init(1000, 2);
+		when(ordersService.createAll(anyList()))
+			.thenThrow(new ProductException(ProductErrorCode.CONFLICT));
+		when(ordersService.create(any(OrdersForm.class), any())).thenAnswer(invocation -> {
+			OrdersForm ordersForm = invocation.getArgument(0);
+			if (productIdOf(ordersForm) == 2L) {
+				throw new ProductException(ProductErrorCode.INSUFFICIENT_QUANTITY);
+			}
+			return 10L;
+		});
+
+		ExecutorService callers = Executors.newFixedThreadPool(2);
+
+		// When
+		List<Future<Long>> futures = writeConcurrently(callers, 2);
+
+		// Then
+		assertThat(futures.get(0).get(10, TimeUnit.SECONDS)).isEqualTo(10L);
+		assertThatThrownBy(() -> futures.get(1).get(10, TimeUnit.SECONDS))
+			.hasCauseInstanceOf(ProductException.class);
+		callers.shutdown();
+
+		verify(ordersService, times(1)).createAll(anyList());
+		verify(ordersService, times(2)).create(any(OrdersForm.class), any());
+	}
+
+	@Test
+	@DisplayName("묶음 안에서 재고 부족으로 실패한 주문만 예외, 주문별로 다시 저장하지 않음")
+	void write_partialFailure() throws Exception {
+		// Given
+		init(1000, 2);
+		when(ordersService.createAll(anyList())).thenAnswer(invocation -> {
+			List<OrdersCreateRequest> requestList = invocation.getArgument(0);
+			return requestList.stream()
+				.map(request -> productIdOf(request.ordersForm()) == 2L
+					? OrdersCreateResult.failure(new ProductException(ProductErrorCode.INSUFFICIENT_QUANTITY))
+					: OrdersCreateResult.success(10L))
+				.toList();
+		});
+
+		ExecutorService callers = Executors.newFixedThreadPool(2);
+
+		// When
+		List<Future<Long>> futures = writeConcurrently(callers, 2);
+
+		// Then
+		assertThat(futures.get(0).get(10, TimeUnit.SECONDS)).isEqualTo(10L);
+		assertThatThrownBy(() -> futures.get(1).get(10, TimeUnit.SECONDS))
+			.hasCauseInstanceOf(ProductException.class);
+		callers.shutdown();
+
+		verify(ordersService, times(1)).createAll(anyList());
+		verify(ordersService, never()).create(any(OrdersForm.class), any());
+	}
+
+	@Test
+	@DisplayName("저장을 시작하기 전에 대기 시간이 초과된 주문은 실패로 응답하고 저장하지 않음")
+	void write_timeoutBeforeCommit() throws Exception {
+		// Given
+		init(0, 1);
+		ReflectionTestUtils.setField(ordersGroupCommitWriter, "timeoutMillis", 100L);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch proceed = new CountDownLatch(1);
+		when(ordersService.createAll(anyList())).thenAnswer(invocation -> {
+			started.countDown();
+			proceed.await(5, TimeUnit.SECONDS);
+			return List.of(OrdersCreateResult.success(10L));
+		});
+
+		ExecutorService callers = Executors.newFixedThreadPool(1);
+		Future<Long> first = callers.submit(() -> ordersGroupCommitWriter.write(createOrdersForm(1L), mock(Member.class)));
+		started.await(5, TimeUnit.SECONDS);
+
+		// When & Then
+		assertThatThrownBy(() -> ordersGroupCommitWriter.write(createOrdersForm(2L), mock(Member.class)))
+			.isInstanceOf(OrdersException.class)
+			.hasMessage(OrdersErrorCode.SERVER_ERROR.getMessage());
+
+		// 저장을 시작한 주문은 대기 시간이 지나도 결과를 받음
+		proceed.countDown();
+		assertThat(first.get(10, TimeUnit.SECONDS)).isEqualTo(10L);
+		callers.shutdown();
+
+		verify(ordersService, times(1)).createAll(anyList());
+		verify(ordersService, never()).create(any(OrdersForm.class), any());
+	}
+
+	@Test
+	@DisplayName("비활성화 시 OrdersService를 바로 호출")
+	void write_disabled() {
+		// Given
+		ordersGroupCommitWriter = new OrdersGroupCommitWriter(ordersService);
+		when(ordersService.create(any(OrdersForm.class), any())).thenReturn(1L);
+
+		// When
+		Long ordersId = ordersGroupCommitWriter.write(createOrdersForm(1L), mock(Member.class));
+
+		// Then
+		assertThat(ordersId).isEqualTo(1L);
+		verify(ordersService, never()).createAll(anyList());
+	}
+
+	@Test
+	@DisplayName("CONFLICT로 실패한 주문은 새 트랜잭션으로 한 번만 다시 저장")
+	void write_conflictRetry() {
+		// Given
+		ordersGroupCommitWriter = new OrdersGroupCommitWriter(ordersService);
+		when(ordersService.create(any(OrdersForm.class), any()))
+			.thenThrow(new ProductException(ProductErrorCode.CONFLICT))
+			.thenReturn(1L);
+
+		// When
+		Long ordersId = ordersGroupCommitWriter.write(createOrdersForm(1L), mock(Member.class));
+
+		// Then
+		assertThat(ordersId).isEqualTo(1L);
+		verify(ordersService, times(2)).create(any(OrdersForm.class), any());
+	}
+
+	@Test
+	@DisplayName("이미 모인 주문 묶음은 window를 기다리지 않고 한 번에 저장")
+	void writeAll() {
+		// Given
+		ordersGroupCommitWriter = new OrdersGroupCommitWriter(ordersService);
+		when(ordersService.createAll(anyList()))
+			.thenReturn(List.of(OrdersCreateResult.success(10L), OrdersCreateResult.success(20L)));
+
+		// When
+		List<CompletableFuture<Long>> futures = ordersGroupCommitWriter.writeAll(List.of(
+			new OrdersCreateRequest(createOrdersForm(1L), mock(Member.class)),
+			new OrdersCreateRequest(createOrdersForm(2L), mock(Member.class))));
+
+		// Then
+		assertThat(futures).extracting(CompletableFuture::join).containsExactly(10L, 20L);
+		verify(ordersService, times(1)).createAll(anyList());
+		verify(ordersService, never()).create(any(OrdersForm.class), any());
+	}
+}
@@ -0,0 +1,170 @@
+package com.example.backend.domain.orders.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.backend.domain.member.entity.Member;
+import com.example.backend.domain.orders.dto.OrdersCreateRequest;
+import com.example.backend.domain.orders.dto.OrdersForm;
+import com.example.backend.domain.orders.dto.OrdersTicketResponse;
+import com.example.backend.domain.orders.exception.OrdersException;
+import com.example.backend.domain.orders.status.TicketStatus;
+import com.example.backend.domain.product.exception.ProductErrorCode;
+import com.example.backend.domain.product.exception.ProductException;
+
+@ExtendWith(MockitoExtension.class)
+class OrdersIntakeServiceTest {
+
+	@Mock
+	OrdersLaneExecutor ordersLaneExecutor;
+
+	OrdersIntakeService ordersIntakeService;
+
+	@AfterEach
+	void tearDown() {
+		ordersIntakeService.shutdown();
+	}
+
+	private void init(boolean startWorkers, int capacity) {
+		ordersIntakeService = new OrdersIntakeService(ordersLaneExecutor);
+		ReflectionTestUtils.setField(ordersIntakeService, "async", true);
+		ReflectionTestUtils.setField(ordersIntakeService, "capacity", capacity);
+		ReflectionTestUtils.setField(ordersIntakeService, "workerCount", startWorkers ? 1 : 0);
+		ReflectionTestUtils.setField(ordersIntakeService, "batchSize", 8);
+		ordersIntakeService.init();
+	}
+
+	private Member createMember(Long id) {
+		return Member.builder().id(id).build();
+	}
+
+	private OrdersForm createOrdersForm() {
+		return new OrdersForm(1L, "서울시", "강남구", "테헤란로", "101호",
+			List.of(new OrdersForm.ProductOrdersRequest(1L, 1)));
+	}
+
+	private OrdersTicketResponse awaitDone(String ticketId, Long memberId) throws InterruptedException {
+		for (int i = 0; i < 100; i++) {
+			OrdersTicketResponse response = ordersIntakeService.findTicket(ticketId, memberId);
+			if (response.status() != TicketStatus.PENDING) {
+				return response;
+			}
+			Thread.sleep(20);
+		}
+		throw new AssertionError("ticket not processed");
+	}
+
+	@Test
+	@DisplayName("접수된 주문이 처리되면 티켓에 주문 ID 기록")
+	void submit_completed() throws Exception {
+		// Given
+		init(true, 10);
+		when(ordersLaneExecutor.createAll(anyList()))
+			.thenReturn(List.of(CompletableFuture.completedFuture(100L)));
+
+		// When
+		String ticketId = ordersIntakeService.submit(createOrdersForm(), createMember(1L));
+		OrdersTicketResponse response = awaitDone(ticketId, 1L);
+
+		// Then
+		assertThat(response.status()).isEqualTo(TicketStatus.COMPLETED);
+		assertThat(response.orderId()).isEqualTo(100L);
+	}
+
+	@Test
+	@DisplayName("주문 처리 실패 시 티켓에 에러 코드 기록")
+	void submit_failed() throws Exception {
+		// Given
+		init(true, 10);
+		when(ordersLaneExecutor.createAll(anyList())).thenReturn(List.of(
+			CompletableFuture.failedFuture(new ProductException(ProductErrorCode.INSUFFICIENT_QUANTITY))));
+
+		// When
+		String ticketId = ordersIntakeService.submit(createOrdersForm(), createMember(1L));
+		OrdersTicketResponse response = awaitDone(ticketId, 1L);
+
+		// Then
+		assertThat(response.status()).isEqualTo(TicketStatus.FAILED);
+		assertThat(response.errorMessage()).isEqualTo(ProductErrorCode.INSUFFICIENT_QUANTITY.getMessage());
+	}
+
+	@Test
+	@DisplayName("처리 중 쌓인 주문은 한 번에 꺼내 함께 저장")
+	void submit_batched() throws Exception {
+		// Given
+		init(true, 10);
+		List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+		CountDownLatch firstBatch = new CountDownLatch(1);
+		CountDownLatch proceed = new CountDownLatch(1);
+
+		when(ordersLaneExecutor.createAll(anyList())).thenAnswer(invocation -> {
+			List<OrdersCreateRequest> requestList = invocation.getArgument(0);
+			batchSizes.add(requestList.size());
+			if (batchSizes.size() == 1) {
+				firstBatch.countDown();
+				proceed.await(5, TimeUnit.SECONDS);
+			}
+			return requestList.stream()
+				.map(request -> CompletableFuture.completedFuture(request.member().getId()))
+				.toList();
+		});
+
+		// When
+		String firstTicketId = ordersIntakeService.submit(createOrdersForm(), createMember(1L));
+		firstBatch.await(5, TimeUnit.SECONDS);
+
+		List<String> ticketIds = new ArrayList<>();
+		for (long memberId = 2; memberId <= 4; memberId++) {
+			ticketIds.add(ordersIntakeService.submit(createOrdersForm(), createMember(memberId)));
+		}
+		proceed.countDown();
+
+		// Then
+		assertThat(awaitDone(firstTicketId, 1L).orderId()).isEqualTo(1L);
+		for (int i = 0; i < ticketIds.size(); i++) {
+			assertThat(awaitDone(ticketIds.get(i), i + 2L).orderId()).isEqualTo(i + 2L);
+		}
+		assertThat(batchSizes).containsExactly(1, 3);
+	}
+
+	@Test
+	@DisplayName("대기열이 가득 차면 접수 거부")
+	void submit_queueFull() {
+		// Given
+		init(false, 1);
+		ordersIntakeService.submit(createOrdersForm(), createMember(1L));
+
+		// When & Then
+		assertThatThrownBy(() -> ordersIntakeService.submit(createOrdersForm(), createMember(1L)))
+			.isInstanceOf(OrdersException.class)
+			.hasMessage("주문 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+	}
+
+	@Test
+	@DisplayName("다른 회원의 티켓은 조회 불가")
+	void findTicket_forbidden() {
+		// Given
+		init(false, 10);
+		String ticketId = ordersIntakeService.submit(createOrdersForm(), createMember(1L));
+
+		// When & Then
+		assertThatThrownBy(() -> ordersIntakeService.findTicket(ticketId, 2L))
+			.isInstanceOf(OrdersException.class)
+			.hasMessage("접근 권한이 없습니다.");
+	}
+}
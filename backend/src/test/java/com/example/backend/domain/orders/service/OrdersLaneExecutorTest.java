@@ -0,0 +1,125 @@
+package com.example.backend.domain.orders.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.backend.domain.member.entity.Member;
+import com.example.backend.domain.orders.dto.OrdersForm;
+import com.example.backend.domain.productOrders.repository.ProductOrdersRepository;
+
+@ExtendWith(MockitoExtension.class)
+class OrdersLaneExecutorTest {
+
+	@Mock
+	OrdersService ordersService;
+	@Mock
+	ProductOrdersRepository productOrdersRepository;
+
+	OrdersLaneExecutor ordersLaneExecutor;
+
+	@BeforeEach
+	void setUp() {
+		ordersLaneExecutor = new OrdersLaneExecutor(ordersService, new OrdersGroupCommitWriter(ordersService),
+			productOrdersRepository);
+		ReflectionTestUtils.setField(ordersLaneExecutor, "enabled", true);
+		ReflectionTestUtils.setField(ordersLaneExecutor, "laneCount", 4);
+		ReflectionTestUtils.setField(ordersLaneExecutor, "timeoutMillis", 5000L);
+		ordersLaneExecutor.init();
+	}
+
+	@AfterEach
+	void tearDown() {
+		ordersLaneExecutor.shutdown();
+	}
+
+	private OrdersForm createOrdersForm(Long... productIds) {
+		List<OrdersForm.ProductOrdersRequest> requestList = new ArrayList<>();
+		for (Long productId : productIds) {
+			requestList.add(new OrdersForm.ProductOrdersRequest(productId, 1));
+		}
+		return new OrdersForm(1L, "서울시", "강남구", "테헤란로", "101호", requestList);
+	}
+
+	@Test
+	@DisplayName("같은 상품 주문은 동시에 실행되지 않음")
+	void sameProductSerialized() throws Exception {
+		// Given
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+
+		when(ordersService.create(any(OrdersForm.class), any())).thenAnswer(invocation -> {
+			maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+			Thread.sleep(5);
+			running.decrementAndGet();
+			return 1L;
+		});
+
+		ExecutorService callers = Executors.newFixedThreadPool(8);
+		List<Future<Long>> futures = new ArrayList<>();
+
+		// When
+		for (int i = 0; i < 32; i++) {
+			futures.add(callers.submit(() -> ordersLaneExecutor.create(createOrdersForm(1L), mock(Member.class))));
+		}
+		for (Future<Long> future : futures) {
+			future.get(10, TimeUnit.SECONDS);
+		}
+		callers.shutdown();
+
+		// Then
+		assertThat(maxRunning.get()).isEqualTo(1);
+		verify(ordersService, times(32)).create(any(OrdersForm.class), any());
+	}
+
+	@Test
+	@DisplayName("여러 레인에 걸친 주문이 교차해도 교착 상태 없이 완료")
+	void multiLaneNoDeadlock() throws Exception {
+		// Given
+		when(ordersService.create(any(OrdersForm.class), any())).thenReturn(1L);
+
+		ExecutorService callers = Executors.newFixedThreadPool(8);
+		List<Future<Long>> futures = new ArrayList<>();
+
+		// When
+		for (int i = 0; i < 50; i++) {
+			OrdersForm ordersForm = i % 2 == 0 ? createOrdersForm(1L, 2L, 3L) : createOrdersForm(3L, 2L, 1L);
+			futures.add(callers.submit(() -> ordersLaneExecutor.create(ordersForm, mock(Member.class))));
+		}
+
+		// Then
+		for (Future<Long> future : futures) {
+			assertThat(future.get(10, TimeUnit.SECONDS)).isEqualTo(1L);
+		}
+		callers.shutdown();
+	}
+
+	@Test
+	@DisplayName("주문 취소 시 주문 상품이 속한 레인에서 취소 실행")
+	void cancelById() {
+		// Given
+		when(productOrdersRepository.findProductIdsByOrdersId(1L)).thenReturn(List.of(1L, 2L));
+
+		// When
+		ordersLaneExecutor.cancelById(1L);
+
+		// Then
+		verify(ordersService).cancelById(1L);
+	}
+}
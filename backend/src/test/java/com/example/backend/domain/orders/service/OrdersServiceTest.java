@@ -5,9 +5,28 @@ import static org.mockito.Mockito.*;
 
 import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
 
 import com.example.backend.domain.common.Address;
+import com.example.backend.domain.orders.dto.DeliveryChunk;
+import com.example.backend.domain.orders.dto.OrdersCreateRequest;
+import com.example.backend.domain.orders.dto.OrdersCreateResult;
+import com.example.backend.domain.orders.dto.OrdersCursor;
+import com.example.backend.domain.orders.dto.OrdersForm;
+import com.example.backend.domain.orders.dto.ProductInfoDto;
+import com.example.backend.domain.orders.dto.ProductOrdersInfoDto;
+import com.example.backend.domain.product.repository.ProductRepository;
+import com.example.backend.domain.product.stock.FlashSaleStockService;
+import com.example.backend.domain.product.stock.InventoryLedgerService;
+import com.example.backend.domain.product.stock.StockMode;
+import com.example.backend.domain.product.stock.StockStreamService;
+import com.example.backend.domain.product.stock.StripedStockService;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 import com.example.backend.domain.product.exception.ProductErrorCode;
 import com.example.backend.domain.product.exception.ProductException;
 import lombok.extern.slf4j.Slf4j;
@@ -27,6 +46,10 @@ import com.example.backend.domain.orders.repository.OrdersRepository;
 import com.example.backend.domain.orders.status.DeliveryStatus;
 import com.example.backend.domain.product.entity.Product;
 import com.example.backend.domain.productOrders.entity.ProductOrders;
+import com.example.backend.global.mail.service.MailService;
+import com.example.backend.global.mail.util.TemplateName;
+import com.example.backend.global.response.CursorResponse;
+import com.example.backend.global.transaction.SavepointExecutor;
 import org.springframework.http.HttpStatus;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,6 +58,20 @@ class OrdersServiceTest {
 
     @Mock
     OrdersRepository ordersRepository;
+    @Mock
+    ProductRepository productRepository;
+    @Mock
+    FlashSaleStockService flashSaleStockService;
+    @Mock
+    StockStreamService stockStreamService;
+    @Mock
+    InventoryLedgerService inventoryLedgerService;
+    @Mock
+    StripedStockService stripedStockService;
+    @Mock
+    MailService mailService;
+    @Mock
+    SavepointExecutor savepointExecutor;
     @InjectMocks
     OrdersService ordersService;
 
@@ -67,29 +104,41 @@ class OrdersServiceTest {
         return List.of(productOrder);
     }
 
+    private OrdersResponse header(Long id, DeliveryStatus status, ZonedDateTime modifiedAt) {
+        return new OrdersResponse(id, 1000, status, modifiedAt, modifiedAt);
+    }
+
+    private ProductOrdersInfoDto productInfo(Long ordersId) {
+        return new ProductOrdersInfoDto(ordersId, 10L, "A", 1000, "http://example.com/productA.jpg", 1);
+    }
+
     @Test
     @DisplayName("단건 조회 성공")
     void findOne() {
         // Given
         Long orderId = 1L;
-        Orders orders = mockOrder(orderId, DeliveryStatus.READY);
-        when(ordersRepository.findOrderById(orderId)).thenReturn(Optional.of(orders));
+        ZonedDateTime now = ZonedDateTime.now();
+        when(ordersRepository.findResponseById(orderId))
+                .thenReturn(Optional.of(header(orderId, DeliveryStatus.READY, now)));
+        when(ordersRepository.findProductInfoByOrdersIdIn(List.of(orderId)))
+                .thenReturn(List.of(productInfo(orderId)));
 
         // When
         OrdersResponse ordersResponse = ordersService.findOne(orderId);
 
         // Then
         assertThat(ordersResponse.id()).isEqualTo(orderId);
-        assertThat(ordersResponse.totalPrice()).isEqualTo(orders.getTotalPrice());
+        assertThat(ordersResponse.totalPrice()).isEqualTo(1000);
         assertThat(ordersResponse.status()).isEqualTo(DeliveryStatus.READY);  // READY를 기대
-        assertThat(ordersResponse.createAt()).isEqualTo(orders.getCreatedAt());
-        assertThat(ordersResponse.modifiedAt()).isEqualTo(orders.getModifiedAt());
+        assertThat(ordersResponse.createAt()).isEqualTo(now);
+        assertThat(ordersResponse.modifiedAt()).isEqualTo(now);
 
-        ProductOrders firstProductOrder = orders.getProductOrdersList().get(0);
-        assertThat(firstProductOrder.getProduct().getName()).isEqualTo("A");
-        assertThat(firstProductOrder.getProduct().getImgUrl()).isEqualTo("http://example.com/productA.jpg");
+        ProductInfoDto firstProduct = ordersResponse.products().get(0);
+        assertThat(firstProduct.name()).isEqualTo("A");
+        assertThat(firstProduct.imgUrl()).isEqualTo("http://example.com/productA.jpg");
 
-        verify(ordersRepository).findOrderById(orderId);
+        verify(ordersRepository).findResponseById(orderId);
+        verify(ordersRepository, never()).findOrderById(any());
     }
 
     @Test
@@ -97,7 +146,7 @@ class OrdersServiceTest {
     void not_found() {
         // Given
         Long orderId = 1L;
-        when(ordersRepository.findOrderById(orderId)).thenReturn(Optional.empty());
+        when(ordersRepository.findResponseById(orderId)).thenReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> ordersService.findOne(orderId))
@@ -110,39 +159,101 @@ class OrdersServiceTest {
     @DisplayName("현재 진행중인 주문 목록 조회 성공")
     void current() {
         // Given
-        String username = "testUser";
         Member member = mock(Member.class);
         when(member.getId()).thenReturn(1L);
+        ZonedDateTime now = ZonedDateTime.now();
 
-        // orders 목록 mock
-        List<Orders> ordersList = List.of(
-                mockOrder(1L,DeliveryStatus.READY),
-                mockOrder(2L,DeliveryStatus.READY)
-        );
-
-        when(ordersRepository.findByMemberIdAndDeliveryStatus(
-                member.getId(),
-                DeliveryStatus.READY
-        )).thenReturn(ordersList);
+        // 주문 헤더 목록 mock
+        when(ordersRepository.findResponsesByMemberId(
+                eq(member.getId()),
+                eq(List.of(DeliveryStatus.READY)),
+                any(Pageable.class)
+        )).thenReturn(List.of(
+                header(2L, DeliveryStatus.READY, now),
+                header(1L, DeliveryStatus.READY, now.minusMinutes(1))
+        ));
+        when(ordersRepository.findProductInfoByOrdersIdIn(List.of(2L, 1L)))
+                .thenReturn(List.of(productInfo(1L), productInfo(2L), productInfo(2L)));
 
         // When
-        List<OrdersResponse> result = ordersService.current(member.getId());
+        CursorResponse<OrdersResponse> result = ordersService.current(member.getId(), null, 20);
 
         // Then
-        assertThat(result).hasSize(2);
+        assertThat(result.content()).hasSize(2);
+        assertThat(result.hasNext()).isFalse();
+        assertThat(result.nextCursor()).isNull();
 
         // 첫 번째 주문 검증
-        // + converter 에 정렬 추가되면서 해당 부분도 수정시간순으로 정렬
-        OrdersResponse firstOrder = result.get(0);
+        // 헤더 조회 순서(수정시간 내림차순)대로 응답
+        OrdersResponse firstOrder = result.content().get(0);
         assertThat(firstOrder.id()).isEqualTo(2L);
         assertThat(firstOrder.totalPrice()).isEqualTo(1000);
-        assertThat(firstOrder.products()).hasSize(1);
+        assertThat(firstOrder.products()).hasSize(2);
+        assertThat(result.content().get(1).products()).hasSize(1);
 
         // 메서드 호출 검증
-        verify(ordersRepository).findByMemberIdAndDeliveryStatus(
-                member.getId(),
-                DeliveryStatus.READY
+        verify(ordersRepository).findResponsesByMemberId(
+                eq(member.getId()),
+                eq(List.of(DeliveryStatus.READY)),
+                eq(PageRequest.of(0, 21))
         );
+        verify(ordersRepository, times(1)).findProductInfoByOrdersIdIn(anyList());
+    }
+
+    @Test
+    @DisplayName("다음 페이지가 있으면 마지막 주문으로 nextCursor 생성")
+    void current_nextCursor() {
+        // Given
+        ZonedDateTime now = ZonedDateTime.now();
+        OrdersResponse header2 = header(2L, DeliveryStatus.READY, now.minusMinutes(1));
+
+        when(ordersRepository.findResponsesByMemberId(eq(1L), anyList(), any(Pageable.class)))
+                .thenReturn(List.of(
+                        header(3L, DeliveryStatus.READY, now),
+                        header2,
+                        header(1L, DeliveryStatus.READY, now.minusMinutes(2))));
+        when(ordersRepository.findProductInfoByOrdersIdIn(List.of(3L, 2L)))
+                .thenReturn(List.of(productInfo(3L), productInfo(2L)));
+
+        // When
+        CursorResponse<OrdersResponse> result = ordersService.current(1L, null, 2);
+
+        // Then
+        assertThat(result.content()).extracting(OrdersResponse::id).containsExactly(3L, 2L);
+        assertThat(result.hasNext()).isTrue();
+
+        OrdersCursor cursor = OrdersCursor.decode(result.nextCursor());
+        assertThat(cursor.id()).isEqualTo(2L);
+        assertThat(cursor.modifiedAt().toInstant()).isEqualTo(header2.modifiedAt().toInstant());
+    }
+
+    @Test
+    @DisplayName("커서가 주어지면 커서 이후 주문 조회")
+    void current_afterCursor() {
+        // Given
+        ZonedDateTime modifiedAt = ZonedDateTime.now();
+        String cursor = new OrdersCursor(modifiedAt, 5L).encode();
+
+        when(ordersRepository.findResponsesByMemberIdAfterCursor(
+                eq(1L), anyList(), any(ZonedDateTime.class), eq(5L), any(Pageable.class)))
+                .thenReturn(List.of());
+
+        // When
+        CursorResponse<OrdersResponse> result = ordersService.current(1L, cursor, 20);
+
+        // Then
+        assertThat(result.content()).isEmpty();
+        assertThat(result.hasNext()).isFalse();
+        verify(ordersRepository, never()).findResponsesByMemberId(any(), anyList(), any(Pageable.class));
+        verify(ordersRepository, never()).findProductInfoByOrdersIdIn(anyList());
+    }
+
+    @Test
+    @DisplayName("잘못된 커서는 BAD REQUEST")
+    void current_invalidCursor() {
+        assertThatThrownBy(() -> ordersService.current(1L, "invalid", 20))
+                .isInstanceOf(OrdersException.class)
+                .hasMessage("잘못된 요청입니다.");
     }
 
     @Test
@@ -242,46 +353,379 @@ class OrdersServiceTest {
     @DisplayName("모든 주문 목록 조회 성공")
     void history() {
         // Given
-        String username = "testUser";
         Member member = mock(Member.class);
         when(member.getId()).thenReturn(1L);
+        ZonedDateTime now = ZonedDateTime.now();
 
-        // orders 목록 mock
-        Orders o1 = mockOrder(1L, DeliveryStatus.READY);
-        Orders o2 = mockOrder(2L, DeliveryStatus.SHIPPED);
-        List<Orders> ordersList = List.of(
-                o1,
-                o2
-        );
-
-        log.info("o1={}",o1.getModifiedAt());
-        log.info("o2={}",o2.getModifiedAt());
-
-        when(ordersRepository.findAllByMemberIdAndDeliveryStatusOrderByModifiedAt(
-                member.getId(),
-                List.of(
+        when(ordersRepository.findResponsesByMemberId(
+                eq(member.getId()),
+                eq(List.of(
                         DeliveryStatus.READY,
-                        DeliveryStatus.SHIPPED)
-        )).thenReturn(ordersList);
+                        DeliveryStatus.SHIPPED)),
+                any(Pageable.class)
+        )).thenReturn(List.of(
+                header(2L, DeliveryStatus.SHIPPED, now),
+                header(1L, DeliveryStatus.READY, now.minusMinutes(1))));
+        when(ordersRepository.findProductInfoByOrdersIdIn(List.of(2L, 1L)))
+                .thenReturn(List.of(productInfo(1L), productInfo(2L)));
 
         // When
-        List<OrdersResponse> result = ordersService.history(member.getId());
+        CursorResponse<OrdersResponse> result = ordersService.history(member.getId(), null, 20);
 
         // Then
-        assertThat(result).hasSize(2);
+        assertThat(result.content()).hasSize(2);
 
-        OrdersResponse firstOrder = result.get(0);
+        OrdersResponse firstOrder = result.content().get(0);
         // 수정시간이 최신인 주문이 먼저 조회되어야함
-        assertThat(firstOrder.id()).isEqualTo(o2.getId());
+        assertThat(firstOrder.id()).isEqualTo(2L);
+        assertThat(firstOrder.status()).isEqualTo(DeliveryStatus.SHIPPED);
         assertThat(firstOrder.products()).hasSize(1);
+    }
 
-        // 메서드 호출 검증
-        verify(ordersRepository).findAllByMemberIdAndDeliveryStatusOrderByModifiedAt(
-                member.getId(),
-                List.of(
-                        DeliveryStatus.READY,
-                        DeliveryStatus.SHIPPED)
+    private OrdersForm createOrdersForm(List<OrdersForm.ProductOrdersRequest> requestList) {
+        return new OrdersForm(1L, "서울시", "강남구", "테헤란로", "101호", requestList);
+    }
+
+    private Product mockProduct(Long id, int price, int quantity) {
+        Product product = mock(Product.class);
+        lenient().when(product.getId()).thenReturn(id);
+        lenient().when(product.getPrice()).thenReturn(price);
+        lenient().when(product.getQuantity()).thenReturn(quantity);
+        return product;
+    }
+
+    @Test
+    @DisplayName("주문 상품 생성 시 동일 상품 ID 수량 병합 및 IN 쿼리 1회 조회")
+    void createProductOrdersList_merge() {
+        // Given
+        Product product1 = mockProduct(1L, 1000, 10);
+        Product product2 = mockProduct(2L, 2000, 10);
+
+        OrdersForm ordersForm = createOrdersForm(List.of(
+                new OrdersForm.ProductOrdersRequest(1L, 2),
+                new OrdersForm.ProductOrdersRequest(2L, 1),
+                new OrdersForm.ProductOrdersRequest(1L, 3)
+        ));
+
+        when(productRepository.findAllById(anyIterable())).thenReturn(List.of(product1, product2));
+
+        // When
+        List<ProductOrders> productOrdersList = ordersService.createProductOrdersList(ordersForm);
+
+        // Then
+        assertThat(productOrdersList).hasSize(2);
+        assertThat(productOrdersList.get(0).getProduct()).isEqualTo(product1);
+        assertThat(productOrdersList.get(0).getQuantity()).isEqualTo(5);
+        assertThat(productOrdersList.get(1).getQuantity()).isEqualTo(1);
+
+        verify(productRepository, times(1)).findAllById(anyIterable());
+        verify(productRepository, never()).findById(any());
+        verify(product1).removeQuantity(5);
+        verify(product2).removeQuantity(1);
+        verify(stockStreamService).changed(Set.of(1L, 2L));
+    }
+
+    private void runSavepoint() {
+        when(savepointExecutor.execute(any())).thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(0)).get());
+    }
+
+    @Test
+    @DisplayName("주문 일괄 생성 시 상품 조회는 한 번만 실행하고 주문마다 savepoint 안에서 재고 차감")
+    void createAll() {
+        // Given
+        Product product1 = mockProduct(1L, 1000, 10);
+        Product product2 = mockProduct(2L, 2000, 10);
+
+        List<OrdersCreateRequest> requestList = List.of(
+                new OrdersCreateRequest(createOrdersForm(List.of(
+                        new OrdersForm.ProductOrdersRequest(1L, 2))), mock(Member.class)),
+                new OrdersCreateRequest(createOrdersForm(List.of(
+                        new OrdersForm.ProductOrdersRequest(1L, 3),
+                        new OrdersForm.ProductOrdersRequest(2L, 1))), mock(Member.class))
         );
+
+        when(productRepository.findAllById(anyIterable())).thenReturn(List.of(product1, product2));
+        when(ordersRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        runSavepoint();
+
+        // When
+        List<OrdersCreateResult> resultList = ordersService.createAll(requestList);
+
+        // Then
+        assertThat(resultList).hasSize(2).allMatch(OrdersCreateResult::isSuccess);
+
+        verify(productRepository, times(1)).findAllById(anyIterable());
+        verify(savepointExecutor, times(2)).execute(any());
+        verify(product1).removeQuantity(2);
+        verify(product1).removeQuantity(3);
+        verify(product2).removeQuantity(1);
+        verify(ordersRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("주문 일괄 생성 시 재고가 부족한 주문만 실패하고 나머지 주문은 저장")
+    void createAll_partialFailure() {
+        // Given
+        Product product1 = mockProduct(1L, 1000, 10);
+        Product product2 = mockProduct(2L, 2000, 1);
+
+        List<OrdersCreateRequest> requestList = List.of(
+                new OrdersCreateRequest(createOrdersForm(List.of(
+                        new OrdersForm.ProductOrdersRequest(1L, 2))), mock(Member.class)),
+                new OrdersCreateRequest(createOrdersForm(List.of(
+                        new OrdersForm.ProductOrdersRequest(1L, 3),
+                        new OrdersForm.ProductOrdersRequest(2L, 2))), mock(Member.class))
+        );
+
+        when(productRepository.findAllById(anyIterable())).thenReturn(List.of(product1, product2));
+        when(ordersRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        runSavepoint();
+
+        // When
+        List<OrdersCreateResult> resultList = ordersService.createAll(requestList);
+
+        // Then
+        assertThat(resultList.get(0).isSuccess()).isTrue();
+        assertThat(resultList.get(1).exception())
+                .hasMessage(ProductErrorCode.INSUFFICIENT_QUANTITY.getMessage());
+
+        verify(product1).removeQuantity(2);
+        verify(product1, never()).removeQuantity(3);
+        verify(product2, never()).removeQuantity(anyInt());
+        verify(ordersRepository).saveAll(argThat((List<Orders> ordersList) -> ordersList.size() == 1));
+    }
+
+    @Test
+    @DisplayName("주문 일괄 생성 중 CONFLICT가 발생하면 전체 주문 롤백")
+    void createAll_conflict() {
+        // Given
+        Product product = mockProduct(1L, 1000, 10);
+        List<OrdersCreateRequest> requestList = List.of(
+                new OrdersCreateRequest(createOrdersForm(List.of(
+                        new OrdersForm.ProductOrdersRequest(1L, 2))), mock(Member.class)));
+
+        when(productRepository.findAllById(anyIterable())).thenReturn(List.of(product));
+        when(savepointExecutor.execute(any())).thenThrow(new ProductException(ProductErrorCode.CONFLICT));
+
+        // When & Then
+        assertThatThrownBy(() -> ordersService.createAll(requestList))
+                .isInstanceOf(ProductException.class)
+                .hasMessage(ProductErrorCode.CONFLICT.getMessage());
+        verify(ordersRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("주문 상품 중 하나라도 재고가 부족하면 재고 차감 없이 에러 발생")
+    void createProductOrdersList_insufficient() {
+        // Given
+        Product product1 = mockProduct(1L, 1000, 10);
+        Product product2 = mockProduct(2L, 2000, 1);
+
+        OrdersForm ordersForm = createOrdersForm(List.of(
+                new OrdersForm.ProductOrdersRequest(1L, 2),
+                new OrdersForm.ProductOrdersRequest(2L, 2)
+        ));
+
+        when(productRepository.findAllById(anyIterable())).thenReturn(List.of(product1, product2));
+
+        // When & Then
+        assertThatThrownBy(() -> ordersService.createProductOrdersList(ordersForm))
+                .isInstanceOf(ProductException.class)
+                .hasMessage(ProductErrorCode.INSUFFICIENT_QUANTITY.getMessage());
+
+        verify(product1, never()).removeQuantity(anyInt());
+        verify(product2, never()).removeQuantity(anyInt());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 상품이 포함되면 NOT FOUND")
+    void createProductOrdersList_notFound() {
+        // Given
+        Product product1 = mockProduct(1L, 1000, 10);
+
+        OrdersForm ordersForm = createOrdersForm(List.of(
+                new OrdersForm.ProductOrdersRequest(1L, 2),
+                new OrdersForm.ProductOrdersRequest(99L, 1)
+        ));
+
+        when(productRepository.findAllById(anyIterable())).thenReturn(List.of(product1));
+
+        // When & Then
+        assertThatThrownBy(() -> ordersService.createProductOrdersList(ordersForm))
+                .isInstanceOf(ProductException.class)
+                .hasMessage(ProductErrorCode.NOT_FOUND.getMessage());
+    }
+
+    @Test
+    @DisplayName("ATOMIC 모드 주문 시 조건부 UPDATE로 재고 차감")
+    void createProductOrdersList_atomic() {
+        // Given
+        ReflectionTestUtils.setField(ordersService, "stockMode", StockMode.ATOMIC);
+        Product product1 = mockProduct(1L, 1000, 10);
+
+        OrdersForm ordersForm = createOrdersForm(List.of(new OrdersForm.ProductOrdersRequest(1L, 3)));
+
+        when(productRepository.findAllById(anyIterable())).thenReturn(List.of(product1));
+        when(productRepository.decreaseQuantity(1L, 3)).thenReturn(1);
+
+        // When
+        List<ProductOrders> productOrdersList = ordersService.createProductOrdersList(ordersForm);
+
+        // Then
+        assertThat(productOrdersList).hasSize(1);
+        assertThat(productOrdersList.get(0).getQuantity()).isEqualTo(3);
+        verify(productRepository).decreaseQuantity(1L, 3);
+        verify(product1, never()).removeQuantity(anyInt());
+    }
+
+    @Test
+    @DisplayName("ATOMIC 모드 갱신된 행이 없으면 재고 부족 에러 발생")
+    void createProductOrdersList_atomic_insufficient() {
+        // Given
+        ReflectionTestUtils.setField(ordersService, "stockMode", StockMode.ATOMIC);
+        Product product1 = mockProduct(1L, 1000, 10);
+
+        OrdersForm ordersForm = createOrdersForm(List.of(new OrdersForm.ProductOrdersRequest(1L, 3)));
+
+        when(productRepository.findAllById(anyIterable())).thenReturn(List.of(product1));
+        when(productRepository.decreaseQuantity(1L, 3)).thenReturn(0);
+
+        // When & Then
+        assertThatThrownBy(() -> ordersService.createProductOrdersList(ordersForm))
+                .isInstanceOf(ProductException.class)
+                .hasMessage(ProductErrorCode.INSUFFICIENT_QUANTITY.getMessage());
+    }
+
+    @Test
+    @DisplayName("ATOMIC 모드 주문 취소 시 조건부 UPDATE로 재고 복구")
+    void order_cancel_atomic() {
+        // Given
+        ReflectionTestUtils.setField(ordersService, "stockMode", StockMode.ATOMIC);
+        Orders orders = mockOrder(1L, DeliveryStatus.READY);
+        ProductOrders productOrders = orders.getProductOrdersList().get(0);
+        when(productOrders.getProduct().getId()).thenReturn(10L);
+
+        when(ordersRepository.findOrderById(1L)).thenReturn(Optional.of(orders));
+
+        // When
+        ordersService.cancelById(1L);
+
+        // Then
+        verify(productRepository).increaseQuantity(10L, 1);
+        verify(productOrders, never()).restore(anyInt());
+    }
+
+    @Test
+    @DisplayName("LEDGER 모드 주문 시 상품 재고 대신 원장에 차감 기록, DB 재고 스냅샷으로 재고 부족을 판단하지 않음")
+    void createProductOrdersList_ledger() {
+        // Given
+        ReflectionTestUtils.setField(ordersService, "stockMode", StockMode.LEDGER);
+        Product product1 = mockProduct(1L, 1000, 1);
+
+        OrdersForm ordersForm = createOrdersForm(List.of(new OrdersForm.ProductOrdersRequest(1L, 3)));
+
+        when(productRepository.findAllById(anyIterable())).thenReturn(List.of(product1));
+
+        // When
+        List<ProductOrders> productOrdersList = ordersService.createProductOrdersList(ordersForm);
+
+        // Then
+        assertThat(productOrdersList).hasSize(1);
+        verify(inventoryLedgerService).reserve(Map.of(1L, 3));
+        verify(product1, never()).removeQuantity(anyInt());
+        verify(productRepository, never()).decreaseQuantity(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("LEDGER 모드 주문 취소 시 원장에 복구 기록")
+    void order_cancel_ledger() {
+        // Given
+        ReflectionTestUtils.setField(ordersService, "stockMode", StockMode.LEDGER);
+        Orders orders = mockOrder(1L, DeliveryStatus.READY);
+        ProductOrders productOrders = orders.getProductOrdersList().get(0);
+        when(productOrders.getProduct().getId()).thenReturn(10L);
+
+        when(ordersRepository.findOrderById(1L)).thenReturn(Optional.of(orders));
+
+        // When
+        ordersService.cancelById(1L);
+
+        // Then
+        verify(inventoryLedgerService).release(Map.of(10L, 1));
+        verify(productOrders, never()).restore(anyInt());
+        verify(productRepository, never()).increaseQuantity(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("분산 재고 상품은 stripe 행에서 차감하고 상품 재고 컬럼으로 재고 부족을 판단하지 않음")
+    void createProductOrdersList_striped() {
+        // Given
+        Product product1 = mockProduct(1L, 1000, 0);
+        Product product2 = mockProduct(2L, 2000, 10);
+        when(product1.isStriped()).thenReturn(true);
+        when(product1.getStripeCount()).thenReturn(4);
+
+        OrdersForm ordersForm = createOrdersForm(List.of(
+                new OrdersForm.ProductOrdersRequest(1L, 3),
+                new OrdersForm.ProductOrdersRequest(2L, 1)
+        ));
+
+        when(productRepository.findAllById(anyIterable())).thenReturn(List.of(product1, product2));
+
+        // When
+        List<ProductOrders> productOrdersList = ordersService.createProductOrdersList(ordersForm);
+
+        // Then
+        assertThat(productOrdersList).hasSize(2);
+        verify(stripedStockService).reserve(1L, 4, 3);
+        verify(product1, never()).removeQuantity(anyInt());
+        verify(product2).removeQuantity(1);
+    }
+
+    @Test
+    @DisplayName("분산 재고 상품 주문 취소 시 stripe 행에 복구")
+    void order_cancel_striped() {
+        // Given
+        Orders orders = mockOrder(1L, DeliveryStatus.READY);
+        ProductOrders productOrders = orders.getProductOrdersList().get(0);
+        Product product = productOrders.getProduct();
+        when(product.getId()).thenReturn(10L);
+        when(product.isStriped()).thenReturn(true);
+        when(product.getStripeCount()).thenReturn(4);
+
+        when(ordersRepository.findOrderById(1L)).thenReturn(Optional.of(orders));
+
+        // When
+        ordersService.cancelById(1L);
+
+        // Then
+        verify(stripedStockService).release(10L, 4, 1);
+        verify(productOrders, never()).restore(anyInt());
+    }
+
+    @Test
+    @DisplayName("세일 중인 상품은 카운터에서 차감하고 DB 재고는 차감하지 않음")
+    void createProductOrdersList_flashSale() {
+        // Given
+        Product product1 = mockProduct(1L, 1000, 0);
+        Product product2 = mockProduct(2L, 2000, 10);
+
+        OrdersForm ordersForm = createOrdersForm(List.of(
+                new OrdersForm.ProductOrdersRequest(1L, 2),
+                new OrdersForm.ProductOrdersRequest(2L, 1)
+        ));
+
+        when(productRepository.findAllById(anyIterable())).thenReturn(List.of(product1, product2));
+        when(flashSaleStockService.findOpenProductIds(anyCollection())).thenReturn(Set.of(1L));
+
+        // When
+        List<ProductOrders> productOrdersList = ordersService.createProductOrdersList(ordersForm);
+
+        // Then
+        assertThat(productOrdersList).hasSize(2);
+        verify(flashSaleStockService).reserve(Map.of(1L, 2));
+        verify(product1, never()).removeQuantity(anyInt());
+        verify(product2).removeQuantity(1);
     }
 
     //todo 이미 취소 상태일때 취소불가, 배송중일때 취소 불가, 수량 정상 복구
@@ -325,4 +769,43 @@ class OrdersServiceTest {
                 .hasMessage("이미 배송중입니다.");
 
     }
+
+    @Test
+    @DisplayName("배송 시작 처리한 chunk의 회원 중 이전 chunk에서 메일을 받지 않은 회원에게만 메일 저장")
+    void shipReadyOrders() {
+        // Given
+        ZonedDateTime endTime = ZonedDateTime.now();
+        ZonedDateTime startTime = endTime.minusDays(1);
+        when(ordersRepository.findReadyIdsAfter(startTime, endTime, 10L, PageRequest.of(0, 2)))
+                .thenReturn(List.of(11L, 12L));
+        when(ordersRepository.shipByIdIn(eq(List.of(11L, 12L)), any(ZonedDateTime.class))).thenReturn(2);
+        when(ordersRepository.findShippedUsernameByIdIn(List.of(11L, 12L)))
+                .thenReturn(List.of("a@test.com", "b@test.com"));
+
+        // When
+        DeliveryChunk chunk = ordersService.shipReadyOrders(startTime, endTime, 10L, 2, Set.of("a@test.com"));
+
+        // Then
+        assertThat(chunk).isEqualTo(new DeliveryChunk(12L, 2, List.of("b@test.com"), true));
+        verify(mailService).sendDeliveryStartEmail(List.of("b@test.com"), TemplateName.DELIVERY_START);
+    }
+
+    @Test
+    @DisplayName("배송 시작 처리한 회원이 모두 이전 chunk에서 메일을 받았으면 메일을 저장하지 않음")
+    void shipReadyOrders_alreadyNotified() {
+        // Given
+        ZonedDateTime endTime = ZonedDateTime.now();
+        ZonedDateTime startTime = endTime.minusDays(1);
+        when(ordersRepository.findReadyIdsAfter(startTime, endTime, 0L, PageRequest.of(0, 2)))
+                .thenReturn(List.of(1L));
+        when(ordersRepository.shipByIdIn(eq(List.of(1L)), any(ZonedDateTime.class))).thenReturn(1);
+        when(ordersRepository.findShippedUsernameByIdIn(List.of(1L))).thenReturn(List.of("a@test.com"));
+
+        // When
+        DeliveryChunk chunk = ordersService.shipReadyOrders(startTime, endTime, 0L, 2, Set.of("a@test.com"));
+
+        // Then
+        assertThat(chunk).isEqualTo(new DeliveryChunk(1L, 1, List.of(), false));
+        verifyNoInteractions(mailService);
+    }
 }
@@ -0,0 +1,179 @@
+package com.example.backend.domain.product.bulk;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.backend.domain.product.cache.ProductCache;
+import com.example.backend.domain.product.dto.ProductBulkImportResponse;
+import com.example.backend.domain.product.dto.ProductBulkImportResponse.RowError;
+import com.example.backend.domain.product.exception.ProductException;
+import com.example.backend.domain.product.search.ProductSearchService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.validation.Validation;
+
+/**
+ * ProductBulkImportServiceTest
+ * ProductBulkImportService 테스트 클래스
+ *
+ * @author 100minha
+ */
+@ExtendWith(MockitoExtension.class)
+class ProductBulkImportServiceTest {
+
+    @Mock
+    private ProductBulkWriter productBulkWriter;
+    @Mock
+    private ProductCache productCache;
+    @Mock
+    private ProductSearchService productSearchService;
+
+    private ProductBulkImportService productBulkImportService;
+
+    @BeforeEach
+    void setUp() {
+        productBulkImportService = new ProductBulkImportService(productBulkWriter, productCache, productSearchService,
+                Validation.buildDefaultValidatorFactory().getValidator(), new ObjectMapper());
+    }
+
+    private InputStream body(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("CSV 일괄 등록 시 검증 실패, 파일 내 중복 행은 건너뛰고 나머지를 chunk 단위로 저장")
+    void importCsvTest() throws Exception {
+        // given
+        ReflectionTestUtils.setField(productBulkImportService, "chunkSize", 2);
+        when(productBulkWriter.write(anyList(), eq(false))).thenAnswer(invocation -> {
+            List<ProductRow> rowList = invocation.getArgument(0);
+            return new ProductBulkChunkResult(rowList.size(), 0, List.of());
+        });
+        String csv = """
+                name,content,price,imgUrl,quantity
+                키보드,"쉼표, 그리고 ""따옴표""",10000,,5
+                마우스,"여러 줄
+                설명",20000,http://img,3
+                싼상품,설명,50,,1
+                키보드,중복,10000,,5
+                모니터,설명,abc,,1
+                스피커,설명,30000,,0
+                """;
+
+        // when
+        ProductBulkImportResponse response =
+                productBulkImportService.importProducts(body(csv), ProductBulkFormat.CSV, false);
+
+        // then
+        ArgumentCaptor<List<ProductRow>> captor = ArgumentCaptor.forClass(List.class);
+        verify(productBulkWriter, times(2)).write(captor.capture(), eq(false));
+        List<ProductRow> firstChunk = captor.getAllValues().get(0);
+        assertThat(firstChunk.get(0).form().content()).isEqualTo("쉼표, 그리고 \"따옴표\"");
+        assertThat(firstChunk.get(1).form().content()).isEqualTo("여러 줄\n설명");
+        assertThat(captor.getAllValues().get(1)).extracting(row -> row.form().name()).containsExactly("스피커");
+
+        assertThat(response.totalRows()).isEqualTo(6);
+        assertThat(response.insertedCount()).isEqualTo(3);
+        assertThat(response.errorCount()).isEqualTo(3);
+        assertThat(response.errors()).extracting(RowError::rowNumber).containsExactly(3, 4, 5);
+        assertThat(response.errors().get(0).reason()).isEqualTo("상품 가격은 100원 이상이어야 합니다.");
+        verify(productCache).evictAll();
+        verify(productSearchService).changedAll();
+    }
+
+    @Test
+    @DisplayName("JSON Lines 일괄 등록 시 chunk 저장이 실패하면 해당 chunk의 행만 실패로 처리")
+    void importJsonLinesChunkFailTest() throws Exception {
+        // given
+        ReflectionTestUtils.setField(productBulkImportService, "chunkSize", 1);
+        when(productBulkWriter.write(anyList(), eq(true)))
+                .thenThrow(new DuplicateKeyException("duplicate"))
+                .thenReturn(new ProductBulkChunkResult(0, 1, List.of()));
+        String jsonLines = """
+                {"name":"키보드","content":"설명","price":10000,"quantity":5}
+
+                {"name":"마우스","content":"설명","price":20000,"quantity":3}
+                {"name":
+                """;
+
+        // when
+        ProductBulkImportResponse response =
+                productBulkImportService.importProducts(body(jsonLines), ProductBulkFormat.JSON_LINES, true);
+
+        // then
+        assertThat(response.totalRows()).isEqualTo(3);
+        assertThat(response.updatedCount()).isEqualTo(1);
+        assertThat(response.errors()).extracting(RowError::rowNumber).containsExactly(1, 3);
+        assertThat(response.errors().get(0).name()).isEqualTo("키보드");
+        verify(productCache).evictAll();
+    }
+
+    @Test
+    @DisplayName("JSON Lines 일괄 등록 시 null 행은 실패로 처리하고 나머지 행은 저장")
+    void importJsonLinesNullRowTest() throws Exception {
+        // given
+        when(productBulkWriter.write(anyList(), eq(false))).thenReturn(new ProductBulkChunkResult(1, 0, List.of()));
+        String jsonLines = """
+                null
+                {"name":"키보드","content":"설명","price":10000,"quantity":5}
+                """;
+
+        // when
+        ProductBulkImportResponse response =
+                productBulkImportService.importProducts(body(jsonLines), ProductBulkFormat.JSON_LINES, false);
+
+        // then
+        assertThat(response.totalRows()).isEqualTo(2);
+        assertThat(response.insertedCount()).isEqualTo(1);
+        assertThat(response.errors()).extracting(RowError::rowNumber).containsExactly(1);
+        assertThat(response.errors().get(0).reason()).isEqualTo("JSON 형식이 올바르지 않습니다.");
+    }
+
+    @Test
+    @DisplayName("실패 행 목록은 최대 개수까지만 반환하고, 저장된 상품이 없으면 캐시를 비우지 않음")
+    void importMaxErrorsTest() throws Exception {
+        // given
+        ReflectionTestUtils.setField(productBulkImportService, "maxErrors", 2);
+        String csv = """
+                name,price
+                a,1000
+                b,1000
+                c,1000
+                """;
+
+        // when
+        ProductBulkImportResponse response =
+                productBulkImportService.importProducts(body(csv), ProductBulkFormat.CSV, false);
+
+        // then
+        assertThat(response.errorCount()).isEqualTo(3);
+        assertThat(response.errors()).hasSize(2);
+        verifyNoInteractions(productBulkWriter, productCache, productSearchService);
+    }
+
+    @Test
+    @DisplayName("CSV 헤더에 name 컬럼이 없으면 예외 발생")
+    void importCsvWithoutNameHeaderTest() {
+        // when & then
+        assertThatThrownBy(() -> productBulkImportService.importProducts(
+                body("title,price\n키보드,1000\n"), ProductBulkFormat.CSV, false))
+                .isInstanceOf(ProductException.class)
+                .hasMessage("일괄 등록 파일 형식이 올바르지 않습니다.");
+    }
+}
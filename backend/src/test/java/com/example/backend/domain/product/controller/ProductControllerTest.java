@@ -1,31 +1,45 @@
 package com.example.backend.domain.product.controller;
 
+import com.example.backend.domain.product.bulk.ProductBulkFormat;
+import com.example.backend.domain.product.bulk.ProductBulkImportService;
 import com.example.backend.domain.product.converter.ProductConverter;
+import com.example.backend.domain.product.dto.ProductBulkImportResponse;
 import com.example.backend.domain.product.dto.ProductForm;
 import com.example.backend.domain.product.dto.ProductResponse;
 import com.example.backend.domain.product.entity.Product;
 import com.example.backend.domain.product.exception.ProductErrorCode;
 import com.example.backend.domain.product.exception.ProductException;
 import com.example.backend.domain.product.service.ProductService;
+import com.example.backend.domain.product.stock.FlashSaleStockService;
+import com.example.backend.domain.product.stock.StockStreamService;
+import com.example.backend.domain.product.stock.StripedStockService;
 import com.example.backend.global.config.CorsConfig;
 import com.example.backend.global.config.TestSecurityConfig;
+import com.example.backend.global.response.CursorResponse;
+import com.example.backend.global.response.ResourceVersion;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.*;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithAnonymousUser;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -44,10 +58,22 @@ public class ProductControllerTest {
 
     @MockitoBean
     private ProductService productService;
+    @MockitoBean
+    private FlashSaleStockService flashSaleStockService;
+    @MockitoBean
+    private ProductBulkImportService productBulkImportService;
+    @MockitoBean
+    private StockStreamService stockStreamService;
+    @MockitoBean
+    private StripedStockService stripedStockService;
 
     @Autowired
     private MockMvc mockMvc;
 
+    private final ResourceVersion productVersion = ResourceVersion.of(
+            ZonedDateTime.parse("2025-01-01T00:00:00+09:00"), "product", 1L, 3L);
+    private final ResourceVersion pageVersion = ResourceVersion.hashOf(null, "products", 1, 15L, "1:0");
+
     @Test
     @DisplayName("상품 등록 성공 테스트")
     void createSuccessTest() throws Exception {
@@ -262,6 +288,7 @@ public class ProductControllerTest {
                 .name("Test Product Name")
                 .build();
         ProductResponse productResponse = ProductConverter.from(product);
+        when(productService.findResourceVersionById(id)).thenReturn(productVersion);
         when(productService.findProductResponseById(id)).thenReturn(productResponse);
 
         //when
@@ -274,15 +301,57 @@ public class ProductControllerTest {
                 .andExpect(handler().handlerType(ProductController.class))
                 .andExpect(handler().methodName("findById"))
                 .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, productVersion.eTag()))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
                 .andExpect(jsonPath("$.data.name").value("Test Product Name"));
     }
 
+    @Test
+    @DisplayName("상품 조회 시 ETag가 일치하면 본문 조회 없이 304 반환 테스트")
+    @WithAnonymousUser
+    void findNotModifiedByETagTest() throws Exception {
+        //given
+        when(productService.findResourceVersionById(1L)).thenReturn(productVersion);
+
+        //when
+        ResultActions resultActions = mockMvc.perform(get("/api/v1/products/1")
+                .header(HttpHeaders.IF_NONE_MATCH, productVersion.eTag())
+        );
+
+        //then
+        resultActions
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, productVersion.eTag()))
+                .andExpect(content().string(""));
+        verify(productService, never()).findProductResponseById(anyLong());
+    }
+
+    @Test
+    @DisplayName("상품 조회 시 수정일시 이후 변경이 없으면 304, ETag가 다르면 200 반환 테스트")
+    @WithAnonymousUser
+    void findNotModifiedByLastModifiedTest() throws Exception {
+        //given
+        when(productService.findResourceVersionById(1L)).thenReturn(productVersion);
+        when(productService.findProductResponseById(1L)).thenReturn(ProductResponse.builder().id(1L).build());
+        HttpHeaders ifModifiedSince = new HttpHeaders();
+        ifModifiedSince.setIfModifiedSince(productVersion.lastModifiedMillis());
+
+        //when & then
+        mockMvc.perform(get("/api/v1/products/1")
+                        .headers(ifModifiedSince))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/v1/products/1")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"product-1-2\""))
+                .andExpect(status().isOk());
+        verify(productService, times(1)).findProductResponseById(1L);
+    }
+
     @Test
     @DisplayName("상품 조회 실패 테스트")
     @WithAnonymousUser
     void findFailTest() throws Exception {
         //given
-        doThrow(new ProductException(ProductErrorCode.NOT_FOUND)).when(productService).findProductResponseById(anyLong());
+        doThrow(new ProductException(ProductErrorCode.NOT_FOUND)).when(productService).findResourceVersionById(anyLong());
 
         //when
         ResultActions resultActions = mockMvc.perform(get("/api/v1/products/1" )
@@ -315,6 +384,7 @@ public class ProductControllerTest {
         Pageable pageable = PageRequest.of(page, 10, sortByNameAsc);
         Page<ProductResponse> mockPage = new PageImpl<>(productResponseList, pageable, 15);
 
+        when(productService.findPageVersion(page)).thenReturn(pageVersion);
         when(productService.findAllPaged(page)).thenReturn(mockPage);
 
         //when
@@ -330,9 +400,78 @@ public class ProductControllerTest {
                 .andExpect(handler().handlerType(ProductController.class))
                 .andExpect(handler().methodName("findAllPaged"))
                 .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, pageVersion.eTag()))
                 .andExpect(jsonPath("$.data.content[2].name").value("Test Name_3"));
     }
 
+    @Test
+    @DisplayName("상품 다건 조회 시 ETag가 일치하면 본문 조회 없이 304 반환 테스트")
+    @WithAnonymousUser
+    void findAllPagedNotModifiedTest() throws Exception {
+        // given
+        when(productService.findPageVersion(1)).thenReturn(pageVersion);
+
+        //when
+        ResultActions resultActions = mockMvc.perform(get("/api/v1/products")
+                .param("page", "1")
+                .header(HttpHeaders.IF_NONE_MATCH, pageVersion.eTag())
+        );
+
+        //then
+        resultActions.andExpect(status().isNotModified());
+        verify(productService, never()).findAllPaged(anyInt());
+    }
+
+    @Test
+    @DisplayName("상품 커서 조회 테스트(page 파라미터가 없으면 커서 조회)")
+    @WithAnonymousUser
+    void findAllByCursorTest() throws Exception {
+        // given
+        CursorResponse<ProductResponse> response = CursorResponse.of(
+                List.of(ProductResponse.builder().id(1L).name("Test Name_1").build()), "next");
+        when(productService.findAllByCursor("cursor", 20)).thenReturn(response);
+
+        //when
+        ResultActions resultActions = mockMvc.perform(get("/api/v1/products")
+                .param("cursor", "cursor")
+                .param("size", "20")
+        );
+
+        //then
+        resultActions
+                .andExpect(handler().handlerType(ProductController.class))
+                .andExpect(handler().methodName("findAllByCursor"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[0].name").value("Test Name_1"))
+                .andExpect(jsonPath("$.data.nextCursor").value("next"))
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andExpect(jsonPath("$.data.totalElements").doesNotExist());
+        verify(productService, never()).findAllPaged(anyInt());
+    }
+
+    @Test
+    @DisplayName("상품 검색 테스트")
+    @WithAnonymousUser
+    void searchTest() throws Exception {
+        // given
+        Page<ProductResponse> mockPage = new PageImpl<>(
+                List.of(ProductResponse.builder().id(1L).name("무선 키보드").build()), PageRequest.of(0, 10), 1);
+        when(productService.search("키보드", 0)).thenReturn(mockPage);
+
+        //when
+        ResultActions resultActions = mockMvc.perform(get("/api/v1/products/search")
+                .param("query", "키보드")
+        );
+
+        //then
+        resultActions
+                .andExpect(handler().handlerType(ProductController.class))
+                .andExpect(handler().methodName("search"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[0].name").value("무선 키보드"))
+                .andExpect(jsonPath("$.data.totalElements").value(1));
+    }
+
     @Test
     @DisplayName("상품 다건 조회 빈 페이지 반환 시 404반환 테스트")
     @WithAnonymousUser
@@ -343,6 +482,7 @@ public class ProductControllerTest {
         Sort sortByNameAsc = Sort.by(Sort.Order.asc("name"));
         Pageable pageable = PageRequest.of(inValidPage, 10, sortByNameAsc);
 
+        when(productService.findPageVersion(inValidPage)).thenReturn(pageVersion);
         doThrow(new ProductException(ProductErrorCode.NOT_FOUND)).when(productService).findAllPaged(inValidPage);
 
         //when
@@ -505,4 +645,131 @@ public class ProductControllerTest {
                 .andExpect(jsonPath("$.message").value("주문 내역이 존재하는 상품입니다."));
     }
 
+    @Test
+    @DisplayName("상품 일괄 등록 성공 테스트")
+    void bulkImportSuccessTest() throws Exception {
+        // given
+        ProductBulkImportResponse response = new ProductBulkImportResponse(3, 1, 1, 1,
+                List.of(new ProductBulkImportResponse.RowError(2, "상품", "상품 가격은 100원 이상이어야 합니다.")));
+        when(productBulkImportService.importProducts(any(), eq(ProductBulkFormat.CSV), eq(true))).thenReturn(response);
+
+        // when
+        ResultActions resultActions = mockMvc.perform(post("/api/v1/products/bulk")
+                .param("upsert", "true")
+                .content("name,content,price,imgUrl,quantity\n")
+                .contentType("text/csv")
+        );
+
+        // then
+        resultActions
+                .andExpect(handler().handlerType(ProductController.class))
+                .andExpect(handler().methodName("bulkImport"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalRows").value(3))
+                .andExpect(jsonPath("$.data.errorCount").value(1))
+                .andExpect(jsonPath("$.data.errors[0].rowNumber").value(2));
+    }
+
+    @Test
+    @DisplayName("상품 일괄 등록 실패(지원하지 않는 형식) 테스트")
+    void bulkImportFailWhenUnsupportedFormatTest() throws Exception {
+        // when
+        ResultActions resultActions = mockMvc.perform(post("/api/v1/products/bulk")
+                .content("[]")
+                .contentType(MediaType.APPLICATION_JSON)
+        );
+
+        // then
+        resultActions
+                .andExpect(status().isUnsupportedMediaType());
+        verifyNoInteractions(productBulkImportService);
+    }
+
+    @Test
+    @WithAnonymousUser
+    @DisplayName("상품 재고 변경 구독 성공 테스트")
+    void streamStockSuccessTest() throws Exception {
+        // given
+        when(stockStreamService.subscribe(List.of(1L, 2L), "127.0.0.1")).thenReturn(new SseEmitter());
+
+        // when
+        ResultActions resultActions = mockMvc.perform(get("/api/v1/products/stream")
+                .param("productIds", "1,2")
+                .accept(MediaType.TEXT_EVENT_STREAM)
+        );
+
+        // then
+        resultActions
+                .andExpect(handler().handlerType(ProductController.class))
+                .andExpect(handler().methodName("streamStock"))
+                .andExpect(request().asyncStarted());
+    }
+
+    @Test
+    @WithAnonymousUser
+    @DisplayName("상품 재고 변경 구독 실패(구독 상품 수 초과) 테스트")
+    void streamStockFailWhenTooManyProductsTest() throws Exception {
+        // given
+        when(stockStreamService.subscribe(anyList(), anyString()))
+                .thenThrow(new ProductException(ProductErrorCode.INVALID_STOCK_SUBSCRIPTION));
+
+        // when
+        ResultActions resultActions = mockMvc.perform(get("/api/v1/products/stream")
+                .param("productIds", "1,2")
+        );
+
+        // then
+        resultActions
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("재고 알림을 구독할 상품 수가 올바르지 않습니다."));
+    }
+
+    @Test
+    @DisplayName("분산 재고 시작 성공 테스트")
+    void enableStripesSuccessTest() throws Exception {
+        // when
+        ResultActions resultActions = mockMvc.perform(post("/api/v1/products/1/stripes")
+                .param("count", "8")
+        );
+
+        // then
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(handler().handlerType(ProductController.class))
+                .andExpect(handler().methodName("enableStripes"))
+                .andExpect(jsonPath("$.message").value("분산 재고 관리가 시작되었습니다."));
+        verify(stripedStockService).enable(1L, 8);
+    }
+
+    @Test
+    @DisplayName("분산 재고 시작 실패(잘못된 stripe 수) 테스트")
+    void enableStripesFailWhenInvalidCountTest() throws Exception {
+        // given
+        doThrow(new ProductException(ProductErrorCode.INVALID_STRIPE_COUNT))
+                .when(stripedStockService).enable(1L, 1);
+
+        // when
+        ResultActions resultActions = mockMvc.perform(post("/api/v1/products/1/stripes")
+                .param("count", "1")
+        );
+
+        // then
+        resultActions
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("분산 재고 행 수가 올바르지 않습니다."));
+    }
+
+    @Test
+    @DisplayName("분산 재고 재분배 성공 테스트")
+    void rebalanceStripesSuccessTest() throws Exception {
+        // when
+        ResultActions resultActions = mockMvc.perform(post("/api/v1/products/1/stripes/rebalance"));
+
+        // then
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(handler().methodName("rebalanceStripes"));
+        verify(stripedStockService).rebalance(1L);
+    }
+
 }
@@ -0,0 +1,120 @@
+package com.example.backend.domain.product.repository;
+
+import com.example.backend.domain.product.dto.PendingDeltaDto;
+import com.example.backend.domain.product.entity.Product;
+import com.example.backend.domain.product.stock.InventoryMovementType;
+import com.example.backend.global.config.IdGeneratorConfig;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * InventoryLedgerJdbcRepositoryTest
+ * InventoryLedgerJdbcRepository 테스트 클래스
+ *
+ * @author 100minha
+ */
+@DataJpaTest(properties = "id.worker-id=0")
+@ActiveProfiles("test")
+@Import({InventoryLedgerJdbcRepository.class, IdGeneratorConfig.class})
+public class InventoryLedgerJdbcRepositoryTest {
+
+    @Autowired
+    private InventoryLedgerJdbcRepository inventoryLedgerJdbcRepository;
+    @Autowired
+    private ProductRepository productRepository;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        Product product = Product.builder()
+                .name("Ledger Product")
+                .content("Ledger Product content")
+                .price(1000)
+                .imgUrl("Ledger Product Image")
+                .quantity(10)
+                .build();
+
+        productId = productRepository.saveAndFlush(product).getId();
+    }
+
+    @Test
+    @DisplayName("가용 재고는 스냅샷에 반영되지 않은 원장 변동을 더한 값")
+    void findAvailableMapTest() {
+        //given
+        inventoryLedgerJdbcRepository.lock(List.of(productId));
+        inventoryLedgerJdbcRepository.batchInsert(Map.of(productId, -3), InventoryMovementType.ORDER);
+        inventoryLedgerJdbcRepository.batchInsert(Map.of(productId, 1), InventoryMovementType.CANCEL);
+
+        //when
+        Map<Long, Integer> availableMap = inventoryLedgerJdbcRepository.findAvailableMap(List.of(productId));
+
+        //then
+        assertThat(availableMap).containsExactly(Map.entry(productId, 8));
+        assertThat(inventoryLedgerJdbcRepository.findPendingProductIds(0, 10)).containsExactly(productId);
+
+        em.clear();
+        Product product = productRepository.findById(productId).get();
+        assertThat(product.getQuantity()).isEqualTo(10);
+        assertThat(product.getLedgerPending()).isEqualTo(-2);
+    }
+
+    @Test
+    @DisplayName("원장 변동을 스냅샷에 반영하면 재고와 반영 위치가 갱신되고 남은 변동이 없음")
+    void batchFoldTest() {
+        //given
+        inventoryLedgerJdbcRepository.batchInsert(Map.of(productId, -3), InventoryMovementType.ORDER);
+        inventoryLedgerJdbcRepository.batchInsert(Map.of(productId, 1), InventoryMovementType.CANCEL);
+        List<PendingDeltaDto> pendingDeltaList = inventoryLedgerJdbcRepository.findPendingDeltas(List.of(productId));
+
+        //when
+        inventoryLedgerJdbcRepository.batchFold(pendingDeltaList);
+        em.clear();
+
+        //then
+        assertThat(pendingDeltaList).hasSize(1);
+        assertThat(pendingDeltaList.get(0).delta()).isEqualTo(-2);
+
+        Product product = productRepository.findById(productId).get();
+        assertThat(product.getQuantity()).isEqualTo(8);
+        assertThat(product.getLedgerPosition()).isEqualTo(pendingDeltaList.get(0).lastMovementId());
+        assertThat(product.getLedgerPending()).isZero();
+        assertThat(inventoryLedgerJdbcRepository.findAvailableMap(List.of(productId)))
+                .containsExactly(Map.entry(productId, 8));
+        assertThat(inventoryLedgerJdbcRepository.findPendingDeltas(List.of(productId))).isEmpty();
+        assertThat(inventoryLedgerJdbcRepository.findPendingProductIds(0, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("락을 잡고 조회한 가용 재고는 여러 변동의 합계와 스냅샷을 더한 값")
+    void lockAndFindAvailableMapTest() {
+        //given
+        inventoryLedgerJdbcRepository.batchInsert(Map.of(productId, -3), InventoryMovementType.ORDER);
+        inventoryLedgerJdbcRepository.batchInsert(Map.of(productId, -4), InventoryMovementType.ORDER);
+        inventoryLedgerJdbcRepository.batchInsert(Map.of(productId, 2), InventoryMovementType.CANCEL);
+
+        //when
+        Map<Long, Integer> availableMap = inventoryLedgerJdbcRepository.lockAndFindAvailableMap(List.of(productId));
+        List<PendingDeltaDto> pendingDeltaList = inventoryLedgerJdbcRepository.findPendingDeltas(List.of(productId));
+
+        //then
+        assertThat(availableMap).containsExactly(Map.entry(productId, 5));
+        assertThat(pendingDeltaList).hasSize(1);
+        assertThat(pendingDeltaList.get(0).delta()).isEqualTo(-5);
+    }
+}
@@ -1,10 +1,12 @@
 package com.example.backend.domain.product.repository;
 
 import com.example.backend.domain.orders.dto.OrdersForm;
+import com.example.backend.domain.product.dto.ProductNameDto;
 import com.example.backend.domain.product.dto.ProductResponse;
 import com.example.backend.domain.product.entity.Product;
 import com.example.backend.domain.productOrders.entity.ProductOrders;
 import com.example.backend.domain.productOrders.repository.ProductOrdersRepository;
+import com.example.backend.global.config.IdGeneratorConfig;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,11 +14,12 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
-import org.springframework.data.domain.Page;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -27,7 +30,8 @@ import static org.assertj.core.api.Assertions.assertThat;
  *
  * @author 100minha
  */
-@DataJpaTest
+@DataJpaTest(properties = "id.worker-id=0")
+@Import(IdGeneratorConfig.class)
 @ActiveProfiles("test")
 @Transactional
 public class ProductRepositoryTest {
@@ -158,29 +162,23 @@ public class ProductRepositoryTest {
     }
 
     @Test
-    @DisplayName("상품 다건 조회 테스트")
-    void findAllPagedTest() {
+    @DisplayName("상품 커서 조회 시 name 순으로 커서 이후 상품 조회 테스트")
+    void findResponsesAfterCursorTest() {
         // given
-        PageRequest pageRequest1 = PageRequest.of(0, 10);   // 1페이지
-        PageRequest pageRequest2 = PageRequest.of(1, 10);   // 2페이지
-
-        for (int i = 1; i <= 15; i++) {
-            productRepository.save(Product.builder()    // 15 + setUp()에서 +1
+        for (String name : List.of("D", "B", "C", "A")) {
+            productRepository.save(Product.builder()
+                    .name(name)
                     .build());
         }
 
         // when
-        Page<ProductResponse> productResponsePage1 = productRepository.findAllPaged(pageRequest1);
-        Page<ProductResponse> productResponsePage2 = productRepository.findAllPaged(pageRequest2);
+        List<ProductResponse> first = productRepository.findResponsesOrderByName(PageRequest.of(0, 2));
+        ProductResponse last = first.get(first.size() - 1);
+        List<ProductResponse> next = productRepository.findResponsesAfterCursor(last.name(), PageRequest.of(0, 10));
 
         // then
-        assertThat(productResponsePage1).isNotNull();
-        assertThat(productResponsePage1.getTotalPages()).isEqualTo(2);
-        assertThat(productResponsePage1.getTotalElements()).isEqualTo(16);
-
-        assertThat(productResponsePage1.getNumberOfElements()).isEqualTo(10);
-        assertThat(productResponsePage2.getNumberOfElements()).isEqualTo(6);
-
+        assertThat(first).extracting(ProductResponse::name).containsExactly("A", "B");
+        assertThat(next).extracting(ProductResponse::name).containsExactly("C", "D", name1);
     }
 
     @Test
@@ -217,4 +215,66 @@ public class ProductRepositoryTest {
         assertThat(isExists1).isTrue();
         assertThat(isExists2).isFalse();
     }
+
+    @Test
+    @DisplayName("조건부 재고 차감 성공 테스트")
+    void decreaseQuantityTest() {
+        //given
+        //when
+        int updated = productRepository.decreaseQuantity(1L, quantity1);
+        em.clear();
+
+        //then
+        assertThat(updated).isEqualTo(1);
+        assertThat(productRepository.findById(1L).get().getQuantity()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("재고 부족 시 조건부 재고 차감 실패 테스트")
+    void decreaseQuantityInsufficientTest() {
+        //given
+        //when
+        int updated = productRepository.decreaseQuantity(1L, quantity1 + 1);
+        em.clear();
+
+        //then
+        assertThat(updated).isEqualTo(0);
+        assertThat(productRepository.findById(1L).get().getQuantity()).isEqualTo(quantity1);
+    }
+
+    @Test
+    @DisplayName("재고 원자적 복구 테스트")
+    void increaseQuantityTest() {
+        //given
+        //when
+        int updated = productRepository.increaseQuantity(1L, 5);
+        em.clear();
+
+        //then
+        assertThat(updated).isEqualTo(1);
+        assertThat(productRepository.findById(1L).get().getQuantity()).isEqualTo(quantity1 + 5);
+    }
+
+    @Test
+    @DisplayName("이름 목록으로 존재하는 상품 ID 조회 테스트")
+    void findNameDtosByNameInTest() {
+        //given
+        //when
+        List<ProductNameDto> productNameDtoList =
+                productRepository.findNameDtosByNameIn(List.of(name1, "Not Exists Name"));
+
+        //then
+        assertThat(productNameDtoList).containsExactly(new ProductNameDto(1L, name1));
+    }
+
+    @Test
+    @DisplayName("ID 목록으로 존재하는 상품 ID 조회 테스트")
+    void findIdsByIdInTest() {
+        //given
+        //when
+        List<Long> ids = productRepository.findIdsByIdIn(List.of(1L, 999L));
+
+        //then
+        assertThat(ids).containsExactly(1L);
+    }
 }
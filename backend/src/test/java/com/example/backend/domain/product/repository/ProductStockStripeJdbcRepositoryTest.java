@@ -0,0 +1,77 @@
+package com.example.backend.domain.product.repository;
+
+import com.example.backend.global.config.IdGeneratorConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ProductStockStripeJdbcRepositoryTest
+ * ProductStockStripeJdbcRepository 테스트 클래스
+ *
+ * @author 100minha
+ */
+@DataJpaTest(properties = "id.worker-id=0")
+@ActiveProfiles("test")
+@Import({ProductStockStripeJdbcRepository.class, IdGeneratorConfig.class})
+public class ProductStockStripeJdbcRepositoryTest {
+
+    private static final Long PRODUCT_ID = 1L;
+
+    @Autowired
+    private ProductStockStripeJdbcRepository productStockStripeJdbcRepository;
+
+    @Test
+    @DisplayName("stripe 재고가 부족하면 차감하지 않고, 충분하면 해당 stripe만 차감")
+    void decreaseTest() {
+        //given
+        productStockStripeJdbcRepository.insert(PRODUCT_ID, List.of(4, 3, 3));
+
+        //when
+        int insufficient = productStockStripeJdbcRepository.decrease(PRODUCT_ID, 0, 5);
+        int decreased = productStockStripeJdbcRepository.decrease(PRODUCT_ID, 0, 4);
+
+        //then
+        assertThat(insufficient).isZero();
+        assertThat(decreased).isEqualTo(1);
+        assertThat(productStockStripeJdbcRepository.lock(PRODUCT_ID))
+                .containsExactly(Map.entry(0, 0), Map.entry(1, 3), Map.entry(2, 3));
+    }
+
+    @Test
+    @DisplayName("재고 합계는 분산 재고 상품만 stripe 재고를 더해 반환")
+    void findTotalMapTest() {
+        //given
+        productStockStripeJdbcRepository.insert(PRODUCT_ID, List.of(4, 3, 3));
+        productStockStripeJdbcRepository.increase(PRODUCT_ID, 2, 2);
+        productStockStripeJdbcRepository.batchUpdateQuantity(PRODUCT_ID, Map.of(0, 1));
+
+        //when
+        Map<Long, Integer> totalMap = productStockStripeJdbcRepository.findTotalMap(List.of(PRODUCT_ID, 2L));
+
+        //then
+        assertThat(totalMap).containsExactly(Map.entry(PRODUCT_ID, 9));
+    }
+
+    @Test
+    @DisplayName("stripe 행 삭제 후에는 분산 재고 상품이 아님")
+    void deleteByProductIdTest() {
+        //given
+        productStockStripeJdbcRepository.insert(PRODUCT_ID, List.of(1, 1));
+
+        //when
+        productStockStripeJdbcRepository.deleteByProductId(PRODUCT_ID);
+
+        //then
+        assertThat(productStockStripeJdbcRepository.existsByProductId(PRODUCT_ID)).isFalse();
+        assertThat(productStockStripeJdbcRepository.increase(PRODUCT_ID, 0, 1)).isZero();
+    }
+}
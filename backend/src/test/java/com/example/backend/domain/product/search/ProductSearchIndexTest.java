@@ -0,0 +1,145 @@
+package com.example.backend.domain.product.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ProductSearchIndexTest
+ * ProductSearchIndex 테스트 클래스
+ *
+ * @author 100minha
+ */
+class ProductSearchIndexTest {
+
+    @Test
+    @DisplayName("한글은 두 글자씩 겹쳐 자르고 영문은 소문자로 변환 테스트")
+    void tokenizeTest() {
+        assertThat(ProductTokenizer.tokenize("무선키보드 K1, 펜"))
+                .containsExactly("무선", "선키", "키보", "보드", "k1", "펜");
+        assertThat(ProductTokenizer.tokenize("ＡＢＣ")).containsExactly("ab", "bc");
+        assertThat(ProductTokenizer.tokenize("  ")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("색인할 때는 bigram과 함께 한 글자 토큰도 만드는지 테스트")
+    void tokenizeForIndexTest() {
+        assertThat(ProductTokenizer.tokenizeForIndex("스마트폰 펜"))
+                .containsExactly("스마", "마트", "트폰", "스", "마", "트", "폰", "펜");
+    }
+
+    @Test
+    @DisplayName("한 글자 검색어로 긴 단어 안의 글자도 검색 테스트")
+    void searchSingleCharacterTest() {
+        // given
+        ProductSearchIndex index = new ProductSearchIndex();
+        index.put(1L, "스마트폰", "");
+        index.put(2L, "폰 케이스", "");
+        index.put(3L, "노트북", "");
+
+        // when
+        ProductSearchResult result = index.search("폰", 0, 10);
+
+        // then
+        assertThat(result.productIds()).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("검색어의 모든 토큰을 포함한 상품만 반환하고 이름에 포함된 상품이 먼저 반환 테스트")
+    void searchTest() {
+        // given
+        ProductSearchIndex index = new ProductSearchIndex();
+        index.put(1L, "유선 마우스", "키보드와 함께 사용하기 좋은 마우스");
+        index.put(2L, "무선키보드", "블루투스 연결");
+        index.put(3L, "키보드 받침대", "원목");
+        index.put(4L, "키보", "보 드");
+
+        // when
+        ProductSearchResult result = index.search("키보드", 0, 10);
+
+        // then
+        assertThat(result.totalHits()).isEqualTo(3);
+        assertThat(result.productIds()).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(result.productIds().get(2)).isEqualTo(1L);
+        assertThat(index.search("노트북", 0, 10).totalHits()).isZero();
+    }
+
+    @Test
+    @DisplayName("수정으로 삭제 표시된 문서는 문서 빈도에서 빠져 점수 순서가 유지되는지 테스트")
+    void searchAfterRepeatedUpdateTest() {
+        // given
+        ProductSearchIndex index = new ProductSearchIndex();
+        index.put(2L, "사과", "배");
+        for (int i = 0; i < 10; i++) {
+            index.put(1L, "사과", "사과 사과 사과");
+        }
+
+        // when
+        ProductSearchResult result = index.search("사과", 0, 10);
+
+        // then
+        assertThat(result.productIds()).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("검색 결과 페이지 테스트")
+    void searchPagingTest() {
+        // given
+        ProductSearchIndex index = new ProductSearchIndex();
+        for (long id = 1; id <= 25; id++) {
+            index.put(id, "커피 원두 " + id, "");
+        }
+
+        // when
+        ProductSearchResult firstPage = index.search("원두", 0, 10);
+        ProductSearchResult lastPage = index.search("원두", 20, 10);
+
+        // then
+        assertThat(firstPage.totalHits()).isEqualTo(25);
+        assertThat(firstPage.productIds()).hasSize(10);
+        assertThat(lastPage.productIds()).hasSize(5);
+        assertThat(firstPage.productIds()).doesNotContainAnyElementsOf(lastPage.productIds());
+    }
+
+    @Test
+    @DisplayName("상품 수정, 삭제 시 색인에 반영 테스트")
+    void putAndRemoveTest() {
+        // given
+        ProductSearchIndex index = new ProductSearchIndex();
+        index.put(1L, "무선 마우스", "");
+        index.put(2L, "무선 이어폰", "");
+
+        // when
+        index.put(1L, "유선 마우스", "");
+        index.remove(2L);
+
+        // then
+        assertThat(index.search("무선", 0, 10).productIds()).isEmpty();
+        assertThat(index.search("유선 마우스", 0, 10).productIds()).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("삭제된 문서가 많아지면 압축 후에도 검색 결과 유지 테스트")
+    void compactTest() {
+        // given
+        ProductSearchIndex index = new ProductSearchIndex();
+        for (long id = 1; id <= 3000; id++) {
+            index.put(id, "상품 " + id, "설명");
+        }
+
+        // when
+        for (long id = 1; id <= 2000; id++) {
+            index.remove(id);
+        }
+        for (long id = 2001; id <= 3000; id++) {
+            index.put(id, "수정된 상품 " + id, "설명");
+        }
+
+        // then
+        assertThat(index.size()).isEqualTo(1000);
+        assertThat(index.search("수정", 0, 10).totalHits()).isEqualTo(1000);
+        assertThat(index.search("상품 2500", 0, 1).productIds()).containsExactly(2500L);
+    }
+}
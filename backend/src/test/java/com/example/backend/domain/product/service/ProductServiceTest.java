@@ -1,12 +1,22 @@
 package com.example.backend.domain.product.service;
 
+import com.example.backend.domain.product.cache.ProductCache;
 import com.example.backend.domain.product.converter.ProductConverter;
 import com.example.backend.domain.product.dto.ProductForm;
 import com.example.backend.domain.product.dto.ProductResponse;
 import com.example.backend.domain.product.entity.Product;
+import com.example.backend.domain.product.exception.ProductErrorCode;
 import com.example.backend.domain.product.exception.ProductException;
 import com.example.backend.domain.product.repository.ProductRepository;
+import com.example.backend.domain.product.search.ProductSearchResult;
+import com.example.backend.domain.product.search.ProductSearchService;
+import com.example.backend.domain.product.stock.FlashSaleStockService;
+import com.example.backend.domain.product.stock.InventoryLedgerService;
+import com.example.backend.domain.product.stock.StockStreamService;
+import com.example.backend.domain.product.stock.StripedStockService;
 import com.example.backend.domain.productOrders.repository.ProductOrdersRepository;
+import com.example.backend.global.response.CursorResponse;
+import com.example.backend.global.response.ResourceVersion;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -18,8 +28,13 @@ import org.springframework.data.domain.*;
 import org.springframework.http.HttpStatus;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -38,6 +53,18 @@ class ProductServiceTest {
     private ProductRepository productRepository;
     @Mock
     private ProductOrdersRepository productOrdersRepository;
+    @Mock
+    private ProductCache productCache;
+    @Mock
+    private ProductSearchService productSearchService;
+    @Mock
+    private StockStreamService stockStreamService;
+    @Mock
+    private InventoryLedgerService inventoryLedgerService;
+    @Mock
+    private StripedStockService stripedStockService;
+    @Mock
+    private FlashSaleStockService flashSaleStockService;
 
     @InjectMocks
     private ProductService productService;
@@ -57,12 +84,32 @@ class ProductServiceTest {
             .build();
     Product product1 = ProductConverter.from(productForm1);
 
+    /**
+     * 캐시에 없는 상황으로 가정하고 loader를 그대로 실행
+     */
+    @SuppressWarnings("unchecked")
+    private void givenCacheMiss() {
+        lenient().when(productCache.getProductResponse(anyLong(), any()))
+                .thenAnswer(invocation -> ((Supplier<ProductResponse>) invocation.getArgument(1)).get());
+        lenient().when(productCache.getProductPage(anyInt(), any()))
+                .thenAnswer(invocation -> ((Supplier<Page<ProductResponse>>) invocation.getArgument(1)).get());
+        lenient().when(productCache.getProductVersion(anyLong(), any()))
+                .thenAnswer(invocation -> ((Supplier<ResourceVersion>) invocation.getArgument(1)).get());
+        lenient().when(productCache.getProductPageVersion(anyInt(), any()))
+                .thenAnswer(invocation -> ((Supplier<ResourceVersion>) invocation.getArgument(1)).get());
+        lenient().when(productCache.getProductSlice(anyString(), any()))
+                .thenAnswer(invocation -> ((Supplier<CursorResponse<ProductResponse>>) invocation.getArgument(1)).get());
+        lenient().when(productCache.getProductCount(any()))
+                .thenAnswer(invocation -> ((Supplier<Long>) invocation.getArgument(0)).get());
+    }
+
     @Test
     @DisplayName("상품 등록 테스트")
     void createTest() {
         // given
         ArgumentCaptor<Product> productCaptor = ArgumentCaptor.forClass(Product.class);
         when(productRepository.existsByName(productForm1.name())).thenReturn(false);
+        when(productRepository.save(any(Product.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // when
         productService.create(productForm1);
@@ -76,6 +123,8 @@ class ProductServiceTest {
         assertThat(savedProduct.getPrice()).isEqualTo(price1);
         assertThat(savedProduct.getImgUrl()).isEqualTo(imgUrl1);
         assertThat(savedProduct.getQuantity()).isEqualTo(quantity1);
+        verify(productCache, times(1)).evictPages();
+        verify(productSearchService, times(1)).changed(savedProduct.getId());
     }
 
     @Test
@@ -92,6 +141,7 @@ class ProductServiceTest {
 
         // then
         verify(productRepository, times(1)).existsByName(productForm1.name());
+        verifyNoInteractions(productCache);
         assertThat(exception.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST);
         assertThat(exception.getCode()).isEqualTo("400-2");
         assertThat(exception.getMessage()).isEqualTo("중복된 상품 이름입니다.");
@@ -137,6 +187,7 @@ class ProductServiceTest {
     void findProductResponseByIdSuccessTest() {
         // given
         Long id = 1L;
+        givenCacheMiss();
         when(productRepository.findProductResponseById(id)).thenReturn(Optional.of(ProductConverter.from(product1)));
 
         // when
@@ -154,6 +205,7 @@ class ProductServiceTest {
     void findProductResponseByIdFailTest() {
         // given
         Long invalidId = 999L; // 존재하지 않는 상품 ID
+        givenCacheMiss();
         when(productRepository.findProductResponseById(invalidId)).thenReturn(Optional.empty());
 
         // when
@@ -166,6 +218,61 @@ class ProductServiceTest {
         assertThat(exception.getCode()).isEqualTo("404");
     }
 
+    @Test
+    @DisplayName("상품 단건 조회(DTO) 캐시 적중 시 DB 조회하지 않음 테스트")
+    void findProductResponseByIdCacheHitTest() {
+        // given
+        Long id = 1L;
+        when(productCache.getProductResponse(eq(id), any())).thenReturn(ProductConverter.from(product1));
+
+        // when
+        ProductResponse productResponse = productService.findProductResponseById(id);
+
+        // then
+        assertThat(productResponse.name()).isEqualTo(this.name1);
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    @DisplayName("여러 건 조회에서 없는 상품으로 캐시된 경우 단건 조회 실패 테스트")
+    void findProductResponseByIdCachedMissTest() {
+        // given
+        when(productCache.getProductResponse(eq(1L), any())).thenReturn(null);
+
+        // when
+        ProductException exception = assertThrows(ProductException.class,
+                () -> productService.findProductResponseById(1L));
+
+        // then
+        assertThat(exception.getCode()).isEqualTo("404");
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    @DisplayName("상품 여러 건 조회 시 캐시에 없는 상품만 IN 쿼리 한 번으로 조회 테스트")
+    @SuppressWarnings("unchecked")
+    void findProductResponseMapTest() {
+        // given
+        List<Long> missedIds = List.of(2L, 3L);
+        when(productCache.getProductResponses(eq(List.of(1L, 2L, 3L)), any()))
+                .thenAnswer(invocation -> {
+                    Map<Long, ProductResponse> productMap = new HashMap<>(
+                            ((Function<Collection<Long>, Map<Long, ProductResponse>>) invocation.getArgument(1))
+                                    .apply(missedIds));
+                    productMap.put(1L, ProductResponse.builder().id(1L).build());
+                    return productMap;
+                });
+        when(productRepository.findProductResponsesByIdIn(missedIds))
+                .thenReturn(List.of(ProductResponse.builder().id(2L).build()));
+
+        // when
+        Map<Long, ProductResponse> productMap = productService.findProductResponseMap(List.of(1L, 2L, 3L));
+
+        // then
+        assertThat(productMap).containsOnlyKeys(1L, 2L);
+        verify(productRepository, times(1)).findProductResponsesByIdIn(missedIds);
+    }
+
     @Test
     @DisplayName("상품 다건 조회 테스트")
     void findAllPagedTest() {
@@ -180,14 +287,16 @@ class ProductServiceTest {
         }
 
         Pageable pageable = PageRequest.of(0, 10, sortByNameAsc);
-        Page<ProductResponse> mockPage = new PageImpl<>(productResponseList, pageable, 5);
-        when(productRepository.findAllPaged(any())).thenReturn(mockPage);
+        Slice<ProductResponse> mockSlice = new SliceImpl<>(productResponseList, pageable, false);
+        givenCacheMiss();
+        when(productRepository.findAllSliced(any())).thenReturn(mockSlice);
 
         // when
         Page<ProductResponse> productResponsePage = productService.findAllPaged(0);
 
         //then
-        verify(productRepository, times(1)).findAllPaged(pageable);
+        verify(productRepository, times(1)).findAllSliced(pageable);
+        verify(productRepository, never()).count();
 
         assertThat(productResponsePage.getTotalPages()).isEqualTo(1);
         assertThat(productResponsePage.getNumberOfElements()).isEqualTo(5);
@@ -200,7 +309,9 @@ class ProductServiceTest {
         // given
         Sort sortByNameAsc = Sort.by(Sort.Order.asc("name"));
         Pageable inValidPageable = PageRequest.of(999, 10, sortByNameAsc);  //빈 페이지 요청
-        when(productRepository.findAllPaged(inValidPageable)).thenReturn(Page.empty());
+        givenCacheMiss();
+        when(productRepository.findAllSliced(inValidPageable))
+                .thenReturn(new SliceImpl<>(List.of(), inValidPageable, false));
 
         // when
         ProductException exception = assertThrows(
@@ -209,11 +320,145 @@ class ProductServiceTest {
         );
 
         //then
-        verify(productRepository, times(1)).findAllPaged(inValidPageable);
+        verify(productRepository, times(1)).findAllSliced(inValidPageable);
 
         assertThat(exception.getCode()).isEqualTo("404");
     }
 
+    @Test
+    @DisplayName("상품 다건 조회 시 전체 상품 수는 캐시된 값 사용 테스트")
+    void findAllPagedCountTest() {
+        // given
+        Pageable pageable = PageRequest.of(1, 10, Sort.by(Sort.Order.asc("name")));
+        List<ProductResponse> productResponseList = new ArrayList<>();
+        for (long id = 11; id <= 20; id++) {
+            productResponseList.add(ProductResponse.builder().id(id).build());
+        }
+        givenCacheMiss();
+        when(productRepository.findAllSliced(pageable)).thenReturn(new SliceImpl<>(productResponseList, pageable, true));
+        when(productCache.getProductCount(any())).thenReturn(25L);
+
+        // when
+        Page<ProductResponse> productResponsePage = productService.findAllPaged(1);
+
+        // then
+        assertThat(productResponsePage.getTotalElements()).isEqualTo(25);
+        assertThat(productResponsePage.getTotalPages()).isEqualTo(3);
+        verify(productRepository, never()).count();
+    }
+
+    @Test
+    @DisplayName("상품 커서 조회 시 다음 페이지가 있으면 마지막 상품으로 커서 생성 테스트")
+    void findAllByCursorTest() {
+        // given
+        givenCacheMiss();
+        List<ProductResponse> productResponseList = List.of(
+                ProductResponse.builder().id(3L).name("가").build(),
+                ProductResponse.builder().id(1L).name("나").build(),
+                ProductResponse.builder().id(2L).name("다").build());
+        when(productRepository.findResponsesOrderByName(PageRequest.of(0, 3))).thenReturn(productResponseList);
+        when(productRepository.findResponsesAfterCursor("나", PageRequest.of(0, 3)))
+                .thenReturn(productResponseList.subList(2, 3));
+
+        // when
+        CursorResponse<ProductResponse> first = productService.findAllByCursor(null, 2);
+        CursorResponse<ProductResponse> second = productService.findAllByCursor(first.nextCursor(), 2);
+
+        // then
+        assertThat(first.content()).extracting(ProductResponse::id).containsExactly(3L, 1L);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.content()).extracting(ProductResponse::id).containsExactly(2L);
+        assertThat(second.hasNext()).isFalse();
+        verify(productRepository, never()).count();
+    }
+
+    @Test
+    @DisplayName("상품 커서 조회 시 잘못된 커서면 400반환 테스트")
+    void findAllByCursorInvalidCursorTest() {
+        // given
+        givenCacheMiss();
+
+        // when
+        ProductException exception = assertThrows(
+                ProductException.class,
+                () -> productService.findAllByCursor("invalid", 10)
+        );
+
+        // then
+        assertThat(exception.getCode()).isEqualTo("400-6");
+    }
+
+    @Test
+    @DisplayName("상품 검증자 조회 시 응답 필드가 바뀔 때만 ETag 변경 테스트")
+    void findResourceVersionByIdTest() {
+        // given
+        givenCacheMiss();
+        ProductResponse product = new ProductResponse(1L, "name", "content", 1000, "img.jpg");
+        when(productRepository.findProductResponseById(1L))
+                .thenReturn(Optional.of(product))
+                .thenReturn(Optional.of(product))
+                .thenReturn(Optional.of(new ProductResponse(1L, "name", "content", 2000, "img.jpg")));
+
+        // when
+        ResourceVersion before = productService.findResourceVersionById(1L);
+        ResourceVersion unchanged = productService.findResourceVersionById(1L);
+        ResourceVersion after = productService.findResourceVersionById(1L);
+
+        // then
+        assertThat(unchanged.eTag()).isEqualTo(before.eTag());
+        assertThat(after.eTag()).isNotEqualTo(before.eTag());
+        assertThat(before.lastModified()).isNull();
+    }
+
+    @Test
+    @DisplayName("상품 다건 조회 검증자 조회 시 빈 페이지면 404반환 테스트")
+    void findPageVersionButIsEmptyTest() {
+        // given
+        givenCacheMiss();
+        when(productRepository.findVersionsSliced(any())).thenReturn(new SliceImpl<>(List.of()));
+
+        // when
+        ProductException exception = assertThrows(
+                ProductException.class,
+                () -> productService.findPageVersion(999)
+        );
+
+        // then
+        assertThat(exception.getCode()).isEqualTo("404");
+    }
+
+    @Test
+    @DisplayName("상품 검색 시 색인 순위대로 반환하고 삭제된 상품은 제외 테스트")
+    void searchTest() {
+        // given
+        when(productSearchService.search("키보드", 0, 10))
+                .thenReturn(new ProductSearchResult(List.of(3L, 1L, 2L), 3));
+        when(productRepository.findProductResponsesByIdIn(List.of(3L, 1L, 2L))).thenReturn(List.of(
+                ProductResponse.builder().id(1L).name("키보드 B").build(),
+                ProductResponse.builder().id(3L).name("무선 키보드").build()));
+
+        // when
+        Page<ProductResponse> productResponsePage = productService.search("키보드", 0);
+
+        // then
+        assertThat(productResponsePage.getContent()).extracting(ProductResponse::id).containsExactly(3L, 1L);
+        assertThat(productResponsePage.getTotalElements()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("상품 검색 결과가 없으면 빈 페이지 반환 테스트")
+    void searchEmptyTest() {
+        // given
+        when(productSearchService.search("없는상품", 0, 10)).thenReturn(ProductSearchResult.empty());
+
+        // when
+        Page<ProductResponse> productResponsePage = productService.search("없는상품", 0);
+
+        // then
+        assertThat(productResponsePage.isEmpty()).isTrue();
+        verify(productRepository, never()).findProductResponsesByIdIn(any());
+    }
+
     @Test
     @DisplayName("상품 수정 테스트(더티체킹)")
     void modifyTest() {
@@ -237,6 +482,72 @@ class ProductServiceTest {
         assertThat(product1.getPrice()).isEqualTo(updatedproductForm.price());
         assertThat(product1.getImgUrl()).isEqualTo(updatedproductForm.imgUrl());
         assertThat(product1.getQuantity()).isEqualTo(updatedproductForm.quantity());
+        verify(productCache, times(1)).evict(1L);
+        verify(productSearchService, times(1)).changed(1L);
+        verify(stockStreamService, times(1)).changed(List.of(1L));
+        verify(inventoryLedgerService, times(1)).adjust(1L, updatedproductForm.quantity());
+    }
+
+    @Test
+    @DisplayName("분산 재고 상품 수정 시 재고는 stripe 행에 재분배하고 상품 재고 컬럼은 바꾸지 않음")
+    void modifyStripedTest() {
+        // given
+        product1.enableStripes(4);
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product1));
+        when(stripedStockService.isStriped(1L)).thenReturn(true);
+        ProductForm updatedproductForm = ProductForm.builder()
+                .name("Updated Name")
+                .content("Updated Content")
+                .price(12345)
+                .imgUrl("Updated imgUrl")
+                .quantity(123)
+                .build();
+        when(productRepository.existsByNameAndIdNot(updatedproductForm.name(), 1L)).thenReturn(false);
+
+        // when
+        productService.modify(1L, updatedproductForm);
+
+        // then
+        assertThat(product1.getName()).isEqualTo(updatedproductForm.name());
+        assertThat(product1.getQuantity()).isZero();
+        verify(stripedStockService, times(1)).rebalance(1L, updatedproductForm.quantity());
+        verify(inventoryLedgerService, never()).adjust(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("세일 중인 상품 수정 시 재고가 카운터와 같으면 상품 정보만 수정하고, 다르면 예외 발생")
+    void modifyFlashSaleTest() {
+        // given
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product1));
+        when(flashSaleStockService.findAvailableMap(List.of(1L))).thenReturn(Map.of(1L, 7));
+        ProductForm infoForm = ProductForm.builder()
+                .name("Updated Name")
+                .content("Updated Content")
+                .price(12345)
+                .imgUrl("Updated imgUrl")
+                .quantity(7)
+                .build();
+        ProductForm quantityForm = ProductForm.builder()
+                .name("Updated Name")
+                .content("Updated Content")
+                .price(12345)
+                .imgUrl("Updated imgUrl")
+                .quantity(123)
+                .build();
+
+        // when
+        productService.modify(1L, infoForm);
+
+        // then
+        assertThat(product1.getName()).isEqualTo(infoForm.name());
+        assertThat(product1.getQuantity()).isEqualTo(quantity1);
+        ProductException exception = assertThrows(
+                ProductException.class,
+                () -> productService.modify(1L, quantityForm)
+        );
+        assertThat(exception.getMessage()).isEqualTo(ProductErrorCode.ALREADY_FLASH_SALE.getMessage());
+        verify(inventoryLedgerService, never()).adjust(anyLong(), anyInt());
+        verify(stripedStockService, never()).isStriped(anyLong());
     }
 
     @Test
@@ -284,6 +595,8 @@ class ProductServiceTest {
         assertThat(deletedProduct.getPrice()).isEqualTo(price1);
         assertThat(deletedProduct.getImgUrl()).isEqualTo(imgUrl1);
         assertThat(deletedProduct.getQuantity()).isEqualTo(quantity1);
+        verify(productCache, times(1)).evict(id);
+        verify(productSearchService, times(1)).changed(id);
     }
 
     @Test
@@ -0,0 +1,241 @@
+package com.example.backend.domain.product.stock;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.backend.domain.product.entity.Product;
+import com.example.backend.domain.product.exception.ProductErrorCode;
+import com.example.backend.domain.product.exception.ProductException;
+import com.example.backend.domain.product.repository.ProductRepository;
+import com.example.backend.domain.product.repository.ProductStockJdbcRepository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class FlashSaleStockServiceTest {
+
+	@Mock
+	ProductRepository productRepository;
+	@Mock
+	ProductStockJdbcRepository productStockJdbcRepository;
+	@Mock
+	InventoryLedgerService inventoryLedgerService;
+	@Mock
+	PlatformTransactionManager transactionManager;
+
+	InMemoryStockCounter stockCounter;
+	FlashSaleStockService flashSaleStockService;
+
+	@BeforeEach
+	void setUp() {
+		stockCounter = new InMemoryStockCounter();
+		flashSaleStockService = new FlashSaleStockService(stockCounter, productRepository, productStockJdbcRepository,
+			inventoryLedgerService, transactionManager);
+	}
+
+	private Product mockProduct(int quantity) {
+		Product product = mock(Product.class);
+		lenient().when(product.getQuantity()).thenReturn(quantity);
+		return product;
+	}
+
+	private void rollback() {
+		TransactionSynchronizationManager.getSynchronizations()
+			.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+	}
+
+	@Test
+	@DisplayName("세일 시작 시 DB 재고로 카운터 초기화")
+	void start() {
+		// Given
+		Product product = mockProduct(10);
+		when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+
+		// When
+		flashSaleStockService.start(1L);
+
+		// Then
+		assertThat(stockCounter.findOpenProductIds()).containsExactly(1L);
+		assertThat(stockCounter.getAvailable(1L)).isEqualTo(10);
+	}
+
+	@Test
+	@DisplayName("분산 재고 상품은 세일을 시작할 수 없음")
+	void start_striped() {
+		// Given
+		Product product = mockProduct(0);
+		when(product.isStriped()).thenReturn(true);
+		when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+
+		// When & Then
+		assertThatThrownBy(() -> flashSaleStockService.start(1L))
+			.isInstanceOf(ProductException.class)
+			.hasMessage(ProductErrorCode.STRIPED_STOCK.getMessage());
+		assertThat(stockCounter.findOpenProductIds()).isEmpty();
+	}
+
+	@Test
+	@DisplayName("세일 중 재고 부족 시 에러 발생")
+	void reserve_insufficient() {
+		// Given
+		stockCounter.open(1L, 3);
+
+		// When & Then
+		assertThatThrownBy(() -> flashSaleStockService.reserve(Map.of(1L, 4)))
+			.isInstanceOf(ProductException.class)
+			.hasMessage(ProductErrorCode.INSUFFICIENT_QUANTITY.getMessage());
+		assertThat(stockCounter.getAvailable(1L)).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("차감에 실패하면 같은 호출에서 먼저 차감한 재고를 바로 복구")
+	void reserve_insufficientReleasesReserved() {
+		// Given
+		stockCounter.open(1L, 10);
+		stockCounter.open(2L, 1);
+		Map<Long, Integer> quantityMap = new LinkedHashMap<>();
+		quantityMap.put(1L, 3);
+		quantityMap.put(2L, 2);
+
+		// When & Then
+		assertThatThrownBy(() -> flashSaleStockService.reserve(quantityMap))
+			.isInstanceOf(ProductException.class)
+			.hasMessage(ProductErrorCode.INSUFFICIENT_QUANTITY.getMessage());
+		assertThat(stockCounter.getAvailable(1L)).isEqualTo(10);
+		assertThat(stockCounter.getAvailable(2L)).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("누적된 delta를 batch로 DB에 반영")
+	void flush() {
+		// Given
+		stockCounter.open(1L, 10);
+		stockCounter.open(2L, 10);
+		flashSaleStockService.reserve(Map.of(1L, 3, 2L, 1));
+		flashSaleStockService.release(2L, 1);
+		when(productStockJdbcRepository.lockIds(Set.of(1L, 2L))).thenReturn(List.of(1L, 2L));
+
+		// When
+		flashSaleStockService.flush();
+
+		// Then
+		verify(productStockJdbcRepository).batchAdjustQuantity(Map.of(1L, -3));
+		assertThat(stockCounter.drainDelta(1L)).isZero();
+	}
+
+	@Test
+	@DisplayName("상품 행을 잠그는 동안 세일이 종료되면 delta를 반영하지 않음")
+	void flush_endedWhileLocking() {
+		// Given
+		stockCounter.open(1L, 10);
+		flashSaleStockService.reserve(Map.of(1L, 3));
+		when(productStockJdbcRepository.lockIds(Set.of(1L))).thenAnswer(invocation -> {
+			stockCounter.close(1L);
+			return List.of(1L);
+		});
+
+		// When
+		flashSaleStockService.flush();
+
+		// Then
+		verify(productStockJdbcRepository, never()).batchAdjustQuantity(anyMap());
+		assertThat(stockCounter.drainDelta(1L)).isEqualTo(-3);
+	}
+
+	@Test
+	@DisplayName("세일이 아닌 상품은 카운터에서 복구하지 않음")
+	void release_notOpen() {
+		// When
+		boolean released = flashSaleStockService.release(1L, 1);
+
+		// Then
+		assertThat(released).isFalse();
+	}
+
+	@Test
+	@DisplayName("세일 종료 시 남은 delta 반영 후 DB 재고를 카운터 값으로 보정")
+	void end() {
+		// Given
+		stockCounter.open(1L, 10);
+		flashSaleStockService.reserve(Map.of(1L, 4));
+		when(productStockJdbcRepository.lockQuantity(1L)).thenReturn(Optional.of(9));
+
+		// When
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			flashSaleStockService.end(1L);
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		// Then
+		assertThat(stockCounter.findOpenProductIds()).isEmpty();
+		verify(productStockJdbcRepository).batchAdjustQuantity(Map.of(1L, -4));
+		verify(productStockJdbcRepository).updateQuantity(1L, 6);
+	}
+
+	@Test
+	@DisplayName("세일 중이 아닌 상품은 종료 불가")
+	void end_notOpen() {
+		assertThatThrownBy(() -> flashSaleStockService.end(1L))
+			.isInstanceOf(ProductException.class)
+			.hasMessage(ProductErrorCode.NOT_FLASH_SALE.getMessage());
+		verify(productStockJdbcRepository, never()).batchAdjustQuantity(anyMap());
+	}
+
+	@Test
+	@DisplayName("세일 종료 후 롤백된 주문의 차감분은 DB 재고에 복구")
+	void reserve_rollbackAfterEnd() {
+		// Given
+		stockCounter.open(1L, 10);
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			flashSaleStockService.reserve(Map.of(1L, 4));
+			stockCounter.close(1L);
+
+			// When
+			rollback();
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		// Then
+		verify(productStockJdbcRepository).batchAdjustQuantity(Map.of(1L, 4));
+		verify(transactionManager).commit(any());
+	}
+
+	@Test
+	@DisplayName("세일 종료 후 롤백된 취소의 복구분은 DB 재고에서 차감")
+	void release_rollbackAfterEnd() {
+		// Given
+		stockCounter.open(1L, 10);
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			flashSaleStockService.release(1L, 2);
+			stockCounter.close(1L);
+
+			// When
+			rollback();
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		// Then
+		verify(productStockJdbcRepository).batchAdjustQuantity(Map.of(1L, -2));
+	}
+}
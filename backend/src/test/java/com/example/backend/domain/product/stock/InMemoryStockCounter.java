@@ -0,0 +1,80 @@
+package com.example.backend.domain.product.stock;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * InMemoryStockCounter
+ * <p>테스트용 StockCounter 구현체 입니다.</p>
+ */
+public class InMemoryStockCounter implements StockCounter {
+
+	private final Set<Long> openProductIds = ConcurrentHashMap.newKeySet();
+	private final Map<Long, Integer> availableMap = new ConcurrentHashMap<>();
+	private final Map<Long, Integer> deltaMap = new ConcurrentHashMap<>();
+
+	@Override
+	public Set<Long> findOpenProductIds() {
+		return Set.copyOf(openProductIds);
+	}
+
+	@Override
+	public void open(Long productId, int quantity) {
+		availableMap.put(productId, quantity);
+		deltaMap.put(productId, 0);
+		openProductIds.add(productId);
+	}
+
+	@Override
+	public synchronized ReserveResult reserve(Long productId, int quantity) {
+		if (!openProductIds.contains(productId)) {
+			return ReserveResult.CLOSED;
+		}
+		if (availableMap.get(productId) < quantity) {
+			return ReserveResult.INSUFFICIENT;
+		}
+
+		availableMap.merge(productId, -quantity, Integer::sum);
+		deltaMap.merge(productId, -quantity, Integer::sum);
+		return ReserveResult.SUCCESS;
+	}
+
+	@Override
+	public synchronized boolean release(Long productId, int quantity) {
+		if (!openProductIds.contains(productId)) {
+			return false;
+		}
+
+		availableMap.merge(productId, quantity, Integer::sum);
+		deltaMap.merge(productId, quantity, Integer::sum);
+		return true;
+	}
+
+	@Override
+	public synchronized int drainDelta(Long productId) {
+		Integer delta = deltaMap.put(productId, 0);
+		return delta == null ? 0 : delta;
+	}
+
+	@Override
+	public void restoreDelta(Long productId, int delta) {
+		deltaMap.merge(productId, delta, Integer::sum);
+	}
+
+	@Override
+	public Integer getAvailable(Long productId) {
+		return availableMap.get(productId);
+	}
+
+	@Override
+	public void close(Long productId) {
+		openProductIds.remove(productId);
+	}
+
+	@Override
+	public void delete(Long productId) {
+		availableMap.remove(productId);
+		deltaMap.remove(productId);
+	}
+}
@@ -0,0 +1,87 @@
+package com.example.backend.domain.product.stock;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.backend.domain.product.dto.PendingDeltaDto;
+import com.example.backend.domain.product.exception.ProductErrorCode;
+import com.example.backend.domain.product.exception.ProductException;
+import com.example.backend.domain.product.repository.InventoryLedgerJdbcRepository;
+
+@ExtendWith(MockitoExtension.class)
+class InventoryLedgerServiceTest {
+
+	@Mock
+	InventoryLedgerJdbcRepository inventoryLedgerJdbcRepository;
+	@InjectMocks
+	InventoryLedgerService inventoryLedgerService;
+
+	@Test
+	@DisplayName("주문 시 상품 행을 잠근 뒤 가용 재고를 검증하고 음수 변동을 추가")
+	void reserve() {
+		// Given
+		when(inventoryLedgerJdbcRepository.lockAndFindAvailableMap(Set.of(1L, 2L))).thenReturn(Map.of(1L, 5, 2L, 1));
+
+		// When
+		inventoryLedgerService.reserve(Map.of(1L, 5, 2L, 1));
+
+		// Then
+		InOrder inOrder = inOrder(inventoryLedgerJdbcRepository);
+		inOrder.verify(inventoryLedgerJdbcRepository).lockAndFindAvailableMap(Set.of(1L, 2L));
+		inOrder.verify(inventoryLedgerJdbcRepository).batchInsert(Map.of(1L, -5, 2L, -1), InventoryMovementType.ORDER);
+	}
+
+	@Test
+	@DisplayName("가용 재고가 부족하면 변동을 추가하지 않고 예외 발생")
+	void reserve_insufficient() {
+		// Given
+		when(inventoryLedgerJdbcRepository.lockAndFindAvailableMap(Set.of(1L))).thenReturn(Map.of(1L, 2));
+
+		// When & Then
+		assertThatThrownBy(() -> inventoryLedgerService.reserve(Map.of(1L, 3)))
+			.isInstanceOf(ProductException.class)
+			.hasMessage(ProductErrorCode.INSUFFICIENT_QUANTITY.getMessage());
+		verify(inventoryLedgerJdbcRepository, never()).batchInsert(anyMap(), any());
+	}
+
+	@Test
+	@DisplayName("관리자 재고 수정 시 가용 재고와의 차이를 기록하고 바로 스냅샷에 반영")
+	void adjust() {
+		// Given
+		ReflectionTestUtils.setField(inventoryLedgerService, "stockMode", StockMode.LEDGER);
+		List<PendingDeltaDto> pendingDeltaList = List.of(new PendingDeltaDto(1L, 13, 30L));
+		when(inventoryLedgerJdbcRepository.lockAndFindAvailableMap(List.of(1L))).thenReturn(Map.of(1L, 7));
+		when(inventoryLedgerJdbcRepository.findPendingDeltas(List.of(1L))).thenReturn(pendingDeltaList);
+
+		// When
+		inventoryLedgerService.adjust(1L, 20);
+
+		// Then
+		verify(inventoryLedgerJdbcRepository).batchInsert(Map.of(1L, 13), InventoryMovementType.ADJUST);
+		verify(inventoryLedgerJdbcRepository).batchFold(pendingDeltaList);
+	}
+
+	@Test
+	@DisplayName("LEDGER 모드가 아니면 관리자 재고 수정 시 원장을 사용하지 않음")
+	void adjust_disabled() {
+		// When
+		inventoryLedgerService.adjust(1L, 20);
+
+		// Then
+		verifyNoInteractions(inventoryLedgerJdbcRepository);
+	}
+}
@@ -0,0 +1,133 @@
+package com.example.backend.domain.product.stock;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.backend.domain.product.dto.StockLevelResponse;
+import com.example.backend.domain.product.exception.ProductException;
+import com.example.backend.domain.product.repository.ProductRepository;
+import com.example.backend.global.redis.RedisMessageBus;
+
+@ExtendWith(MockitoExtension.class)
+class StockStreamServiceTest {
+
+	@Mock
+	ProductRepository productRepository;
+	@Mock
+	FlashSaleStockService flashSaleStockService;
+	@Mock
+	StripedStockService stripedStockService;
+	@Mock
+	InventoryLedgerService inventoryLedgerService;
+	@Mock
+	RedisMessageBus redisMessageBus;
+	@InjectMocks
+	StockStreamService stockStreamService;
+
+	@AfterEach
+	void tearDown() {
+		stockStreamService.shutdown();
+	}
+
+	@Test
+	@DisplayName("같은 상품이 여러 번 변경되어도 한 주기에 한 번만 조회, 발행")
+	void flush_coalesced() {
+		// Given
+		stockStreamService.init();
+		verify(redisMessageBus).subscribe(eq(StockStreamService.CHANNEL), any());
+		when(productRepository.findStockLevelsByIdIn(Set.of(1L))).thenReturn(List.of(new StockLevelResponse(1L, 5)));
+		stockStreamService.subscribe(List.of(1L), "client");
+
+		// When
+		stockStreamService.changed(List.of(1L));
+		stockStreamService.changed(List.of(1L, 2L));
+		stockStreamService.changed(List.of(1L));
+		stockStreamService.flush();
+		stockStreamService.flush();
+
+		// Then
+		// 구독 직후 1회, 첫 주기 1회
+		verify(productRepository, times(2)).findStockLevelsByIdIn(Set.of(1L));
+		verify(redisMessageBus, times(1)).publish(StockStreamService.CHANNEL, "1,2");
+		verifyNoMoreInteractions(productRepository, redisMessageBus);
+	}
+
+	@Test
+	@DisplayName("다른 서버의 변경 메시지는 구독 중인 상품만 다음 주기에 전송하고 다시 발행하지 않음")
+	void flush_remoteChanged() {
+		// Given
+		stockStreamService.init();
+		ArgumentCaptor<Consumer<String>> listenerCaptor = ArgumentCaptor.forClass(Consumer.class);
+		verify(redisMessageBus).subscribe(eq(StockStreamService.CHANNEL), listenerCaptor.capture());
+		stockStreamService.subscribe(List.of(3L), "client");
+
+		// When
+		listenerCaptor.getValue().accept("3,4");
+		stockStreamService.flush();
+
+		// Then
+		verify(productRepository, times(2)).findStockLevelsByIdIn(Set.of(3L));
+		verify(redisMessageBus, never()).publish(anyString(), anyString());
+	}
+
+	@Test
+	@DisplayName("구독 상품이 없거나 최대 개수를 넘으면 예외 발생")
+	void subscribe_invalid() {
+		List<Long> tooMany = LongStream.rangeClosed(1, 51).boxed().toList();
+
+		assertThatThrownBy(() -> stockStreamService.subscribe(List.of(), "client"))
+			.isInstanceOf(ProductException.class);
+		assertThatThrownBy(() -> stockStreamService.subscribe(tooMany, "client"))
+			.isInstanceOf(ProductException.class);
+		assertThat(stockStreamService.subscribedProductCount()).isZero();
+		assertThat(stockStreamService.subscriptionCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("클라이언트별, 서버별 최대 구독 수를 넘으면 예외 발생")
+	void subscribe_limit() {
+		// Given
+		ReflectionTestUtils.setField(stockStreamService, "maxSubscriptionsPerClient", 2);
+		ReflectionTestUtils.setField(stockStreamService, "maxSubscriptions", 3);
+		stockStreamService.subscribe(List.of(1L), "a");
+		stockStreamService.subscribe(List.of(1L), "a");
+
+		// When & Then
+		assertThatThrownBy(() -> stockStreamService.subscribe(List.of(1L), "a"))
+			.isInstanceOf(ProductException.class)
+			.hasMessage("재고 알림 구독이 너무 많습니다. 잠시 후 다시 시도해 주세요.");
+		stockStreamService.subscribe(List.of(1L), "b");
+		assertThatThrownBy(() -> stockStreamService.subscribe(List.of(1L), "c"))
+			.isInstanceOf(ProductException.class);
+		assertThat(stockStreamService.subscriptionCount()).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("구독 직후 재고 조회에 실패하면 구독을 해제하고 구독 수를 반환")
+	void subscribe_lookupFailure() {
+		// Given
+		when(productRepository.findStockLevelsByIdIn(Set.of(1L))).thenThrow(new IllegalStateException("db down"));
+
+		// When & Then
+		assertThatThrownBy(() -> stockStreamService.subscribe(List.of(1L), "a"))
+			.isInstanceOf(IllegalStateException.class);
+		assertThat(stockStreamService.subscriptionCount()).isZero();
+		assertThat(stockStreamService.subscribedProductCount()).isZero();
+	}
+}
@@ -0,0 +1,243 @@
+package com.example.backend.domain.product.stock;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+
+import com.example.backend.domain.product.entity.Product;
+import com.example.backend.domain.product.exception.ProductErrorCode;
+import com.example.backend.domain.product.exception.ProductException;
+import com.example.backend.domain.product.repository.ProductRepository;
+import com.example.backend.domain.product.repository.ProductStockStripeJdbcRepository;
+
+@ExtendWith(MockitoExtension.class)
+class StripedStockServiceTest {
+
+	@Mock
+	ProductStockStripeJdbcRepository productStockStripeJdbcRepository;
+	@Mock
+	ProductRepository productRepository;
+	@Mock
+	InventoryLedgerService inventoryLedgerService;
+	@Mock
+	FlashSaleStockService flashSaleStockService;
+	@InjectMocks
+	StripedStockService stripedStockService;
+
+	@BeforeEach
+	void setUp() {
+		stripedStockService.init();
+	}
+
+	private Product product(int quantity) {
+		return Product.builder()
+			.name("Striped Product")
+			.content("Striped Product content")
+			.price(1000)
+			.imgUrl("Striped Product Image")
+			.quantity(quantity)
+			.build();
+	}
+
+	private Map<Integer, Integer> stripeMap(int... quantities) {
+		Map<Integer, Integer> stripeMap = new LinkedHashMap<>();
+		for (int stripe = 0; stripe < quantities.length; stripe++) {
+			stripeMap.put(stripe, quantities[stripe]);
+		}
+		return stripeMap;
+	}
+
+	@Test
+	@DisplayName("분산 재고 시작 시 현재 재고를 stripe 행에 고르게 나누고 상품 재고 컬럼은 0")
+	void enable() {
+		// Given
+		Product product = product(10);
+		when(flashSaleStockService.findOpenProductIds(List.of(1L))).thenReturn(Set.of());
+		when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+
+		// When
+		stripedStockService.enable(1L, 3);
+
+		// Then
+		verify(inventoryLedgerService).compact(List.of(1L));
+		verify(productStockStripeJdbcRepository).insert(1L, List.of(4, 3, 3));
+		assertThat(product.getStripeCount()).isEqualTo(3);
+		assertThat(product.getQuantity()).isZero();
+	}
+
+	@Test
+	@DisplayName("stripe 수가 범위를 벗어나면 예외 발생")
+	void enable_invalidCount() {
+		// When & Then
+		assertThatThrownBy(() -> stripedStockService.enable(1L, 1))
+			.isInstanceOf(ProductException.class)
+			.hasMessage(ProductErrorCode.INVALID_STRIPE_COUNT.getMessage());
+		verifyNoInteractions(productStockStripeJdbcRepository);
+	}
+
+	@Test
+	@DisplayName("분산 재고 종료 시 stripe 재고 합계를 상품 재고 컬럼으로 되돌림")
+	void disable() {
+		// Given
+		Product product = product(0);
+		product.enableStripes(2);
+		when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+		when(productStockStripeJdbcRepository.lock(1L)).thenReturn(stripeMap(2, 3));
+
+		// When
+		stripedStockService.disable(1L);
+
+		// Then
+		verify(productStockStripeJdbcRepository).deleteByProductId(1L);
+		assertThat(product.isStriped()).isFalse();
+		assertThat(product.getQuantity()).isEqualTo(5);
+	}
+
+	@Test
+	@DisplayName("한 stripe에서 차감하면 다른 stripe를 잠그지 않음")
+	void reserve() {
+		// Given
+		when(productStockStripeJdbcRepository.decrease(eq(1L), anyInt(), eq(3))).thenReturn(1);
+
+		// When
+		stripedStockService.reserve(1L, 4, 3);
+
+		// Then
+		verify(productStockStripeJdbcRepository).decrease(eq(1L), anyInt(), eq(3));
+		verify(productStockStripeJdbcRepository, never()).lock(anyLong());
+	}
+
+	@Test
+	@DisplayName("고른 stripe의 재고가 부족하면 다른 stripe를 시도하지 않고 모든 stripe를 잠그고 앞에서부터 나눠 차감")
+	void reserve_fallback() {
+		// Given
+		when(productStockStripeJdbcRepository.decrease(eq(1L), anyInt(), eq(5))).thenReturn(0);
+		when(productStockStripeJdbcRepository.findTotalMap(List.of(1L))).thenReturn(Map.of(1L, 7));
+		when(productStockStripeJdbcRepository.lock(1L)).thenReturn(stripeMap(2, 1, 4));
+
+		// When
+		stripedStockService.reserve(1L, 3, 5);
+
+		// Then
+		verify(productStockStripeJdbcRepository, times(1)).decrease(eq(1L), anyInt(), eq(5));
+		verify(productStockStripeJdbcRepository).batchUpdateQuantity(1L, Map.of(0, 0, 1, 0, 2, 2));
+	}
+
+	@Test
+	@DisplayName("stripe 락 획득에 실패하면 CONFLICT 예외 발생")
+	void reserve_lockFailure() {
+		// Given
+		when(productStockStripeJdbcRepository.decrease(eq(1L), anyInt(), eq(5))).thenReturn(0);
+		when(productStockStripeJdbcRepository.findTotalMap(List.of(1L))).thenReturn(Map.of(1L, 7));
+		when(productStockStripeJdbcRepository.lock(1L)).thenThrow(new CannotAcquireLockException("lock wait timeout"));
+
+		// When & Then
+		assertThatThrownBy(() -> stripedStockService.reserve(1L, 3, 5))
+			.isInstanceOf(ProductException.class)
+			.hasMessage(ProductErrorCode.CONFLICT.getMessage());
+	}
+
+	@Test
+	@DisplayName("stripe 재고 합계가 부족하면 stripe를 잠그지 않고 예외 발생")
+	void reserve_insufficient() {
+		// Given
+		when(productStockStripeJdbcRepository.decrease(eq(1L), anyInt(), eq(8))).thenReturn(0);
+		when(productStockStripeJdbcRepository.findTotalMap(List.of(1L))).thenReturn(Map.of(1L, 7));
+
+		// When & Then
+		assertThatThrownBy(() -> stripedStockService.reserve(1L, 3, 8))
+			.isInstanceOf(ProductException.class)
+			.hasMessage(ProductErrorCode.INSUFFICIENT_QUANTITY.getMessage());
+		verify(productStockStripeJdbcRepository, never()).lock(anyLong());
+		verify(productStockStripeJdbcRepository, never()).batchUpdateQuantity(anyLong(), anyMap());
+	}
+
+	@Test
+	@DisplayName("잠그지 않은 합계는 충분해도 잠근 뒤 합계가 부족하면 차감하지 않고 예외 발생")
+	void reserve_insufficientAfterLock() {
+		// Given
+		when(productStockStripeJdbcRepository.decrease(eq(1L), anyInt(), eq(6))).thenReturn(0);
+		when(productStockStripeJdbcRepository.findTotalMap(List.of(1L))).thenReturn(Map.of(1L, 7));
+		when(productStockStripeJdbcRepository.lock(1L)).thenReturn(stripeMap(2, 1, 2));
+
+		// When & Then
+		assertThatThrownBy(() -> stripedStockService.reserve(1L, 3, 6))
+			.isInstanceOf(ProductException.class)
+			.hasMessage(ProductErrorCode.INSUFFICIENT_QUANTITY.getMessage());
+		verify(productStockStripeJdbcRepository, never()).batchUpdateQuantity(anyLong(), anyMap());
+	}
+
+	@Test
+	@DisplayName("분산 재고가 종료되어 stripe 행이 없으면 상품 재고 컬럼에 복구")
+	void release_notStriped() {
+		// Given
+		when(productStockStripeJdbcRepository.increase(eq(1L), anyInt(), eq(2))).thenReturn(0);
+		when(productStockStripeJdbcRepository.lock(1L)).thenReturn(Map.of());
+
+		// When
+		stripedStockService.release(1L, 4, 2);
+
+		// Then
+		verify(productRepository).increaseQuantity(1L, 2);
+	}
+
+	@Test
+	@DisplayName("재분배 시 현재 합계를 stripe 행에 고르게 나눔")
+	void rebalance() {
+		// Given
+		when(productStockStripeJdbcRepository.lock(1L)).thenReturn(stripeMap(0, 7, 1));
+
+		// When
+		stripedStockService.rebalance(1L);
+
+		// Then
+		verify(productStockStripeJdbcRepository).batchUpdateQuantity(1L, Map.of(0, 3, 1, 3, 2, 2));
+	}
+
+	@Test
+	@DisplayName("분산 재고가 아닌 상품은 재분배할 수 없음")
+	void rebalance_notStriped() {
+		// Given
+		when(productStockStripeJdbcRepository.lock(1L)).thenReturn(Map.of());
+
+		// When & Then
+		assertThatThrownBy(() -> stripedStockService.rebalance(1L))
+			.isInstanceOf(ProductException.class)
+			.hasMessage(ProductErrorCode.NOT_STRIPED_STOCK.getMessage());
+	}
+
+	@Test
+	@DisplayName("재고 합계는 캐시되고, 차감하면 다시 조회")
+	void findAvailableMap_cached() {
+		// Given
+		when(productStockStripeJdbcRepository.findTotalMap(anyCollection())).thenReturn(Map.of(1L, 10));
+		when(productStockStripeJdbcRepository.decrease(eq(1L), anyInt(), eq(1))).thenReturn(1);
+
+		// When
+		Map<Long, Integer> first = stripedStockService.findAvailableMap(List.of(1L, 2L));
+		Map<Long, Integer> cached = stripedStockService.findAvailableMap(List.of(1L, 2L));
+		stripedStockService.reserve(1L, 2, 1);
+		stripedStockService.findAvailableMap(List.of(1L, 2L));
+
+		// Then
+		assertThat(first).containsExactly(Map.entry(1L, 10));
+		assertThat(cached).isEqualTo(first);
+		verify(productStockStripeJdbcRepository, times(1)).findTotalMap(List.of(1L, 2L));
+		verify(productStockStripeJdbcRepository, times(1)).findTotalMap(List.of(1L));
+	}
+}
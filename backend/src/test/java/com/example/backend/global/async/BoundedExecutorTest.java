@@ -0,0 +1,90 @@
+package com.example.backend.global.async;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BoundedExecutorTest {
+
+	BoundedExecutor executor;
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	private Runnable await(CountDownLatch latch) {
+		return () -> {
+			try {
+				latch.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		};
+	}
+
+	@Test
+	@DisplayName("가상 스레드에서 작업을 실행")
+	void ofVirtual() throws Exception {
+		// Given
+		executor = BoundedExecutor.ofVirtual("test-", 2, 1000);
+
+		// When
+		Future<Boolean> virtual = executor.submit(() -> Thread.currentThread().isVirtual());
+
+		// Then
+		assertThat(virtual.get(5, TimeUnit.SECONDS)).isTrue();
+	}
+
+	@Test
+	@DisplayName("동시 실행 수가 가득 차면 거절하지 않고 자리가 날 때까지 호출한 쪽을 대기시킴")
+	void execute_backpressure() throws Exception {
+		// Given
+		executor = BoundedExecutor.ofVirtual("test-", 2, 5000);
+		CountDownLatch latch = new CountDownLatch(1);
+		executor.execute(await(latch));
+		executor.execute(await(latch));
+
+		// When
+		CompletableFuture<Void> third = CompletableFuture.runAsync(() -> executor.execute(() -> {
+		}));
+		Thread.sleep(100);
+
+		// Then
+		assertThat(third).isNotDone();
+		assertThat(executor.getMetrics().activeCount()).isEqualTo(2);
+		assertThat(executor.getMetrics().waitingCount()).isEqualTo(1);
+
+		latch.countDown();
+		third.get(5, TimeUnit.SECONDS);
+
+		BoundedExecutor.ExecutorMetrics metrics = executor.getMetrics();
+		assertThat(metrics.submittedCount()).isEqualTo(3);
+		assertThat(metrics.rejectedCount()).isZero();
+		assertThat(metrics.maxWaitNanos()).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+	}
+
+	@Test
+	@DisplayName("대기 시간이 지나도 자리가 나지 않으면 거절")
+	void execute_rejected() {
+		// Given
+		executor = BoundedExecutor.ofPlatform("test-", 1, 50);
+		CountDownLatch latch = new CountDownLatch(1);
+		executor.execute(await(latch));
+
+		// When & Then
+		assertThatThrownBy(() -> executor.execute(() -> {
+		})).isInstanceOf(RejectedExecutionException.class);
+		assertThat(executor.getMetrics().rejectedCount()).isEqualTo(1);
+
+		latch.countDown();
+	}
+}
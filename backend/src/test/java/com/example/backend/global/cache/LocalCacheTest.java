@@ -0,0 +1,122 @@
+package com.example.backend.global.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LocalCacheTest {
+
+	@Test
+	@DisplayName("같은 키는 한 번만 조회하고 무효화 후에는 다시 조회")
+	void get_cachedUntilInvalidated() {
+		// Given
+		LocalCache<Long, String> cache = new LocalCache<>(10, 1, TimeUnit.MINUTES);
+		AtomicInteger loadCount = new AtomicInteger();
+
+		// When
+		cache.get(1L, () -> "v" + loadCount.incrementAndGet());
+		String cached = cache.get(1L, () -> "v" + loadCount.incrementAndGet());
+		cache.invalidate(1L);
+		String reloaded = cache.get(1L, () -> "v" + loadCount.incrementAndGet());
+
+		// Then
+		assertThat(cached).isEqualTo("v1");
+		assertThat(reloaded).isEqualTo("v2");
+		assertThat(cache.getHitCount()).isEqualTo(1);
+		assertThat(cache.getMissCount()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("ttl이 지나면 다시 조회")
+	void get_expired() throws Exception {
+		// Given
+		LocalCache<Long, String> cache = new LocalCache<>(10, 10, TimeUnit.MILLISECONDS);
+		cache.get(1L, () -> "old");
+
+		// When
+		Thread.sleep(30);
+		String value = cache.get(1L, () -> "new");
+
+		// Then
+		assertThat(value).isEqualTo("new");
+	}
+
+	@Test
+	@DisplayName("조회 중 무효화되면 조회한 값은 반환만 하고 캐시에 남기지 않음")
+	void get_invalidatedWhileLoading() {
+		// Given
+		LocalCache<Long, String> cache = new LocalCache<>(10, 1, TimeUnit.MINUTES);
+
+		// When
+		String value = cache.get(1L, () -> {
+			cache.invalidate(1L);
+			return "stale";
+		});
+
+		// Then
+		assertThat(value).isEqualTo("stale");
+		assertThat(cache.size()).isZero();
+		assertThat(cache.get(1L, () -> "fresh")).isEqualTo("fresh");
+	}
+
+	@Test
+	@DisplayName("loader가 예외를 던지면 캐시하지 않음")
+	void get_loaderThrows() {
+		// Given
+		LocalCache<Long, String> cache = new LocalCache<>(10, 1, TimeUnit.MINUTES);
+
+		// When & Then
+		assertThatThrownBy(() -> cache.get(1L, () -> {
+			throw new IllegalStateException();
+		})).isInstanceOf(IllegalStateException.class);
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	@DisplayName("최대 크기에 도달하면 일부 항목을 제거")
+	void get_evictWhenFull() {
+		// Given
+		LocalCache<Integer, Integer> cache = new LocalCache<>(100, 1, TimeUnit.MINUTES);
+
+		// When
+		for (int i = 0; i < 1000; i++) {
+			int key = i;
+			cache.get(key, () -> key);
+		}
+
+		// Then
+		assertThat(cache.size()).isLessThanOrEqualTo(100);
+	}
+
+	@Test
+	@DisplayName("여러 키 조회 시 없는 키만 모아 한 번에 조회하고, 값이 없는 키도 캐시")
+	void getAll() {
+		// Given
+		LocalCache<Long, String> cache = new LocalCache<>(10, 1, TimeUnit.MINUTES);
+		cache.get(1L, () -> "one");
+		List<Collection<Long>> loadedKeys = new ArrayList<>();
+
+		// When
+		Map<Long, String> first = cache.getAll(List.of(1L, 2L, 3L), keys -> {
+			loadedKeys.add(List.copyOf(keys));
+			return Map.of(2L, "two");
+		});
+		Map<Long, String> second = cache.getAll(List.of(1L, 2L, 3L), keys -> {
+			loadedKeys.add(List.copyOf(keys));
+			return Map.of();
+		});
+
+		// Then
+		assertThat(first).containsOnly(Map.entry(1L, "one"), Map.entry(2L, "two"));
+		assertThat(second).isEqualTo(first);
+		assertThat(loadedKeys).containsExactly(List.of(2L, 3L));
+	}
+}
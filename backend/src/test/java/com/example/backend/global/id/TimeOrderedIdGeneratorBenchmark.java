@@ -0,0 +1,55 @@
+package com.example.backend.global.id;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 단일 스레드 ID 생성 처리량 측정
+ * <p>기본 test 태스크에서는 제외되며 ./gradlew benchmark로 실행합니다.</p>
+ */
+@Tag("benchmark")
+@Slf4j
+class TimeOrderedIdGeneratorBenchmark {
+
+	private static final int WARMUP_ROUNDS = 3;
+	private static final int ROUNDS = 5;
+	private static final int IDS_PER_ROUND = 5_000_000;
+
+	@Test
+	@DisplayName("코어 하나에서 초당 수백만 개 ID 생성")
+	void throughput() {
+		TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(1);
+
+		for (int i = 0; i < WARMUP_ROUNDS; i++) {
+			run(generator);
+		}
+
+		double best = 0;
+		for (int i = 0; i < ROUNDS; i++) {
+			double idsPerSecond = run(generator);
+			log.info("round={} ids/s={}", i, String.format("%,.0f", idsPerSecond));
+			best = Math.max(best, idsPerSecond);
+		}
+
+		assertThat(best).isGreaterThan(1_000_000);
+	}
+
+	private double run(TimeOrderedIdGenerator generator) {
+		long sink = 0;
+		long start = System.nanoTime();
+
+		for (int i = 0; i < IDS_PER_ROUND; i++) {
+			sink ^= generator.nextId();
+		}
+
+		long elapsed = System.nanoTime() - start;
+		assertThat(sink).isNotZero();
+
+		return IDS_PER_ROUND * 1_000_000_000.0 / elapsed;
+	}
+}
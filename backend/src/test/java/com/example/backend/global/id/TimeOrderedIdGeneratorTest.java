@@ -0,0 +1,120 @@
+package com.example.backend.global.id;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TimeOrderedIdGeneratorTest {
+
+	private static final long NOW = TimeOrderedIdGenerator.EPOCH_MILLIS + 1_000_000;
+
+	@Test
+	@DisplayName("생성된 ID는 단조 증가하고 생성 시각과 worker ID를 포함")
+	void nextId_monotonic() {
+		// Given
+		AtomicLong clock = new AtomicLong(NOW);
+		TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(7, 1000, clock::get);
+
+		// When
+		long first = generator.nextId();
+		long second = generator.nextId();
+		clock.incrementAndGet();
+		long third = generator.nextId();
+
+		// Then
+		assertThat(second).isGreaterThan(first);
+		assertThat(third).isGreaterThan(second);
+		assertThat(TimeOrderedIdGenerator.extractEpochMillis(first)).isEqualTo(NOW);
+		assertThat(TimeOrderedIdGenerator.extractEpochMillis(third)).isEqualTo(NOW + 1);
+		assertThat(TimeOrderedIdGenerator.extractWorkerId(first)).isEqualTo(7);
+	}
+
+	@Test
+	@DisplayName("시계가 뒤로 가도 ID는 계속 증가")
+	void nextId_clockMovedBackwards() {
+		// Given
+		AtomicLong clock = new AtomicLong(NOW);
+		TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(1, 1000, clock::get);
+		long before = generator.nextId();
+
+		// When
+		clock.addAndGet(-500);
+		long after = generator.nextId();
+
+		// Then
+		assertThat(after).isGreaterThan(before);
+		assertThat(TimeOrderedIdGenerator.extractEpochMillis(after)).isEqualTo(NOW);
+	}
+
+	@Test
+	@DisplayName("시퀀스가 소진되면 다음 밀리초를 빌려 쓰고, 허용 범위를 넘으면 시계를 기다림")
+	void nextId_sequenceExhausted() throws Exception {
+		// Given
+		AtomicLong clock = new AtomicLong(NOW);
+		TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(1, 1, clock::get);
+		int perMillis = 1 << TimeOrderedIdGenerator.SEQUENCE_BITS;
+
+		// When
+		long last = 0;
+		for (int i = 0; i < perMillis * 2; i++) {
+			last = generator.nextId();
+		}
+
+		// Then
+		assertThat(TimeOrderedIdGenerator.extractEpochMillis(last)).isEqualTo(NOW + 1);
+
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		Future<Long> waiting = executor.submit(generator::nextId);
+		Thread.sleep(50);
+		assertThat(waiting.isDone()).isFalse();
+
+		clock.incrementAndGet();
+		assertThat(TimeOrderedIdGenerator.extractEpochMillis(waiting.get(5, TimeUnit.SECONDS)))
+			.isEqualTo(NOW + 2);
+		executor.shutdown();
+	}
+
+	@Test
+	@DisplayName("여러 스레드가 동시에 생성해도 ID가 중복되지 않음")
+	void nextId_concurrent() throws Exception {
+		// Given
+		TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(3);
+		Set<Long> ids = ConcurrentHashMap.newKeySet();
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		List<Future<?>> futures = new ArrayList<>();
+
+		// When
+		for (int i = 0; i < 8; i++) {
+			futures.add(executor.submit(() -> {
+				for (int j = 0; j < 50_000; j++) {
+					ids.add(generator.nextId());
+				}
+			}));
+		}
+		for (Future<?> future : futures) {
+			future.get(30, TimeUnit.SECONDS);
+		}
+		executor.shutdown();
+
+		// Then
+		assertThat(ids).hasSize(8 * 50_000);
+	}
+
+	@Test
+	@DisplayName("worker ID 범위를 벗어나면 예외 발생")
+	void invalidWorkerId() {
+		assertThatThrownBy(() -> new TimeOrderedIdGenerator(TimeOrderedIdGenerator.MAX_WORKER_ID + 1))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+}
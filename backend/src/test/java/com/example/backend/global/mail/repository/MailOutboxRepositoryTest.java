@@ -0,0 +1,74 @@
+package com.example.backend.global.mail.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.backend.global.config.IdGeneratorConfig;
+import com.example.backend.global.mail.entity.MailOutbox;
+import com.example.backend.global.mail.entity.MailOutboxStatus;
+import com.example.backend.global.mail.util.TemplateName;
+
+@Transactional
+@DataJpaTest(properties = "id.worker-id=0")
+@Import(IdGeneratorConfig.class)
+class MailOutboxRepositoryTest {
+
+	@Autowired
+	MailOutboxRepository mailOutboxRepository;
+
+	private MailOutbox createMailOutbox(String recipient) {
+		return MailOutbox.create()
+			.recipient(recipient)
+			.title("배송 시작")
+			.templateName(TemplateName.DELIVERY_START)
+			.htmlParameters("{\"username\":\"" + recipient + "\"}")
+			.build();
+	}
+
+	@Test
+	@DisplayName("전송 시각이 지난 PENDING 메일만 ID 순으로 가져오고 lease 동안은 다시 가져오지 않음")
+	void findClaimable() {
+		// Given
+		List<MailOutbox> saved = mailOutboxRepository.saveAll(
+			List.of(createMailOutbox("a@test.com"), createMailOutbox("b@test.com"), createMailOutbox("c@test.com")));
+		ZonedDateTime now = ZonedDateTime.now().plusSeconds(1);
+
+		// When
+		List<MailOutbox> claimed = mailOutboxRepository.findClaimable(MailOutboxStatus.PENDING, now,
+			PageRequest.of(0, 2));
+		mailOutboxRepository.extendLease(claimed.stream().map(MailOutbox::getId).toList(), now.plusMinutes(1));
+		List<MailOutbox> next = mailOutboxRepository.findClaimable(MailOutboxStatus.PENDING, now,
+			PageRequest.of(0, 2));
+
+		// Then
+		assertThat(claimed).extracting(MailOutbox::getRecipient).containsExactly("a@test.com", "b@test.com");
+		assertThat(next).extracting(MailOutbox::getId).containsExactly(saved.get(2).getId());
+	}
+
+	@Test
+	@DisplayName("전송 완료 시 SENT로 변경하고 템플릿 파라미터를 삭제")
+	void markSent() {
+		// Given
+		MailOutbox mailOutbox = mailOutboxRepository.save(createMailOutbox("a@test.com"));
+
+		// When
+		mailOutboxRepository.markSent(List.of(mailOutbox.getId()), MailOutboxStatus.SENT, ZonedDateTime.now());
+
+		// Then
+		MailOutbox sent = mailOutboxRepository.findById(mailOutbox.getId()).orElseThrow();
+		assertThat(sent.getStatus()).isEqualTo(MailOutboxStatus.SENT);
+		assertThat(sent.getHtmlParameters()).isNull();
+		assertThat(mailOutboxRepository.findClaimable(MailOutboxStatus.PENDING, ZonedDateTime.now().plusSeconds(1),
+			PageRequest.of(0, 10))).isEmpty();
+	}
+}
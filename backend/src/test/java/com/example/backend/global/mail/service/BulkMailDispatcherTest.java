@@ -0,0 +1,105 @@
+package com.example.backend.global.mail.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.backend.global.mail.dto.MailRequest;
+import com.example.backend.global.mail.util.MailSender;
+import com.example.backend.global.mail.util.TemplateMaker;
+import com.example.backend.global.mail.util.TemplateName;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+
+@ExtendWith(MockitoExtension.class)
+class BulkMailDispatcherTest {
+
+	@Mock
+	TemplateMaker templateMaker;
+	@Mock
+	MailSender mailSender;
+	@InjectMocks
+	BulkMailDispatcher bulkMailDispatcher;
+
+	Map<String, MimeMessage> mimeMessageMap = new ConcurrentHashMap<>();
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(bulkMailDispatcher, "batchSize", 2);
+		ReflectionTestUtils.setField(bulkMailDispatcher, "ratePerSecond", 0);
+		bulkMailDispatcher.init();
+
+		// 수신자마다 서로 다른 메일 객체를 생성
+		when(templateMaker.create(any(), anyString(), anyString(), anyMap(), any(TemplateName.class)))
+			.thenAnswer(invocation -> mimeMessageMap.computeIfAbsent(invocation.getArgument(1),
+				recipient -> mock(MimeMessage.class)));
+	}
+
+	@AfterEach
+	void tearDown() {
+		bulkMailDispatcher.shutdown();
+	}
+
+	private Map<Long, MailRequest> createRequestMap(String... recipients) {
+		Map<Long, MailRequest> requestMap = new LinkedHashMap<>();
+		for (int i = 0; i < recipients.length; i++) {
+			requestMap.put((long)i + 1, new MailRequest(recipients[i], "배송 시작",
+				Map.of("username", recipients[i]), TemplateName.DELIVERY_START));
+		}
+		return requestMap;
+	}
+
+	@Test
+	@DisplayName("수신자마다 개별 메일을 만들고 batch-size 단위로 묶어 전송")
+	void sendAll() {
+		// Given
+		when(mailSender.sendBatch(anyList())).thenReturn(Map.of());
+
+		// When
+		Map<Long, Exception> failedMap = bulkMailDispatcher.sendAll(
+			createRequestMap("a@test.com", "b@test.com", "c@test.com"));
+
+		// Then
+		assertThat(failedMap).isEmpty();
+		verify(templateMaker).create(any(), eq("a@test.com"), eq("배송 시작"), eq(Map.of("username", "a@test.com")),
+			eq(TemplateName.DELIVERY_START));
+		verify(templateMaker, times(3)).create(any(), anyString(), anyString(), anyMap(), any(TemplateName.class));
+		verify(mailSender, times(2)).sendBatch(anyList());
+	}
+
+	@Test
+	@DisplayName("전송에 실패한 메일만 요청 키로 반환")
+	void sendAll_failure() {
+		// Given
+		when(mailSender.sendBatch(anyList())).thenAnswer(invocation -> {
+			List<MimeMessage> mimeMessageList = invocation.getArgument(0);
+			MimeMessage rejected = mimeMessageMap.get("b@test.com");
+			return mimeMessageList.contains(rejected)
+				? Map.of(rejected, new MessagingException("550 mailbox unavailable"))
+				: Map.of();
+		});
+
+		// When
+		Map<Long, Exception> failedMap = bulkMailDispatcher.sendAll(
+			createRequestMap("a@test.com", "b@test.com", "c@test.com"));
+
+		// Then
+		assertThat(failedMap).containsOnlyKeys(2L);
+		assertThat(failedMap.get(2L)).hasMessage("550 mailbox unavailable");
+	}
+}
@@ -0,0 +1,127 @@
+package com.example.backend.global.mail.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.backend.global.mail.dto.MailRequest;
+import com.example.backend.global.mail.entity.MailOutbox;
+import com.example.backend.global.mail.util.MailTemplateRenderer;
+import com.example.backend.global.mail.util.TemplateName;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.mail.MessagingException;
+
+@ExtendWith(MockitoExtension.class)
+class MailOutboxDispatcherTest {
+
+	@Mock
+	MailOutboxService mailOutboxService;
+	@Mock
+	BulkMailDispatcher bulkMailDispatcher;
+	@Mock
+	MailTemplateRenderer mailTemplateRenderer;
+
+	private MailOutboxDispatcher createDispatcher(int batchSize) {
+		MailOutboxDispatcher mailOutboxDispatcher = new MailOutboxDispatcher(mailOutboxService, bulkMailDispatcher,
+			mailTemplateRenderer, new ObjectMapper());
+		ReflectionTestUtils.setField(mailOutboxDispatcher, "batchSize", batchSize);
+		return mailOutboxDispatcher;
+	}
+
+	private MailOutbox createMailOutbox(Long id, String recipient) {
+		MailOutbox mailOutbox = MailOutbox.create()
+			.recipient(recipient)
+			.title("인증 메일")
+			.templateName(TemplateName.SIGNUP_VERIFY)
+			.htmlParameters("{\"certificationUrl\":\"http://localhost/verify\"}")
+			.build();
+		ReflectionTestUtils.setField(mailOutbox, "id", id);
+		return mailOutbox;
+	}
+
+	@Test
+	@DisplayName("가져온 메일을 전송하고 성공은 SENT, 실패는 재시도 대상으로 기록")
+	@SuppressWarnings("unchecked")
+	void dispatch() {
+		// Given
+		MailOutboxDispatcher mailOutboxDispatcher = createDispatcher(10);
+		when(mailOutboxService.claim(10)).thenReturn(
+			List.of(createMailOutbox(1L, "a@test.com"), createMailOutbox(2L, "b@test.com")));
+		MessagingException failure = new MessagingException("550 mailbox unavailable");
+		when(bulkMailDispatcher.sendAll(anyMap())).thenAnswer(invocation -> Map.of(2L, failure));
+
+		// When
+		mailOutboxDispatcher.dispatch();
+
+		// Then
+		ArgumentCaptor<Map<Long, MailRequest>> requestCaptor = ArgumentCaptor.forClass(Map.class);
+		verify(bulkMailDispatcher).sendAll(requestCaptor.capture());
+		assertThat(requestCaptor.getValue().get(1L)).isEqualTo(new MailRequest("a@test.com", "인증 메일",
+			Map.of("certificationUrl", "http://localhost/verify"), TemplateName.SIGNUP_VERIFY));
+
+		verify(mailOutboxService).markSent(List.of(1L));
+		verify(mailOutboxService).markFailed(Map.of(2L, failure));
+	}
+
+	@Test
+	@DisplayName("가져온 메일이 batch-size만큼 차면 outbox가 빌 때까지 이어서 가져옴")
+	void dispatch_drain() {
+		// Given
+		MailOutboxDispatcher mailOutboxDispatcher = createDispatcher(1);
+		when(mailOutboxService.claim(1))
+			.thenReturn(List.of(createMailOutbox(1L, "a@test.com")))
+			.thenReturn(List.of(createMailOutbox(2L, "b@test.com")))
+			.thenReturn(List.of());
+		when(bulkMailDispatcher.sendAll(anyMap())).thenAnswer(invocation -> Map.of());
+
+		// When
+		mailOutboxDispatcher.dispatch();
+
+		// Then
+		verify(mailOutboxService, times(3)).claim(1);
+		verify(mailOutboxService).markSent(List.of(1L));
+		verify(mailOutboxService).markSent(List.of(2L));
+		verify(mailOutboxService, never()).markFailed(anyMap());
+	}
+
+	@Test
+	@DisplayName("secret 파라미터가 있는 메일은 Redis의 파라미터로 전송하고 전송 후 삭제")
+	@SuppressWarnings("unchecked")
+	void dispatch_secret() {
+		// Given
+		MailOutboxDispatcher mailOutboxDispatcher = createDispatcher(10);
+		MailOutbox mailOutbox = MailOutbox.create()
+			.recipient("a@test.com")
+			.title("임시 비밀번호")
+			.templateName(TemplateName.PASSWORD_RESET)
+			.secret(true)
+			.build();
+		ReflectionTestUtils.setField(mailOutbox, "id", 1L);
+		when(mailOutboxService.claim(10)).thenReturn(List.of(mailOutbox));
+		when(mailOutboxService.findSecretParameters(mailOutbox)).thenReturn(Map.of("temporaryPassword", "password"));
+		when(bulkMailDispatcher.sendAll(anyMap())).thenAnswer(invocation -> Map.of());
+
+		// When
+		mailOutboxDispatcher.dispatch();
+
+		// Then
+		ArgumentCaptor<Map<Long, MailRequest>> requestCaptor = ArgumentCaptor.forClass(Map.class);
+		verify(bulkMailDispatcher).sendAll(requestCaptor.capture());
+		assertThat(requestCaptor.getValue().get(1L)).isEqualTo(new MailRequest("a@test.com", "임시 비밀번호",
+			Map.of("temporaryPassword", "password"), TemplateName.PASSWORD_RESET));
+
+		verify(mailOutboxService).markSent(List.of(1L));
+		verify(mailOutboxService).deleteSecretParameters(List.of(1L));
+	}
+}
@@ -0,0 +1,110 @@
+package com.example.backend.global.mail.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 SMTP 서버 입니다.
+ * <p>수신한 메일의 받는 사람과 연결 수만 기록하며, 주소에 "reject"가 들어간 수신자는 거부합니다.</p>
+ */
+class FakeSmtpServer implements AutoCloseable {
+
+	private final ServerSocket serverSocket;
+	private final AtomicInteger connectionCount = new AtomicInteger();
+	private final List<String> recipientList = new CopyOnWriteArrayList<>();
+
+	FakeSmtpServer() throws IOException {
+		serverSocket = new ServerSocket(0);
+		Thread acceptor = new Thread(this::accept, "FakeSmtpServer");
+		acceptor.setDaemon(true);
+		acceptor.start();
+	}
+
+	int getPort() {
+		return serverSocket.getLocalPort();
+	}
+
+	int getConnectionCount() {
+		return connectionCount.get();
+	}
+
+	List<String> getRecipientList() {
+		return recipientList;
+	}
+
+	@Override
+	public void close() throws IOException {
+		serverSocket.close();
+	}
+
+	private void accept() {
+		while (!serverSocket.isClosed()) {
+			try {
+				Socket socket = serverSocket.accept();
+				connectionCount.incrementAndGet();
+				Thread handler = new Thread(() -> handle(socket), "FakeSmtpSession");
+				handler.setDaemon(true);
+				handler.start();
+			} catch (IOException e) {
+				return;
+			}
+		}
+	}
+
+	private void handle(Socket socket) {
+		try (socket;
+			 BufferedReader reader = new BufferedReader(
+				 new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+			 PrintWriter writer = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.US_ASCII)) {
+			reply(writer, "220 localhost fake smtp");
+
+			List<String> envelope = new CopyOnWriteArrayList<>();
+			String line;
+			while ((line = reader.readLine()) != null) {
+				String command = line.toUpperCase();
+
+				if (command.startsWith("RCPT TO:")) {
+					String recipient = line.substring(line.indexOf('<') + 1, line.lastIndexOf('>'));
+					if (recipient.contains("reject")) {
+						reply(writer, "550 mailbox unavailable");
+					} else {
+						envelope.add(recipient);
+						reply(writer, "250 OK");
+					}
+				} else if (command.startsWith("DATA")) {
+					reply(writer, "354 end data with <CR><LF>.<CR><LF>");
+					while ((line = reader.readLine()) != null && !line.equals(".")) {
+						// 본문은 기록하지 않음
+					}
+					recipientList.addAll(envelope);
+					envelope.clear();
+					reply(writer, "250 OK");
+				} else if (command.startsWith("RSET") || command.startsWith("MAIL FROM:")) {
+					envelope.clear();
+					reply(writer, "250 OK");
+				} else if (command.startsWith("QUIT")) {
+					reply(writer, "221 bye");
+					return;
+				} else {
+					// EHLO, HELO, NOOP
+					reply(writer, "250 OK");
+				}
+			}
+		} catch (IOException e) {
+			// 클라이언트가 연결을 끊은 경우
+		}
+	}
+
+	private void reply(PrintWriter writer, String message) {
+		writer.print(message + "\r\n");
+		writer.flush();
+	}
+}
@@ -0,0 +1,90 @@
+package com.example.backend.global.mail.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import jakarta.mail.Message;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+
+class MailSenderImplTest {
+
+	FakeSmtpServer smtpServer;
+	SmtpConnectionPool smtpConnectionPool;
+	MailSenderImpl mailSender;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		smtpServer = new FakeSmtpServer();
+
+		JavaMailSenderImpl javaMailSender = new JavaMailSenderImpl();
+		javaMailSender.setHost("localhost");
+		javaMailSender.setPort(smtpServer.getPort());
+
+		smtpConnectionPool = new SmtpConnectionPool(javaMailSender, 2, 1000);
+		mailSender = new MailSenderImpl(javaMailSender, smtpConnectionPool);
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		smtpConnectionPool.close();
+		smtpServer.close();
+	}
+
+	private List<MimeMessage> createMimeMessageList(String... recipients) throws MessagingException {
+		List<MimeMessage> mimeMessageList = new ArrayList<>();
+		for (String recipient : recipients) {
+			MimeMessage mimeMessage = mailSender.createMimeMessage();
+			mimeMessage.setFrom("noreply@test.com");
+			mimeMessage.setRecipients(Message.RecipientType.TO, recipient);
+			mimeMessage.setSubject("배송 시작");
+			mimeMessage.setText("본문");
+			mimeMessageList.add(mimeMessage);
+		}
+		return mimeMessageList;
+	}
+
+	@Test
+	@DisplayName("여러 번의 묶음 전송이 하나의 SMTP 연결을 재사용")
+	void sendBatch_reuseConnection() throws Exception {
+		// Given
+		List<MimeMessage> first = createMimeMessageList("a@test.com", "b@test.com", "c@test.com");
+		List<MimeMessage> second = createMimeMessageList("d@test.com", "e@test.com");
+
+		// When
+		Map<MimeMessage, Exception> firstFailed = mailSender.sendBatch(first);
+		Map<MimeMessage, Exception> secondFailed = mailSender.sendBatch(second);
+
+		// Then
+		assertThat(firstFailed).isEmpty();
+		assertThat(secondFailed).isEmpty();
+		assertThat(smtpServer.getConnectionCount()).isEqualTo(1);
+		assertThat(smtpServer.getRecipientList())
+			.containsExactly("a@test.com", "b@test.com", "c@test.com", "d@test.com", "e@test.com");
+		assertThat(smtpConnectionPool.getIdleCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("거부된 수신자만 실패로 반환하고 나머지 메일은 같은 연결로 계속 전송")
+	void sendBatch_rejectedRecipient() throws Exception {
+		// Given
+		List<MimeMessage> mimeMessageList = createMimeMessageList("a@test.com", "reject@test.com", "c@test.com");
+
+		// When
+		Map<MimeMessage, Exception> failed = mailSender.sendBatch(mimeMessageList);
+
+		// Then
+		assertThat(failed).containsOnlyKeys(mimeMessageList.get(1));
+		assertThat(smtpServer.getRecipientList()).containsExactly("a@test.com", "c@test.com");
+		assertThat(smtpServer.getConnectionCount()).isEqualTo(1);
+	}
+}
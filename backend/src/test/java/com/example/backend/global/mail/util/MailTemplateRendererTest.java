@@ -0,0 +1,79 @@
+package com.example.backend.global.mail.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+class MailTemplateRendererTest {
+
+	private static final Map<String, String> TEMPLATE_NAME_MAP = Map.of(
+		TemplateName.SIGNUP_VERIFY.toString(), "signup-verify-template",
+		TemplateName.PASSWORD_RESET.toString(), "password-reset-template",
+		TemplateName.DELIVERY_START.toString(), "delivery-start-template");
+
+	SpringTemplateEngine templateEngine;
+	MailTemplateRenderer mailTemplateRenderer;
+
+	@BeforeEach
+	void setUp() {
+		ClassLoaderTemplateResolver templateResolver = new ClassLoaderTemplateResolver();
+		templateResolver.setPrefix("mail-templates/");
+		templateResolver.setSuffix(".html");
+		templateResolver.setTemplateMode("HTML");
+		templateResolver.setCharacterEncoding("UTF-8");
+
+		templateEngine = new SpringTemplateEngine();
+		templateEngine.setTemplateResolver(templateResolver);
+
+		mailTemplateRenderer = new MailTemplateRenderer(templateEngine, TEMPLATE_NAME_MAP);
+	}
+
+	private String process(TemplateName templateName, Map<String, String> htmlParameterMap) {
+		Context context = new Context();
+		htmlParameterMap.forEach(context::setVariable);
+		return templateEngine.process(TEMPLATE_NAME_MAP.get(templateName.toString()), context);
+	}
+
+	@Test
+	@DisplayName("파라미터를 치환한 결과가 Thymeleaf로 직접 처리한 결과와 같음")
+	void render_sameAsThymeleaf() {
+		// Given
+		Map<String, String> signupParameterMap = Map.of("certificationUrl",
+			"http://localhost/verify?username=a@test.com&certificationCode=\"<코드>\"");
+		Map<String, String> passwordParameterMap = Map.of("temporaryPassword", "a&b<c>'d");
+
+		// When
+		String signupHtml = mailTemplateRenderer.render(TemplateName.SIGNUP_VERIFY, signupParameterMap);
+		String passwordHtml = mailTemplateRenderer.render(TemplateName.PASSWORD_RESET, passwordParameterMap);
+		String deliveryHtml = mailTemplateRenderer.render(TemplateName.DELIVERY_START, Map.of());
+
+		// Then
+		assertThat(signupHtml).isEqualTo(process(TemplateName.SIGNUP_VERIFY, signupParameterMap));
+		assertThat(passwordHtml).isEqualTo(process(TemplateName.PASSWORD_RESET, passwordParameterMap));
+		assertThat(deliveryHtml).isEqualTo(process(TemplateName.DELIVERY_START, Map.of()));
+	}
+
+	@Test
+	@DisplayName("같은 템플릿과 파라미터 이름이면 템플릿은 한 번만 처리")
+	void render_compiledOnce() {
+		// When
+		for (int i = 0; i < 100; i++) {
+			String html = mailTemplateRenderer.render(TemplateName.PASSWORD_RESET,
+				Map.of("temporaryPassword", "password" + i));
+			assertThat(html).contains("password" + i);
+		}
+
+		// Then
+		MailTemplateRenderer.MailRenderMetrics metrics = mailTemplateRenderer.getMetrics();
+		assertThat(metrics.compileCount()).isEqualTo(1);
+		assertThat(metrics.renderCount()).isEqualTo(100);
+		assertThat(metrics.maxRenderNanos()).isPositive();
+	}
+}
@@ -0,0 +1,125 @@
+package com.example.backend.global.scheduled;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.backend.global.redis.RedisDao;
+
+@ExtendWith(MockitoExtension.class)
+class ClusterJobRunnerTest {
+
+	private static final String LOCK_KEY = "job:lock:test-job";
+	private static final String CHECKPOINT_KEY = "job:checkpoint:test-job:2026-01-01";
+
+	@Mock
+	RedisDao redisDao;
+	@InjectMocks
+	ClusterJobRunner clusterJobRunner;
+
+	@Test
+	@DisplayName("락을 얻지 못하면 작업을 실행하지 않음")
+	void run_locked() {
+		// Given
+		when(redisDao.setDataIfAbsent(eq(LOCK_KEY), anyString(), any(Duration.class))).thenReturn(false);
+		ChunkProcessor processor = mock(ChunkProcessor.class);
+
+		// When
+		boolean completed = clusterJobRunner.run("test-job", "2026-01-01", processor);
+
+		// Then
+		assertThat(completed).isFalse();
+		verifyNoInteractions(processor);
+		verify(redisDao, never()).deleteIfEquals(anyString(), anyString());
+	}
+
+	@Test
+	@DisplayName("checkpoint가 있으면 마지막 ID부터 이어서 처리하고 chunk마다 checkpoint 저장")
+	void run_resume() {
+		// Given
+		when(redisDao.setDataIfAbsent(eq(LOCK_KEY), anyString(), any(Duration.class))).thenReturn(true);
+		when(redisDao.expireIfEquals(eq(LOCK_KEY), anyString(), any(Duration.class))).thenReturn(true);
+		when(redisDao.getHashData(CHECKPOINT_KEY, "completed")).thenReturn(null);
+		when(redisDao.getHashData(CHECKPOINT_KEY, "lastId")).thenReturn("10");
+
+		List<Long> processed = new ArrayList<>();
+		ChunkProcessor processor = lastId -> {
+			processed.add(lastId);
+			return new ChunkResult(lastId + 10, lastId < 20);
+		};
+
+		// When
+		boolean completed = clusterJobRunner.run("test-job", "2026-01-01", processor);
+
+		// Then
+		assertThat(completed).isTrue();
+		assertThat(processed).containsExactly(10L, 20L);
+		verify(redisDao).setHashData(CHECKPOINT_KEY, "lastId", "20");
+		verify(redisDao).setHashData(CHECKPOINT_KEY, "lastId", "30");
+		verify(redisDao).setHashData(CHECKPOINT_KEY, "completed", "true");
+		verify(redisDao).deleteIfEquals(eq(LOCK_KEY), anyString());
+	}
+
+	@Test
+	@DisplayName("이미 완료된 실행은 다시 처리하지 않음")
+	void run_completed() {
+		// Given
+		when(redisDao.setDataIfAbsent(eq(LOCK_KEY), anyString(), any(Duration.class))).thenReturn(true);
+		when(redisDao.getHashData(CHECKPOINT_KEY, "completed")).thenReturn("true");
+		ChunkProcessor processor = mock(ChunkProcessor.class);
+
+		// When
+		boolean completed = clusterJobRunner.run("test-job", "2026-01-01", processor);
+
+		// Then
+		assertThat(completed).isFalse();
+		verifyNoInteractions(processor);
+		verify(redisDao).deleteIfEquals(eq(LOCK_KEY), anyString());
+	}
+
+	@Test
+	@DisplayName("lease를 잃으면 다음 chunk를 처리하지 않고 중단")
+	void run_leaseLost() {
+		// Given
+		when(redisDao.setDataIfAbsent(eq(LOCK_KEY), anyString(), any(Duration.class))).thenReturn(true);
+		when(redisDao.expireIfEquals(eq(LOCK_KEY), anyString(), any(Duration.class))).thenReturn(true, false);
+		ChunkProcessor processor = mock(ChunkProcessor.class);
+		when(processor.process(0L)).thenReturn(new ChunkResult(5L, true));
+
+		// When
+		boolean completed = clusterJobRunner.run("test-job", "2026-01-01", processor);
+
+		// Then
+		assertThat(completed).isFalse();
+		verify(processor, times(1)).process(anyLong());
+		verify(redisDao, never()).setHashData(CHECKPOINT_KEY, "completed", "true");
+	}
+
+	@Test
+	@DisplayName("실행 상태는 checkpoint 옆 Set에 checkpoint와 같은 TTL로 저장")
+	void addRunState() {
+		// Given
+		String runStateKey = CHECKPOINT_KEY + ":notified";
+		when(redisDao.getSetData(runStateKey)).thenReturn(Set.of("a@test.com"));
+
+		// When
+		clusterJobRunner.addRunState("test-job", "2026-01-01", "notified", List.of("b@test.com"));
+		clusterJobRunner.addRunState("test-job", "2026-01-01", "notified", List.of());
+
+		// Then
+		assertThat(clusterJobRunner.getRunState("test-job", "2026-01-01", "notified")).containsExactly("a@test.com");
+		verify(redisDao, times(1)).addSetData(runStateKey, List.of("b@test.com"));
+		verify(redisDao, times(1)).setTimeout(runStateKey, 4320);
+	}
+}
@@ -0,0 +1,98 @@
+package com.example.backend.global.scheduled;
+
+import static org.mockito.Mockito.*;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.backend.domain.orders.dto.DeliveryChunk;
+import com.example.backend.domain.orders.repository.OrdersRepository;
+import com.example.backend.domain.orders.service.OrdersService;
+
+@ExtendWith(MockitoExtension.class)
+class SchedulerServiceTest {
+
+	@Mock
+	OrdersRepository ordersRepository;
+	@Mock
+	OrdersService ordersService;
+	@Mock
+	ClusterJobRunner clusterJobRunner;
+	@InjectMocks
+	SchedulerService schedulerService;
+
+	@Test
+	@DisplayName("chunk 단위로 이전 chunk의 마지막 ID부터 처리하고 이전 chunk의 메일 수신자를 다음 chunk에 전달")
+	void scheduleOrderProcessing_chunked() {
+		// Given
+		ReflectionTestUtils.setField(schedulerService, "chunkSize", 2);
+		when(ordersRepository.countReadyOrders(any(), any())).thenReturn(3L);
+		when(clusterJobRunner.run(eq("delivery-start"), anyString(), any())).thenAnswer(invocation -> {
+			ChunkProcessor processor = invocation.getArgument(2);
+			ChunkResult result = new ChunkResult(0L, true);
+			while (result.hasNext()) {
+				result = processor.process(result.lastId());
+			}
+			return true;
+		});
+		when(ordersService.shipReadyOrders(any(ZonedDateTime.class), any(ZonedDateTime.class), eq(0L), eq(2),
+			eq(Set.of())))
+			.thenReturn(new DeliveryChunk(20L, 2, List.of("a@test.com", "b@test.com"), true));
+		when(ordersService.shipReadyOrders(any(ZonedDateTime.class), any(ZonedDateTime.class), eq(20L), eq(2),
+			eq(Set.of("a@test.com", "b@test.com"))))
+			.thenReturn(new DeliveryChunk(30L, 1, List.of(), false));
+
+		// When
+		schedulerService.scheduleOrderProcessing();
+
+		// Then
+		verify(ordersService, times(2)).shipReadyOrders(any(), any(), anyLong(), anyInt(), anySet());
+		verify(clusterJobRunner).addRunState(eq("delivery-start"), anyString(), eq("notified"),
+			eq(List.of("a@test.com", "b@test.com")));
+	}
+
+	@Test
+	@DisplayName("중단된 실행을 이어받으면 Redis에 저장된 메일 수신자를 첫 chunk에 전달")
+	void scheduleOrderProcessing_resumed() {
+		// Given
+		when(ordersRepository.countReadyOrders(any(), any())).thenReturn(1L);
+		when(clusterJobRunner.run(eq("delivery-start"), anyString(), any())).thenAnswer(invocation -> {
+			ChunkProcessor processor = invocation.getArgument(2);
+			processor.process(20L);
+			return true;
+		});
+		when(clusterJobRunner.getRunState(eq("delivery-start"), anyString(), eq("notified")))
+			.thenReturn(Set.of("a@test.com"));
+		when(ordersService.shipReadyOrders(any(ZonedDateTime.class), any(ZonedDateTime.class), eq(20L), anyInt(),
+			eq(Set.of("a@test.com"))))
+			.thenReturn(new DeliveryChunk(30L, 1, List.of(), false));
+
+		// When
+		schedulerService.scheduleOrderProcessing();
+
+		// Then
+		verify(ordersService).shipReadyOrders(any(), any(), eq(20L), anyInt(), eq(Set.of("a@test.com")));
+	}
+
+	@Test
+	@DisplayName("배송 준비중 주문이 없으면 처리하지 않음")
+	void scheduleOrderProcessing_empty() {
+		// Given
+		when(ordersRepository.countReadyOrders(any(), any())).thenReturn(0L);
+
+		// When
+		schedulerService.scheduleOrderProcessing();
+
+		// Then
+		verifyNoInteractions(ordersService, clusterJobRunner);
+	}
+}